@@ -0,0 +1,79 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.impl.AdaptiveExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares sequential and adaptive rule execution under fail-fast on a field whose expensive
+ * rules are inserted before a cheap length check, with mostly malformed input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdaptiveExecutionBenchmark {
+
+    /** Object under validation. */
+    public record Customer(String document) {
+    }
+
+    @Param({"sequential", "adaptive"})
+    public String strategy;
+
+    private CompiledValidator<Customer> validator;
+
+    private Customer[] customers;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        ExecutionStrategy selected = "adaptive".equals(strategy)
+                ? new AdaptiveExecutionStrategy()
+                : new SequentialExecutionStrategy();
+        ValidationFactory validations = new ValidationFactoryImpl();
+        validator = new ValidatorFactoryImpl(selected)
+                .schema(Customer.class)
+                .field("document", Customer::document)
+                .add(validations.regex("\\d{3}\\.?\\d{3}\\.?\\d{3}-?\\d{2}", "invalid document"))
+                .add(validations.cpf("invalid document"))
+                .add(validations.lengthEq(11, "invalid document"))
+                .end()
+                .compile();
+        customers = new Customer[]{
+                new Customer("52998224725"),
+                new Customer("5299822472"),
+                new Customer("529982247250"),
+                new Customer("abc"),
+        };
+    }
+
+    @Benchmark
+    public Violations validateToResult() {
+        var customer = customers[next++ & (customers.length - 1)];
+        return validator.validateToResult(customer, ShortCircuitPolicy.FIRST_OVERALL);
+    }
+
+}
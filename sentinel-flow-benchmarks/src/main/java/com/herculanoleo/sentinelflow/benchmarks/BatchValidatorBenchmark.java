@@ -0,0 +1,81 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.BatchViolations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.BatchOptions;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link CompiledValidator#validateAll} over a list of DTOs, one in ten of them invalid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BatchValidatorBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private final BatchOptions parallel = BatchOptions.parallel(ForkJoinPool.commonPool(), 512);
+
+    private CompiledValidator<UserFixture> validator;
+
+    private List<UserFixture> users;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        validator = new ValidatorFactoryImpl().schema(UserFixture.class)
+                .field("name", UserFixture::name)
+                .add(validations.isNotBlank("name is required"))
+                .add(validations.lengthMin(3, "name must have at least 3 characters"))
+                .end()
+                .field("email", UserFixture::email)
+                .add(validations.isNotBlank("email is required"))
+                .add(validations.email("email is invalid"))
+                .end()
+                .field("age", UserFixture::age)
+                .add(validations.min(18, "age must be at least 18"))
+                .end()
+                .field("birthday", UserFixture::birthday)
+                .add(validations.isNotNull("birthday is required"))
+                .add(validations.isPast("birthday must be in the past"))
+                .end()
+                .compile();
+        users = IntStream.range(0, size)
+                .mapToObj(i -> i % 10 == 0 ? UserFixture.invalid() : UserFixture.valid())
+                .toList();
+    }
+
+    @Benchmark
+    public BatchViolations sequential() {
+        return validator.validateAll(users);
+    }
+
+    @Benchmark
+    public BatchViolations parallel() {
+        return validator.validateAll(users, parallel);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code BrazilValidations} rules on masked input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrazilValidationsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<String> cpf;
+    private Validation<String> cnpj;
+    private Validation<String> cep;
+    private Validation<String> phoneBr;
+
+    private String cpfValue;
+    private String cnpjValue;
+    private String cepValue;
+    private String phoneValue;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        cpf = validations.cpf("message");
+        cnpj = validations.cnpj("message");
+        cep = validations.cep("message");
+        phoneBr = validations.phoneBr("message");
+
+        cpfValue = passing ? "617.649.230-06" : "617.649.230-07";
+        cnpjValue = passing ? "47.512.416/0001-52" : "47.512.416/0001-53";
+        cepValue = passing ? "12345-678" : "1234-567";
+        phoneValue = passing ? "(11) 98888-7777" : "(01) 98888-7777";
+    }
+
+    @Benchmark
+    public ValidationResult cpf() {
+        return cpf.validate(cpfValue);
+    }
+
+    @Benchmark
+    public ValidationResult cnpj() {
+        return cnpj.validate(cnpjValue);
+    }
+
+    @Benchmark
+    public ValidationResult cep() {
+        return cep.validate(cepValue);
+    }
+
+    @Benchmark
+    public ValidationResult phoneBr() {
+        return phoneBr.validate(phoneValue);
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.CacheSpec;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@code cnpj} and user {@code regex} rules with and without a result cache, on 1,000
+ * distinct documents validated over and over from several threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CachedValidationBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cached;
+
+    private Validation<String> cnpj;
+
+    private Validation<String> regex;
+
+    private String[] documents;
+
+    @Setup
+    public void setup() {
+        var validations = cached ? new ValidationFactoryImpl(CacheSpec.maximumSize(10_000)) : new ValidationFactoryImpl();
+        cnpj = validations.cnpj("invalid CNPJ");
+        regex = validations.regex("\\d{2}\\.\\d{3}\\.\\d{3}/\\d{4}-\\d{2}", "invalid CNPJ format");
+        documents = new String[1_000];
+        for (int index = 0; index < documents.length; index++) {
+            documents[index] = String.format("%02d.%03d.%03d/0001-%02d", index % 100, index, index * 7 % 1_000, index % 97);
+        }
+    }
+
+    @Benchmark
+    public ValidationResult cnpj() {
+        return cnpj.validate(documents[ThreadLocalRandom.current().nextInt(documents.length)]);
+    }
+
+    @Benchmark
+    public ValidationResult regex() {
+        return regex.validate(documents[ThreadLocalRandom.current().nextInt(documents.length)]);
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import br.com.caelum.stella.validation.CNPJValidator;
+import br.com.caelum.stella.validation.CPFValidator;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the built-in CPF/CNPJ check-digit rules with the former Stella-based implementation,
+ * which created a validator per call and reported failures by throwing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocumentCheckDigitBenchmark {
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<String> cpf;
+    private Validation<String> cnpj;
+
+    private String cpfValue;
+    private String cnpjValue;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        cpf = validations.cpf("message");
+        cnpj = validations.cnpj("message");
+
+        cpfValue = passing ? "61764923006" : "61764923007";
+        cnpjValue = passing ? "47512416000152" : "47512416000153";
+    }
+
+    @Benchmark
+    public ValidationResult cpf() {
+        return cpf.validate(cpfValue);
+    }
+
+    @Benchmark
+    public boolean cpfStella() {
+        try {
+            new CPFValidator().assertValid(cpfValue);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public ValidationResult cnpj() {
+        return cnpj.validate(cnpjValue);
+    }
+
+    @Benchmark
+    public boolean cnpjStella() {
+        try {
+            new CNPJValidator().assertValid(cnpjValue);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@code each} over the lines of an order, sequentially and in chunks on the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementValidationBenchmark {
+
+    /** Order line with the fields validated by the benchmark. */
+    public record Line(String sku, String email, int quantity) {
+    }
+
+    @Param({"100", "10000"})
+    public int size;
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<List<Line>> sequential;
+
+    private Validation<List<Line>> parallel;
+
+    private List<Line> lines;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        List<Validation<Line>> rules = List.of(
+                validations.field("sku", Line::sku, validations.isNotBlank("sku is required")),
+                validations.field("email", Line::email, validations.email("email is invalid")),
+                validations.field("quantity", Line::quantity, validations.min(1, "quantity must be positive")));
+        Validation<Line> element = value -> {
+            for (var rule : rules) {
+                var result = rule.validate(value);
+                if (!result.valid()) {
+                    return result;
+                }
+            }
+            return validations.valid();
+        };
+        sequential = validations.each(element);
+        parallel = validations.each(element, ForkJoinPool.commonPool(), 1024);
+        lines = IntStream.range(0, size)
+                .mapToObj(i -> !passing && i % 100 == 0
+                        ? new Line("", "john.doe@example", 0)
+                        : new Line("SKU-" + i, "john.doe@example.com", 1 + i % 5))
+                .toList();
+    }
+
+    @Benchmark
+    public ValidationResult sequential() {
+        return sequential.validate(lines);
+    }
+
+    @Benchmark
+    public ValidationResult parallel() {
+        return parallel.validate(lines);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.herculanoleo.sentinelflow.validator.Captures.path;
+
+/**
+ * Compares capturing a deep field through a getter chain that throws {@link NullPointerException}
+ * on missing steps with the null-safe {@code Captures.path} chain.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldCaptureBenchmark {
+
+    /** Innermost level of the object graph. */
+    public record City(String name) {
+    }
+
+    /** Middle level of the object graph. */
+    public record Address(String zipCode, City city) {
+    }
+
+    /** Root of the object graph. */
+    public record Customer(Address address) {
+    }
+
+    @Param({"true", "false"})
+    public boolean filled;
+
+    private CompiledValidator<Customer> throwing;
+
+    private CompiledValidator<Customer> nullSafe;
+
+    private Customer customer;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        var validators = new ValidatorFactoryImpl();
+        throwing = validators.schema(Customer.class)
+                .field("address.zipCode", value -> value.address().zipCode())
+                .add(validations.isNotBlank("zip code is required"))
+                .end()
+                .field("address.city.name", value -> value.address().city().name())
+                .add(validations.isNotBlank("city is required"))
+                .end()
+                .compile();
+        nullSafe = validators.schema(Customer.class)
+                .field("address.zipCode", path(Customer::address, Address::zipCode))
+                .add(validations.isNotBlank("zip code is required"))
+                .end()
+                .field("address.city.name", path(Customer::address, Address::city, City::name))
+                .add(validations.isNotBlank("city is required"))
+                .end()
+                .compile();
+        customer = filled ? new Customer(new Address("01001-000", new City("S\u00e3o Paulo"))) : new Customer(null);
+    }
+
+    @Benchmark
+    public Violations throwingCapture() {
+        return throwing.validateToResult(customer);
+    }
+
+    @Benchmark
+    public Violations nullSafeCapture() {
+        return nullSafe.validateToResult(customer);
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.annotations.Email;
+import com.herculanoleo.sentinelflow.annotations.GenerateValidator;
+import com.herculanoleo.sentinelflow.annotations.IsNotBlank;
+import com.herculanoleo.sentinelflow.annotations.LengthMax;
+import com.herculanoleo.sentinelflow.annotations.Min;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a validator generated by {@code sentinel-flow-processor} with the equivalent
+ * compiled schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeneratedValidatorBenchmark {
+
+    /** Record validated by the generated {@code GeneratedValidatorBenchmark_SignupValidator}. */
+    @GenerateValidator
+    public record Signup(
+            @IsNotBlank(message = "name is required")
+            @LengthMax(value = 60, message = "name is too long")
+            String name,
+            @IsNotBlank(message = "email is required")
+            @Email(message = "email is invalid")
+            String email,
+            @Min(value = 18, message = "must be an adult")
+            int age
+    ) {
+    }
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private final ValidationFactory validations = new ValidationFactoryImpl();
+
+    private CompiledValidator<Signup> schema;
+
+    private Signup signup;
+
+    @Setup
+    public void setup() {
+        schema = new ValidatorFactoryImpl().schema(Signup.class)
+                .field("name", Signup::name)
+                .add(validations.isNotBlank("name is required"))
+                .add(validations.lengthMax(60, "name is too long"))
+                .end()
+                .field("email", Signup::email)
+                .add(validations.isNotBlank("email is required"))
+                .add(validations.email("email is invalid"))
+                .end()
+                .field("age", Signup::age)
+                .add(validations.min(18, "must be an adult"))
+                .end()
+                .compile();
+        signup = valid ? new Signup("John Doe", "john.doe@example.com", 30) : new Signup(" ", "john.doe", 17);
+    }
+
+    @Benchmark
+    public Violations compiledSchema() {
+        return schema.validateToResult(signup);
+    }
+
+    @Benchmark
+    public Violations generatedValidator() {
+        return GeneratedValidatorBenchmark_SignupValidator.validateToResult(signup, validations);
+    }
+
+}
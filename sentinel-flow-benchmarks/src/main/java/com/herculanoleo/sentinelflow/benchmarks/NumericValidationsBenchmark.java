@@ -0,0 +1,110 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code Integer}, {@code Long}, {@code Double} and {@code BigDecimal} rules.
+ *
+ * <p>Values are kept outside the {@code Integer} cache range so boxing costs show up under {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumericValidationsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<Integer> integerMin;
+    private Validation<Integer> integerBetween;
+    private Validation<Long> longMin;
+    private Validation<Long> longBetween;
+    private Validation<Double> doubleMin;
+    private Validation<Double> doubleBetween;
+    private Validation<BigDecimal> bigDecimalMin;
+    private Validation<BigDecimal> bigDecimalBetween;
+
+    private int intValue;
+    private long longValue;
+    private double doubleValue;
+    private BigDecimal bigDecimalValue;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        integerMin = validations.min(1_000, "message");
+        integerBetween = validations.between(1_000, 100_000, "message");
+        longMin = validations.min(1_000L, "message");
+        longBetween = validations.between(1_000L, 100_000L, "message");
+        doubleMin = validations.min(1_000d, "message");
+        doubleBetween = validations.between(1_000d, 100_000d, "message");
+        bigDecimalMin = validations.min(new BigDecimal("1000"), "message");
+        bigDecimalBetween = validations.between(new BigDecimal("1000"), new BigDecimal("100000"), "message");
+
+        intValue = passing ? 50_000 : 500;
+        longValue = intValue;
+        doubleValue = intValue;
+        bigDecimalValue = BigDecimal.valueOf(intValue);
+    }
+
+    @Benchmark
+    public ValidationResult integerMin() {
+        return integerMin.validate(intValue);
+    }
+
+    @Benchmark
+    public ValidationResult integerBetween() {
+        return integerBetween.validate(intValue);
+    }
+
+    @Benchmark
+    public ValidationResult longMin() {
+        return longMin.validate(longValue);
+    }
+
+    @Benchmark
+    public ValidationResult longBetween() {
+        return longBetween.validate(longValue);
+    }
+
+    @Benchmark
+    public ValidationResult doubleMin() {
+        return doubleMin.validate(doubleValue);
+    }
+
+    @Benchmark
+    public ValidationResult doubleBetween() {
+        return doubleBetween.validate(doubleValue);
+    }
+
+    @Benchmark
+    public ValidationResult bigDecimalMin() {
+        return bigDecimalMin.validate(bigDecimalValue);
+    }
+
+    @Benchmark
+    public ValidationResult bigDecimalBetween() {
+        return bigDecimalBetween.validate(bigDecimalValue);
+    }
+
+}
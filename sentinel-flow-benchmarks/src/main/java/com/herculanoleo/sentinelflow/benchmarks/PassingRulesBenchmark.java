@@ -0,0 +1,226 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs one passing value through the allocation-free rules of each family in
+ * {@code validations.types}, so that {@code -prof gc} shows whether the happy path allocates.
+ *
+ * <p>Every benchmark is expected to report {@code gc.alloc.rate.norm} of 0 B/op. Rules left out
+ * allocate outside the library or depend on the environment: {@code matches} and {@code regex},
+ * which create a {@link java.util.regex.Matcher} per call, and the {@code isPast}/{@code isFuture}
+ * rules, which read the clock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassingRulesBenchmark {
+
+    private Validation<Object> isNotNull;
+    private Validation<Object> isClass;
+
+    private Validation<String> isNotBlank;
+    private Validation<String> lengthMax;
+    private Validation<String> fileExtension;
+    private Validation<String> ipInRange;
+
+    private Validation<String> email;
+    private Validation<String> uuid;
+    private Validation<String> slug;
+    private Validation<String> url;
+    private Validation<String> ipAddress;
+
+    private Validation<String> cpf;
+    private Validation<String> cnpj;
+    private Validation<String> cep;
+    private Validation<String> phoneBr;
+
+    private Validation<Boolean> isTrue;
+
+    private Validation<Integer> integerBetween;
+    private Validation<Long> longMin;
+    private Validation<Double> doubleLt;
+    private Validation<BigDecimal> bigDecimalBetween;
+
+    private Validation<LocalDate> localDateBetween;
+    private Validation<LocalTime> localTimeMin;
+    private Validation<LocalDateTime> localDateTimeMax;
+    private Validation<OffsetDateTime> offsetDateTimeMin;
+    private Validation<String> comparableBetween;
+
+    private Validation<List<String>> collectionSize;
+    private Validation<List<String>> collectionNotEmpty;
+    private Validation<Map<String, Integer>> mapSize;
+    private Validation<String[]> arraySize;
+
+    private Object object;
+    private String text;
+    private String document;
+    private String ipValue;
+    private String emailAddress;
+    private String uuidValue;
+    private String slugValue;
+    private String urlValue;
+    private String cpfNumber;
+    private String cnpjNumber;
+    private String cepNumber;
+    private String phoneNumber;
+    private Integer integerValue;
+    private Long longValue;
+    private Double doubleValue;
+    private BigDecimal bigDecimalValue;
+    private LocalDate localDate;
+    private LocalTime localTime;
+    private LocalDateTime localDateTime;
+    private OffsetDateTime offsetDateTime;
+    private List<String> list;
+    private Map<String, Integer> map;
+    private String[] array;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        isNotNull = validations.isNotNull("message");
+        isClass = validations.isClass(String.class, "message");
+        isNotBlank = validations.isNotBlank("message");
+        lengthMax = validations.lengthMax(64, "message");
+        fileExtension = validations.fileExtension(Set.of("pdf", "png"), "message");
+        ipInRange = validations.ipInRange(List.of("10.0.0.0/8", "2001:db8::/32"), "message");
+        email = validations.email("message");
+        uuid = validations.uuid("message");
+        slug = validations.slug("message");
+        url = validations.url("message");
+        ipAddress = validations.ipAddress("message");
+        cpf = validations.cpf("message");
+        cnpj = validations.cnpj("message");
+        cep = validations.cep("message");
+        phoneBr = validations.phoneBr("message");
+        isTrue = validations.isTrue("message");
+        integerBetween = validations.between(Integer.valueOf(1_000), Integer.valueOf(100_000), "message");
+        longMin = validations.min(Long.valueOf(1_000L), "message");
+        doubleLt = validations.lt(Double.valueOf(100_000d), "message");
+        bigDecimalBetween = validations.between(new BigDecimal("1000"), new BigDecimal("100000"), "message");
+        localDateBetween = validations.between(LocalDate.of(2000, 1, 1), LocalDate.of(2100, 1, 1), "message");
+        localTimeMin = validations.min(LocalTime.of(8, 0), "message");
+        localDateTimeMax = validations.max(LocalDateTime.of(2100, 1, 1, 0, 0), "message");
+        offsetDateTimeMin = validations.min(OffsetDateTime.of(2000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), "message");
+        comparableBetween = validations.comparableBetween("A", "Z", "message");
+        collectionSize = validations.sizeMax(10, "message");
+        collectionNotEmpty = validations.isNotEmpty("message");
+        mapSize = validations.mapSizeMin(1, "message");
+        arraySize = validations.arraySizeMin(1, "message");
+
+        object = "SentinelFlow";
+        text = "SentinelFlow";
+        document = "invoice.pdf";
+        ipValue = "2001:db8::1";
+        emailAddress = "sentinel.flow@example.com";
+        uuidValue = "123e4567-e89b-12d3-a456-426614174000";
+        slugValue = "sentinel-flow";
+        urlValue = "https://example.com/docs?page=1";
+        cpfNumber = "52998224725";
+        cnpjNumber = "11.222.333/0001-81";
+        cepNumber = "01310-100";
+        phoneNumber = "11987654321";
+        integerValue = 50_000;
+        longValue = 50_000L;
+        doubleValue = 50_000d;
+        bigDecimalValue = new BigDecimal("50000");
+        localDate = LocalDate.of(2024, 6, 1);
+        localTime = LocalTime.of(12, 30);
+        localDateTime = LocalDateTime.of(2024, 6, 1, 12, 30);
+        offsetDateTime = OffsetDateTime.of(2024, 6, 1, 12, 30, 0, 0, ZoneOffset.UTC);
+        list = List.of("a", "b", "c");
+        map = Map.of("a", 1);
+        array = new String[]{"a", "b"};
+    }
+
+    @Benchmark
+    public boolean object() {
+        return isNotNull.validate(object).valid() & isClass.validate(object).valid();
+    }
+
+    @Benchmark
+    public boolean string() {
+        return isNotBlank.validate(text).valid() & lengthMax.validate(text).valid()
+                & fileExtension.validate(document).valid() & ipInRange.validate(ipValue).valid();
+    }
+
+    @Benchmark
+    public boolean formats() {
+        return email.validate(emailAddress).valid() & uuid.validate(uuidValue).valid()
+                & slug.validate(slugValue).valid() & url.validate(urlValue).valid()
+                & ipAddress.validate(ipValue).valid();
+    }
+
+    @Benchmark
+    public boolean brazil() {
+        return cpf.validate(cpfNumber).valid() & cnpj.validate(cnpjNumber).valid()
+                & cep.validate(cepNumber).valid() & phoneBr.validate(phoneNumber).valid();
+    }
+
+    @Benchmark
+    public ValidationResult booleans() {
+        return isTrue.validate(Boolean.TRUE);
+    }
+
+    @Benchmark
+    public boolean numeric() {
+        return integerBetween.validate(integerValue).valid() & longMin.validate(longValue).valid()
+                & doubleLt.validate(doubleValue).valid() & bigDecimalBetween.validate(bigDecimalValue).valid();
+    }
+
+    @Benchmark
+    public boolean temporal() {
+        return localDateBetween.validate(localDate).valid() & localTimeMin.validate(localTime).valid()
+                & localDateTimeMax.validate(localDateTime).valid() & offsetDateTimeMin.validate(offsetDateTime).valid();
+    }
+
+    @Benchmark
+    public ValidationResult comparable() {
+        return comparableBetween.validate(text);
+    }
+
+    @Benchmark
+    public boolean collection() {
+        return collectionSize.validate(list).valid() & collectionNotEmpty.validate(list).valid();
+    }
+
+    @Benchmark
+    public ValidationResult map() {
+        return mapSize.validate(map);
+    }
+
+    @Benchmark
+    public ValidationResult array() {
+        return arraySize.validate(array);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares numeric fields registered with {@code field}, which box every value, with
+ * {@code intField}, {@code longField} and {@code doubleField}, which check it unboxed.
+ *
+ * <p>Values are outside the {@code Integer} cache range; run with {@code -prof gc} to see the
+ * allocations of the boxed fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveFieldBenchmark {
+
+    /** Object with numeric fields only. */
+    public record Order(int quantity, long totalCents, double discountRate) {
+    }
+
+    private CompiledValidator<Order> boxed;
+
+    private CompiledValidator<Order> unboxed;
+
+    private Order order;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        var validators = new ValidatorFactoryImpl();
+        boxed = validators.schema(Order.class)
+                .field("quantity", Order::quantity)
+                .add(validations.positive("quantity must be positive"))
+                .add(validations.max(100_000, "quantity is too large"))
+                .end()
+                .field("totalCents", Order::totalCents)
+                .add(validations.between(0L, 100_000_000L, "total is out of range"))
+                .end()
+                .field("discountRate", Order::discountRate)
+                .add(validations.min(0.0, "discount cannot be negative"))
+                .add(validations.lt(1.0, "discount must be below 100%"))
+                .end()
+                .compile();
+        unboxed = validators.schema(Order.class)
+                .intField("quantity", Order::quantity)
+                .add(validations.positive("quantity must be positive"))
+                .add(validations.max(100_000, "quantity is too large"))
+                .end()
+                .longField("totalCents", Order::totalCents)
+                .add(validations.between(0L, 100_000_000L, "total is out of range"))
+                .end()
+                .doubleField("discountRate", Order::discountRate)
+                .add(validations.min(0.0, "discount cannot be negative"))
+                .add(validations.lt(1.0, "discount must be below 100%"))
+                .end()
+                .compile();
+        order = new Order(5_000, 12_345_678L, 0.15);
+    }
+
+    @Benchmark
+    public Violations boxedFields() {
+        return boxed.validateToResult(order);
+    }
+
+    @Benchmark
+    public Violations unboxedFields() {
+        return unboxed.validateToResult(order);
+    }
+
+}
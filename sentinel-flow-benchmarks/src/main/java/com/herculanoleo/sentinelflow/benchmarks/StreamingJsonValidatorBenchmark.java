@@ -0,0 +1,100 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.jackson.StreamingJsonValidator;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binding a JSON body and then validating it against validating it while it is
+ * parsed, for a body whose first property is invalid followed by {@code tags} array elements.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StreamingJsonValidatorBenchmark {
+
+    /** Object read from the body. */
+    public record Signup(Integer age, String name, String email, List<String> tags) {
+    }
+
+    @Param({"10", "10000"})
+    public int tags;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private CompiledValidator<Signup> validator;
+
+    private StreamingJsonValidator<Signup> reader;
+
+    private byte[] body;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        validator = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), false)
+                .schema(Signup.class)
+                .field("age", Signup::age)
+                .add(validations.min(18, "must be an adult"))
+                .end()
+                .field("name", Signup::name)
+                .add(validations.isNotBlank("name is required"))
+                .end()
+                .field("email", Signup::email)
+                .add(validations.email("email is invalid"))
+                .end()
+                .field("tags", Signup::tags)
+                .add(validations.sizeMax(100, "too many tags"))
+                .end()
+                .compile();
+        reader = new StreamingJsonValidator<>(mapper, Signup.class, validator, false,
+                Map.of("age", "age", "name", "name", "email", "email"));
+        body = ("{\"age\":17,\"name\":\"John Doe\",\"email\":\"john.doe@example.com\",\"tags\":["
+                + "\"tag\",".repeat(tags - 1) + "\"tag\"]}").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Collection<ValidatorFieldErrorMessages> bindThenValidate() throws IOException {
+        return validator.validateToResult(mapper.readValue(body, Signup.class), ShortCircuitPolicy.FIRST_OVERALL)
+                .fieldErrors();
+    }
+
+    @Benchmark
+    public Collection<ValidatorFieldErrorMessages> validateWhileParsing() throws IOException {
+        try (JsonParser parser = mapper.createParser(body)) {
+            reader.read(parser, ShortCircuitPolicy.FIRST_OVERALL);
+            return List.of();
+        } catch (ValidatorException e) {
+            return e.getFieldErrors();
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares the built-in format rules, which use hand-written scanners, with the regular
+ * expressions they replaced, applied through {@code matches(Pattern, ...)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringScannerBenchmark {
+
+    private static final Pattern EMAIL_REGEX = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,}$");
+    private static final Pattern UUID_REGEX = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern SLUG_REGEX = Pattern.compile("^[a-z0-9]+(?:-[a-z0-9]+)*$");
+    private static final Pattern IPV4_REGEX = Pattern.compile(
+            "^((25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)$");
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<String> emailScanner;
+    private Validation<String> emailRegex;
+    private Validation<String> uuidScanner;
+    private Validation<String> uuidRegex;
+    private Validation<String> slugScanner;
+    private Validation<String> slugRegex;
+    private Validation<String> ipv4Scanner;
+    private Validation<String> ipv4Regex;
+
+    private String emailValue;
+    private String uuidValue;
+    private String slugValue;
+    private String ipv4Value;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        emailScanner = validations.email("message");
+        emailRegex = validations.matches(EMAIL_REGEX, "message");
+        uuidScanner = validations.uuid("message");
+        uuidRegex = value -> {
+            if (UUID_REGEX.matcher(value).matches()) {
+                UUID.fromString(value);
+                return new ValidationResult(true, null);
+            }
+            return new ValidationResult(false, "message");
+        };
+        slugScanner = validations.slug("message");
+        slugRegex = validations.matches(SLUG_REGEX, "message");
+        ipv4Scanner = validations.ipAddress("message");
+        ipv4Regex = validations.matches(IPV4_REGEX, "message");
+
+        emailValue = passing ? "john.doe@mail.example.com" : "john.doe@example";
+        uuidValue = passing ? "123e4567-e89b-12d3-a456-426614174000" : "123e4567-e89b-12d3-a456-42661417400z";
+        slugValue = passing ? "my-page-title" : "my-page-title-";
+        ipv4Value = passing ? "192.168.100.200" : "192.168.100.256";
+    }
+
+    @Benchmark
+    public ValidationResult emailScanner() {
+        return emailScanner.validate(emailValue);
+    }
+
+    @Benchmark
+    public ValidationResult emailRegex() {
+        return emailRegex.validate(emailValue);
+    }
+
+    @Benchmark
+    public ValidationResult uuidScanner() {
+        return uuidScanner.validate(uuidValue);
+    }
+
+    @Benchmark
+    public ValidationResult uuidRegex() {
+        return uuidRegex.validate(uuidValue);
+    }
+
+    @Benchmark
+    public ValidationResult slugScanner() {
+        return slugScanner.validate(slugValue);
+    }
+
+    @Benchmark
+    public ValidationResult slugRegex() {
+        return slugRegex.validate(slugValue);
+    }
+
+    @Benchmark
+    public ValidationResult ipv4Scanner() {
+        return ipv4Scanner.validate(ipv4Value);
+    }
+
+    @Benchmark
+    public ValidationResult ipv4Regex() {
+        return ipv4Regex.validate(ipv4Value);
+    }
+
+}
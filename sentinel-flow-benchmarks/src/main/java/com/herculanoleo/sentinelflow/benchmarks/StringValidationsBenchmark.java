@@ -0,0 +1,157 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures single {@code StringValidations} rules on passing and failing input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringValidationsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<String> isNotBlank;
+    private Validation<String> lengthMin;
+    private Validation<String> email;
+    private Validation<String> onlyNumbers;
+    private Validation<String> url;
+    private Validation<String> https;
+    private Validation<String> allowedUrl;
+    private Validation<String> uuid;
+    private Validation<String> alphaNumeric;
+    private Validation<String> slug;
+    private Validation<String> regex;
+    private Validation<String> ipAddress;
+    private Validation<String> ipInRange;
+
+    private String text;
+    private String emailValue;
+    private String digits;
+    private String urlValue;
+    private String uuidValue;
+    private String slugValue;
+    private String ipv4Value;
+    private String ipv6Value;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        isNotBlank = validations.isNotBlank("message");
+        lengthMin = validations.lengthMin(8, "message");
+        email = validations.email("message");
+        onlyNumbers = validations.onlyNumbers("message");
+        url = validations.url("message");
+        https = validations.https("message");
+        allowedUrl = validations.https(Set.of("example.com", "*.example.org"), 2048, "message");
+        uuid = validations.uuid("message");
+        alphaNumeric = validations.alphaNumeric("message");
+        slug = validations.slug("message");
+        regex = validations.regex("^[A-Z]{3}-\\d{4}$", "message");
+        ipAddress = validations.ipAddress("message");
+        ipInRange = validations.ipInRange(List.of("10.0.0.0/8", "2001:db8::/32"), "message");
+
+        text = passing ? "SentinelFlow" : " ";
+        emailValue = passing ? "john.doe@example.com" : "john.doe@example";
+        digits = passing ? "12345678901" : "123.456.789-01";
+        urlValue = passing ? "https://example.com/path?query=1" : "example.com/path";
+        uuidValue = passing ? "123e4567-e89b-12d3-a456-426614174000" : "123e4567-e89b-12d3-a456-42661417400z";
+        slugValue = passing ? "my-page-title" : "My Page Title";
+        ipv4Value = passing ? "192.168.100.200" : "192.168.100.256";
+        ipv6Value = passing ? "2001:db8:85a3::8a2e:370:7334" : "2001:db8:85a3::8a2e::7334";
+    }
+
+    @Benchmark
+    public ValidationResult isNotBlank() {
+        return isNotBlank.validate(text);
+    }
+
+    @Benchmark
+    public ValidationResult lengthMin() {
+        return lengthMin.validate(text);
+    }
+
+    @Benchmark
+    public ValidationResult email() {
+        return email.validate(emailValue);
+    }
+
+    @Benchmark
+    public ValidationResult onlyNumbers() {
+        return onlyNumbers.validate(digits);
+    }
+
+    @Benchmark
+    public ValidationResult url() {
+        return url.validate(urlValue);
+    }
+
+    @Benchmark
+    public ValidationResult https() {
+        return https.validate(urlValue);
+    }
+
+    @Benchmark
+    public ValidationResult httpsAllowedHosts() {
+        return allowedUrl.validate(urlValue);
+    }
+
+    @Benchmark
+    public ValidationResult uuid() {
+        return uuid.validate(uuidValue);
+    }
+
+    @Benchmark
+    public ValidationResult alphaNumeric() {
+        return alphaNumeric.validate(text);
+    }
+
+    @Benchmark
+    public ValidationResult slug() {
+        return slug.validate(slugValue);
+    }
+
+    @Benchmark
+    public ValidationResult regex() {
+        return regex.validate(passing ? "ABC-1234" : "abc-1234");
+    }
+
+    @Benchmark
+    public ValidationResult ipv4() {
+        return ipAddress.validate(ipv4Value);
+    }
+
+    @Benchmark
+    public ValidationResult ipv6() {
+        return ipAddress.validate(ipv6Value);
+    }
+
+    @Benchmark
+    public ValidationResult ipInRange() {
+        return ipInRange.validate(ipv6Value);
+    }
+
+}
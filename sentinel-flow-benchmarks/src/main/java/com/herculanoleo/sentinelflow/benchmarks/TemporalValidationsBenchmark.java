@@ -0,0 +1,111 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code LocalDate}, {@code LocalTime}, {@code LocalDateTime} and {@code OffsetDateTime} rules.
+ *
+ * <p>{@code isPast}-style rules read the system clock on every call, so they are measured separately
+ * from the range rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemporalValidationsBenchmark {
+
+    @Param({"true", "false"})
+    public boolean passing;
+
+    private Validation<LocalDate> localDateBetween;
+    private Validation<LocalDate> localDateIsPast;
+    private Validation<LocalTime> localTimeMin;
+    private Validation<LocalDateTime> localDateTimeBetween;
+    private Validation<LocalDateTime> localDateTimeIsPast;
+    private Validation<OffsetDateTime> offsetDateTimeMin;
+    private Validation<OffsetDateTime> offsetDateTimeIsPast;
+
+    private LocalDate localDate;
+    private LocalTime localTime;
+    private LocalDateTime localDateTime;
+    private OffsetDateTime offsetDateTime;
+
+    @Setup
+    public void setup() {
+        ValidationFactory validations = new ValidationFactoryImpl();
+        var min = LocalDateTime.of(1900, 1, 1, 0, 0);
+        var max = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+        localDateBetween = validations.between(min.toLocalDate(), max.toLocalDate(), "message");
+        localDateIsPast = validations.isPast("message");
+        localTimeMin = validations.min(LocalTime.of(8, 0), "message");
+        localDateTimeBetween = validations.between(min, max, "message");
+        localDateTimeIsPast = validations.isPastDateTime("message");
+        offsetDateTimeMin = validations.min(min.atOffset(ZoneOffset.UTC), "message");
+        offsetDateTimeIsPast = validations.isPastOffsetDateTime("message");
+
+        localDateTime = passing ? LocalDateTime.of(2000, 1, 1, 12, 0) : LocalDateTime.of(2999, 1, 1, 6, 0);
+        localDate = localDateTime.toLocalDate();
+        localTime = localDateTime.toLocalTime();
+        offsetDateTime = passing ? localDateTime.atOffset(ZoneOffset.UTC) : OffsetDateTime.of(1800, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    }
+
+    @Benchmark
+    public ValidationResult localDateBetween() {
+        return localDateBetween.validate(localDate);
+    }
+
+    @Benchmark
+    public ValidationResult localDateIsPast() {
+        return localDateIsPast.validate(localDate);
+    }
+
+    @Benchmark
+    public ValidationResult localTimeMin() {
+        return localTimeMin.validate(localTime);
+    }
+
+    @Benchmark
+    public ValidationResult localDateTimeBetween() {
+        return localDateTimeBetween.validate(localDateTime);
+    }
+
+    @Benchmark
+    public ValidationResult localDateTimeIsPast() {
+        return localDateTimeIsPast.validate(localDateTime);
+    }
+
+    @Benchmark
+    public ValidationResult offsetDateTimeMin() {
+        return offsetDateTimeMin.validate(offsetDateTime);
+    }
+
+    @Benchmark
+    public ValidationResult offsetDateTimeIsPast() {
+        return offsetDateTimeIsPast.validate(offsetDateTime);
+    }
+
+}
@@ -0,0 +1,69 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO shared by the validator benchmarks.
+ *
+ * @param name     user name
+ * @param email    user email
+ * @param password user password
+ * @param age      user age
+ * @param cpf      user CPF
+ * @param cep      user CEP
+ * @param phone    user phone
+ * @param birthday user birthday
+ * @param balance  user balance
+ */
+public record UserFixture(
+        String name,
+        String email,
+        String password,
+        Integer age,
+        String cpf,
+        String cep,
+        String phone,
+        LocalDate birthday,
+        BigDecimal balance
+) {
+
+    /**
+     * Returns a user that passes every rule of {@link ValidatorBenchmark}.
+     *
+     * @return valid user
+     */
+    public static UserFixture valid() {
+        return new UserFixture(
+                "John",
+                "john.doe@example.com",
+                "s3cr3t-password",
+                1024,
+                "61764923006",
+                "12345-678",
+                "(11) 98888-7777",
+                LocalDate.of(2000, 1, 1),
+                new BigDecimal("1500.75")
+        );
+    }
+
+    /**
+     * Returns a user that fails at least one rule on every field of {@link ValidatorBenchmark}.
+     *
+     * @return invalid user
+     */
+    public static UserFixture invalid() {
+        return new UserFixture(
+                "",
+                "john.doe@",
+                "short",
+                12,
+                "000.000.000-00",
+                "1234",
+                "123",
+                LocalDate.of(2999, 1, 1),
+                new BigDecimal("-1")
+        );
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+import com.herculanoleo.sentinelflow.validator.impl.JfrValidationObserver;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a {@link ValidationObserver} on a compiled validator: none, a JFR
+ * observer without a recording, and an observer sampling every validation or 1% of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationObserverBenchmark {
+
+    /** Object under validation. */
+    public record Signup(String name, String email, Integer age) {
+    }
+
+    @Param({"none", "jfr", "sampled", "always"})
+    public String observer;
+
+    private CompiledValidator<Signup> validator;
+
+    private Signup signup;
+
+    @Setup
+    public void setup() {
+        ValidationObserver reporting = new ValidationObserver() {
+        };
+        ValidationObserver selected = switch (observer) {
+            case "jfr" -> new JfrValidationObserver();
+            case "sampled" -> ValidationObserver.sampled(reporting, 0.01);
+            case "always" -> reporting;
+            default -> ValidationObserver.none();
+        };
+        ValidationFactory validations = new ValidationFactoryImpl();
+        validator = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, selected)
+                .schema(Signup.class)
+                .field("name", Signup::name)
+                .add(validations.isNotBlank("name is required"))
+                .add(validations.lengthMax(60, "name is too long"))
+                .end()
+                .field("email", Signup::email)
+                .add(validations.email("email is invalid"))
+                .end()
+                .field("age", Signup::age)
+                .add(validations.min(18, "must be an adult"))
+                .end()
+                .compile();
+        signup = new Signup("John Doe", "john.doe@example.com", 30);
+    }
+
+    @Benchmark
+    public Violations validateToResult() {
+        return validator.validateToResult(signup);
+    }
+
+}
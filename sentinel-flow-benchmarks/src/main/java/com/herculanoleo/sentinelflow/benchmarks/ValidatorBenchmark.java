@@ -0,0 +1,101 @@
+package com.herculanoleo.sentinelflow.benchmarks;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.Validator;
+import com.herculanoleo.sentinelflow.validator.ValidatorFactory;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the full {@code create(...).field(...).add(...).end().validate()} path for one DTO.
+ *
+ * <p>{@link #construct()} isolates the cost of building the validator graph, while
+ * {@link #validateValid()} and {@link #validateInvalid()} include construction, rule
+ * evaluation and, on the failing path, building and throwing {@link ValidatorException}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private final ValidatorFactory validatorFactory = new ValidatorFactoryImpl();
+
+    private final ValidationFactory validations = new ValidationFactoryImpl();
+
+    private final UserFixture valid = UserFixture.valid();
+
+    private final UserFixture invalid = UserFixture.invalid();
+
+    @Benchmark
+    public Validator<UserFixture> construct() {
+        return build(valid);
+    }
+
+    @Benchmark
+    public UserFixture validateValid() throws ValidatorException {
+        build(valid).validate();
+        return valid;
+    }
+
+    @Benchmark
+    public ValidatorException validateInvalid() {
+        try {
+            build(invalid).validate();
+            throw new IllegalStateException("invalid fixture passed validation");
+        } catch (ValidatorException e) {
+            return e;
+        }
+    }
+
+    private Validator<UserFixture> build(UserFixture user) {
+        return validatorFactory.create(user)
+                .field("name", UserFixture::name)
+                .add(validations.isNotBlank("name is required"))
+                .add(validations.lengthMin(3, "name must have at least 3 characters"))
+                .end()
+                .field("email", UserFixture::email)
+                .add(validations.isNotBlank("email is required"))
+                .add(validations.email("email is invalid"))
+                .end()
+                .field("password", UserFixture::password)
+                .add(validations.isNotBlank("password is required"))
+                .add(validations.lengthMin(8, "password must have at least 8 characters"))
+                .end()
+                .field("age", UserFixture::age)
+                .add(validations.min(18, "age must be at least 18"))
+                .end()
+                .field("cpf", UserFixture::cpf)
+                .add(validations.cpf("cpf is invalid"))
+                .end()
+                .field("cep", UserFixture::cep)
+                .add(validations.cep("cep is invalid"))
+                .end()
+                .field("phone", UserFixture::phone)
+                .add(validations.phoneBr("phone is invalid"))
+                .end()
+                .field("birthday", UserFixture::birthday)
+                .add(validations.isNotNull("birthday is required"))
+                .add(validations.isPast("birthday must be in the past"))
+                .end()
+                .field("balance", UserFixture::balance)
+                .add(validations.min(BigDecimal.ZERO, "balance must not be negative"))
+                .end();
+    }
+
+}
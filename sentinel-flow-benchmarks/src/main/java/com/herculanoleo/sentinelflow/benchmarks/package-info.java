@@ -0,0 +1,8 @@
+/**
+ * JMH benchmarks for SentinelFlow.
+ *
+ * <p>Build the self-contained jar with {@code ./mvnw -pl sentinel-flow-benchmarks -am package}
+ * and run it with {@code java -jar sentinel-flow-benchmarks/target/benchmarks.jar}.
+ * Append {@code -prof gc} to report allocation per operation.
+ */
+package com.herculanoleo.sentinelflow.benchmarks;
@@ -0,0 +1,100 @@
+package com.herculanoleo.sentinelflow.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Property types whose values are read straight from the current token.
+ *
+ * <p>Only tokens that Jackson binds without coercion are read; any other token yields
+ * {@link #UNREAD}, leaving the property to be validated on the bound object.
+ */
+enum ScalarKind {
+
+    STRING {
+        @Override
+        Object read(JsonParser parser, JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_STRING ? parser.getText() : UNREAD;
+        }
+    },
+
+    INTEGER {
+        @Override
+        Object read(JsonParser parser, JsonToken token) throws IOException {
+            return token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT
+                    ? parser.getIntValue()
+                    : UNREAD;
+        }
+    },
+
+    LONG {
+        @Override
+        Object read(JsonParser parser, JsonToken token) throws IOException {
+            if (token != JsonToken.VALUE_NUMBER_INT) {
+                return UNREAD;
+            }
+            var numberType = parser.getNumberType();
+            return numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG
+                    ? parser.getLongValue()
+                    : UNREAD;
+        }
+    },
+
+    DOUBLE {
+        @Override
+        Object read(JsonParser parser, JsonToken token) throws IOException {
+            return token.isNumeric() ? parser.getDoubleValue() : UNREAD;
+        }
+    },
+
+    BIG_DECIMAL {
+        @Override
+        Object read(JsonParser parser, JsonToken token) throws IOException {
+            return token.isNumeric() ? parser.getDecimalValue() : UNREAD;
+        }
+    },
+
+    BOOLEAN {
+        @Override
+        Object read(JsonParser parser, JsonToken token) {
+            return token.isBoolean() ? token == JsonToken.VALUE_TRUE : UNREAD;
+        }
+    };
+
+    /** Marks a token that is not read for the property type. */
+    static final Object UNREAD = new Object();
+
+    /**
+     * Returns the value of the current scalar token, or {@link #UNREAD}.
+     */
+    abstract Object read(JsonParser parser, JsonToken token) throws IOException;
+
+    /**
+     * Returns the kind of a property type, or {@code null} when it is not read from the stream.
+     */
+    static ScalarKind of(Class<?> type) {
+        if (type == String.class) {
+            return STRING;
+        }
+        if (type == Integer.class || type == int.class) {
+            return INTEGER;
+        }
+        if (type == Long.class || type == long.class) {
+            return LONG;
+        }
+        if (type == Double.class || type == double.class) {
+            return DOUBLE;
+        }
+        if (type == BigDecimal.class) {
+            return BIG_DECIMAL;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return BOOLEAN;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.herculanoleo.sentinelflow.jackson;
+
+/**
+ * A property validated as its value is read.
+ *
+ * @param field     validator field whose capture returns the property unchanged
+ * @param kind      how the value is read from its token
+ * @param primitive whether the property is primitive, in which case {@code null} is left to Jackson
+ */
+record ScalarProperty(String field, ScalarKind kind, boolean primitive) {
+}
@@ -0,0 +1,199 @@
+package com.herculanoleo.sentinelflow.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Reads JSON objects with Jackson while a {@link CompiledValidator} checks their fields.
+ *
+ * <p>The rules of the fields declared as streamed, whose values are top-level scalar properties
+ * (strings, numbers, booleans and {@code null}), are applied as soon as the value token is read,
+ * before the object is built. With
+ * {@link ShortCircuitPolicy#FIRST_OVERALL} parsing stops at the first invalid property, so the
+ * rest of an oversized or hostile body is never read nor bound. No intermediate tree is built:
+ * values are taken from the parser's current token, and the object is bound by the
+ * {@link ObjectMapper} as usual.
+ *
+ * <p>A streamed field is validated on the token instead of on its capture, so only declare fields
+ * whose capture is the plain accessor of the property, such as {@code UserDTO::email} for
+ * {@code email}: a capture that transforms the value ({@code user -> user.email().trim()}) or
+ * reads another property would be validated on a different value. Fields are mapped to the Java
+ * name of their property, so renamed properties such as {@code @JsonProperty("e_mail") String email}
+ * are streamed under {@code email}.
+ *
+ * <p>Once the object is built, the remaining fields (fields that are not streamed, nested
+ * objects, collections, missing properties, values Jackson had to coerce) are validated on the
+ * object, reusing the streamed results, so the violations are the same as those of
+ * {@link CompiledValidator#validateToResult(Object, ShortCircuitPolicy)} on the bound object.
+ * Under {@code FIRST_OVERALL} the reported field is the first invalid one in document order.
+ *
+ * <pre>{@code
+ * var reader = new StreamingJsonValidator<>(mapper, UserRegistrationDTO.class, validator, false,
+ *         Map.of("name", "name", "email", "email"));
+ * UserRegistrationDTO user = reader.read(request.getInputStream(), ShortCircuitPolicy.FIRST_OVERALL);
+ * }</pre>
+ *
+ * <p>Instances are immutable and thread-safe.
+ *
+ * @param <T> type of the JSON objects
+ */
+public class StreamingJsonValidator<T> {
+
+    private final ObjectMapper mapper;
+
+    private final JavaType type;
+
+    private final CompiledValidator<T> validator;
+
+    private final boolean writableStackTrace;
+
+    private final Map<String, ScalarProperty> properties;
+
+    /**
+     * Creates a reader that streams no field, whose {@link ValidatorException}s have a writable
+     * stack trace.
+     *
+     * @param mapper    mapper binding the objects
+     * @param type      type of the objects
+     * @param validator validator of the objects
+     */
+    public StreamingJsonValidator(ObjectMapper mapper, Class<T> type, CompiledValidator<T> validator) {
+        this(mapper, type, validator, true);
+    }
+
+    /**
+     * Creates a reader that streams no field: every field is validated on the bound object.
+     *
+     * @param mapper             mapper binding the objects
+     * @param type               type of the objects
+     * @param validator          validator of the objects
+     * @param writableStackTrace whether thrown {@link ValidatorException}s fill their stack trace
+     */
+    public StreamingJsonValidator(ObjectMapper mapper, Class<T> type, CompiledValidator<T> validator,
+                                  boolean writableStackTrace) {
+        this(mapper, type, validator, writableStackTrace, Map.of());
+    }
+
+    /**
+     * Creates a reader that validates the given fields while the JSON is parsed.
+     *
+     * @param mapper             mapper binding the objects
+     * @param type               type of the objects
+     * @param validator          validator of the objects
+     * @param writableStackTrace whether thrown {@link ValidatorException}s fill their stack trace
+     * @param streamedFields     validator field names mapped to the Java name of the scalar
+     *                           property that their capture returns unchanged
+     * @throws IllegalArgumentException when a mapped property is not a scalar property of the
+     *                                  type, or is mapped by several fields
+     */
+    public StreamingJsonValidator(ObjectMapper mapper, Class<T> type, CompiledValidator<T> validator,
+                                  boolean writableStackTrace, Map<String, String> streamedFields) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.type = mapper.constructType(Objects.requireNonNull(type));
+        this.validator = Objects.requireNonNull(validator);
+        this.writableStackTrace = writableStackTrace;
+        this.properties = scalarProperties(mapper, this.type, Objects.requireNonNull(streamedFields));
+    }
+
+    /**
+     * Reads and validates one object, evaluating every rule.
+     *
+     * @param input JSON source, closed once read
+     * @return the valid object
+     * @throws IOException        when the input cannot be read or bound
+     * @throws ValidatorException when the object is invalid
+     */
+    public T read(InputStream input) throws IOException, ValidatorException {
+        return read(input, ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Reads and validates one object, stopping early according to the policy.
+     *
+     * @param input  JSON source, closed once read
+     * @param policy how much to evaluate once a rule fails
+     * @return the valid object
+     * @throws IOException        when the input cannot be read or bound
+     * @throws ValidatorException when the object is invalid
+     */
+    public T read(InputStream input, ShortCircuitPolicy policy) throws IOException, ValidatorException {
+        try (JsonParser parser = mapper.createParser(input)) {
+            return read(parser, policy);
+        }
+    }
+
+    /**
+     * Reads and validates the next object of the parser, stopping early according to the policy.
+     *
+     * <p>The parser is not closed, so several objects can be read from the same stream.
+     *
+     * @param parser parser positioned before the object, or on its {@code START_OBJECT} token
+     * @param policy how much to evaluate once a rule fails
+     * @return the valid object
+     * @throws IOException        when the input cannot be read or bound
+     * @throws ValidatorException when the object is invalid
+     */
+    public T read(JsonParser parser, ShortCircuitPolicy policy) throws IOException, ValidatorException {
+        var validating = new ValidatingJsonParser(Objects.requireNonNull(parser), properties, validator,
+                Objects.requireNonNull(policy));
+        T value;
+        try {
+            value = mapper.readValue(validating, type);
+        } catch (IOException e) {
+            var aborted = ValidationAbortedException.find(e);
+            if (null == aborted) {
+                throw e;
+            }
+            throw new ValidatorException(aborted.violations(), writableStackTrace);
+        }
+
+        var violations = validator.validateToResult(value, policy, validating.evaluated());
+        if (!violations.isValid()) {
+            throw new ValidatorException(violations, writableStackTrace);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the streamed properties, whose values can be read from a single scalar token,
+     * keyed by their JSON name.
+     */
+    private static Map<String, ScalarProperty> scalarProperties(ObjectMapper mapper, JavaType type,
+                                                                Map<String, String> streamedFields) {
+        Map<String, String> fields = new HashMap<>();
+        streamedFields.forEach((field, property) -> {
+            if (null != fields.put(property, field)) {
+                throw new IllegalArgumentException("property " + property + " is streamed by several fields");
+            }
+        });
+
+        BeanDescription description = mapper.getDeserializationConfig().introspect(type);
+        Map<String, ScalarProperty> properties = new HashMap<>();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            var field = fields.remove(property.getInternalName());
+            var kind = ScalarKind.of(property.getPrimaryType().getRawClass());
+            if (null != field && null != kind) {
+                properties.put(property.getName(), new ScalarProperty(field, kind, property.getPrimaryType().isPrimitive()));
+            } else if (null != field) {
+                throw new IllegalArgumentException("property " + property.getInternalName() + " is not a scalar");
+            }
+        }
+        if (!fields.isEmpty()) {
+            throw new IllegalArgumentException("unknown properties " + fields.keySet() + " in " + type);
+        }
+        return Map.copyOf(properties);
+    }
+
+}
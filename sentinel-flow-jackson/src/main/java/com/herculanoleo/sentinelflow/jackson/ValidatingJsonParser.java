@@ -0,0 +1,96 @@
+package com.herculanoleo.sentinelflow.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.FieldErrorCollector;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parser that validates the top-level scalar properties of an object as their tokens are read.
+ *
+ * <p>Every token of the delegate goes through {@link #nextToken()}: the other {@code next}
+ * methods of {@link JsonParser} are defined on top of it, and {@link #nextValue()} is redefined
+ * here because {@link JsonParserDelegate} forwards it. One instance reads one object.
+ */
+class ValidatingJsonParser extends JsonParserDelegate {
+
+    private final Map<String, ScalarProperty> properties;
+
+    private final CompiledValidator<?> validator;
+
+    private final ShortCircuitPolicy policy;
+
+    private final Map<String, Result<?>> evaluated = new HashMap<>();
+
+    ValidatingJsonParser(JsonParser parser, Map<String, ScalarProperty> properties, CompiledValidator<?> validator,
+                         ShortCircuitPolicy policy) {
+        super(parser);
+        this.properties = properties;
+        this.validator = validator;
+        this.policy = policy;
+    }
+
+    /**
+     * Returns the results of the properties validated so far, keyed by validator field.
+     */
+    Map<String, Result<?>> evaluated() {
+        return evaluated;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = delegate.nextToken();
+        if (null != token && token.isScalarValue()) {
+            JsonStreamContext context = delegate.getParsingContext();
+            if (context.inObject() && context.getParent().inRoot()) {
+                validate(context.getCurrentName(), token);
+            }
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    private void validate(String name, JsonToken token) throws IOException {
+        var property = properties.get(name);
+        if (null == property) {
+            return;
+        }
+        Object value;
+        if (token == JsonToken.VALUE_NULL) {
+            if (property.primitive()) {
+                return;
+            }
+            value = null;
+        } else {
+            value = property.kind().read(delegate, token);
+            if (value == ScalarKind.UNREAD) {
+                return;
+            }
+        }
+
+        var result = validator.validateField(property.field(), value, policy);
+        if (null == result) {
+            return;
+        }
+        evaluated.put(property.field(), result);
+        if (policy.stopsValidatorOnFailure() && !result.isValid()) {
+            var collector = new FieldErrorCollector(policy);
+            collector.add(result);
+            throw new ValidationAbortedException(collector.toViolations());
+        }
+    }
+
+}
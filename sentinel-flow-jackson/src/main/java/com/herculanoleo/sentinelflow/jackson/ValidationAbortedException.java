@@ -0,0 +1,43 @@
+package com.herculanoleo.sentinelflow.jackson;
+
+import com.herculanoleo.sentinelflow.models.Violations;
+
+import java.io.IOException;
+
+/**
+ * Thrown from the token stream to stop binding at the first invalid property.
+ *
+ * <p>It is an {@link IOException} so that Jackson propagates it like a read failure rather than
+ * reporting it as a mapping problem; it is never visible outside this package.
+ */
+final class ValidationAbortedException extends IOException {
+
+    private final transient Violations violations;
+
+    ValidationAbortedException(Violations violations) {
+        super("validation failed", null);
+        this.violations = violations;
+    }
+
+    Violations violations() {
+        return violations;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    /**
+     * Returns the exception or the first of its causes that aborted the validation, or {@code null}.
+     */
+    static ValidationAbortedException find(Throwable exception) {
+        for (Throwable cause = exception; null != cause; cause = cause.getCause()) {
+            if (cause instanceof ValidationAbortedException aborted) {
+                return aborted;
+            }
+        }
+        return null;
+    }
+
+}
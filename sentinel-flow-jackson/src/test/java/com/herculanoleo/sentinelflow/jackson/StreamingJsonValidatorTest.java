@@ -0,0 +1,176 @@
+package com.herculanoleo.sentinelflow.jackson;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorSchemaImpl;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StreamingJsonValidatorTest {
+
+    public record Signup(String name, @JsonProperty("e_mail") String email, int age, List<String> tags) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final ValidationFactoryImpl validations = new ValidationFactoryImpl();
+
+    private final AtomicInteger nameChecks = new AtomicInteger();
+
+    private final CompiledValidator<Signup> validator = new ValidatorSchemaImpl<Signup>()
+            .field("name", Signup::name)
+            .add(value -> {
+                nameChecks.incrementAndGet();
+                return new ValidationResult(null != value && !value.isBlank(), "name is required");
+            })
+            .end()
+            .field("email", Signup::email)
+            .add(validations.isNotBlank("email is required"))
+            .add(validations.email("invalid email"))
+            .end()
+            .field("age", Signup::age)
+            .add(validations.min(18, "must be an adult"))
+            .end()
+            .field("tags", Signup::tags)
+            .add(validations.isNotEmpty("tags are required"))
+            .end()
+            .compile();
+
+    private final StreamingJsonValidator<Signup> reader = new StreamingJsonValidator<>(mapper, Signup.class, validator, false,
+            Map.of("name", "name", "email", "email", "age", "age"));
+
+    @Test
+    public void test_read_valid_object() throws Exception {
+        var signup = reader.read(json("{\"name\":\"John\",\"e_mail\":\"john@mail.com\",\"age\":30,\"tags\":[\"vip\"]}"));
+
+        assertEquals(new Signup("John", "john@mail.com", 30, List.of("vip")), signup);
+        assertEquals(1, nameChecks.get());
+    }
+
+    @Test
+    public void test_read_reports_same_violations_as_object_validation() throws Exception {
+        var body = "{\"tags\":[],\"age\":17,\"e_mail\":\"john\",\"name\":\" \"}";
+
+        var exception = assertThrows(ValidatorException.class, () -> reader.read(json(body)));
+
+        var expected = validator.validateToResult(mapper.readValue(body, Signup.class)).fieldErrors();
+        assertEquals(List.copyOf(expected), List.copyOf(exception.getFieldErrors()));
+        assertEquals(List.of("name", "email", "age", "tags"), List.copyOf(messages(exception).keySet()));
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void test_read_streamed_fields_are_not_validated_again() {
+        assertThrows(ValidatorException.class, () -> reader.read(json("{\"name\":\"\",\"age\":1,\"tags\":[\"a\"]}")));
+
+        assertEquals(1, nameChecks.get());
+    }
+
+    @Test
+    public void test_read_validates_missing_and_coerced_properties_on_object() {
+        var exception = assertThrows(ValidatorException.class,
+                () -> reader.read(json("{\"e_mail\":\"john@mail.com\",\"age\":\"17\",\"tags\":[\"a\"]}")));
+
+        var errors = messages(exception);
+        assertEquals(List.of("name is required"), errors.get("name"));
+        assertEquals(List.of("must be an adult"), errors.get("age"));
+    }
+
+    @Test
+    public void test_read_FIRST_OVERALL_stops_parsing_at_first_invalid_property() {
+        var body = "{\"name\":\"John\",\"age\":17,\"e_mail\":\"\",\"tags\":[" + "\"x\",".repeat(10_000) + " this is not json";
+
+        var exception = assertThrows(ValidatorException.class,
+                () -> reader.read(json(body), ShortCircuitPolicy.FIRST_OVERALL));
+
+        assertEquals(Map.of("age", List.of("must be an adult")), messages(exception));
+        assertThrows(IOException.class, () -> reader.read(json(body)));
+    }
+
+    @Test
+    public void test_read_FIRST_OVERALL_valid_object() throws Exception {
+        var signup = reader.read(json("{\"name\":\"John\",\"e_mail\":\"john@mail.com\",\"age\":30,\"tags\":[\"vip\"]}"),
+                ShortCircuitPolicy.FIRST_OVERALL);
+
+        assertEquals("John", signup.name());
+    }
+
+    @Test
+    public void test_read_ignores_nested_scalars() throws Exception {
+        var nested = new StreamingJsonValidator<>(mapper, Signup.class, new ValidatorSchemaImpl<Signup>()
+                .field("tags", Signup::tags)
+                .add(validations.sizeMax(2, "too many tags"))
+                .end()
+                .compile(), false, Map.of("name", "name"));
+
+        var signup = nested.read(json("{\"tags\":[\"name\",\"\"],\"name\":\"John\",\"age\":30}"), ShortCircuitPolicy.FIRST_OVERALL);
+
+        assertEquals(List.of("name", ""), signup.tags());
+        assertThrows(ValidatorException.class, () -> nested.read(json("{\"tags\":[\"a\",\"b\",\"c\"]}")));
+    }
+
+    @Test
+    public void test_read_validates_fields_not_streamed_through_their_capture() {
+        var captured = new StreamingJsonValidator<>(mapper, Signup.class, new ValidatorSchemaImpl<Signup>()
+                .field("name", signup -> signup.name().trim())
+                .add(validations.lengthMax(3, "name is too long"))
+                .end()
+                .field("document", Signup::email)
+                .add(validations.email("invalid email"))
+                .end()
+                .field("age", signup -> String.valueOf(signup.age()))
+                .add(validations.lengthEq(2, "two digits"))
+                .end()
+                .compile(), false);
+        var body = "{\"name\":\"  ab  \",\"e_mail\":\"john\",\"age\":7}";
+
+        var exception = assertThrows(ValidatorException.class, () -> captured.read(json(body), ShortCircuitPolicy.ALL));
+
+        assertEquals(Map.of("document", List.of("invalid email"), "age", List.of("two digits")), messages(exception));
+    }
+
+    @Test
+    public void test_rejects_invalid_streamed_fields() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingJsonValidator<>(mapper, Signup.class, validator, false, Map.of("tags", "tags")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingJsonValidator<>(mapper, Signup.class, validator, false, Map.of("mail", "e_mail")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new StreamingJsonValidator<>(mapper, Signup.class, validator, false, Map.of("a", "name", "b", "name")));
+    }
+
+    @Test
+    public void test_read_propagates_parse_errors() {
+        assertThrows(JsonParseException.class, () -> reader.read(json("{\"name\":")));
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map<String, List<String>> messages(ValidatorException exception) {
+        return exception.getFieldErrors().stream()
+                .collect(Collectors.toMap(ValidatorFieldErrorMessages::fieldName, error -> List.copyOf(error.messages()),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+}
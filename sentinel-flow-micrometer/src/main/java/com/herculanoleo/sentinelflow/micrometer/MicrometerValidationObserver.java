@@ -0,0 +1,128 @@
+package com.herculanoleo.sentinelflow.micrometer;
+
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes validation timings and failures to a Micrometer {@link MeterRegistry}.
+ *
+ * <p>Registers the following meters:
+ * <ul>
+ *     <li>{@code sentinelflow.validation}: timer tagged by {@code validator} and {@code outcome}</li>
+ *     <li>{@code sentinelflow.field}: timer tagged by {@code validator}, {@code field} and {@code outcome}</li>
+ *     <li>{@code sentinelflow.rule}: timer tagged by {@code validator}, {@code field} and {@code rule}</li>
+ *     <li>{@code sentinelflow.rule.failures}: counter tagged by {@code validator}, {@code field} and {@code rule}</li>
+ * </ul>
+ *
+ * <p>{@code outcome} is {@code valid} or {@code invalid}. Rules are tagged by name when they have one,
+ * such as the rules of a {@code ValidationFactoryImpl} created with {@code namedRules}, and by
+ * position ({@code #0}, {@code #1}, ...) otherwise. Meters are looked up once per tag
+ * combination and cached, so reporting a sampled validation does not touch the registry.
+ * Combine with {@link ValidationObserver#sampled(ValidationObserver, double)} to time a fraction
+ * of the validations under load:
+ *
+ * <pre>{@code
+ * var observer = ValidationObserver.sampled(new MicrometerValidationObserver(registry), 0.01);
+ * var validatorFactory = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer);
+ * var validations = new ValidationFactoryImpl(null, true);
+ * }</pre>
+ */
+public class MicrometerValidationObserver implements ValidationObserver {
+
+    static final String VALIDATION = "sentinelflow.validation";
+
+    static final String FIELD = "sentinelflow.field";
+
+    static final String RULE = "sentinelflow.rule";
+
+    static final String RULE_FAILURES = "sentinelflow.rule.failures";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, Outcomes> validations = new ConcurrentHashMap<>();
+
+    private final Map<FieldKey, Outcomes> fields = new ConcurrentHashMap<>();
+
+    private final Map<RuleKey, RuleMeters> rules = new ConcurrentHashMap<>();
+
+    /**
+     * Creates an observer that registers its meters in the given registry.
+     *
+     * @param registry registry receiving the meters
+     */
+    public MicrometerValidationObserver(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public void onRule(String validator, String field, String rule, boolean valid, long nanos) {
+        var meters = rules.computeIfAbsent(new RuleKey(validator, field, rule), this::ruleMeters);
+        meters.timer().record(nanos, TimeUnit.NANOSECONDS);
+        if (!valid) {
+            meters.failures().increment();
+        }
+    }
+
+    @Override
+    public void onField(String validator, String field, boolean valid, long nanos) {
+        fields.computeIfAbsent(new FieldKey(validator, field), this::fieldOutcomes)
+                .get(valid)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onValidator(String validator, boolean valid, long nanos) {
+        validations.computeIfAbsent(validator, this::validationOutcomes)
+                .get(valid)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Outcomes validationOutcomes(String validator) {
+        return new Outcomes(
+                Timer.builder(VALIDATION).description("Validation of an object")
+                        .tags("validator", validator, "outcome", "valid").register(registry),
+                Timer.builder(VALIDATION).description("Validation of an object")
+                        .tags("validator", validator, "outcome", "invalid").register(registry));
+    }
+
+    private Outcomes fieldOutcomes(FieldKey key) {
+        return new Outcomes(
+                Timer.builder(FIELD).description("Evaluation of the rules of a field")
+                        .tags("validator", key.validator(), "field", key.field(), "outcome", "valid").register(registry),
+                Timer.builder(FIELD).description("Evaluation of the rules of a field")
+                        .tags("validator", key.validator(), "field", key.field(), "outcome", "invalid").register(registry));
+    }
+
+    private RuleMeters ruleMeters(RuleKey key) {
+        return new RuleMeters(
+                Timer.builder(RULE).description("Evaluation of a rule")
+                        .tags("validator", key.validator(), "field", key.field(), "rule", key.rule()).register(registry),
+                Counter.builder(RULE_FAILURES).description("Failed evaluations of a rule")
+                        .tags("validator", key.validator(), "field", key.field(), "rule", key.rule()).register(registry));
+    }
+
+    private record FieldKey(String validator, String field) {
+    }
+
+    private record RuleKey(String validator, String field, String rule) {
+    }
+
+    private record Outcomes(Timer valid, Timer invalid) {
+
+        Timer get(boolean isValid) {
+            return isValid ? valid : invalid;
+        }
+
+    }
+
+    private record RuleMeters(Timer timer, Counter failures) {
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.herculanoleo.sentinelflow.micrometer;
+
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class MicrometerValidationObserverTest {
+
+    record Signup(String name, String email) {
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private final CompiledValidator<Signup> validator;
+
+    public MicrometerValidationObserverTest() {
+        var validations = new ValidationFactoryImpl();
+        validator = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true,
+                new MicrometerValidationObserver(registry))
+                .schema(Signup.class)
+                .field("name", Signup::name)
+                .add(Validation.named("notBlank", validations.isNotBlank("name is required")))
+                .add(validations.lengthMax(5, "name is too long"))
+                .end()
+                .field("email", Signup::email)
+                .add(Validation.named("email", validations.email("email is invalid")))
+                .end()
+                .compile();
+    }
+
+    @Test
+    public void test_records_validation_timers_by_outcome() {
+        validator.validateToResult(new Signup("John", "john@example.com"));
+        validator.validateToResult(new Signup("John", "john@example.com"));
+        validator.validateToResult(new Signup("Jonathan", "john@example.com"));
+
+        assertEquals(2, registry.get(MicrometerValidationObserver.VALIDATION)
+                .tags("validator", "Signup", "outcome", "valid").timer().count());
+        assertEquals(1, registry.get(MicrometerValidationObserver.VALIDATION)
+                .tags("validator", "Signup", "outcome", "invalid").timer().count());
+        assertEquals(1, registry.get(MicrometerValidationObserver.FIELD)
+                .tags("validator", "Signup", "field", "name", "outcome", "invalid").timer().count());
+        assertEquals(3, registry.get(MicrometerValidationObserver.FIELD)
+                .tags("validator", "Signup", "field", "email", "outcome", "valid").timer().count());
+    }
+
+    @Test
+    public void test_records_rule_timers_and_failures() {
+        validator.validateToResult(new Signup("Jonathan", "invalid"));
+        validator.validateToResult(new Signup("John", "invalid"));
+
+        assertEquals(2, registry.get(MicrometerValidationObserver.RULE)
+                .tags("validator", "Signup", "field", "name", "rule", "notBlank").timer().count());
+        assertEquals(0.0, registry.get(MicrometerValidationObserver.RULE_FAILURES)
+                .tags("validator", "Signup", "field", "name", "rule", "notBlank").counter().count());
+        assertEquals(1.0, registry.get(MicrometerValidationObserver.RULE_FAILURES)
+                .tags("validator", "Signup", "field", "name", "rule", "#1").counter().count());
+        assertEquals(2.0, registry.get(MicrometerValidationObserver.RULE_FAILURES)
+                .tags("validator", "Signup", "field", "email", "rule", "email").counter().count());
+    }
+
+    @Test
+    public void test_tags_built_in_rules_of_named_rules_factory() {
+        var validations = new ValidationFactoryImpl(null, true);
+        var named = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true,
+                new MicrometerValidationObserver(registry))
+                .schema(Signup.class)
+                .field("email", Signup::email)
+                .add(validations.isNotBlank("email is required"))
+                .add(validations.email("email is invalid"))
+                .end()
+                .compile();
+
+        named.validateToResult(new Signup("John", "invalid"));
+
+        assertEquals(1, registry.get(MicrometerValidationObserver.RULE)
+                .tags("validator", "Signup", "field", "email", "rule", "isNotBlank").timer().count());
+        assertEquals(1.0, registry.get(MicrometerValidationObserver.RULE_FAILURES)
+                .tags("validator", "Signup", "field", "email", "rule", "email").counter().count());
+    }
+
+}
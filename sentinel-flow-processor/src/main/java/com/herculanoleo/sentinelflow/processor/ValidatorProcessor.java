@@ -0,0 +1,242 @@
+package com.herculanoleo.sentinelflow.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a {@code <Record>Validator} class for each record annotated with
+ * {@code @GenerateValidator}.
+ *
+ * <p>The generated class calls the {@code ValidationFactory} method named by the {@code @Rule}
+ * meta-annotation of each rule annotation, with direct accessor calls and one local per rule
+ * result: no reflection, no capture lambdas and no per-call allocation for passing records, so
+ * it starts as fast as hand-written code and needs no reflection configuration under native
+ * images. The rules are created once per {@code ValidationFactory} instance and cached.
+ *
+ * <p>Annotations are matched by name, so the processor has no dependency on the library.
+ */
+@SupportedAnnotationTypes(ValidatorProcessor.GENERATE_VALIDATOR)
+public class ValidatorProcessor extends AbstractProcessor {
+
+    static final String GENERATE_VALIDATOR = "com.herculanoleo.sentinelflow.annotations.GenerateValidator";
+
+    static final String RULE = "com.herculanoleo.sentinelflow.annotations.Rule";
+
+    private static final String SUFFIX = "Validator";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.RECORD) {
+                    error(element, "@GenerateValidator can only be applied to records");
+                    continue;
+                }
+                var record = (TypeElement) element;
+                if (isValid(record)) {
+                    generate(record);
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean isValid(TypeElement record) {
+        if (!record.getTypeParameters().isEmpty()) {
+            error(record, "@GenerateValidator does not support generic records");
+            return false;
+        }
+        for (Element enclosing = record; enclosing instanceof TypeElement type; enclosing = type.getEnclosingElement()) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                error(record, "@GenerateValidator records must be visible to their package");
+                return false;
+            }
+            if (type.getNestingKind() == NestingKind.LOCAL) {
+                error(record, "@GenerateValidator does not support local records");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement record) {
+        List<Component> components = new ArrayList<>();
+        boolean valid = true;
+        for (RecordComponentElement element : record.getRecordComponents()) {
+            List<String> rules = new ArrayList<>();
+            for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                String rule = ruleOf(annotation);
+                if (null == rule) {
+                    continue;
+                }
+                String arguments = arguments(element, annotation);
+                if (null == arguments) {
+                    valid = false;
+                    continue;
+                }
+                rules.add("validations." + rule + "(" + arguments + ")");
+            }
+            if (!rules.isEmpty()) {
+                components.add(new Component(element.getSimpleName().toString(), typeOf(element), rules));
+            }
+        }
+        if (!valid) {
+            return;
+        }
+
+        String packageName = packageOf(record);
+        String className = validatorName(record);
+        String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, record).openWriter()) {
+            writer.write(new ValidatorSource(packageName, className, record.getQualifiedName().toString(), components).toString());
+        } catch (IOException e) {
+            error(record, "could not write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the factory method named by the {@code @Rule} meta-annotation, or {@code null} for
+     * other annotations.
+     */
+    private String ruleOf(AnnotationMirror annotation) {
+        for (AnnotationMirror meta : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+            var type = (TypeElement) meta.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(RULE)) {
+                for (var entry : meta.getElementValues().entrySet()) {
+                    if (entry.getKey().getSimpleName().contentEquals("value")) {
+                        return (String) entry.getValue().getValue();
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the elements of the annotation as arguments in declaration order, adapting
+     * {@code long} and {@code double} elements to the numeric type of the component.
+     */
+    private String arguments(RecordComponentElement component, AnnotationMirror annotation) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+        var arguments = new StringBuilder();
+        for (ExecutableElement element : ElementFilter.methodsIn(annotation.getAnnotationType().asElement().getEnclosedElements())) {
+            Object value = values.get(element).getValue();
+            TypeKind kind = element.getReturnType().getKind();
+            String argument = kind == TypeKind.LONG || kind == TypeKind.DOUBLE
+                    ? number(component, annotation, ((Number) value))
+                    : processingEnv.getElementUtils().getConstantExpression(value);
+            if (null == argument) {
+                return null;
+            }
+            if (!arguments.isEmpty()) {
+                arguments.append(", ");
+            }
+            arguments.append(argument);
+        }
+        return arguments.toString();
+    }
+
+    private String number(RecordComponentElement component, AnnotationMirror annotation, Number value) {
+        TypeMirror type = component.asType();
+        if (type.getKind().isPrimitive()) {
+            type = processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).asType();
+        }
+        String typeName = type.getKind() == TypeKind.DECLARED
+                ? ((TypeElement) processingEnv.getTypeUtils().asElement(type)).getQualifiedName().toString()
+                : type.toString();
+        boolean integral = value instanceof Long;
+        switch (typeName) {
+            case "java.lang.Integer":
+                if (integral && value.longValue() == value.intValue()) {
+                    return Integer.toString(value.intValue());
+                }
+                break;
+            case "java.lang.Long":
+                if (integral) {
+                    return value.longValue() + "L";
+                }
+                break;
+            case "java.lang.Double":
+                return processingEnv.getElementUtils().getConstantExpression(value.doubleValue());
+            case "java.math.BigDecimal":
+                return "new java.math.BigDecimal(\"" + value + "\")";
+            default:
+                error(component, "@" + annotation.getAnnotationType().asElement().getSimpleName()
+                        + " requires an Integer, Long, Double or BigDecimal component");
+                return null;
+        }
+        error(component, "@" + annotation.getAnnotationType().asElement().getSimpleName()
+                + " value " + value + " does not fit in " + typeName);
+        return null;
+    }
+
+    private String typeOf(RecordComponentElement component) {
+        TypeMirror type = component.asType();
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private String packageOf(TypeElement record) {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(record);
+        return packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+    }
+
+    /**
+     * Returns {@code RecordValidator} for top-level records and {@code Outer_RecordValidator}
+     * for nested ones.
+     */
+    static String validatorName(TypeElement record) {
+        var name = new StringBuilder(record.getSimpleName());
+        for (Element enclosing = record.getEnclosingElement(); enclosing instanceof TypeElement type;
+             enclosing = type.getEnclosingElement()) {
+            name.insert(0, type.getSimpleName() + "_");
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * A validated record component.
+     *
+     * @param name  component and field name
+     * @param type  boxed component type
+     * @param rules factory calls creating its rules, in declaration order
+     */
+    record Component(String name, String type, List<String> rules) {
+    }
+
+}
@@ -0,0 +1,192 @@
+package com.herculanoleo.sentinelflow.processor;
+
+import java.util.List;
+
+/**
+ * Source of a generated validator.
+ *
+ * <p>Each component is validated by straight-line code: one local for its value and one per
+ * rule result, with the remaining rules of a failed field skipped when the policy stops fields
+ * on failure. The {@code FieldErrorCollector} is only created once a field fails.
+ */
+final class ValidatorSource {
+
+    private final String packageName;
+
+    private final String className;
+
+    private final String recordName;
+
+    private final List<ValidatorProcessor.Component> components;
+
+    ValidatorSource(String packageName, String className, String recordName, List<ValidatorProcessor.Component> components) {
+        this.packageName = packageName;
+        this.className = className;
+        this.recordName = recordName;
+        this.components = components;
+    }
+
+    @Override
+    public String toString() {
+        var source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("""
+                import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+                import com.herculanoleo.sentinelflow.models.Field;
+                import com.herculanoleo.sentinelflow.models.Result;
+                import com.herculanoleo.sentinelflow.models.ValidationResult;
+                import com.herculanoleo.sentinelflow.models.Violations;
+                import com.herculanoleo.sentinelflow.validations.Validation;
+                import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+                import com.herculanoleo.sentinelflow.validator.FieldErrorCollector;
+                import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+                import com.herculanoleo.sentinelflow.validator.Validate;
+                import com.herculanoleo.sentinelflow.validator.ValidatorFactory;
+
+                import java.util.List;
+
+                /**
+                 * Validator of {@link $RECORD$}, generated from its rule annotations.
+                 */
+                @javax.annotation.processing.Generated("com.herculanoleo.sentinelflow.processor.ValidatorProcessor")
+                public final class $CLASS$ implements Validate {
+
+                    private static final ValidationResult SKIPPED = new ValidationResult(true, null);
+
+                    private static volatile Rules rules;
+
+                    private final $RECORD$ value;
+
+                    /**
+                     * Creates a validation routine for one record.
+                     *
+                     * @param value record to validate
+                     */
+                    public $CLASS$($RECORD$ value) {
+                        this.value = value;
+                    }
+
+                    @Override
+                    public void validate(ValidatorFactory factory, ValidationFactory validations) throws ValidatorException {
+                        var violations = validateToResult(value, validations);
+                        if (!violations.isValid()) {
+                            throw new ValidatorException(violations, factory.isWritableStackTrace());
+                        }
+                    }
+
+                    /**
+                     * Validates a record, evaluating every rule.
+                     *
+                     * @param value       record to validate
+                     * @param validations factory used to create the rules
+                     * @return violations of the record
+                     */
+                    public static Violations validateToResult($RECORD$ value, ValidationFactory validations) {
+                        return validateToResult(value, validations, ShortCircuitPolicy.ALL);
+                    }
+
+                    /**
+                     * Validates a record.
+                     *
+                     * @param value       record to validate
+                     * @param validations factory used to create the rules
+                     * @param policy      short-circuit policy
+                     * @return violations of the record
+                     */
+                    public static Violations validateToResult($RECORD$ value, ValidationFactory validations, ShortCircuitPolicy policy) {
+                        Rules current = rules;
+                        if (null == current || current.validations != validations) {
+                            current = new Rules(validations);
+                            rules = current;
+                        }
+                        return current.validate(value, policy);
+                    }
+
+                    private static final class Rules {
+
+                        private final ValidationFactory validations;
+                """
+                .replace("$RECORD$", recordName)
+                .replace("$CLASS$", className));
+
+        for (int field = 0; field < components.size(); field++) {
+            var component = components.get(field);
+            for (int rule = 0; rule < component.rules().size(); rule++) {
+                source.append("\n        private final Validation<").append(component.type()).append("> ")
+                        .append(ruleName(field, rule)).append(";\n");
+            }
+        }
+
+        source.append("\n        Rules(ValidationFactory validations) {\n");
+        source.append("            this.validations = validations;\n");
+        for (int field = 0; field < components.size(); field++) {
+            var component = components.get(field);
+            for (int rule = 0; rule < component.rules().size(); rule++) {
+                source.append("            this.").append(ruleName(field, rule)).append(" = ")
+                        .append(component.rules().get(rule)).append(";\n");
+            }
+        }
+        source.append("        }\n\n");
+
+        source.append("        Violations validate(").append(recordName).append(" value, ShortCircuitPolicy policy) {\n");
+        source.append("            boolean stop = policy.stopsFieldOnFailure();\n");
+        source.append("            FieldErrorCollector errors = null;\n");
+        for (int field = 0; field < components.size(); field++) {
+            appendField(source, field, components.get(field));
+        }
+        source.append("            return null == errors ? Violations.valid() : errors.toViolations();\n");
+        source.append("        }\n\n");
+        source.append("    }\n\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private static void appendField(StringBuilder source, int field, ValidatorProcessor.Component component) {
+        String value = "v" + field;
+        source.append("\n            ").append(component.type()).append(' ').append(value)
+                .append(" = null == value ? null : value.").append(component.name()).append("();\n");
+        int size = component.rules().size();
+        for (int rule = 0; rule < size; rule++) {
+            String result = resultName(field, rule);
+            source.append("            ValidationResult ").append(result).append(" = ");
+            if (rule > 0) {
+                source.append("stop && f").append(field).append(" ? SKIPPED : ");
+            }
+            source.append(ruleName(field, rule)).append(".validate(").append(value).append(");\n");
+            source.append("            ");
+            if (rule == 0) {
+                source.append("boolean f").append(field).append(" = !").append(result).append(".valid();\n");
+            } else {
+                source.append("f").append(field).append(" |= !").append(result).append(".valid();\n");
+            }
+        }
+
+        source.append("            if (f").append(field).append(") {\n");
+        source.append("                if (null == errors) {\n");
+        source.append("                    errors = new FieldErrorCollector(policy);\n");
+        source.append("                }\n");
+        source.append("                if (!errors.add(new Result<>(new Field<>(\"").append(component.name())
+                .append("\", ").append(value).append("), List.of(");
+        for (int rule = 0; rule < size; rule++) {
+            if (rule > 0) {
+                source.append(", ");
+            }
+            source.append(resultName(field, rule));
+        }
+        source.append(")))) {\n");
+        source.append("                    return errors.toViolations();\n");
+        source.append("                }\n");
+        source.append("            }\n");
+    }
+
+    private static String ruleName(int field, int rule) {
+        return "rule" + field + "_" + rule;
+    }
+
+    private static String resultName(int field, int rule) {
+        return "r" + field + "_" + rule;
+    }
+
+}
@@ -0,0 +1,252 @@
+package com.herculanoleo.sentinelflow.processor;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.ValidationFactory;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.Validate;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ValidatorProcessorTest {
+
+    private static final String CUSTOMER = """
+            package demo;
+
+            import com.herculanoleo.sentinelflow.annotations.*;
+
+            import java.math.BigDecimal;
+            import java.util.List;
+
+            @GenerateValidator
+            public record Customer(
+                    @IsNotBlank(message = "name is required")
+                    @LengthMax(value = 5, message = "name is too long")
+                    String name,
+                    @Min(value = 18, message = "must be an adult") int age,
+                    @Min(value = 1, message = "id must be positive") long id,
+                    @Min(value = 0, message = "balance must not be negative") BigDecimal balance,
+                    @IsNotEmpty(message = "tags are required") List<String> tags,
+                    String notes
+            ) {
+
+                @GenerateValidator
+                public record Address(@Cep(message = "invalid cep") String zipCode) {
+                }
+
+            }
+            """;
+
+    private final ValidationFactory validations = new ValidationFactoryImpl();
+
+    @Test
+    public void test_generated_validator_accepts_valid_record() throws Exception {
+        var loader = compile(Map.of("demo/Customer.java", CUSTOMER));
+        var customer = customer(loader, "John", 30, 1L, BigDecimal.TEN, List.of("vip"));
+
+        Violations violations = validateToResult(loader, "demo.CustomerValidator", customer, ShortCircuitPolicy.ALL);
+
+        assertSame(Violations.valid(), violations);
+    }
+
+    @Test
+    public void test_generated_validator_reports_failed_rules_per_component() throws Exception {
+        var loader = compile(Map.of("demo/Customer.java", CUSTOMER));
+        var customer = customer(loader, " ", 17, 1L, new BigDecimal("-1"), List.of());
+
+        var errors = messages(validateToResult(loader, "demo.CustomerValidator", customer, ShortCircuitPolicy.ALL));
+
+        assertEquals(List.of("name", "age", "balance", "tags"), List.copyOf(errors.keySet()));
+        assertEquals(List.of("name is required"), errors.get("name"));
+        assertEquals(List.of("must be an adult"), errors.get("age"));
+        assertEquals(List.of("balance must not be negative"), errors.get("balance"));
+        assertEquals(List.of("tags are required"), errors.get("tags"));
+    }
+
+    @Test
+    public void test_generated_validator_applies_short_circuit_policy() throws Exception {
+        var loader = compile(Map.of("demo/Customer.java", CUSTOMER));
+        var customer = customer(loader, "      ", 17, 1L, BigDecimal.ONE, List.of("vip"));
+
+        var all = messages(validateToResult(loader, "demo.CustomerValidator", customer, ShortCircuitPolicy.ALL));
+        var firstPerField = messages(validateToResult(loader, "demo.CustomerValidator", customer, ShortCircuitPolicy.FIRST_PER_FIELD));
+        var firstOverall = messages(validateToResult(loader, "demo.CustomerValidator", customer, ShortCircuitPolicy.FIRST_OVERALL));
+
+        assertEquals(List.of("name is required", "name is too long"), all.get("name"));
+        assertEquals(List.of("name is required"), firstPerField.get("name"));
+        assertEquals(List.of("must be an adult"), firstPerField.get("age"));
+        assertEquals(Map.of("name", List.of("name is required")), firstOverall);
+    }
+
+    @Test
+    public void test_generated_validator_implements_validate() throws Exception {
+        var loader = compile(Map.of("demo/Customer.java", CUSTOMER));
+        var customer = customer(loader, "John", 17, 1L, BigDecimal.ONE, List.of("vip"));
+        var validate = (Validate) loader.loadClass("demo.CustomerValidator")
+                .getConstructor(loader.loadClass("demo.Customer"))
+                .newInstance(customer);
+
+        var exception = assertThrows(ValidatorException.class,
+                () -> validate.validate(new ValidatorFactoryImpl(new SequentialExecutionStrategy(), false), validations));
+
+        assertEquals(1, exception.getFieldErrors().size());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    public void test_generated_validator_for_nested_record_and_null_value() throws Exception {
+        var loader = compile(Map.of("demo/Customer.java", CUSTOMER));
+        var address = loader.loadClass("demo.Customer$Address").getConstructor(String.class).newInstance("1234");
+
+        var errors = messages(validateToResult(loader, "demo.Customer_AddressValidator", address, ShortCircuitPolicy.ALL));
+        var nullErrors = messages(validateToResult(loader, "demo.CustomerValidator", null, ShortCircuitPolicy.ALL));
+
+        assertEquals(Map.of("zipCode", List.of("invalid cep")), errors);
+        assertEquals(Map.of("name", List.of("name is required")), nullErrors);
+    }
+
+    @Test
+    public void test_processor_rejects_classes() throws Exception {
+        var diagnostics = compileWithErrors(Map.of("demo/Customer.java", """
+                package demo;
+
+                @com.herculanoleo.sentinelflow.annotations.GenerateValidator
+                public class Customer {
+                }
+                """));
+
+        assertTrue(diagnostics.contains("@GenerateValidator can only be applied to records"), diagnostics);
+    }
+
+    @Test
+    public void test_processor_rejects_numeric_rules_on_other_types() throws Exception {
+        var diagnostics = compileWithErrors(Map.of("demo/Customer.java", """
+                package demo;
+
+                import com.herculanoleo.sentinelflow.annotations.*;
+
+                @GenerateValidator
+                public record Customer(@Min(value = 1, message = "min") String name,
+                                       @Max(value = 3000000000L, message = "max") int age) {
+                }
+                """));
+
+        assertTrue(diagnostics.contains("@Min requires an Integer, Long, Double or BigDecimal component"), diagnostics);
+        assertTrue(diagnostics.contains("@Max value 3000000000 does not fit in java.lang.Integer"), diagnostics);
+    }
+
+    @Test
+    public void test_processor_rejects_private_records() throws Exception {
+        var diagnostics = compileWithErrors(Map.of("demo/Customer.java", """
+                package demo;
+
+                public class Customer {
+
+                    @com.herculanoleo.sentinelflow.annotations.GenerateValidator
+                    private record Hidden(String name) {
+                    }
+
+                }
+                """));
+
+        assertTrue(diagnostics.contains("@GenerateValidator records must be visible to their package"), diagnostics);
+    }
+
+    private Object customer(ClassLoader loader, String name, int age, long id, BigDecimal balance, List<String> tags)
+            throws ReflectiveOperationException {
+        return loader.loadClass("demo.Customer")
+                .getConstructor(String.class, int.class, long.class, BigDecimal.class, List.class, String.class)
+                .newInstance(name, age, id, balance, tags, null);
+    }
+
+    private Violations validateToResult(ClassLoader loader, String validator, Object value, ShortCircuitPolicy policy)
+            throws ReflectiveOperationException {
+        var type = loader.loadClass(validator);
+        var recordType = type.getConstructors()[0].getParameterTypes()[0];
+        try {
+            return (Violations) type.getMethod("validateToResult", recordType, ValidationFactory.class, ShortCircuitPolicy.class)
+                    .invoke(null, value, validations, policy);
+        } catch (InvocationTargetException e) {
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private static Map<String, List<String>> messages(Violations violations) {
+        return violations.fieldErrors().stream()
+                .collect(Collectors.toMap(ValidatorFieldErrorMessages::fieldName, error -> List.copyOf(error.messages()),
+                        (first, second) -> first, LinkedHashMap::new));
+    }
+
+    private static ClassLoader compile(Map<String, String> sources) throws IOException {
+        var output = Files.createTempDirectory("sentinel-flow-processor");
+        var diagnostics = run(sources, output);
+        assertNull(diagnostics, diagnostics);
+        return new URLClassLoader(new URL[]{output.toUri().toURL()}, ValidatorProcessorTest.class.getClassLoader());
+    }
+
+    private static String compileWithErrors(Map<String, String> sources) throws IOException {
+        var diagnostics = run(sources, Files.createTempDirectory("sentinel-flow-processor"));
+        assertNotNull(diagnostics);
+        assertFalse(diagnostics.isEmpty());
+        return diagnostics;
+    }
+
+    /**
+     * Compiles the sources with the processor and returns the errors, or {@code null} on success.
+     */
+    private static String run(Map<String, String> sources, Path output) throws IOException {
+        var source = Files.createTempDirectory("sentinel-flow-processor-source");
+        for (var entry : sources.entrySet()) {
+            var file = source.resolve(entry.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, entry.getValue());
+        }
+
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            var units = fileManager.getJavaFileObjectsFromPaths(
+                    sources.keySet().stream().map(source::resolve).toList());
+            var task = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-d", output.toString(), "-s", output.toString(),
+                            "-classpath", System.getProperty("java.class.path")),
+                    null, units);
+            task.setProcessors(List.of(new ValidatorProcessor()));
+            if (task.call()) {
+                return null;
+            }
+        }
+        return diagnostics.getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                .map(diagnostic -> diagnostic.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+}
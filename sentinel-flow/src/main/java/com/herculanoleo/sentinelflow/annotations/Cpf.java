@@ -0,0 +1,27 @@
+package com.herculanoleo.sentinelflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates a CPF; see {@code cpf(message)}.
+ *
+ * @see com.herculanoleo.sentinelflow.validations.ValidationFactory
+ */
+@Documented
+@Rule("cpf")
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Cpf {
+
+    /**
+     * Returns the error message when validation fails.
+     *
+     * @return error message
+     */
+    String message();
+
+}
@@ -0,0 +1,21 @@
+package com.herculanoleo.sentinelflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a record whose validator is generated at compile time by {@code sentinel-flow-processor}.
+ *
+ * <p>The generated {@code <Record>Validator} class, in the same package, implements
+ * {@link com.herculanoleo.sentinelflow.validator.Validate} for one instance and exposes static
+ * {@code validateToResult} methods. Each component is validated with the rules given by its
+ * {@link Rule} annotations, in declaration order, and reported under the component name.
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateValidator {
+}
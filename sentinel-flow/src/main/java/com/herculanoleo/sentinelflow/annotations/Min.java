@@ -0,0 +1,34 @@
+package com.herculanoleo.sentinelflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates the minimum value of an {@code Integer}, {@code Long}, {@code Double} or {@code BigDecimal} component; see {@code min(min, message)}.
+ *
+ * @see com.herculanoleo.sentinelflow.validations.ValidationFactory
+ */
+@Documented
+@Rule("min")
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.RECORD_COMPONENT)
+public @interface Min {
+
+    /**
+     * Returns the minimum value, written in the type of the component.
+     *
+     * @return minimum value, written in the type of the component
+     */
+    long value();
+
+    /**
+     * Returns the error message when validation fails.
+     *
+     * @return error message
+     */
+    String message();
+
+}
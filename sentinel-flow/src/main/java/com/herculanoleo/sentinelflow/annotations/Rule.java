@@ -0,0 +1,32 @@
+package com.herculanoleo.sentinelflow.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a rule annotation to a {@link com.herculanoleo.sentinelflow.validations.ValidationFactory} method.
+ *
+ * <p>The generated code calls the named method with the elements of the rule annotation as
+ * arguments, in declaration order; {@code long} and {@code double} elements are written in the
+ * numeric type of the annotated component, so {@link Min} selects {@code min(Integer, String)}
+ * on an {@code int} component and {@code min(Long, String)} on a {@code long} one.
+ *
+ * <p>Kept in class files so that the processor sees it on rule annotations compiled into
+ * the library.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.ANNOTATION_TYPE)
+public @interface Rule {
+
+    /**
+     * Returns the name of the factory method that creates the rule.
+     *
+     * @return factory method name
+     */
+    String value();
+
+}
@@ -0,0 +1,10 @@
+/**
+ * Rule annotations for records validated by code generated at compile time.
+ *
+ * <p>Annotate a record with {@link com.herculanoleo.sentinelflow.annotations.GenerateValidator}
+ * and its components with rule annotations; the {@code sentinel-flow-processor} annotation
+ * processor then generates a {@code <Record>Validator} class that calls the
+ * {@link com.herculanoleo.sentinelflow.validations.ValidationFactory} rules directly, without
+ * reflection. The annotations are source-retained and have no runtime cost.
+ */
+package com.herculanoleo.sentinelflow.annotations;
@@ -1,13 +1,16 @@
 package com.herculanoleo.sentinelflow.exceptions;
 
 import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.models.Violations;
 
 import java.util.Collection;
 
 /**
  * Thrown when one or more fields fail validation.
  *
- * <p>Use {@link #getFieldErrors()} to retrieve per-field error messages.
+ * <p>Use {@link #getFieldErrors()} to retrieve per-field error messages. Validators can be
+ * configured to throw it without a stack trace, which avoids the cost of
+ * {@link Throwable#fillInStackTrace()} on frequently rejected input.
  */
 public class ValidatorException extends Exception {
 
@@ -25,6 +28,28 @@ public class ValidatorException extends Exception {
         this.fieldErrors = fieldErrors;
     }
 
+    /**
+     * Creates a validation exception with field errors.
+     *
+     * @param message            general error message
+     * @param fieldErrors        validation errors grouped by field
+     * @param writableStackTrace whether the stack trace should be filled in
+     */
+    public ValidatorException(String message, Collection<ValidatorFieldErrorMessages> fieldErrors, boolean writableStackTrace) {
+        super(message, null, true, writableStackTrace);
+        this.fieldErrors = fieldErrors;
+    }
+
+    /**
+     * Creates a validation exception from the violations of a validation run.
+     *
+     * @param violations         violations of the validated object
+     * @param writableStackTrace whether the stack trace should be filled in
+     */
+    public ValidatorException(Violations violations, boolean writableStackTrace) {
+        this("there are invalid fields", violations.fieldErrors(), writableStackTrace);
+    }
+
     /**
      * Returns validation errors grouped by field name.
      *
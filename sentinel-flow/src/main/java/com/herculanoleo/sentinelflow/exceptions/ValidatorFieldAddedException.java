@@ -14,7 +14,16 @@ public class ValidatorFieldAddedException extends RuntimeException {
      * @param field field that was already added
      */
     public <V> ValidatorFieldAddedException(Field<V> field) {
-        super("field with name: %s has already been added".formatted(field.name()));
+        this(field.name());
+    }
+
+    /**
+     * Creates an exception for a duplicate field registration.
+     *
+     * @param fieldName name of the field that was already added
+     */
+    public ValidatorFieldAddedException(String fieldName) {
+        super("field with name: %s has already been added".formatted(fieldName));
     }
 
 }
@@ -0,0 +1,98 @@
+package com.herculanoleo.sentinelflow.models;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable outcome of validating many objects in one call.
+ *
+ * <p>Only invalid objects are stored: their positions in the input are kept in ascending order
+ * in a primitive array next to their {@link Violations}, so a batch of mostly valid objects
+ * costs almost nothing beyond the count.
+ */
+public final class BatchViolations {
+
+    private final int size;
+
+    private final int[] indexes;
+
+    private final Violations[] violations;
+
+    /**
+     * Creates the outcome of a batch.
+     *
+     * @param size       number of validated objects
+     * @param indexes    positions of the invalid objects in the input, in ascending order
+     * @param violations violations of each invalid object, aligned with {@code indexes}
+     * @throws IllegalArgumentException when the arrays have different lengths
+     */
+    public BatchViolations(int size, int[] indexes, Violations[] violations) {
+        if (indexes.length != violations.length) {
+            throw new IllegalArgumentException("indexes and violations must have the same length");
+        }
+        this.size = size;
+        this.indexes = indexes.clone();
+        this.violations = violations.clone();
+    }
+
+    /**
+     * Returns the number of validated objects.
+     *
+     * @return number of validated objects
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of invalid objects.
+     *
+     * @return number of invalid objects
+     */
+    public int invalidCount() {
+        return indexes.length;
+    }
+
+    /**
+     * Returns whether every object passed validation.
+     *
+     * @return {@code true} when no object is invalid
+     */
+    public boolean isValid() {
+        return indexes.length == 0;
+    }
+
+    /**
+     * Returns the input position of the n-th invalid object.
+     *
+     * @param position position among the invalid objects, from {@code 0} to {@link #invalidCount()} - 1
+     * @return position of the object in the input
+     */
+    public int indexAt(int position) {
+        return indexes[position];
+    }
+
+    /**
+     * Returns the violations of the n-th invalid object.
+     *
+     * @param position position among the invalid objects, from {@code 0} to {@link #invalidCount()} - 1
+     * @return violations of the object
+     */
+    public Violations violationsAt(int position) {
+        return violations[position];
+    }
+
+    /**
+     * Returns the violations of the object at the given input position.
+     *
+     * @param index position of the object in the input
+     * @return violations of the object, or {@link Violations#valid()} when it passed
+     * @throws IndexOutOfBoundsException when {@code index} is outside the batch
+     */
+    public Violations get(int index) {
+        Objects.checkIndex(index, size);
+        int position = Arrays.binarySearch(indexes, index);
+        return position < 0 ? Violations.valid() : violations[position];
+    }
+
+}
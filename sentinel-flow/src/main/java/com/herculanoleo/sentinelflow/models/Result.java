@@ -13,4 +13,19 @@ public record Result<V>(
         Field<V> field,
         Collection<ValidationResult> results
 ) {
+
+    /**
+     * Returns whether every evaluated rule passed.
+     *
+     * @return {@code true} when no result failed
+     */
+    public boolean isValid() {
+        for (ValidationResult result : results) {
+            if (!result.valid()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.herculanoleo.sentinelflow.models;
+
+/**
+ * An object emitted by a streaming validation, paired with its violations.
+ *
+ * @param index      position of the object in the source, starting at {@code 0}
+ * @param value      validated object
+ * @param violations violations of the object, {@link Violations#valid()} when it passed
+ * @param <V>        type of the validated object
+ */
+public record ValidatedItem<V>(
+        long index,
+        V value,
+        Violations violations
+) {
+
+    /**
+     * Returns whether the object passed every rule.
+     *
+     * @return {@code true} when there are no violations
+     */
+    public boolean isValid() {
+        return violations.isValid();
+    }
+
+}
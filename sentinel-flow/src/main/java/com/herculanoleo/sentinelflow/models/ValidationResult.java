@@ -1,13 +1,69 @@
 package com.herculanoleo.sentinelflow.models;
 
+import java.util.List;
+
 /**
  * Outcome of a single validation rule.
  *
+ * <p>Rules that validate parts of a value, such as the elements of a collection, report one
+ * failed result per part in {@code details}; each detail carries the path of its part relative
+ * to the validated value, and validators report it under the field name followed by that path
+ * (for example {@code items[42].sku}).
+ *
  * @param valid   {@code true} when the value passed validation
  * @param message error message when {@code valid} is {@code false}; {@code null} otherwise
+ *                and for results with details
+ * @param path    path of the validated part relative to its parent, such as {@code [42]} or
+ *                {@code .sku}; {@code null} for the value itself
+ * @param details failed results of the parts of the value, empty for single-value rules
  */
 public record ValidationResult(
        boolean valid,
-       String message
+       String message,
+       String path,
+       List<ValidationResult> details
 ) {
+
+    /**
+     * Creates a result, using an empty list when {@code details} is {@code null}.
+     *
+     * @param valid   {@code true} when the value passed validation
+     * @param message error message when {@code valid} is {@code false}
+     * @param path    path relative to the parent, or {@code null}
+     * @param details failed results of the parts of the value
+     */
+    public ValidationResult {
+        details = null == details ? List.of() : details;
+    }
+
+    /**
+     * Creates a result for the value itself.
+     *
+     * @param valid   {@code true} when the value passed validation
+     * @param message error message when {@code valid} is {@code false}; {@code null} otherwise
+     */
+    public ValidationResult(boolean valid, String message) {
+        this(valid, message, null, List.of());
+    }
+
+    /**
+     * Creates a failed result made of the failed results of the parts of a value.
+     *
+     * @param details failed results, each with its path relative to the value
+     * @return a failed result
+     */
+    public static ValidationResult ofDetails(List<ValidationResult> details) {
+        return new ValidationResult(false, null, null, details);
+    }
+
+    /**
+     * Returns this result as the result of a part found at {@code prefix}.
+     *
+     * @param prefix path of the part relative to its parent, such as {@code [42]}
+     * @return a result whose path is {@code prefix} followed by the current path
+     */
+    public ValidationResult atPath(String prefix) {
+        return new ValidationResult(valid, message, null == path ? prefix : prefix + path, details);
+    }
+
 }
@@ -0,0 +1,47 @@
+package com.herculanoleo.sentinelflow.models;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable outcome of a validation run.
+ *
+ * <p>Returned by the non-throwing {@code validateToResult} methods; a passing object always
+ * yields the shared {@link #valid()} instance.
+ *
+ * @param fieldErrors validation errors grouped by field, empty when the object is valid
+ */
+public record Violations(
+        Collection<ValidatorFieldErrorMessages> fieldErrors
+) {
+
+    private static final Violations VALID = new Violations(List.of());
+
+    /**
+     * Creates violations with an immutable copy of the field errors.
+     *
+     * @param fieldErrors validation errors grouped by field
+     */
+    public Violations {
+        fieldErrors = List.copyOf(fieldErrors);
+    }
+
+    /**
+     * Returns the shared instance without violations.
+     *
+     * @return violations of a valid object
+     */
+    public static Violations valid() {
+        return VALID;
+    }
+
+    /**
+     * Returns whether the validated object passed every rule.
+     *
+     * @return {@code true} when there are no field errors
+     */
+    public boolean isValid() {
+        return fieldErrors.isEmpty();
+    }
+
+}
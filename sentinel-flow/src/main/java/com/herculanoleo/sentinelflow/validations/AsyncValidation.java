@@ -0,0 +1,75 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A validation rule that completes later, typically because it performs I/O such as a
+ * database lookup or a remote call.
+ *
+ * <p>Asynchronous rules of all fields are started together, so an object with several remote
+ * checks costs the slowest of them rather than their sum.
+ *
+ * @param <V> the type of value being validated
+ */
+@FunctionalInterface
+public interface AsyncValidation<V> {
+
+    /**
+     * Starts validating the given value.
+     *
+     * @param value the value to validate
+     * @return stage completed with the validation outcome
+     */
+    CompletionStage<ValidationResult> validate(V value);
+
+    /**
+     * Returns a rule that fails with the given message when this rule does not complete in time.
+     *
+     * @param timeout maximum time to wait for this rule
+     * @param message error message used on timeout
+     * @return rule bounded by the timeout
+     */
+    default AsyncValidation<V> withTimeout(Duration timeout, String message) {
+        long nanos = timeout.toNanos();
+        var failure = new ValidationResult(false, message);
+        return value -> validate(value).toCompletableFuture()
+                .copy()
+                .completeOnTimeout(failure, nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Adapts a blocking rule by running it on a shared I/O executor.
+     *
+     * <p>The executor uses virtual threads when the runtime supports them, and a cached pool of
+     * daemon threads otherwise.
+     *
+     * @param validation blocking rule
+     * @param <V>        the type of value being validated
+     * @return asynchronous rule
+     */
+    static <V> AsyncValidation<V> blocking(Validation<V> validation) {
+        return blocking(validation, IoExecutor.INSTANCE);
+    }
+
+    /**
+     * Adapts a blocking rule by running it on the given executor.
+     *
+     * @param validation blocking rule
+     * @param executor   executor that runs the rule
+     * @param <V>        the type of value being validated
+     * @return asynchronous rule
+     */
+    static <V> AsyncValidation<V> blocking(Validation<V> validation, Executor executor) {
+        Objects.requireNonNull(validation);
+        Objects.requireNonNull(executor);
+        return value -> CompletableFuture.supplyAsync(() -> validation.validate(value), executor);
+    }
+
+}
@@ -0,0 +1,325 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Size-bounded concurrent cache with W-TinyLFU eviction, behind {@link ValidationCache}.
+ *
+ * <p>Entries live in a {@link ConcurrentHashMap}, so lookups and insertions never wait. The
+ * eviction policy is only updated by the thread that wins a {@code tryLock}: hits are recorded in
+ * a lossy {@link ReadBuffer} and insertions and removals in a write queue, both replayed under the
+ * lock. The cache may therefore exceed its maximum size briefly, until the next replay.
+ *
+ * <p>New entries enter a small LRU window (1% of the capacity). Entries leaving the window become
+ * candidates for the main space, an SLRU split into probation and protected (80%) segments: a
+ * candidate is only kept when a {@link FrequencySketch} estimates that its key was seen more often
+ * recently than the probation entry it would replace. A scan of one-off keys thus only churns the
+ * window, while keys that keep coming back stay cached.
+ *
+ * @param <K> key type
+ * @param <R> value type
+ */
+final class BoundedCache<K, R> {
+
+    private static final int UNLINKED = 0;
+
+    private static final int WINDOW = 1;
+
+    private static final int PROBATION = 2;
+
+    private static final int PROTECTED = 3;
+
+    private final ConcurrentHashMap<K, Node<K, R>> data = new ConcurrentHashMap<>();
+
+    private final long maximumSize;
+
+    private final long windowMaximum;
+
+    private final long protectedMaximum;
+
+    private final long expireAfterWriteNanos;
+
+    private final LongSupplier ticker;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final ReadBuffer<Node<K, R>> readBuffer = new ReadBuffer<>();
+
+    private final ConcurrentLinkedQueue<Node<K, R>> writeBuffer = new ConcurrentLinkedQueue<>();
+
+    private final FrequencySketch sketch;
+
+    private final AccessQueue<K, R> window = new AccessQueue<>();
+
+    private final AccessQueue<K, R> probation = new AccessQueue<>();
+
+    private final AccessQueue<K, R> protectedQueue = new AccessQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    BoundedCache(CacheSpec spec) {
+        this(spec, System::nanoTime);
+    }
+
+    BoundedCache(CacheSpec spec, LongSupplier ticker) {
+        this.maximumSize = spec.maximumSize();
+        this.windowMaximum = Math.max(1, maximumSize / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * 8 / 10;
+        this.expireAfterWriteNanos = null == spec.expireAfterWrite() ? 0 : spec.expireAfterWrite().toNanos();
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    /**
+     * Returns the value cached for the key, or {@code null} when it is absent or expired.
+     */
+    R getIfPresent(K key) {
+        var node = data.get(key);
+        if (null == node) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(node)) {
+            misses.increment();
+            if (data.remove(key, node)) {
+                retire(node);
+            }
+            return null;
+        }
+        hits.increment();
+        if (readBuffer.offer(node)) {
+            maintain();
+        }
+        return node.value;
+    }
+
+    /**
+     * Caches the value, replacing the previous value of the key.
+     */
+    void put(K key, R value) {
+        var node = new Node<>(key, value, 0 == expireAfterWriteNanos ? 0 : ticker.getAsLong());
+        var previous = data.put(key, node);
+        if (null != previous) {
+            previous.retired = true;
+            writeBuffer.add(previous);
+        }
+        writeBuffer.add(node);
+        maintain();
+    }
+
+    CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    /**
+     * Returns the number of cached entries, which may briefly exceed the maximum size.
+     */
+    long estimatedSize() {
+        return data.size();
+    }
+
+    /**
+     * Applies the pending hits, insertions and removals, waiting for the eviction lock.
+     */
+    void cleanUp() {
+        evictionLock.lock();
+        try {
+            replay();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isExpired(Node<K, R> node) {
+        return 0 != expireAfterWriteNanos && ticker.getAsLong() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void retire(Node<K, R> node) {
+        node.retired = true;
+        writeBuffer.add(node);
+        maintain();
+    }
+
+    /**
+     * Replays the buffers unless another thread is doing so; that thread checks the write queue
+     * again once it releases the lock, so no insertion is left unapplied.
+     */
+    private void maintain() {
+        do {
+            if (!evictionLock.tryLock()) {
+                return;
+            }
+            try {
+                replay();
+            } finally {
+                evictionLock.unlock();
+            }
+        } while (!writeBuffer.isEmpty());
+    }
+
+    private void replay() {
+        readBuffer.drainTo(this::onHit);
+        Node<K, R> node;
+        while (null != (node = writeBuffer.poll())) {
+            onWrite(node);
+        }
+        evict();
+    }
+
+    private void onHit(Node<K, R> node) {
+        if (node.retired || node.queue == UNLINKED) {
+            return;
+        }
+        sketch.increment(node.hash);
+        switch (node.queue) {
+            case WINDOW -> window.moveToBack(node);
+            case PROBATION -> {
+                probation.remove(node);
+                protectedQueue.add(node, PROTECTED);
+                if (protectedQueue.size > protectedMaximum) {
+                    var demoted = protectedQueue.first;
+                    protectedQueue.remove(demoted);
+                    probation.add(demoted, PROBATION);
+                }
+            }
+            default -> protectedQueue.moveToBack(node);
+        }
+    }
+
+    private void onWrite(Node<K, R> node) {
+        if (node.retired) {
+            unlink(node);
+        } else if (node.queue == UNLINKED) {
+            sketch.increment(node.hash);
+            window.add(node, WINDOW);
+        }
+    }
+
+    private void evict() {
+        while (window.size > windowMaximum) {
+            var candidate = window.first;
+            window.remove(candidate);
+            probation.add(candidate, PROBATION);
+        }
+        while (window.size + probation.size + protectedQueue.size > maximumSize) {
+            var victim = probation.first;
+            var candidate = probation.last;
+            if (null == victim) {
+                evict(null != protectedQueue.first ? protectedQueue.first : window.first);
+            } else if (victim == candidate || sketch.frequency(candidate.hash) > sketch.frequency(victim.hash)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+        }
+    }
+
+    private void evict(Node<K, R> node) {
+        unlink(node);
+        node.retired = true;
+        if (data.remove(node.key, node)) {
+            evictions.increment();
+        }
+    }
+
+    private void unlink(Node<K, R> node) {
+        switch (node.queue) {
+            case WINDOW -> window.remove(node);
+            case PROBATION -> probation.remove(node);
+            case PROTECTED -> protectedQueue.remove(node);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Cached entry. {@code queue}, {@code previous} and {@code next} are only accessed under the
+     * eviction lock.
+     */
+    private static final class Node<K, R> {
+
+        final K key;
+
+        final R value;
+
+        final int hash;
+
+        final long writeTime;
+
+        volatile boolean retired;
+
+        int queue;
+
+        Node<K, R> previous;
+
+        Node<K, R> next;
+
+        Node(K key, R value, long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.hash = key.hashCode();
+            this.writeTime = writeTime;
+        }
+
+    }
+
+    /**
+     * Doubly-linked queue of nodes from least to most recently used.
+     */
+    private static final class AccessQueue<K, R> {
+
+        Node<K, R> first;
+
+        Node<K, R> last;
+
+        long size;
+
+        void add(Node<K, R> node, int queue) {
+            node.queue = queue;
+            node.previous = last;
+            node.next = null;
+            if (null == last) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+            size++;
+        }
+
+        void remove(Node<K, R> node) {
+            if (null == node.previous) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (null == node.next) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            node.queue = UNLINKED;
+            size--;
+        }
+
+        void moveToBack(Node<K, R> node) {
+            if (node != last) {
+                int queue = node.queue;
+                remove(node);
+                add(node, queue);
+            }
+        }
+
+    }
+
+}
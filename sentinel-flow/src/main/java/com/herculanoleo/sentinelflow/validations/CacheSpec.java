@@ -0,0 +1,56 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import java.time.Duration;
+
+/**
+ * Bounds of the cache of a {@link Validation#cached(Validation, CacheSpec) cached} rule.
+ *
+ * <p>When the cache is full, values that are rarely validated are evicted first: a new value
+ * only replaces an old one when it has been seen more often recently, so a burst of one-off
+ * values does not flush the values that keep coming back.
+ *
+ * @param maximumSize       maximum number of cached values
+ * @param expireAfterWrite  time after which a cached result is evaluated again, or {@code null}
+ *                          to keep results until they are evicted
+ */
+public record CacheSpec(
+        long maximumSize,
+        Duration expireAfterWrite
+) {
+
+    /**
+     * Validates the bounds.
+     *
+     * @throws IllegalArgumentException when {@code maximumSize} is less than one or
+     *                                  {@code expireAfterWrite} is not positive
+     */
+    public CacheSpec {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be greater than zero");
+        }
+        if (null != expireAfterWrite && (expireAfterWrite.isNegative() || expireAfterWrite.isZero())) {
+            throw new IllegalArgumentException("expireAfterWrite must be positive");
+        }
+    }
+
+    /**
+     * Returns bounds that keep up to {@code maximumSize} results until they are evicted.
+     *
+     * @param maximumSize maximum number of cached values
+     * @return cache bounds without expiry
+     */
+    public static CacheSpec maximumSize(long maximumSize) {
+        return new CacheSpec(maximumSize, null);
+    }
+
+    /**
+     * Returns a copy of these bounds whose results expire.
+     *
+     * @param expireAfterWrite time after which a cached result is evaluated again
+     * @return new cache bounds
+     */
+    public CacheSpec withExpireAfterWrite(Duration expireAfterWrite) {
+        return new CacheSpec(maximumSize, expireAfterWrite);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.herculanoleo.sentinelflow.validations;
+
+/**
+ * Counters of a rule cache since it was created.
+ *
+ * @param hits      lookups answered from the cache
+ * @param misses    lookups that evaluated the rule
+ * @param evictions results removed to keep the cache within its maximum size
+ */
+public record CacheStats(
+        long hits,
+        long misses,
+        long evictions
+) {
+
+    /**
+     * Returns the fraction of lookups answered from the cache.
+     *
+     * @return hit rate between {@code 0} and {@code 1}; {@code 0} before the first lookup
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return 0 == requests ? 0 : (double) hits / requests;
+    }
+
+}
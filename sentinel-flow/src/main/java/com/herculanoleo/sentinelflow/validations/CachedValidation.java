@@ -0,0 +1,17 @@
+package com.herculanoleo.sentinelflow.validations;
+
+/**
+ * A rule whose results are cached by value, created by {@link Validation#cached(Validation, CacheSpec)}.
+ *
+ * @param <V> the type of value being validated
+ */
+public interface CachedValidation<V> extends Validation<V> {
+
+    /**
+     * Returns the counters of the cache.
+     *
+     * @return hits, misses and evictions so far
+     */
+    CacheStats stats();
+
+}
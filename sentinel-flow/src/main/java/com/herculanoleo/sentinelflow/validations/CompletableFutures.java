@@ -0,0 +1,35 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Joins the futures of chunked and parallel validations.
+ */
+public final class CompletableFutures {
+
+    private CompletableFutures() {
+    }
+
+    /**
+     * Waits for the future and rethrows unchecked failures of the task as they were thrown.
+     *
+     * @param future future to wait for
+     * @param <T>    result type
+     * @return the result of the future
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+/**
+ * A validation rule of a field that also reads the values of other fields, such as an end
+ * date that must follow a start date.
+ *
+ * @param <V> the type of value being validated
+ */
+@FunctionalInterface
+public interface CrossFieldValidation<V> {
+
+    /**
+     * Validates the given value.
+     *
+     * @param value  the value of the field the rule belongs to
+     * @param fields values captured for the other fields of the object
+     * @return validation outcome
+     */
+    ValidationResult validate(V value, FieldValues fields);
+
+}
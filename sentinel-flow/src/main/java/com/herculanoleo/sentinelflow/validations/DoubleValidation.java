@@ -0,0 +1,73 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+import java.util.Objects;
+
+/**
+ * A validation rule applied to double values without boxing them.
+ *
+ * <p>Primitive rules are also rules of {@link Double} values, so they can be added to any field of that type;
+ * fields registered with {@link com.herculanoleo.sentinelflow.validator.ValidatorSchema#doubleField(String, java.util.function.ToDoubleFunction)}
+ * call {@link #validateDouble(double)} directly and neither box the value nor allocate while it is valid.
+ *
+ * <pre>{@code
+ * ValidationResult valid = validations.valid();
+ * ValidationResult infinite = validations.invalid("must be a finite number");
+ * DoubleValidation finite = value -> Double.isFinite(value) ? valid : infinite;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface DoubleValidation extends Validation<Double> {
+
+    /**
+     * Validates the given value.
+     *
+     * @param value the value to validate
+     * @return the validation outcome
+     */
+    ValidationResult validateDouble(double value);
+
+    /**
+     * Validates a boxed value by unboxing it.
+     *
+     * <p>{@code null} is valid unless the rule overrides this method.
+     *
+     * @param value the value to validate, or {@code null}
+     * @return the validation outcome
+     */
+    @Override
+    default ValidationResult validate(Double value) {
+        return null == value ? PrimitiveResults.VALID : validateDouble(value);
+    }
+
+    /**
+     * Gives a primitive rule a name for metrics and profiling, keeping it a primitive rule.
+     *
+     * @param name       rule name, such as {@code "min"}
+     * @param validation rule to name
+     * @return rule that delegates to {@code validation} and reports {@code name}
+     * @see Validation#named(String, Validation)
+     */
+    static DoubleValidation named(String name, DoubleValidation validation) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(validation);
+        return new DoubleValidation() {
+            @Override
+            public ValidationResult validateDouble(double value) {
+                return validation.validateDouble(value);
+            }
+
+            @Override
+            public ValidationResult validate(Double value) {
+                return validation.validate(value);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+}
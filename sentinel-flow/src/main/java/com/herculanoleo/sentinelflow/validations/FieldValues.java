@@ -0,0 +1,25 @@
+package com.herculanoleo.sentinelflow.validations;
+
+/**
+ * Read-only view of the values captured for the fields of the object under validation.
+ *
+ * <p>Given to {@link CrossFieldValidation}s so that rules spanning several fields reuse the
+ * values their validator already captured instead of extracting them again.
+ */
+public interface FieldValues {
+
+    /**
+     * Returns the value captured for a field.
+     *
+     * <p>Compiled validators capture fields lazily: a field not captured yet, for example
+     * because all its rules are guarded by a condition that does not hold, is captured on the
+     * first lookup.
+     *
+     * @param fieldName field name given to the validator
+     * @param <T>       field value type
+     * @return captured value, possibly {@code null}
+     * @throws IllegalArgumentException when the validator has no field with that name
+     */
+    <T> T get(String fieldName);
+
+}
@@ -0,0 +1,101 @@
+package com.herculanoleo.sentinelflow.validations;
+
+/**
+ * Count-min sketch estimating how often keys were seen recently, used by {@link BoundedCache}
+ * to decide whether a new key is worth evicting an old one.
+ *
+ * <p>Each {@code long} packs sixteen 4-bit counters, and each key increments one counter in each
+ * of four rows; its frequency is the smallest of the four. Once {@code 10 * maximumSize}
+ * increments were recorded, every counter is halved, so old popularity fades. Not thread-safe:
+ * the cache only uses it while holding its eviction lock.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final long ONE_MASK = 0x1111111111111111L;
+
+    private final long[] table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private int additions;
+
+    FrequencySketch(long maximumSize) {
+        int capacity = (int) Math.min(Math.max(maximumSize, 8), 1 << 22);
+        this.table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        this.tableMask = table.length - 1;
+        this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of recent occurrences of the key, at most 15.
+     */
+    int frequency(int hashCode) {
+        int hash = spread(hashCode);
+        int frequency = 15;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int offset = counterOffset(hash, row);
+            frequency = Math.min(frequency, (int) ((table[indexOf(hash, row)] >>> offset) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the key, halving every counter once the sample is full.
+     */
+    void increment(int hashCode) {
+        int hash = spread(hashCode);
+        boolean added = false;
+        for (int row = 0; row < SEEDS.length; row++) {
+            added |= incrementAt(indexOf(hash, row), counterOffset(hash, row));
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int index = 0; index < table.length; index++) {
+            odd += Long.bitCount(table[index] & ONE_MASK);
+            table[index] = (table[index] >>> 1) & RESET_MASK;
+        }
+        additions = (additions - (odd >>> 2)) >>> 1;
+    }
+
+    private int indexOf(int hash, int row) {
+        long index = (hash + SEEDS[row]) * SEEDS[row];
+        index += index >>> 32;
+        return (int) index & tableMask;
+    }
+
+    private static int counterOffset(int hash, int row) {
+        return ((hash >>> (row << 3)) & 0xf) << 2;
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 17;
+        hash *= 0xed5ad4bb;
+        hash ^= hash >>> 11;
+        hash *= 0xac4c1b51;
+        hash ^= hash >>> 15;
+        return hash;
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+import java.util.Objects;
+
+/**
+ * A validation rule applied to int values without boxing them.
+ *
+ * <p>Primitive rules are also rules of {@link Integer} values, so they can be added to any field of that type;
+ * fields registered with {@link com.herculanoleo.sentinelflow.validator.ValidatorSchema#intField(String, java.util.function.ToIntFunction)}
+ * call {@link #validateInt(int)} directly and neither box the value nor allocate while it is valid.
+ *
+ * <pre>{@code
+ * ValidationResult valid = validations.valid();
+ * ValidationResult odd = validations.invalid("must be even");
+ * IntValidation even = value -> value % 2 == 0 ? valid : odd;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface IntValidation extends Validation<Integer> {
+
+    /**
+     * Validates the given value.
+     *
+     * @param value the value to validate
+     * @return the validation outcome
+     */
+    ValidationResult validateInt(int value);
+
+    /**
+     * Validates a boxed value by unboxing it.
+     *
+     * <p>{@code null} is valid unless the rule overrides this method.
+     *
+     * @param value the value to validate, or {@code null}
+     * @return the validation outcome
+     */
+    @Override
+    default ValidationResult validate(Integer value) {
+        return null == value ? PrimitiveResults.VALID : validateInt(value);
+    }
+
+    /**
+     * Gives a primitive rule a name for metrics and profiling, keeping it a primitive rule.
+     *
+     * @param name       rule name, such as {@code "min"}
+     * @param validation rule to name
+     * @return rule that delegates to {@code validation} and reports {@code name}
+     * @see Validation#named(String, Validation)
+     */
+    static IntValidation named(String name, IntValidation validation) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(validation);
+        return new IntValidation() {
+            @Override
+            public ValidationResult validateInt(int value) {
+                return validation.validateInt(value);
+            }
+
+            @Override
+            public ValidationResult validate(Integer value) {
+                return validation.validate(value);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+}
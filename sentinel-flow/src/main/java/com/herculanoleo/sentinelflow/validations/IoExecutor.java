@@ -0,0 +1,33 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lazily created executor for blocking rules adapted by {@link AsyncValidation#blocking(Validation)}.
+ *
+ * <p>The library targets Java 17, so virtual threads are looked up reflectively and used when
+ * the runtime provides them.
+ */
+final class IoExecutor {
+
+    static final Executor INSTANCE = create();
+
+    private IoExecutor() {
+    }
+
+    private static Executor create() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            var counter = new AtomicInteger();
+            return Executors.newCachedThreadPool(runnable -> {
+                var thread = new Thread(runnable, "sentinel-flow-io-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+}
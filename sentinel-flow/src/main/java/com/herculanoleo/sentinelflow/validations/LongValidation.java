@@ -0,0 +1,73 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+import java.util.Objects;
+
+/**
+ * A validation rule applied to long values without boxing them.
+ *
+ * <p>Primitive rules are also rules of {@link Long} values, so they can be added to any field of that type;
+ * fields registered with {@link com.herculanoleo.sentinelflow.validator.ValidatorSchema#longField(String, java.util.function.ToLongFunction)}
+ * call {@link #validateLong(long)} directly and neither box the value nor allocate while it is valid.
+ *
+ * <pre>{@code
+ * ValidationResult valid = validations.valid();
+ * ValidationResult odd = validations.invalid("must be even");
+ * LongValidation even = value -> value % 2 == 0 ? valid : odd;
+ * }</pre>
+ */
+@FunctionalInterface
+public interface LongValidation extends Validation<Long> {
+
+    /**
+     * Validates the given value.
+     *
+     * @param value the value to validate
+     * @return the validation outcome
+     */
+    ValidationResult validateLong(long value);
+
+    /**
+     * Validates a boxed value by unboxing it.
+     *
+     * <p>{@code null} is valid unless the rule overrides this method.
+     *
+     * @param value the value to validate, or {@code null}
+     * @return the validation outcome
+     */
+    @Override
+    default ValidationResult validate(Long value) {
+        return null == value ? PrimitiveResults.VALID : validateLong(value);
+    }
+
+    /**
+     * Gives a primitive rule a name for metrics and profiling, keeping it a primitive rule.
+     *
+     * @param name       rule name, such as {@code "min"}
+     * @param validation rule to name
+     * @return rule that delegates to {@code validation} and reports {@code name}
+     * @see Validation#named(String, Validation)
+     */
+    static LongValidation named(String name, LongValidation validation) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(validation);
+        return new LongValidation() {
+            @Override
+            public ValidationResult validateLong(long value) {
+                return validation.validateLong(value);
+            }
+
+            @Override
+            public ValidationResult validate(Long value) {
+                return validation.validate(value);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+}
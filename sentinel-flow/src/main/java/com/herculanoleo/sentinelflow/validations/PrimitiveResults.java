@@ -0,0 +1,17 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+/**
+ * Results shared by the default methods of {@link IntValidation}, {@link LongValidation} and
+ * {@link DoubleValidation}, which cannot declare private constants.
+ */
+final class PrimitiveResults {
+
+    /** Result of a {@code null} boxed value. */
+    static final ValidationResult VALID = new ValidationResult(true, null);
+
+    private PrimitiveResults() {
+    }
+
+}
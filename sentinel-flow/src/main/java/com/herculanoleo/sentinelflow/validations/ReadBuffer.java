@@ -0,0 +1,94 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, lossy buffer of cache hits waiting to be applied to the eviction policy.
+ *
+ * <p>Reading threads record a hit with one compare-and-set on the ring of their stripe, chosen by
+ * thread, and never wait: when a ring is full the hit is dropped, which only makes the policy
+ * slightly less accurate. Rings are drained by the thread holding the cache's eviction lock.
+ *
+ * @param <E> recorded element type
+ */
+final class ReadBuffer<E> {
+
+    private static final int RING_SIZE = 16;
+
+    private static final int RING_MASK = RING_SIZE - 1;
+
+    private final Ring<E>[] rings;
+
+    private final int mask;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    ReadBuffer() {
+        int stripes = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+        this.rings = new Ring[stripes];
+        for (int index = 0; index < stripes; index++) {
+            rings[index] = new Ring<>();
+        }
+        this.mask = stripes - 1;
+    }
+
+    /**
+     * Records an element, dropping it when the ring of the calling thread is full.
+     *
+     * @return {@code true} when that ring is full and should be drained
+     */
+    boolean offer(E element) {
+        int hash = Thread.currentThread().hashCode() * 0x9e3779b9;
+        return rings[(hash ^ (hash >>> 16)) & mask].offer(element);
+    }
+
+    /**
+     * Passes every published element to the consumer; must be called by one thread at a time.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (var ring : rings) {
+            ring.drainTo(consumer);
+        }
+    }
+
+    private static final class Ring<E> {
+
+        private final AtomicReferenceArray<E> elements = new AtomicReferenceArray<>(RING_SIZE);
+
+        private final AtomicLong writes = new AtomicLong();
+
+        private volatile long reads;
+
+        boolean offer(E element) {
+            long head = reads;
+            long tail = writes.get();
+            long size = tail - head;
+            if (size >= RING_SIZE) {
+                return true;
+            }
+            if (writes.compareAndSet(tail, tail + 1)) {
+                elements.lazySet((int) tail & RING_MASK, element);
+                return size + 1 >= RING_SIZE;
+            }
+            return false;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long head = reads;
+            long tail = writes.get();
+            for (; head < tail; head++) {
+                int index = (int) head & RING_MASK;
+                E element = elements.get(index);
+                if (null == element) {
+                    break;
+                }
+                elements.lazySet(index, null);
+                consumer.accept(element);
+            }
+            reads = head;
+        }
+
+    }
+
+}
@@ -2,6 +2,8 @@ package com.herculanoleo.sentinelflow.validations;
 
 import com.herculanoleo.sentinelflow.models.ValidationResult;
 
+import java.util.Objects;
+
 /**
  * A single validation rule applied to a value of type {@code V}.
  *
@@ -21,4 +23,60 @@ public interface Validation<V> {
      */
     ValidationResult validate(V value);
 
+    /**
+     * Returns the name reported for this rule to a
+     * {@link com.herculanoleo.sentinelflow.validator.ValidationObserver}.
+     *
+     * @return rule name, or {@code null} when the rule is reported by its position
+     */
+    default String name() {
+        return null;
+    }
+
+    /**
+     * Gives a rule a name for metrics and profiling.
+     *
+     * @param name       rule name, such as {@code "email"}
+     * @param validation rule to name
+     * @param <V>        the type of value being validated
+     * @return rule that delegates to {@code validation} and reports {@code name}
+     */
+    static <V> Validation<V> named(String name, Validation<V> validation) {
+        Objects.requireNonNull(name);
+        Objects.requireNonNull(validation);
+        return new Validation<>() {
+            @Override
+            public ValidationResult validate(V value) {
+                return validation.validate(value);
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
+    /**
+     * Caches the results of a pure rule by value, so that values seen before skip evaluation.
+     *
+     * <p>The cache holds at most {@code spec.maximumSize()} values and evicts those validated
+     * least often first. Validated values must be immutable and implement {@code equals} and
+     * {@code hashCode}; {@code null} values are never cached.
+     *
+     * <pre>{@code
+     * Validation<String> document = Validation.cached(validations.cnpj("Invalid CNPJ"),
+     *         CacheSpec.maximumSize(10_000).withExpireAfterWrite(Duration.ofHours(1)));
+     * }</pre>
+     *
+     * @param validation rule whose result only depends on the value
+     * @param spec       size and expiry of the cache
+     * @param <V>        the type of value being validated
+     * @return rule backed by its own cache, reporting the name of {@code validation}
+     * @see ValidationCache
+     */
+    static <V> CachedValidation<V> cached(Validation<V> validation, CacheSpec spec) {
+        return new ValidationCache(spec).cached(null, validation);
+    }
+
 }
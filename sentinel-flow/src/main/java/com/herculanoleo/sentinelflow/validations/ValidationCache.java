@@ -0,0 +1,109 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+
+import java.util.Objects;
+
+/**
+ * Bounded cache of rule results, keyed by rule and value.
+ *
+ * <p>Worth it for rules that are pure (their result only depends on the value) and expensive,
+ * such as {@code cpf}, {@code url} or user patterns, when the same values are validated over and
+ * over. Rules created with equal keys share their results, so rules built again on every request
+ * by a {@link com.herculanoleo.sentinelflow.validator.Validator} still hit the cache. {@code null}
+ * values are never cached.
+ *
+ * <p>Cached values are used as map keys, so they must be immutable and implement
+ * {@code equals} and {@code hashCode}. Instances are thread-safe; lookups never block.
+ *
+ * @see CacheSpec
+ */
+public final class ValidationCache {
+
+    private final BoundedCache<Object, ValidationResult> cache;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param spec size and expiry of the cache
+     */
+    public ValidationCache(CacheSpec spec) {
+        this.cache = new BoundedCache<>(Objects.requireNonNull(spec));
+    }
+
+    /**
+     * Returns a rule that caches the results of {@code validation} in this cache.
+     *
+     * @param rule       key identifying the rule and all of its parameters, including the message,
+     *                   such as {@code List.of("cpf", "invalid document")}; {@code null} to cache
+     *                   the results by value only, for a cache dedicated to one rule
+     * @param validation pure rule whose results are cached
+     * @param <V>        the type of value being validated
+     * @return cached rule that reports the name of {@code validation}
+     */
+    public <V> CachedValidation<V> cached(Object rule, Validation<V> validation) {
+        Objects.requireNonNull(validation);
+        int ruleHash = Objects.hashCode(rule);
+        return new CachedValidation<>() {
+            @Override
+            public ValidationResult validate(V value) {
+                if (null == value) {
+                    return validation.validate(null);
+                }
+                Object key = null == rule ? value : new Key(rule, value, ruleHash * 31 + value.hashCode());
+                var result = cache.getIfPresent(key);
+                if (null == result) {
+                    result = validation.validate(value);
+                    cache.put(key, result);
+                }
+                return result;
+            }
+
+            @Override
+            public String name() {
+                return validation.name();
+            }
+
+            @Override
+            public CacheStats stats() {
+                return ValidationCache.this.stats();
+            }
+        };
+    }
+
+    /**
+     * Returns the counters of this cache.
+     *
+     * @return hits, misses and evictions of every rule cached here
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * Returns the number of cached results, which may briefly exceed the maximum size.
+     *
+     * @return estimated number of cached results
+     */
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Value validated by a shared rule, hashing the rule key once per rule rather than per lookup.
+     */
+    private record Key(Object rule, Object value, int hash) {
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Key key && hash == key.hash && rule.equals(key.rule) && value.equals(key.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+    }
+
+}
@@ -4,11 +4,16 @@ import com.herculanoleo.sentinelflow.models.ValidationResult;
 
 /**
  * Provides helpers to build {@link ValidationResult} instances inside validation rules.
+ *
+ * <p>Results are immutable, so built-in rules call {@link #invalid(String)} once when the rule
+ * is created and return that instance on every failure.
  */
 public interface ValidationSupport {
 
     /**
-     * Creates a successful validation result.
+     * Returns a successful validation result.
+     *
+     * <p>Implementations may return a shared instance.
      *
      * @return a successful validation result
      */
@@ -22,4 +27,37 @@ public interface ValidationSupport {
      */
     ValidationResult invalid(String message);
 
+    /**
+     * Called by the built-in rules that are pure and expensive ({@code cpf}, {@code cnpj},
+     * {@code url}, {@code ipAddress}, {@code matches} and {@code regex}) with the rule they
+     * created, so that factories can cache their results.
+     *
+     * @param validation rule created by a factory method
+     * @param rule       name of the factory method
+     * @param arguments  arguments of the factory method, which identify the rule with {@code rule}
+     * @param <V>        the type of value being validated
+     * @return the rule to return; by default {@code validation} itself
+     * @see ValidationCache
+     */
+    default <V> Validation<V> cacheable(Validation<V> validation, String rule, Object... arguments) {
+        return validation;
+    }
+
+    /**
+     * Called by every built-in rule with the rule it created, so that factories can report it to a
+     * {@link com.herculanoleo.sentinelflow.validator.ValidationObserver} under the name of its
+     * factory method rather than its position in the field.
+     *
+     * <p>Implementations that wrap the rule must keep {@link IntValidation}, {@link LongValidation}
+     * and {@link DoubleValidation} rules primitive, as {@link IntValidation#named(String, IntValidation)} does.
+     *
+     * @param validation rule created by a factory method
+     * @param rule       name of the factory method, such as {@code "email"}
+     * @param <R>        the type of the rule
+     * @return the rule to return; by default {@code validation} itself
+     */
+    default <R extends Validation<?>> R named(R validation, String rule) {
+        return validation;
+    }
+
 }
@@ -1,23 +1,73 @@
 package com.herculanoleo.sentinelflow.validations.impl;
 
 import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.CacheSpec;
+import com.herculanoleo.sentinelflow.validations.CacheStats;
+import com.herculanoleo.sentinelflow.validations.DoubleValidation;
+import com.herculanoleo.sentinelflow.validations.IntValidation;
+import com.herculanoleo.sentinelflow.validations.LongValidation;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.ValidationCache;
 import com.herculanoleo.sentinelflow.validations.ValidationFactory;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Default implementation of {@link ValidationFactory}.
  *
  * <p>Validation rules are inherited as default methods from the composed interfaces.
- * This class only implements {@link com.herculanoleo.sentinelflow.validations.ValidationSupport}.
+ * This class only implements {@link com.herculanoleo.sentinelflow.validations.ValidationSupport}:
+ * successful results are a shared instance, so passing rules do not allocate.
+ *
+ * <p>Factories created with a {@link CacheSpec} cache the results of the expensive built-in
+ * rules ({@code cpf}, {@code cnpj}, {@code url}, {@code ipAddress}, {@code matches} and
+ * {@code regex}) in one cache shared by every rule they create.
+ *
+ * <p>Factories created with {@code namedRules} name every built-in rule after its factory method
+ * ({@code cpf}, {@code email}, ...), so that a
+ * {@link com.herculanoleo.sentinelflow.validator.ValidationObserver} reports them by name. Named
+ * rules delegate to the unnamed ones, which costs one more call per rule; enable it with the
+ * observer.
  */
 public class ValidationFactoryImpl implements ValidationFactory {
 
+    private static final ValidationResult VALID = new ValidationResult(true, null);
+
+    private final ValidationCache cache;
+
+    private final boolean namedRules;
+
     /** Creates a new validation factory. */
     public ValidationFactoryImpl() {
+        this.cache = null;
+        this.namedRules = false;
+    }
+
+    /**
+     * Creates a validation factory that caches the results of its expensive rules.
+     *
+     * @param cache size and expiry of the cache shared by the rules
+     */
+    public ValidationFactoryImpl(CacheSpec cache) {
+        this(cache, false);
+    }
+
+    /**
+     * Creates a validation factory that may cache the results of its expensive rules and name
+     * its rules.
+     *
+     * @param cache      size and expiry of the cache shared by the rules, or {@code null} to not cache
+     * @param namedRules {@code true} to name every built-in rule after its factory method
+     */
+    public ValidationFactoryImpl(CacheSpec cache, boolean namedRules) {
+        this.cache = null == cache ? null : new ValidationCache(cache);
+        this.namedRules = namedRules;
     }
 
     @Override
     public ValidationResult valid() {
-        return new ValidationResult(true, null);
+        return VALID;
     }
 
     @Override
@@ -25,4 +75,37 @@ public class ValidationFactoryImpl implements ValidationFactory {
         return new ValidationResult(false, message);
     }
 
+    @Override
+    public <V> Validation<V> cacheable(Validation<V> validation, String rule, Object... arguments) {
+        return null == cache ? validation : cache.cached(List.of(rule, Arrays.asList(arguments)), validation);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R extends Validation<?>> R named(R validation, String rule) {
+        if (!namedRules) {
+            return validation;
+        }
+        if (validation instanceof IntValidation primitive) {
+            return (R) IntValidation.named(rule, primitive);
+        }
+        if (validation instanceof LongValidation primitive) {
+            return (R) LongValidation.named(rule, primitive);
+        }
+        if (validation instanceof DoubleValidation primitive) {
+            return (R) DoubleValidation.named(rule, primitive);
+        }
+        Validation<?> plain = validation;
+        return (R) Validation.named(rule, plain);
+    }
+
+    /**
+     * Returns the counters of the cache of this factory.
+     *
+     * @return hits, misses and evictions; all zero when the factory does not cache results
+     */
+    public CacheStats cacheStats() {
+        return null == cache ? new CacheStats(0, 0, 0) : cache.stats();
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.models.ValidationResult;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
@@ -17,12 +18,13 @@ public interface ArrayValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T[]> arraySizeEq(Integer size, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.length == size) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "arraySizeEq");
     }
 
     /**
@@ -34,12 +36,13 @@ public interface ArrayValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T[]> arraySizeMin(Integer min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.length >= min) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "arraySizeMin");
     }
 
     /**
@@ -51,12 +54,31 @@ public interface ArrayValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T[]> arraySizeMax(Integer max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.length <= max) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "arraySizeMax");
+    }
+
+    /**
+     * Applies a rule to every element; failed elements are reported under their index, as in
+     * {@link CollectionValidations#each(Validation)}.
+     *
+     * @param <T>        array element type
+     * @param validation rule applied to each element
+     * @return validation rule
+     */
+    default <T> Validation<T[]> arrayEach(Validation<T> validation) {
+        return named(value -> {
+            if (null == value) {
+                return valid();
+            }
+            var failures = ElementValidationUtils.validateEach(value, validation);
+            return null == failures ? valid() : ValidationResult.ofDetails(failures);
+        }, "arrayEach");
     }
 
 }
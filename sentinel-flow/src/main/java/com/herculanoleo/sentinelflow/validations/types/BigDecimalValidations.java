@@ -20,12 +20,13 @@ public interface BigDecimalValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<BigDecimal> eq(BigDecimal eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null != value && eq.compareTo(value) == 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -36,12 +37,13 @@ public interface BigDecimalValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<BigDecimal> min(BigDecimal min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.compareTo(min) >= 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "min");
     }
 
     /**
@@ -52,12 +54,13 @@ public interface BigDecimalValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<BigDecimal> max(BigDecimal max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.compareTo(max) <= 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "max");
     }
 
     /**
@@ -69,12 +72,13 @@ public interface BigDecimalValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<BigDecimal> between(BigDecimal min, BigDecimal max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (value.compareTo(min) >= 0 && value.compareTo(max) <= 0)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "between");
     }
 
     /**
@@ -85,12 +89,13 @@ public interface BigDecimalValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<BigDecimal> gt(BigDecimal threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.compareTo(threshold) > 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "gt");
     }
 
     /**
@@ -101,12 +106,13 @@ public interface BigDecimalValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<BigDecimal> lt(BigDecimal threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.compareTo(threshold) < 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lt");
     }
 
 }
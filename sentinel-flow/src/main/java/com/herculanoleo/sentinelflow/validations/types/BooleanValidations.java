@@ -17,12 +17,13 @@ public interface BooleanValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Boolean> isTrue(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (Boolean.TRUE.equals(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isTrue");
     }
 
     /**
@@ -32,12 +33,13 @@ public interface BooleanValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Boolean> isFalse(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (Boolean.FALSE.equals(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isFalse");
     }
 
 }
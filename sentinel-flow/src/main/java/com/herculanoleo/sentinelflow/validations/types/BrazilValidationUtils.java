@@ -1,25 +1,142 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+/**
+ * Allocation-free checks for Brazilian documents, phones and postal codes.
+ *
+ * <p>CPF and CNPJ are accepted either as plain digits or with their canonical mask
+ * ({@code 000.000.000-00} and {@code 00.000.000/0000-00}); the check digits are computed with
+ * modulus 11 directly on the input, and documents made of a single repeated digit are rejected.
+ */
 final class BrazilValidationUtils {
 
+    private static final String CPF_MASK = "###.###.###-##";
+
+    private static final String CNPJ_MASK = "##.###.###/####-##";
+
+    private static final int[] CPF_MASK_POSITIONS = maskPositions(CPF_MASK);
+
+    private static final int[] CNPJ_MASK_POSITIONS = maskPositions(CNPJ_MASK);
+
+    private static final int[] UNMASKED_POSITIONS = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+
+    private static final int[] CPF_FIRST_WEIGHTS = {10, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final int[] CPF_SECOND_WEIGHTS = {11, 10, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final int[] CNPJ_FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
+    private static final int[] CNPJ_SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+
     private BrazilValidationUtils() {
     }
 
-    static boolean isValidPhoneBr(String digits) {
-        if (digits.length() != 10 && digits.length() != 11) {
+    /**
+     * Validates a CPF with or without mask.
+     */
+    static boolean isValidCpf(CharSequence value) {
+        var positions = digitPositions(value, CPF_MASK, CPF_MASK_POSITIONS);
+        return null != positions && hasValidCheckDigits(value, positions, CPF_FIRST_WEIGHTS, CPF_SECOND_WEIGHTS);
+    }
+
+    /**
+     * Validates a CNPJ with or without mask.
+     */
+    static boolean isValidCnpj(CharSequence value) {
+        var positions = digitPositions(value, CNPJ_MASK, CNPJ_MASK_POSITIONS);
+        return null != positions && hasValidCheckDigits(value, positions, CNPJ_FIRST_WEIGHTS, CNPJ_SECOND_WEIGHTS);
+    }
+
+    /**
+     * Validates a landline (10 digits) or mobile (11 digits, starting with 9 after the DDD) number,
+     * ignoring formatting characters. The DDD is the first two digits and must be at least 11.
+     */
+    static boolean isValidPhoneBr(CharSequence value) {
+        int count = DigitUtils.countDigits(value);
+        if (count != 10 && count != 11) {
             return false;
         }
 
-        int ddd = Integer.parseInt(digits.substring(0, 2));
-        if (ddd < 11 || ddd > 99) {
+        int ddd = DigitUtils.digitAt(value, 0) * 10 + DigitUtils.digitAt(value, 1);
+        if (ddd < 11) {
             return false;
         }
 
-        if (digits.length() == 11) {
-            return digits.charAt(2) == '9';
+        if (count == 11) {
+            return DigitUtils.digitAt(value, 2) == 9;
         }
 
         return true;
     }
 
+    /**
+     * Validates a CEP: exactly 8 digits, ignoring formatting characters.
+     */
+    static boolean isValidCep(CharSequence value) {
+        return DigitUtils.countDigits(value) == 8;
+    }
+
+    /**
+     * Returns where the document digits are in the value, or {@code null} when the value is neither
+     * plain digits nor exactly the mask.
+     */
+    private static int[] digitPositions(CharSequence value, String mask, int[] maskPositions) {
+        int length = value.length();
+        if (length == maskPositions.length) {
+            return DigitUtils.isDigits(value) ? UNMASKED_POSITIONS : null;
+        }
+        if (length != mask.length()) {
+            return null;
+        }
+        for (int i = 0; i < length; i++) {
+            char expected = mask.charAt(i);
+            char c = value.charAt(i);
+            if (expected == '#' ? !DigitUtils.isDigit(c) : c != expected) {
+                return null;
+            }
+        }
+        return maskPositions;
+    }
+
+    /**
+     * Checks the two trailing modulus 11 check digits and rejects repeated digits.
+     */
+    private static boolean hasValidCheckDigits(CharSequence value, int[] positions, int[] firstWeights,
+                                               int[] secondWeights) {
+        int base = firstWeights.length;
+        int firstDigit = value.charAt(positions[0]) - '0';
+        boolean repeated = true;
+        int firstSum = 0;
+        int secondSum = 0;
+        for (int i = 0; i < base; i++) {
+            int digit = value.charAt(positions[i]) - '0';
+            repeated &= digit == firstDigit;
+            firstSum += digit * firstWeights[i];
+            secondSum += digit * secondWeights[i];
+        }
+
+        int firstCheck = checkDigit(firstSum);
+        int secondCheck = checkDigit(secondSum + firstCheck * secondWeights[base]);
+
+        int actualFirst = value.charAt(positions[base]) - '0';
+        int actualSecond = value.charAt(positions[base + 1]) - '0';
+        repeated &= actualFirst == firstDigit && actualSecond == firstDigit;
+
+        return !repeated && actualFirst == firstCheck && actualSecond == secondCheck;
+    }
+
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    private static int[] maskPositions(String mask) {
+        int[] positions = new int[(int) mask.chars().filter(c -> c == '#').count()];
+        for (int i = 0, digit = 0; i < mask.length(); i++) {
+            if (mask.charAt(i) == '#') {
+                positions[digit++] = i;
+            }
+        }
+        return positions;
+    }
+
 }
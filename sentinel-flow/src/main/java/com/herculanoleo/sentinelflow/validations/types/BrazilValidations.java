@@ -1,7 +1,5 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
-import br.com.caelum.stella.validation.CNPJValidator;
-import br.com.caelum.stella.validation.CPFValidator;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 import org.apache.commons.lang3.StringUtils;
@@ -14,39 +12,43 @@ public interface BrazilValidations extends ValidationSupport {
     /**
      * Validates a CPF number.
      *
+     * <p>Accepts 11 digits or the masked form {@code 000.000.000-00}. Check digits are verified
+     * with modulus 11, and CPFs made of a single repeated digit are rejected.
+     *
      * @param message error message when validation fails
      * @return validation rule
      */
     default Validation<String> cpf(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(cacheable(value -> {
             if (StringUtils.isNotBlank(value)) {
-                try {
-                    new CPFValidator().assertValid(value);
-                } catch (Exception e) {
-                    return invalid(message);
+                if (!BrazilValidationUtils.isValidCpf(value)) {
+                    return failure;
                 }
             }
             return valid();
-        };
+        }, "cpf", message), "cpf");
     }
 
     /**
      * Validates a CNPJ number.
      *
+     * <p>Accepts 14 digits or the masked form {@code 00.000.000/0000-00}. Check digits are verified
+     * with modulus 11, and CNPJs made of a single repeated digit are rejected.
+     *
      * @param message error message when validation fails
      * @return validation rule
      */
     default Validation<String> cnpj(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(cacheable(value -> {
             if (StringUtils.isNotBlank(value)) {
-                try {
-                    new CNPJValidator().assertValid(value);
-                } catch (Exception e) {
-                    return invalid(message);
+                if (!BrazilValidationUtils.isValidCnpj(value)) {
+                    return failure;
                 }
             }
             return valid();
-        };
+        }, "cnpj", message), "cnpj");
     }
 
     /**
@@ -58,15 +60,15 @@ public interface BrazilValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> cep(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.isNotBlank(value)) {
-                String digits = value.replaceAll("\\D", "");
-                if (digits.length() != 8) {
-                    return invalid(message);
+                if (!BrazilValidationUtils.isValidCep(value)) {
+                    return failure;
                 }
             }
             return valid();
-        };
+        }, "cep");
     }
 
     /**
@@ -76,15 +78,15 @@ public interface BrazilValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> phoneBr(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.isNotBlank(value)) {
-                String digits = value.replaceAll("\\D", "");
-                if (!BrazilValidationUtils.isValidPhoneBr(digits)) {
-                    return invalid(message);
+                if (!BrazilValidationUtils.isValidPhoneBr(value)) {
+                    return failure;
                 }
             }
             return valid();
-        };
+        }, "phoneBr");
     }
 
 }
@@ -1,9 +1,12 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.models.ValidationResult;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
 import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 
 /**
  * Validation rules for {@link Collection} values.
@@ -19,12 +22,13 @@ public interface CollectionValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Collection<?>> Validation<T> sizeEq(Integer size, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.size() == size) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "sizeEq");
     }
 
     /**
@@ -36,12 +40,13 @@ public interface CollectionValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Collection<?>> Validation<T> sizeMin(Integer min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.size() >= min) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "sizeMin");
     }
 
     /**
@@ -53,12 +58,13 @@ public interface CollectionValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Collection<?>> Validation<T> sizeMax(Integer max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.size() <= max) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "sizeMax");
     }
 
     /**
@@ -69,12 +75,13 @@ public interface CollectionValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Collection<?>> Validation<T> isEmpty(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isEmpty()) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isEmpty");
     }
 
     /**
@@ -85,12 +92,13 @@ public interface CollectionValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Collection<?>> Validation<T> isNotEmpty(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || !value.isEmpty()) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isNotEmpty");
     }
 
     /**
@@ -103,12 +111,64 @@ public interface CollectionValidations extends ValidationSupport {
      * @return validation rule
      */
     default <C extends Collection<E>, E> Validation<C> contains(E element, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.contains(element)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "contains");
+    }
+
+    /**
+     * Applies a rule to every element, iterating the collection once.
+     *
+     * <p>Each failed element is reported under its index, such as {@code items[42]}; paths
+     * reported by the element rule are appended ({@code items[42].sku}).
+     *
+     * @param <C>        collection type
+     * @param <E>        element type
+     * @param validation rule applied to each element
+     * @return validation rule
+     */
+    default <C extends Collection<E>, E> Validation<C> each(Validation<E> validation) {
+        return named(value -> {
+            if (null == value) {
+                return valid();
+            }
+            var failures = ElementValidationUtils.validateEach(value, validation);
+            return null == failures ? valid() : ValidationResult.ofDetails(failures);
+        }, "each");
+    }
+
+    /**
+     * Applies a rule to every element, splitting collections with more than {@code chunkSize}
+     * elements in chunks validated concurrently on the executor.
+     *
+     * <p>Failures are reported as in {@link #each(Validation)}, in element order. Smaller
+     * collections are validated on the calling thread, so only large payloads pay for the
+     * task hand-off; the element rule must be thread-safe.
+     *
+     * @param <C>        collection type
+     * @param <E>        element type
+     * @param validation rule applied to each element
+     * @param executor   executor that validates the chunks
+     * @param chunkSize  number of elements per chunk
+     * @return validation rule
+     * @throws IllegalArgumentException when {@code chunkSize} is less than one
+     */
+    default <C extends Collection<E>, E> Validation<C> each(Validation<E> validation, Executor executor, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+        Objects.requireNonNull(executor);
+        return named(value -> {
+            if (null == value) {
+                return valid();
+            }
+            var failures = ElementValidationUtils.validateEach(value, validation, executor, chunkSize);
+            return null == failures ? valid() : ValidationResult.ofDetails(failures);
+        }, "each");
     }
 
 }
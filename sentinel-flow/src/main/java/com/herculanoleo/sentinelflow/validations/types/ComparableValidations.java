@@ -20,12 +20,13 @@ public interface ComparableValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Comparable<T>> Validation<T> comparableEq(T eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null != value && eq.compareTo(value) == 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "comparableEq");
     }
 
     /**
@@ -37,12 +38,13 @@ public interface ComparableValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Comparable<T>> Validation<T> comparableMin(T min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.compareTo(min) >= 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "comparableMin");
     }
 
     /**
@@ -54,12 +56,13 @@ public interface ComparableValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Comparable<T>> Validation<T> comparableMax(T max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.compareTo(max) <= 0) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "comparableMax");
     }
 
     /**
@@ -72,12 +75,13 @@ public interface ComparableValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Comparable<T>> Validation<T> comparableBetween(T min, T max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (value.compareTo(min) >= 0 && value.compareTo(max) <= 0)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "comparableBetween");
     }
 
 }
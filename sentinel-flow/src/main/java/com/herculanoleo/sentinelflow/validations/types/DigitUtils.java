@@ -0,0 +1,63 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+/**
+ * Allocation-free helpers for inputs made of ASCII digits mixed with formatting characters,
+ * such as masked CEPs, phones and documents.
+ *
+ * <p>Only {@code '0'} to {@code '9'} count as digits, matching the {@code \D} class the rules
+ * used to strip formatting with.
+ */
+final class DigitUtils {
+
+    private DigitUtils() {
+    }
+
+    /**
+     * Returns whether every character is an ASCII digit; {@code true} for an empty value.
+     */
+    static boolean isDigits(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of ASCII digits, ignoring any other character.
+     */
+    static int countDigits(CharSequence value) {
+        int count = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (isDigit(value.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the numeric value of the {@code n}-th ASCII digit, ignoring any other character.
+     *
+     * @return digit value from {@code 0} to {@code 9}, or {@code -1} when there are fewer digits
+     */
+    static int digitAt(CharSequence value, int n) {
+        int seen = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isDigit(c)) {
+                if (seen == n) {
+                    return c - '0';
+                }
+                seen++;
+            }
+        }
+        return -1;
+    }
+
+    static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.DoubleValidation;
+
+/**
+ * Primitive rule passing double values within a range, shared by every numeric rule of
+ * {@link DoubleValidations} so that fields holding several of them make a single kind of call.
+ *
+ * <p>{@code NaN} is outside every range.
+ *
+ * @param min          lower bound, {@link Double#NEGATIVE_INFINITY} when unbounded
+ * @param minInclusive whether {@code min} itself is within the range
+ * @param max          upper bound, {@link Double#POSITIVE_INFINITY} when unbounded
+ * @param maxInclusive whether {@code max} itself is within the range
+ * @param valid        result of values within the range
+ * @param failure      result of values outside the range
+ * @param whenNull     result of a {@code null} boxed value
+ */
+record DoubleRange(
+        double min,
+        boolean minInclusive,
+        double max,
+        boolean maxInclusive,
+        ValidationResult valid,
+        ValidationResult failure,
+        ValidationResult whenNull
+) implements DoubleValidation {
+
+    @Override
+    public ValidationResult validateDouble(double value) {
+        boolean aboveMin = minInclusive ? value >= min : value > min;
+        boolean belowMax = maxInclusive ? value <= max : value < max;
+        return aboveMin && belowMax ? valid : failure;
+    }
+
+    @Override
+    public ValidationResult validate(Double value) {
+        return null == value ? whenNull : validateDouble(value);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.validations.DoubleValidation;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
@@ -8,7 +9,9 @@ import java.util.Objects;
 /**
  * Validation rules for {@link Double} values.
  *
- * <p>{@code null} is valid for all rules except {@link #eq(Double, String)}.
+ * <p>{@code null} is valid for all rules except {@link #eq(Double, String)}. Rules taking
+ * {@code double} bounds are {@link DoubleValidation}s that also validate {@code double} values
+ * without boxing.
  */
 public interface DoubleValidations extends ValidationSupport {
 
@@ -20,12 +23,13 @@ public interface DoubleValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Double> eq(Double eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (Objects.equals(value, eq)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -36,12 +40,13 @@ public interface DoubleValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Double> min(Double min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value >= min) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "min");
     }
 
     /**
@@ -52,12 +57,13 @@ public interface DoubleValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Double> max(Double max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value <= max) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "max");
     }
 
     /**
@@ -69,12 +75,13 @@ public interface DoubleValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Double> between(Double min, Double max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (value >= min && value <= max)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "between");
     }
 
     /**
@@ -85,12 +92,13 @@ public interface DoubleValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Double> gt(Double threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value > threshold) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "gt");
     }
 
     /**
@@ -101,12 +109,84 @@ public interface DoubleValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Double> lt(Double threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value < threshold) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lt");
+    }
+
+    /**
+     * Validates that the value is greater than or equal to the minimum.
+     *
+     * <p>Primitive version of {@link #min(Double, String)}, for fields registered
+     * with {@code doubleField}.
+     *
+     * @param min     minimum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default DoubleValidation min(double min, String message) {
+        return named(new DoubleRange(min, true, Double.POSITIVE_INFINITY, true, valid(), invalid(message), valid()), "min");
+    }
+
+    /**
+     * Validates that the value is less than or equal to the maximum.
+     *
+     * <p>Primitive version of {@link #max(Double, String)}, for fields registered
+     * with {@code doubleField}.
+     *
+     * @param max     maximum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default DoubleValidation max(double max, String message) {
+        return named(new DoubleRange(Double.NEGATIVE_INFINITY, true, max, true, valid(), invalid(message), valid()), "max");
+    }
+
+    /**
+     * Validates that the value is within the inclusive range.
+     *
+     * <p>Primitive version of {@link #between(Double, Double, String)}, for fields registered
+     * with {@code doubleField}.
+     *
+     * @param min     minimum inclusive value
+     * @param max     maximum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default DoubleValidation between(double min, double max, String message) {
+        return named(new DoubleRange(min, true, max, true, valid(), invalid(message), valid()), "between");
+    }
+
+    /**
+     * Validates that the value is greater than the threshold.
+     *
+     * <p>Primitive version of {@link #gt(Double, String)}, for fields registered
+     * with {@code doubleField}.
+     *
+     * @param threshold threshold value
+     * @param message   error message when validation fails
+     * @return validation rule
+     */
+    default DoubleValidation gt(double threshold, String message) {
+        return named(new DoubleRange(threshold, false, Double.POSITIVE_INFINITY, true, valid(), invalid(message), valid()), "gt");
+    }
+
+    /**
+     * Validates that the value is less than the threshold.
+     *
+     * <p>Primitive version of {@link #lt(Double, String)}, for fields registered
+     * with {@code doubleField}.
+     *
+     * @param threshold threshold value
+     * @param message   error message when validation fails
+     * @return validation rule
+     */
+    default DoubleValidation lt(double threshold, String message) {
+        return named(new DoubleRange(Double.NEGATIVE_INFINITY, true, threshold, false, valid(), invalid(message), valid()), "lt");
     }
 
 }
@@ -0,0 +1,136 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.CompletableFutures;
+import com.herculanoleo.sentinelflow.validations.Validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Element-wise evaluation shared by the collection, array, map and object rules.
+ *
+ * <p>Each method iterates once and returns the failed results tagged with the path of their
+ * element, or {@code null} when every element passed, so passing values allocate nothing
+ * beyond the iterator.
+ */
+final class ElementValidationUtils {
+
+    private ElementValidationUtils() {
+    }
+
+    static <E> List<ValidationResult> validateEach(Iterable<? extends E> elements, Validation<E> validation) {
+        List<ValidationResult> failures = null;
+        int index = 0;
+        for (E element : elements) {
+            failures = addFailure(failures, validation.validate(element), index++);
+        }
+        return failures;
+    }
+
+    static <E> List<ValidationResult> validateEach(E[] elements, Validation<E> validation) {
+        return validateRange(Arrays.asList(elements), validation, 0, elements.length);
+    }
+
+    /**
+     * Validates collections longer than {@code chunkSize} in chunks of {@code chunkSize} elements
+     * on the executor; failures keep the order of the elements.
+     */
+    static <E> List<ValidationResult> validateEach(Collection<? extends E> elements, Validation<E> validation,
+                                                   Executor executor, int chunkSize) {
+        int size = elements.size();
+        if (size <= chunkSize) {
+            return validateEach(elements, validation);
+        }
+
+        List<? extends E> list = elements instanceof List<? extends E> randomAccess && elements instanceof RandomAccess
+                ? randomAccess
+                : new ArrayList<>(elements);
+        var chunks = new ArrayList<CompletableFuture<List<ValidationResult>>>((size + chunkSize - 1) / chunkSize);
+        for (int start = 0; start < size; start += chunkSize) {
+            int from = start;
+            int to = Math.min(size, start + chunkSize);
+            chunks.add(CompletableFuture.supplyAsync(() -> validateRange(list, validation, from, to), executor));
+        }
+
+        List<ValidationResult> failures = null;
+        for (var chunk : chunks) {
+            var chunkFailures = CompletableFutures.join(chunk);
+            if (null != chunkFailures) {
+                if (null == failures) {
+                    failures = new ArrayList<>();
+                }
+                failures.addAll(chunkFailures);
+            }
+        }
+        return failures;
+    }
+
+    static <K> List<ValidationResult> validateKeys(Map<K, ?> map, Validation<K> validation) {
+        List<ValidationResult> failures = null;
+        for (K key : map.keySet()) {
+            failures = addFailure(failures, validation.validate(key), key);
+        }
+        return failures;
+    }
+
+    static <V> List<ValidationResult> validateValues(Map<?, V> map, Validation<V> validation) {
+        List<ValidationResult> failures = null;
+        for (Map.Entry<?, V> entry : map.entrySet()) {
+            failures = addFailure(failures, validation.validate(entry.getValue()), entry.getKey());
+        }
+        return failures;
+    }
+
+    /**
+     * Applies every rule to the value the getter extracts; exceptions thrown by the getter
+     * propagate.
+     */
+    static <T, V> List<ValidationResult> validateField(T object, Function<T, V> getter, List<Validation<V>> validations) {
+        V value = getter.apply(object);
+        List<ValidationResult> failures = null;
+        for (var validation : validations) {
+            var result = validation.validate(value);
+            if (!result.valid()) {
+                if (null == failures) {
+                    failures = new ArrayList<>(validations.size());
+                }
+                failures.add(result);
+            }
+        }
+        return failures;
+    }
+
+    private static <E> List<ValidationResult> validateRange(List<? extends E> elements, Validation<E> validation,
+                                                            int from, int to) {
+        List<ValidationResult> failures = null;
+        for (int index = from; index < to; index++) {
+            failures = addFailure(failures, validation.validate(elements.get(index)), index);
+        }
+        return failures;
+    }
+
+    private static List<ValidationResult> addFailure(List<ValidationResult> failures, ValidationResult result, int index) {
+        return result.valid() ? failures : add(failures, result.atPath("[" + index + "]"));
+    }
+
+    private static List<ValidationResult> addFailure(List<ValidationResult> failures, ValidationResult result, Object key) {
+        return result.valid() ? failures : add(failures, result.atPath("[" + key + "]"));
+    }
+
+    private static List<ValidationResult> add(List<ValidationResult> failures, ValidationResult failure) {
+        if (null == failures) {
+            failures = new ArrayList<>();
+        }
+        failures.add(failure);
+        return failures;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.IntValidation;
+
+/**
+ * Primitive rule passing int values within an inclusive range, shared by every numeric rule of
+ * {@link IntegerValidations} so that fields holding several of them make a single kind of call.
+ *
+ * <p>A range with {@code min > max} rejects every value.
+ *
+ * @param min      minimum inclusive value
+ * @param max      maximum inclusive value
+ * @param valid    result of values within the range
+ * @param failure  result of values outside the range
+ * @param whenNull result of a {@code null} boxed value
+ */
+record IntRange(
+        int min,
+        int max,
+        ValidationResult valid,
+        ValidationResult failure,
+        ValidationResult whenNull
+) implements IntValidation {
+
+    @Override
+    public ValidationResult validateInt(int value) {
+        return value >= min && value <= max ? valid : failure;
+    }
+
+    @Override
+    public ValidationResult validate(Integer value) {
+        return null == value ? whenNull : validateInt(value);
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.validations.IntValidation;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
@@ -8,7 +9,9 @@ import java.util.Objects;
 /**
  * Validation rules for {@link Integer} values.
  *
- * <p>{@code null} is valid for all rules except {@link #eq(Integer, String)}.
+ * <p>{@code null} is valid for all rules except {@link #eq(Integer, String)} and
+ * {@link #zero(String)}. Rules taking {@code int} bounds, and {@code positive}, {@code negative}
+ * and {@code zero}, are {@link IntValidation}s that also validate {@code int} values without boxing.
  */
 public interface IntegerValidations extends ValidationSupport {
 
@@ -20,12 +23,13 @@ public interface IntegerValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Integer> eq(Integer eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (Objects.equals(value, eq)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -36,12 +40,13 @@ public interface IntegerValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Integer> min(Integer min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value >= min) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "min");
     }
 
     /**
@@ -52,12 +57,13 @@ public interface IntegerValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Integer> max(Integer max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value <= max) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "max");
     }
 
     /**
@@ -69,12 +75,13 @@ public interface IntegerValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Integer> between(Integer min, Integer max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (value >= min && value <= max)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "between");
     }
 
     /**
@@ -85,12 +92,13 @@ public interface IntegerValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Integer> gt(Integer threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value > threshold) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "gt");
     }
 
     /**
@@ -101,12 +109,90 @@ public interface IntegerValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Integer> lt(Integer threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value < threshold) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lt");
+    }
+
+    /**
+     * Validates that the value is greater than or equal to the minimum.
+     *
+     * <p>Primitive version of {@link #min(Integer, String)}, for fields registered
+     * with {@code intField}.
+     *
+     * @param min     minimum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default IntValidation min(int min, String message) {
+        return named(new IntRange(min, Integer.MAX_VALUE, valid(), invalid(message), valid()), "min");
+    }
+
+    /**
+     * Validates that the value is less than or equal to the maximum.
+     *
+     * <p>Primitive version of {@link #max(Integer, String)}, for fields registered
+     * with {@code intField}.
+     *
+     * @param max     maximum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default IntValidation max(int max, String message) {
+        return named(new IntRange(Integer.MIN_VALUE, max, valid(), invalid(message), valid()), "max");
+    }
+
+    /**
+     * Validates that the value is within the inclusive range.
+     *
+     * <p>Primitive version of {@link #between(Integer, Integer, String)}, for fields registered
+     * with {@code intField}.
+     *
+     * @param min     minimum inclusive value
+     * @param max     maximum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default IntValidation between(int min, int max, String message) {
+        return named(new IntRange(min, max, valid(), invalid(message), valid()), "between");
+    }
+
+    /**
+     * Validates that the value is greater than the threshold.
+     *
+     * <p>Primitive version of {@link #gt(Integer, String)}, for fields registered
+     * with {@code intField}.
+     *
+     * @param threshold threshold value
+     * @param message   error message when validation fails
+     * @return validation rule
+     */
+    default IntValidation gt(int threshold, String message) {
+        if (threshold == Integer.MAX_VALUE) {
+            return new IntRange(Integer.MAX_VALUE, Integer.MIN_VALUE, valid(), invalid(message), valid());
+        }
+        return named(new IntRange(threshold + 1, Integer.MAX_VALUE, valid(), invalid(message), valid()), "gt");
+    }
+
+    /**
+     * Validates that the value is less than the threshold.
+     *
+     * <p>Primitive version of {@link #lt(Integer, String)}, for fields registered
+     * with {@code intField}.
+     *
+     * @param threshold threshold value
+     * @param message   error message when validation fails
+     * @return validation rule
+     */
+    default IntValidation lt(int threshold, String message) {
+        if (threshold == Integer.MIN_VALUE) {
+            return new IntRange(Integer.MAX_VALUE, Integer.MIN_VALUE, valid(), invalid(message), valid());
+        }
+        return named(new IntRange(Integer.MIN_VALUE, threshold - 1, valid(), invalid(message), valid()), "lt");
     }
 
     /**
@@ -115,8 +201,8 @@ public interface IntegerValidations extends ValidationSupport {
      * @param message error message when validation fails
      * @return validation rule
      */
-    default Validation<Integer> positive(String message) {
-        return gt(0, message);
+    default IntValidation positive(String message) {
+        return named(gt(0, message), "positive");
     }
 
     /**
@@ -125,8 +211,8 @@ public interface IntegerValidations extends ValidationSupport {
      * @param message error message when validation fails
      * @return validation rule
      */
-    default Validation<Integer> negative(String message) {
-        return lt(0, message);
+    default IntValidation negative(String message) {
+        return named(lt(0, message), "negative");
     }
 
     /**
@@ -135,8 +221,9 @@ public interface IntegerValidations extends ValidationSupport {
      * @param message error message when validation fails
      * @return validation rule
      */
-    default Validation<Integer> zero(String message) {
-        return eq(0, message);
+    default IntValidation zero(String message) {
+        var failure = invalid(message);
+        return named(new IntRange(0, 0, valid(), failure, failure), "zero");
     }
 
 }
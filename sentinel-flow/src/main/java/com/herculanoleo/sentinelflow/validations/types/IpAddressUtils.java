@@ -0,0 +1,292 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+/**
+ * IPv4 and IPv6 parsing for {@link StringValidations}.
+ *
+ * <p>Addresses are handled as 128-bit values split in two {@code long}s; IPv4 addresses are
+ * represented by their IPv4-mapped IPv6 form ({@code ::ffff:a.b.c.d}), so a single comparison
+ * covers both families. Nothing here resolves names or touches the network stack, and only
+ * {@link #parse(CharSequence)} allocates, for its result.
+ */
+final class IpAddressUtils {
+
+    /** High 16 bits of the low half of an IPv4-mapped address. */
+    static final long IPV4_MAPPED_PREFIX = 0xFFFF_0000_0000L;
+
+    private IpAddressUtils() {
+    }
+
+    /**
+     * Validates an IPv4 address in dotted-decimal form or an IPv6 address.
+     */
+    static boolean isValidIpAddress(CharSequence value) {
+        return matches(value, null, null);
+    }
+
+    /**
+     * Accepts four dot-separated decimal octets from {@code 0} to {@code 255} without leading zeros,
+     * i.e. {@code ((25[0-5]|2[0-4]\d|1\d{2}|[1-9]?\d)\.){3}(25[0-5]|2[0-4]\d|1\d{2}|[1-9]?\d)}.
+     */
+    static boolean isValidIpv4(CharSequence value) {
+        return parseIpv4(value, 0, value.length()) >= 0;
+    }
+
+    /**
+     * Accepts the RFC 4291 text forms of an IPv6 address: eight groups of one to four hex digits,
+     * at most one {@code ::}, an optional trailing dotted-decimal IPv4 address in place of the
+     * last two groups, and an optional {@code %zone} suffix made of letters, digits,
+     * {@code .}, {@code _}, {@code ~} or {@code -}. Brackets are not accepted.
+     */
+    static boolean isValidIpv6(CharSequence value) {
+        return matchesIpv6(value, null, null);
+    }
+
+    /**
+     * Same as {@link #isValidIpv6(CharSequence)} for the characters between {@code start} and
+     * {@code end}, without a zone.
+     */
+    static boolean isValidIpv6(CharSequence value, int start, int end) {
+        return matchesIpv6(value, start, end, null, null);
+    }
+
+    /**
+     * Parses an IPv4 address in dotted-decimal form or an IPv6 address into its 128-bit form.
+     *
+     * <p>The zone of an IPv6 address is checked but not part of the result.
+     *
+     * @return the high and low 64 bits of the address, or {@code null} when the value is not
+     * a valid address
+     */
+    static long[] parse(CharSequence value) {
+        long[] halves = new long[2];
+        return matches(value, null, halves) ? halves : null;
+    }
+
+    /**
+     * Returns whether the value is a valid address inside any of the ranges.
+     *
+     * <p>The value is parsed once, whatever the number of ranges.
+     */
+    static boolean matchesAny(CharSequence value, IpRange[] ranges) {
+        return matches(value, ranges, null);
+    }
+
+    /**
+     * Parses a dotted-decimal IPv4 address between {@code start} and {@code end}.
+     *
+     * @return the address as an unsigned 32-bit value, or {@code -1} when invalid
+     */
+    static long parseIpv4(CharSequence value, int start, int end) {
+        long address = 0;
+        int octets = 0;
+        int i = start;
+        while (true) {
+            int octetStart = i;
+            int octet = 0;
+            while (i < end && i - octetStart < 3 && DigitUtils.isDigit(value.charAt(i))) {
+                octet = octet * 10 + (value.charAt(i) - '0');
+                i++;
+            }
+            int digits = i - octetStart;
+            if (digits == 0 || octet > 255 || (digits > 1 && value.charAt(octetStart) == '0')) {
+                return -1;
+            }
+            address = (address << 8) | octet;
+            octets++;
+            if (octets == 4) {
+                return i == end ? address : -1;
+            }
+            if (i == end || value.charAt(i) != '.') {
+                return -1;
+            }
+            i++;
+        }
+    }
+
+    /**
+     * Parses the value and, when it is a valid address, compares it with the ranges.
+     *
+     * @param ranges ranges to look the address up in, or {@code null} to only validate it
+     * @param halves receives the high and low 64 bits of a valid address, when not {@code null}
+     */
+    private static boolean matches(CharSequence value, IpRange[] ranges, long[] halves) {
+        if (indexOf(value, ':') >= 0) {
+            return matchesIpv6(value, ranges, halves);
+        }
+        long ipv4 = parseIpv4(value, 0, value.length());
+        return ipv4 >= 0 && matches(0L, IPV4_MAPPED_PREFIX | ipv4, ranges, halves);
+    }
+
+    private static boolean matches(long high, long low, IpRange[] ranges, long[] halves) {
+        if (halves != null) {
+            halves[0] = high;
+            halves[1] = low;
+        }
+        if (ranges == null) {
+            return true;
+        }
+        for (IpRange range : ranges) {
+            if (range.contains(high, low)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matchesIpv6(CharSequence value, IpRange[] ranges, long[] halves) {
+        int end = indexOf(value, '%');
+        if (end < 0) {
+            end = value.length();
+        } else if (!isValidZone(value, end + 1)) {
+            return false;
+        }
+        return matchesIpv6(value, 0, end, ranges, halves);
+    }
+
+    private static boolean matchesIpv6(CharSequence value, int start, int end, IpRange[] ranges, long[] halves) {
+        if (end - start < 2) {
+            return false;
+        }
+
+        // groups before "::" accumulate in (beforeHigh, beforeLow), groups after it in (afterHigh, afterLow)
+        long beforeHigh = 0;
+        long beforeLow = 0;
+        long afterHigh = 0;
+        long afterLow = 0;
+        int groups = 0;
+        int gap = -1;
+
+        int i = start;
+        if (value.charAt(start) == ':') {
+            if (value.charAt(start + 1) != ':') {
+                return false;
+            }
+            gap = 0;
+            i = start + 2;
+        }
+
+        while (i < end) {
+            int groupStart = i;
+            int group = 0;
+            while (i < end && i - groupStart < 5) {
+                int digit = hexValue(value.charAt(i));
+                if (digit < 0) {
+                    break;
+                }
+                group = (group << 4) | digit;
+                i++;
+            }
+
+            if (i < end && value.charAt(i) == '.') {
+                long ipv4 = groups <= 6 ? parseIpv4(value, groupStart, end) : -1;
+                if (ipv4 < 0) {
+                    return false;
+                }
+                groups += 2;
+                if (gap < 0) {
+                    beforeHigh = (beforeHigh << 32) | (beforeLow >>> 32);
+                    beforeLow = (beforeLow << 32) | ipv4;
+                } else {
+                    afterHigh = (afterHigh << 32) | (afterLow >>> 32);
+                    afterLow = (afterLow << 32) | ipv4;
+                }
+                i = end;
+                break;
+            }
+
+            int digits = i - groupStart;
+            if (digits == 0 || digits > 4 || ++groups > 8) {
+                return false;
+            }
+            if (gap < 0) {
+                beforeHigh = (beforeHigh << 16) | (beforeLow >>> 48);
+                beforeLow = (beforeLow << 16) | group;
+            } else {
+                afterHigh = (afterHigh << 16) | (afterLow >>> 48);
+                afterLow = (afterLow << 16) | group;
+            }
+
+            if (i == end) {
+                break;
+            }
+            if (value.charAt(i) != ':') {
+                return false;
+            }
+            i++;
+            if (i < end && value.charAt(i) == ':') {
+                if (gap >= 0) {
+                    return false;
+                }
+                gap = groups;
+                i++;
+            } else if (i == end) {
+                return false;
+            }
+        }
+
+        if (gap < 0 ? groups != 8 : groups > 7) {
+            return false;
+        }
+
+        // move the groups before "::" to the top of the address
+        int shift = gap < 0 ? 0 : 16 * (8 - gap);
+        long high;
+        long low;
+        if (shift == 0) {
+            high = beforeHigh;
+            low = beforeLow;
+        } else if (shift >= 128) {
+            high = 0;
+            low = 0;
+        } else if (shift >= 64) {
+            high = beforeLow << (shift - 64);
+            low = 0;
+        } else {
+            high = (beforeHigh << shift) | (beforeLow >>> (64 - shift));
+            low = beforeLow << shift;
+        }
+        high |= afterHigh;
+        low |= afterLow;
+
+        return matches(high, low, ranges, halves);
+    }
+
+    private static boolean isValidZone(CharSequence value, int start) {
+        int length = value.length();
+        if (start == length) {
+            return false;
+        }
+        for (int i = start; i < length; i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || DigitUtils.isDigit(c)
+                    || c == '.' || c == '_' || c == '~' || c == '-';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+
+    private static int indexOf(CharSequence value, char c) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
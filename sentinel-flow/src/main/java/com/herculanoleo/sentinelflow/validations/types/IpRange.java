@@ -0,0 +1,74 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+/**
+ * A CIDR block parsed once, when a rule is created.
+ *
+ * <p>IPv4 blocks are stored in their IPv4-mapped IPv6 form, so {@code 10.0.0.0/8} becomes
+ * {@code ::ffff:10.0.0.0/104}; they match IPv4 addresses and their IPv4-mapped IPv6 spelling.
+ *
+ * @param networkHigh high 64 bits of the network address
+ * @param networkLow  low 64 bits of the network address
+ * @param maskHigh    high 64 bits of the prefix mask
+ * @param maskLow     low 64 bits of the prefix mask
+ */
+record IpRange(
+        long networkHigh,
+        long networkLow,
+        long maskHigh,
+        long maskLow
+) {
+
+    /**
+     * Parses {@code address/prefix}, or a single address when the prefix is omitted.
+     *
+     * <p>Host bits set in the address are ignored.
+     *
+     * @throws IllegalArgumentException when the address or the prefix is invalid
+     */
+    static IpRange parse(String cidr) {
+        int slash = cidr.indexOf('/');
+        String address = slash < 0 ? cidr : cidr.substring(0, slash);
+        boolean ipv6 = address.indexOf(':') >= 0;
+        long[] halves = address.indexOf('%') < 0 ? IpAddressUtils.parse(address) : null;
+        if (halves == null) {
+            throw new IllegalArgumentException("invalid CIDR address: " + cidr);
+        }
+
+        int maxPrefix = ipv6 ? 128 : 32;
+        int prefix = slash < 0 ? maxPrefix : parsePrefix(cidr, slash + 1, maxPrefix);
+        if (!ipv6) {
+            prefix += 96;
+        }
+
+        long maskHigh = prefix >= 64 ? -1L : prefix == 0 ? 0L : -1L << (64 - prefix);
+        long maskLow = prefix <= 64 ? 0L : prefix == 128 ? -1L : -1L << (128 - prefix);
+        return new IpRange(halves[0] & maskHigh, halves[1] & maskLow, maskHigh, maskLow);
+    }
+
+    /**
+     * Returns whether the value is a valid IP address inside this block.
+     */
+    boolean contains(CharSequence value) {
+        return IpAddressUtils.matchesAny(value, new IpRange[]{this});
+    }
+
+    /**
+     * Returns whether the address, given as its high and low 64 bits, is inside this block.
+     */
+    boolean contains(long high, long low) {
+        return (high & maskHigh) == networkHigh && (low & maskLow) == networkLow;
+    }
+
+    private static int parsePrefix(String cidr, int start, int maxPrefix) {
+        int length = cidr.length() - start;
+        if (length < 1 || length > 3 || !DigitUtils.isDigits(cidr.substring(start))) {
+            throw new IllegalArgumentException("invalid CIDR prefix: " + cidr);
+        }
+        int prefix = Integer.parseInt(cidr, start, cidr.length(), 10);
+        if (prefix > maxPrefix) {
+            throw new IllegalArgumentException("invalid CIDR prefix: " + cidr);
+        }
+        return prefix;
+    }
+
+}
@@ -18,12 +18,13 @@ public interface LocalDateTimeValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDateTime> eq(LocalDateTime eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null != value && eq.isEqual(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -34,12 +35,13 @@ public interface LocalDateTimeValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDateTime> min(LocalDateTime min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isAfter(min) || value.isEqual(min)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "min");
     }
 
     /**
@@ -50,12 +52,13 @@ public interface LocalDateTimeValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDateTime> max(LocalDateTime max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isBefore(max) || value.isEqual(max)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "max");
     }
 
     /**
@@ -67,12 +70,13 @@ public interface LocalDateTimeValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDateTime> between(LocalDateTime min, LocalDateTime max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (!value.isBefore(min) && !value.isAfter(max))) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "between");
     }
 
     /**
@@ -82,12 +86,13 @@ public interface LocalDateTimeValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDateTime> isPastDateTime(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isBefore(LocalDateTime.now())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isPastDateTime");
     }
 
     /**
@@ -97,12 +102,13 @@ public interface LocalDateTimeValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDateTime> isFutureDateTime(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isAfter(LocalDateTime.now())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isFutureDateTime");
     }
 
 }
@@ -18,12 +18,13 @@ public interface LocalDateValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDate> eq(LocalDate eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null != value && eq.isEqual(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -34,12 +35,13 @@ public interface LocalDateValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDate> min(LocalDate min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isAfter(min) || value.isEqual(min)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "min");
     }
 
     /**
@@ -50,12 +52,13 @@ public interface LocalDateValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDate> max(LocalDate max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isBefore(max) || value.isEqual(max)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "max");
     }
 
     /**
@@ -67,12 +70,13 @@ public interface LocalDateValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDate> between(LocalDate min, LocalDate max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (!value.isBefore(min) && !value.isAfter(max))) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "between");
     }
 
     /**
@@ -82,12 +86,13 @@ public interface LocalDateValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDate> isPast(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isBefore(LocalDate.now())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isPast");
     }
 
     /**
@@ -97,12 +102,13 @@ public interface LocalDateValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<LocalDate> isFuture(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isAfter(LocalDate.now())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isFuture");
     }
 
 }
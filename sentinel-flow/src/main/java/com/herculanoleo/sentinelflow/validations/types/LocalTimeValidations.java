@@ -17,12 +17,13 @@ public interface LocalTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<LocalTime> eq(LocalTime eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (eq.equals(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -33,7 +34,7 @@ public interface LocalTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<LocalTime> min(LocalTime min, String message) {
-        return comparableMin(min, message);
+        return named(comparableMin(min, message), "min");
     }
 
     /**
@@ -44,7 +45,7 @@ public interface LocalTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<LocalTime> max(LocalTime max, String message) {
-        return comparableMax(max, message);
+        return named(comparableMax(max, message), "max");
     }
 
 }
@@ -1,5 +1,6 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.validations.LongValidation;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
@@ -8,7 +9,9 @@ import java.util.Objects;
 /**
  * Validation rules for {@link Long} values.
  *
- * <p>{@code null} is valid for all rules except {@link #eq(Long, String)}.
+ * <p>{@code null} is valid for all rules except {@link #eq(Long, String)}. Rules taking
+ * {@code long} bounds are {@link LongValidation}s that also validate {@code long} values
+ * without boxing.
  */
 public interface LongValidations extends ValidationSupport {
 
@@ -20,12 +23,13 @@ public interface LongValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Long> eq(Long eq, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (Objects.equals(value, eq)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "eq");
     }
 
     /**
@@ -36,12 +40,13 @@ public interface LongValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Long> min(Long min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value >= min) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "min");
     }
 
     /**
@@ -52,12 +57,13 @@ public interface LongValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Long> max(Long max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value <= max) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "max");
     }
 
     /**
@@ -69,12 +75,13 @@ public interface LongValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Long> between(Long min, Long max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (value >= min && value <= max)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "between");
     }
 
     /**
@@ -85,12 +92,13 @@ public interface LongValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Long> gt(Long threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value > threshold) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "gt");
     }
 
     /**
@@ -101,12 +109,90 @@ public interface LongValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<Long> lt(Long threshold, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value < threshold) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lt");
+    }
+
+    /**
+     * Validates that the value is greater than or equal to the minimum.
+     *
+     * <p>Primitive version of {@link #min(Long, String)}, for fields registered
+     * with {@code longField}.
+     *
+     * @param min     minimum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default LongValidation min(long min, String message) {
+        return named(new LongRange(min, Long.MAX_VALUE, valid(), invalid(message), valid()), "min");
+    }
+
+    /**
+     * Validates that the value is less than or equal to the maximum.
+     *
+     * <p>Primitive version of {@link #max(Long, String)}, for fields registered
+     * with {@code longField}.
+     *
+     * @param max     maximum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default LongValidation max(long max, String message) {
+        return named(new LongRange(Long.MIN_VALUE, max, valid(), invalid(message), valid()), "max");
+    }
+
+    /**
+     * Validates that the value is within the inclusive range.
+     *
+     * <p>Primitive version of {@link #between(Long, Long, String)}, for fields registered
+     * with {@code longField}.
+     *
+     * @param min     minimum inclusive value
+     * @param max     maximum inclusive value
+     * @param message error message when validation fails
+     * @return validation rule
+     */
+    default LongValidation between(long min, long max, String message) {
+        return named(new LongRange(min, max, valid(), invalid(message), valid()), "between");
+    }
+
+    /**
+     * Validates that the value is greater than the threshold.
+     *
+     * <p>Primitive version of {@link #gt(Long, String)}, for fields registered
+     * with {@code longField}.
+     *
+     * @param threshold threshold value
+     * @param message   error message when validation fails
+     * @return validation rule
+     */
+    default LongValidation gt(long threshold, String message) {
+        if (threshold == Long.MAX_VALUE) {
+            return new LongRange(Long.MAX_VALUE, Long.MIN_VALUE, valid(), invalid(message), valid());
+        }
+        return named(new LongRange(threshold + 1, Long.MAX_VALUE, valid(), invalid(message), valid()), "gt");
+    }
+
+    /**
+     * Validates that the value is less than the threshold.
+     *
+     * <p>Primitive version of {@link #lt(Long, String)}, for fields registered
+     * with {@code longField}.
+     *
+     * @param threshold threshold value
+     * @param message   error message when validation fails
+     * @return validation rule
+     */
+    default LongValidation lt(long threshold, String message) {
+        if (threshold == Long.MIN_VALUE) {
+            return new LongRange(Long.MAX_VALUE, Long.MIN_VALUE, valid(), invalid(message), valid());
+        }
+        return named(new LongRange(Long.MIN_VALUE, threshold - 1, valid(), invalid(message), valid()), "lt");
     }
 
 }
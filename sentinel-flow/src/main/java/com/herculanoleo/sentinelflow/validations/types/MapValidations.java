@@ -1,5 +1,6 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.models.ValidationResult;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
@@ -19,12 +20,13 @@ public interface MapValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Map<?, ?>> Validation<T> mapSizeEq(Integer size, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.size() == size) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "mapSizeEq");
     }
 
     /**
@@ -36,12 +38,13 @@ public interface MapValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Map<?, ?>> Validation<T> mapSizeMin(Integer min, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.size() >= min) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "mapSizeMin");
     }
 
     /**
@@ -53,12 +56,50 @@ public interface MapValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T extends Map<?, ?>> Validation<T> mapSizeMax(Integer max, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.size() <= max) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "mapSizeMax");
+    }
+
+    /**
+     * Applies a rule to every key; failed keys are reported under the key, such as {@code prices[SKU-1]}.
+     *
+     * @param <T>        map type
+     * @param <K>        key type
+     * @param validation rule applied to each key
+     * @return validation rule
+     */
+    default <T extends Map<K, ?>, K> Validation<T> eachKey(Validation<K> validation) {
+        return named(value -> {
+            if (null == value) {
+                return valid();
+            }
+            var failures = ElementValidationUtils.validateKeys(value, validation);
+            return null == failures ? valid() : ValidationResult.ofDetails(failures);
+        }, "eachKey");
+    }
+
+    /**
+     * Applies a rule to every value; failed values are reported under their key, such as
+     * {@code prices[SKU-1]}, followed by any path reported by the rule.
+     *
+     * @param <T>        map type
+     * @param <V>        value type
+     * @param validation rule applied to each value
+     * @return validation rule
+     */
+    default <T extends Map<?, V>, V> Validation<T> eachValue(Validation<V> validation) {
+        return named(value -> {
+            if (null == value) {
+                return valid();
+            }
+            var failures = ElementValidationUtils.validateValues(value, validation);
+            return null == failures ? valid() : ValidationResult.ofDetails(failures);
+        }, "eachValue");
     }
 
 }
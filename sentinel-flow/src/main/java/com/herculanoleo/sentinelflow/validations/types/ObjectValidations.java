@@ -1,9 +1,12 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.models.ValidationResult;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -19,12 +22,13 @@ public interface ObjectValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T> isNotNull(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null != value) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isNotNull");
     }
 
     /**
@@ -35,12 +39,13 @@ public interface ObjectValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T> isNull(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isNull");
     }
 
     /**
@@ -52,12 +57,13 @@ public interface ObjectValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T> isClass(Class<?> clazz, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (clazz.isAssignableFrom(value.getClass())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isClass");
     }
 
     /**
@@ -71,12 +77,13 @@ public interface ObjectValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T> oneOf(Set<T> allowed, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || (null != allowed && allowed.contains(value))) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "oneOf");
     }
 
     /**
@@ -88,12 +95,61 @@ public interface ObjectValidations extends ValidationSupport {
      * @return validation rule
      */
     default <T> Validation<T> custom(Predicate<T> predicate, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (predicate.test(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "custom");
+    }
+
+    /**
+     * Applies a rule to a property of the value, reporting failures under {@code .name}.
+     *
+     * <p>Combined with element rules this reports paths such as {@code items[42].sku}. A
+     * {@code null} value is valid. Exceptions thrown by the getter propagate; use
+     * {@link com.herculanoleo.sentinelflow.validator.Captures#path(Function, Function)} for
+     * properties reached through values that may be {@code null}.
+     *
+     * @param name       property name used in the path
+     * @param getter     function that extracts the property
+     * @param validation rule applied to the property
+     * @param <T>        value type
+     * @param <V>        property type
+     * @return validation rule
+     */
+    default <T, V> Validation<T> field(String name, Function<T, V> getter, Validation<V> validation) {
+        return field(name, getter, List.of(validation));
+    }
+
+    /**
+     * Applies rules to a property of the value, reporting failures under {@code .name}.
+     *
+     * <p>Every rule is evaluated, as for a validator field; see {@link #field(String, Function, Validation)}.
+     *
+     * @param name        property name used in the path
+     * @param getter      function that extracts the property
+     * @param validations rules applied to the property, in order
+     * @param <T>         value type
+     * @param <V>         property type
+     * @return validation rule
+     */
+    default <T, V> Validation<T> field(String name, Function<T, V> getter, List<Validation<V>> validations) {
+        var path = "." + name;
+        var rules = List.copyOf(validations);
+        return named(value -> {
+            if (null == value) {
+                return valid();
+            }
+            var failures = ElementValidationUtils.validateField(value, getter, rules);
+            if (null == failures) {
+                return valid();
+            }
+            return failures.size() == 1
+                    ? failures.get(0).atPath(path)
+                    : ValidationResult.ofDetails(failures).atPath(path);
+        }, "field");
     }
 
 }
@@ -17,7 +17,7 @@ public interface OffsetDateTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<OffsetDateTime> eq(OffsetDateTime eq, String message) {
-        return comparableEq(eq, message);
+        return named(comparableEq(eq, message), "eq");
     }
 
     /**
@@ -28,7 +28,7 @@ public interface OffsetDateTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<OffsetDateTime> min(OffsetDateTime min, String message) {
-        return comparableMin(min, message);
+        return named(comparableMin(min, message), "min");
     }
 
     /**
@@ -39,7 +39,7 @@ public interface OffsetDateTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<OffsetDateTime> max(OffsetDateTime max, String message) {
-        return comparableMax(max, message);
+        return named(comparableMax(max, message), "max");
     }
 
     /**
@@ -49,12 +49,13 @@ public interface OffsetDateTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<OffsetDateTime> isPastOffsetDateTime(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isBefore(OffsetDateTime.now())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isPastOffsetDateTime");
     }
 
     /**
@@ -64,12 +65,13 @@ public interface OffsetDateTimeValidations extends ComparableValidations {
      * @return validation rule
      */
     default Validation<OffsetDateTime> isFutureOffsetDateTime(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (null == value || value.isAfter(OffsetDateTime.now())) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isFutureOffsetDateTime");
     }
 
 }
@@ -2,50 +2,21 @@ package com.herculanoleo.sentinelflow.validations.types;
 
 import org.apache.commons.lang3.StringUtils;
 
-import java.net.Inet6Address;
-import java.net.InetAddress;
-import java.net.URI;
-import java.net.URISyntaxException;
-import java.net.UnknownHostException;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
-import java.util.UUID;
-import java.util.regex.Pattern;
 
+/**
+ * Format checks shared by {@link StringValidations}.
+ *
+ * <p>The scanners below are single-pass and allocation-free. Each one accepts exactly the
+ * language of the regular expression it replaced, quoted in its documentation.
+ */
 final class StringValidationUtils {
 
-    static final Pattern EMAIL_REGEX = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,}$");
-    static final Pattern ALPHA_REGEX = Pattern.compile("^[a-zA-Z]+$");
-    static final Pattern ALPHA_NUMERIC_REGEX = Pattern.compile("^[a-zA-Z0-9]+$");
-    static final Pattern UUID_REGEX = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
-    static final Pattern SLUG_REGEX = Pattern.compile("^[a-z0-9]+(?:-[a-z0-9]+)*$");
-    static final Pattern IPV4_REGEX = Pattern.compile(
-            "^((25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)$");
-
     private StringValidationUtils() {
     }
 
-    static boolean isValidUrl(String value) {
-        try {
-            URI uri = new URI(value);
-            if (StringUtils.isBlank(uri.getScheme())) {
-                return false;
-            }
-            return StringUtils.isNotBlank(uri.getHost()) || StringUtils.isNotBlank(uri.getAuthority());
-        } catch (URISyntaxException e) {
-            return false;
-        }
-    }
-
-    static boolean isValidHttps(String value) {
-        try {
-            URI uri = new URI(value);
-            return "https".equalsIgnoreCase(uri.getScheme()) && isValidUrl(value);
-        } catch (URISyntaxException e) {
-            return false;
-        }
-    }
-
     static Set<String> normalizeExtensions(Set<String> extensions) {
         Set<String> allowed = new HashSet<>();
         if (null == extensions) {
@@ -60,34 +31,164 @@ final class StringValidationUtils {
         return allowed;
     }
 
-    static boolean isValidUuid(String value) {
-        if (UUID_REGEX.matcher(value).matches()) {
-            try {
-                UUID.fromString(value);
+    /**
+     * Lower-cases the non-blank hosts of an allow-list for {@link UrlUtils#isAllowedHost}.
+     */
+    static String[] normalizeHosts(Set<String> hosts) {
+        if (null == hosts) {
+            return new String[0];
+        }
+        return hosts.stream()
+                .filter(StringUtils::isNotBlank)
+                .map(host -> host.trim().toLowerCase(Locale.ROOT))
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    static boolean hasExtension(String value, int extensionStart, String[] extensions) {
+        int length = value.length() - extensionStart;
+        for (String extension : extensions) {
+            if (extension.length() == length && value.regionMatches(true, extensionStart, extension, 0, length)) {
                 return true;
-            } catch (IllegalArgumentException ignored) {
-                return false;
             }
         }
         return false;
     }
 
-    static boolean isValidIpAddress(String value) {
-        if (StringUtils.isBlank(value)) {
+    /**
+     * Accepts {@code [\w.-]+@([\w-]+\.)+[\w-]{2,}}, where {@code \w} is {@code [a-zA-Z0-9_]}.
+     */
+    static boolean isValidEmail(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                break;
+            }
+            if (!isWordChar(c) && c != '-' && c != '.') {
+                return false;
+            }
+            i++;
+        }
+        if (i == 0 || i == length) {
             return false;
         }
-        if (IPV4_REGEX.matcher(value).matches()) {
-            return true;
+
+        int labelLength = 0;
+        int dots = 0;
+        for (i++; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (labelLength == 0) {
+                    return false;
+                }
+                dots++;
+                labelLength = 0;
+            } else if (isWordChar(c) || c == '-') {
+                labelLength++;
+            } else {
+                return false;
+            }
         }
-        if (!value.contains(":")) {
+        return dots > 0 && labelLength >= 2;
+    }
+
+    /**
+     * Accepts {@code [0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}}.
+     *
+     * <p>Every string of that shape is also accepted by {@link java.util.UUID#fromString(String)},
+     * so no further parsing is needed.
+     */
+    static boolean isValidUuid(String value) {
+        if (value.length() != 36) {
             return false;
         }
-        try {
-            InetAddress address = InetAddress.getByName(value);
-            return address instanceof Inet6Address;
-        } catch (UnknownHostException e) {
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!isHexDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Accepts {@code [a-zA-Z]+}.
+     */
+    static boolean isAlpha(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Accepts {@code [a-zA-Z0-9]+}.
+     */
+    static boolean isAlphaNumeric(String value) {
+        int length = value.length();
+        if (length == 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isAsciiLetter(c) && !isAsciiDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Accepts {@code [a-z0-9]+(?:-[a-z0-9]+)*}.
+     */
+    static boolean isSlug(String value) {
+        int length = value.length();
+        if (length == 0) {
             return false;
         }
+        boolean afterHyphen = true;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '-') {
+                if (afterHyphen) {
+                    return false;
+                }
+                afterHyphen = true;
+            } else if ((c >= 'a' && c <= 'z') || isAsciiDigit(c)) {
+                afterHyphen = false;
+            } else {
+                return false;
+            }
+        }
+        return !afterHyphen;
+    }
+
+    private static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordChar(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c) || c == '_';
+    }
+
+    private static boolean isHexDigit(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
     }
 
 }
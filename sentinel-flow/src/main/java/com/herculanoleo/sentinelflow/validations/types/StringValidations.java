@@ -4,14 +4,11 @@ import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validations.ValidationSupport;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
-import static com.herculanoleo.sentinelflow.validations.types.StringValidationUtils.ALPHA_NUMERIC_REGEX;
-import static com.herculanoleo.sentinelflow.validations.types.StringValidationUtils.ALPHA_REGEX;
-import static com.herculanoleo.sentinelflow.validations.types.StringValidationUtils.EMAIL_REGEX;
-import static com.herculanoleo.sentinelflow.validations.types.StringValidationUtils.SLUG_REGEX;
-
 /**
  * Validation rules for {@link String} values.
  *
@@ -27,12 +24,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> isNotBlank(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.isNotBlank(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isNotBlank");
     }
 
     /**
@@ -42,12 +40,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> isBlank(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.isBlank(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "isBlank");
     }
 
     /**
@@ -58,12 +57,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> lengthEq(Integer length, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.defaultString(value).length() == length) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lengthEq");
     }
 
     /**
@@ -74,12 +74,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> lengthMin(Integer length, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.defaultString(value).length() >= length) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lengthMin");
     }
 
     /**
@@ -90,12 +91,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> lengthMax(Integer length, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.defaultString(value).length() <= length) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "lengthMax");
     }
 
     /**
@@ -105,12 +107,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> email(String message) {
-        return value -> {
-            if (StringUtils.isBlank(value) || EMAIL_REGEX.matcher(value).matches()) {
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || StringValidationUtils.isValidEmail(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "email");
     }
 
     /**
@@ -120,31 +123,70 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> onlyNumbers(String message) {
-        return value -> {
-            var original = StringUtils.defaultString(value);
-            var normalized = StringUtils.defaultString(value).replaceAll("\\D", "");
-
-            if (StringUtils.equals(original, normalized)) {
+        var failure = invalid(message);
+        return named(value -> {
+            if (null == value || DigitUtils.isDigits(value)) {
                 return valid();
             }
 
-            return invalid(message);
-        };
+            return failure;
+        }, "onlyNumbers");
     }
 
     /**
      * Validates a URL with scheme and host.
      *
+     * <p>The URL is scanned in place, without building a {@link java.net.URI}; it accepts the
+     * same absolute URLs with a non-empty authority as {@code URI}.
+     *
      * @param message error message when validation fails
      * @return validation rule
      */
     default Validation<String> url(String message) {
-        return value -> {
-            if (StringUtils.isBlank(value) || StringValidationUtils.isValidUrl(value)) {
+        var failure = invalid(message);
+        return named(cacheable(value -> {
+            if (StringUtils.isBlank(value) || UrlUtils.isValidUrl(value)) {
+                return valid();
+            }
+            return failure;
+        }, "url", message), "url");
+    }
+
+    /**
+     * Validates a URL with a host from the allow-list and at most {@code maxLength} characters.
+     *
+     * <p>Hosts are matched ignoring case; an entry such as {@code *.example.com} allows any
+     * subdomain of {@code example.com}, but not {@code example.com} itself. Bracketed IPv6 hosts
+     * are listed with their brackets ({@code [::1]}). The length is checked before the URL is
+     * scanned, so oversized values are rejected in constant time.
+     *
+     * @param allowedHosts allowed hosts; {@code null} or empty allows any host
+     * @param maxLength    maximum URL length
+     * @param message      error message when validation fails
+     * @return validation rule
+     * @throws IllegalArgumentException if {@code maxLength} is not positive
+     */
+    default Validation<String> url(Set<String> allowedHosts, int maxLength, String message) {
+        if (maxLength <= 0) {
+            throw new IllegalArgumentException("maxLength must be positive: " + maxLength);
+        }
+        String[] hosts = StringValidationUtils.normalizeHosts(allowedHosts);
+        var failure = invalid(message);
+
+        return named(cacheable(value -> {
+            if (StringUtils.isBlank(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            if (value.length() > maxLength) {
+                return failure;
+            }
+
+            long host = UrlUtils.scan(value);
+            if (host == UrlUtils.INVALID || (hosts.length > 0 && !UrlUtils.isAllowedHost(value, host, hosts))) {
+                return failure;
+            }
+            return valid();
+        }, "url", List.of(hosts), maxLength, message), "url");
     }
 
     /**
@@ -154,12 +196,33 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> https(String message) {
-        return value -> {
-            if (StringUtils.isBlank(value) || StringValidationUtils.isValidHttps(value)) {
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || UrlUtils.isValidHttps(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "https");
+    }
+
+    /**
+     * Validates an HTTPS URL with a host from the allow-list and at most {@code maxLength} characters.
+     *
+     * @param allowedHosts allowed hosts, as in {@link #url(Set, int, String)}; {@code null} or empty allows any host
+     * @param maxLength    maximum URL length
+     * @param message      error message when validation fails
+     * @return validation rule
+     * @throws IllegalArgumentException if {@code maxLength} is not positive
+     */
+    default Validation<String> https(Set<String> allowedHosts, int maxLength, String message) {
+        var url = url(allowedHosts, maxLength, message);
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || UrlUtils.isHttps(value)) {
+                return url.validate(value);
+            }
+            return failure;
+        }, "https");
     }
 
     /**
@@ -170,25 +233,25 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> fileExtension(Set<String> extensions, String message) {
-        Set<String> allowed = StringValidationUtils.normalizeExtensions(extensions);
+        String[] allowed = StringValidationUtils.normalizeExtensions(extensions).toArray(String[]::new);
+        var failure = invalid(message);
 
-        return value -> {
+        return named(value -> {
             if (StringUtils.isBlank(value)) {
                 return valid();
             }
 
             int dotIndex = value.lastIndexOf('.');
             if (dotIndex < 0 || dotIndex == value.length() - 1) {
-                return invalid(message);
+                return failure;
             }
 
-            var extension = value.substring(dotIndex + 1).toLowerCase();
-            if (allowed.contains(extension)) {
+            if (StringValidationUtils.hasExtension(value, dotIndex + 1, allowed)) {
                 return valid();
             }
 
-            return invalid(message);
-        };
+            return failure;
+        }, "fileExtension");
     }
 
     /**
@@ -199,12 +262,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> matches(Pattern pattern, String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(cacheable(value -> {
             if (StringUtils.isBlank(value) || pattern.matcher(value).matches()) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "matches", pattern.pattern(), pattern.flags(), message), "matches");
     }
 
     /**
@@ -215,7 +279,7 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> regex(String pattern, String message) {
-        return matches(Pattern.compile(pattern), message);
+        return named(matches(Pattern.compile(pattern), message), "regex");
     }
 
     /**
@@ -225,12 +289,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> uuid(String message) {
-        return value -> {
+        var failure = invalid(message);
+        return named(value -> {
             if (StringUtils.isBlank(value) || StringValidationUtils.isValidUuid(value)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "uuid");
     }
 
     /**
@@ -240,7 +305,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> alpha(String message) {
-        return matches(ALPHA_REGEX, message);
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || StringValidationUtils.isAlpha(value)) {
+                return valid();
+            }
+            return failure;
+        }, "alpha");
     }
 
     /**
@@ -250,7 +321,13 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> alphaNumeric(String message) {
-        return matches(ALPHA_NUMERIC_REGEX, message);
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || StringValidationUtils.isAlphaNumeric(value)) {
+                return valid();
+            }
+            return failure;
+        }, "alphaNumeric");
     }
 
     /**
@@ -260,22 +337,67 @@ public interface StringValidations extends ValidationSupport {
      * @return validation rule
      */
     default Validation<String> slug(String message) {
-        return matches(SLUG_REGEX, message);
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || StringValidationUtils.isSlug(value)) {
+                return valid();
+            }
+            return failure;
+        }, "slug");
     }
 
     /**
      * Validates an IPv4 or IPv6 address.
      *
+     * <p>IPv4 addresses use dotted-decimal octets without leading zeros. IPv6 addresses may use any
+     * RFC 4291 text form, including {@code ::}, a trailing IPv4 address and a {@code %zone} suffix.
+     * Nothing is resolved.
+     *
      * @param message error message when validation fails
      * @return validation rule
      */
     default Validation<String> ipAddress(String message) {
-        return value -> {
-            if (StringUtils.isBlank(value) || StringValidationUtils.isValidIpAddress(value)) {
+        var failure = invalid(message);
+        return named(cacheable(value -> {
+            if (StringUtils.isBlank(value) || IpAddressUtils.isValidIpAddress(value)) {
+                return valid();
+            }
+            return failure;
+        }, "ipAddress", message), "ipAddress");
+    }
+
+    /**
+     * Validates that the string is an IP address inside the given CIDR block.
+     *
+     * @param cidr    block such as {@code 10.0.0.0/8} or {@code 2001:db8::/32}; a bare address matches only itself
+     * @param message error message when validation fails
+     * @return validation rule
+     * @throws IllegalArgumentException when the block is invalid
+     */
+    default Validation<String> ipInRange(String cidr, String message) {
+        return ipInRange(List.of(cidr), message);
+    }
+
+    /**
+     * Validates that the string is an IP address inside any of the given CIDR blocks.
+     *
+     * <p>Blocks are parsed once, when the rule is created. IPv4 blocks also match the
+     * IPv4-mapped IPv6 form of their addresses ({@code ::ffff:10.0.0.1}).
+     *
+     * @param cidrs   blocks such as {@code 10.0.0.0/8} or {@code 2001:db8::/32}
+     * @param message error message when validation fails
+     * @return validation rule
+     * @throws IllegalArgumentException when a block is invalid
+     */
+    default Validation<String> ipInRange(Collection<String> cidrs, String message) {
+        IpRange[] ranges = cidrs.stream().map(IpRange::parse).toArray(IpRange[]::new);
+        var failure = invalid(message);
+        return named(value -> {
+            if (StringUtils.isBlank(value) || IpAddressUtils.matchesAny(value, ranges)) {
                 return valid();
             }
-            return invalid(message);
-        };
+            return failure;
+        }, "ipInRange");
     }
 
 }
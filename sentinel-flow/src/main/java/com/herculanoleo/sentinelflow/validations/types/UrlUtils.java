@@ -0,0 +1,335 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+/**
+ * Single-pass URL parsing for {@link StringValidations}.
+ *
+ * <p>{@link #scan(String)} accepts the absolute URLs with a non-empty authority that
+ * {@link java.net.URI} parses, without building a {@code URI} or throwing on invalid input:
+ * {@code scheme "://" authority path ["?" query] ["#" fragment]} with the RFC 2396 character
+ * classes, {@code %XX} escapes and non-ASCII characters other than spaces and controls.
+ * Like {@code URI}, an authority that is not a valid {@code [userinfo@]host[:port]} is still
+ * accepted as a registry name when it only uses registry characters; such URLs have no host.
+ * Bracketed IPv6 hosts follow RFC 4291, with an optional RFC 6874 {@code %25zone}.
+ */
+final class UrlUtils {
+
+    /** Returned by {@link #scan(String)} when the value is not a valid URL. */
+    static final long INVALID = -1L;
+
+    /** Returned by {@link #scan(String)} for a valid URL with a registry-based authority. */
+    static final long NO_HOST = 0L;
+
+    private static final int SCHEME = 1;
+    private static final int PATH = 1 << 1;
+    private static final int URIC = 1 << 2;
+    private static final int USERINFO = 1 << 3;
+    private static final int REG_NAME = 1 << 4;
+    private static final int ZONE = 1 << 5;
+
+    private static final byte[] CLASSES = new byte[128];
+
+    static {
+        for (char c = 0; c < 128; c++) {
+            boolean alphaNumeric = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || DigitUtils.isDigit(c);
+            int classes = 0;
+            if (alphaNumeric || c == '+' || c == '-' || c == '.') {
+                classes |= SCHEME;
+            }
+            if (alphaNumeric || "-_.!~*'()".indexOf(c) >= 0) {
+                classes |= PATH | URIC | USERINFO | REG_NAME;
+            }
+            if (":@&=+$,;/".indexOf(c) >= 0) {
+                classes |= PATH;
+            }
+            if (";/?:@&=+$,[]".indexOf(c) >= 0) {
+                classes |= URIC;
+            }
+            if (";:&=+$,".indexOf(c) >= 0) {
+                classes |= USERINFO;
+            }
+            if ("$,;:@&=+".indexOf(c) >= 0) {
+                classes |= REG_NAME;
+            }
+            if (alphaNumeric || "-._~".indexOf(c) >= 0) {
+                classes |= ZONE;
+            }
+            CLASSES[c] = (byte) classes;
+        }
+    }
+
+    private UrlUtils() {
+    }
+
+    /**
+     * Scans a URL and locates its host.
+     *
+     * @return {@link #INVALID}, {@link #NO_HOST}, or the host start and end indexes packed as
+     * {@code start << 32 | end}; bracketed IPv6 hosts include the brackets
+     */
+    static long scan(String value) {
+        int length = value.length();
+        if (length == 0 || !isLetter(value.charAt(0))) {
+            return INVALID;
+        }
+        int i = 1;
+        while (i < length && is(value.charAt(i), SCHEME)) {
+            i++;
+        }
+        if (i + 2 >= length || value.charAt(i) != ':' || value.charAt(i + 1) != '/' || value.charAt(i + 2) != '/') {
+            return INVALID;
+        }
+        i += 3;
+
+        int authorityStart = i;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c == '/' || c == '?' || c == '#') {
+                break;
+            }
+            i++;
+        }
+        if (i == authorityStart) {
+            return INVALID;
+        }
+        long host = parseAuthority(value, authorityStart, i);
+        if (host == INVALID) {
+            return INVALID;
+        }
+
+        i = scan(value, i, length, PATH);
+        if (i >= 0 && i < length && value.charAt(i) == '?') {
+            i = scan(value, i + 1, length, URIC);
+        }
+        if (i >= 0 && i < length && value.charAt(i) == '#') {
+            i = scan(value, i + 1, length, URIC);
+        }
+        return i == length ? host : INVALID;
+    }
+
+    /**
+     * Returns whether the value is a URL; see {@link #scan(String)}.
+     */
+    static boolean isValidUrl(String value) {
+        return scan(value) != INVALID;
+    }
+
+    /**
+     * Returns whether the value is a URL whose scheme is {@code https}, in any case.
+     */
+    static boolean isValidHttps(String value) {
+        return isHttps(value) && isValidUrl(value);
+    }
+
+    /**
+     * Returns whether the value starts with an {@code https:} scheme, in any case.
+     */
+    static boolean isHttps(String value) {
+        return value.length() > 5 && value.charAt(5) == ':' && value.regionMatches(true, 0, "https", 0, 5);
+    }
+
+    /**
+     * Returns whether the host located by {@link #scan(String)} is allowed.
+     *
+     * <p>Entries are lower-case host names, matched ignoring case; an entry starting with
+     * {@code *.} matches any subdomain of the rest of the entry, but not the domain itself.
+     */
+    static boolean isAllowedHost(String value, long host, String[] allowedHosts) {
+        if (host == INVALID || host == NO_HOST) {
+            return false;
+        }
+        int start = (int) (host >>> 32);
+        int length = (int) host - start;
+        for (String allowed : allowedHosts) {
+            if (allowed.startsWith("*.")) {
+                int suffix = allowed.length() - 1;
+                if (length > suffix && value.regionMatches(true, start + length - suffix, allowed, 1, suffix)) {
+                    return true;
+                }
+            } else if (allowed.length() == length && value.regionMatches(true, start, allowed, 0, length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long parseAuthority(String value, int start, int end) {
+        boolean brackets = false;
+        for (int i = start; i < end; ) {
+            char c = value.charAt(i);
+            if (c == '[' || c == ']') {
+                brackets = true;
+                i++;
+                continue;
+            }
+            int next = scan(value, i, end, REG_NAME);
+            if (next < 0 || next == i) {
+                return INVALID;
+            }
+            i = next;
+        }
+
+        long host = parseServer(value, start, end);
+        if (host == INVALID) {
+            return brackets ? INVALID : NO_HOST;
+        }
+        return host;
+    }
+
+    private static long parseServer(String value, int start, int end) {
+        int i = start;
+        int at = indexOf(value, '@', start, end);
+        if (at >= 0) {
+            if (scan(value, start, at, USERINFO) != at) {
+                return INVALID;
+            }
+            i = at + 1;
+        }
+
+        int hostStart = i;
+        int hostEnd;
+        if (i < end && value.charAt(i) == '[') {
+            int close = indexOf(value, ']', i + 1, end);
+            if (close < 0 || !isIpv6Literal(value, i + 1, close)) {
+                return INVALID;
+            }
+            hostEnd = close + 1;
+        } else {
+            hostEnd = parseIpv4(value, i, end);
+            if (hostEnd < 0) {
+                hostEnd = parseHostname(value, i, end);
+            }
+            if (hostEnd < 0) {
+                return INVALID;
+            }
+        }
+
+        i = hostEnd;
+        if (i < end && value.charAt(i) == ':') {
+            i++;
+            long port = 0;
+            while (i < end && DigitUtils.isDigit(value.charAt(i))) {
+                port = port * 10 + (value.charAt(i) - '0');
+                if (port > Integer.MAX_VALUE) {
+                    return INVALID;
+                }
+                i++;
+            }
+        }
+        return i == end ? ((long) hostStart << 32) | hostEnd : INVALID;
+    }
+
+    /**
+     * Four dot-separated decimal numbers up to 255, leading zeros allowed, followed by the end of
+     * the authority or a port.
+     */
+    private static int parseIpv4(String value, int start, int end) {
+        int i = start;
+        for (int octet = 0; octet < 4; octet++) {
+            if (octet > 0) {
+                if (i == end || value.charAt(i) != '.') {
+                    return -1;
+                }
+                i++;
+            }
+            int digitsStart = i;
+            int number = 0;
+            while (i < end && DigitUtils.isDigit(value.charAt(i))) {
+                number = Math.min(number * 10 + (value.charAt(i) - '0'), 256);
+                i++;
+            }
+            if (i == digitsStart || number > 255) {
+                return -1;
+            }
+        }
+        return i == end || value.charAt(i) == ':' ? i : -1;
+    }
+
+    /**
+     * Dot-separated labels of letters, digits and inner hyphens, with an optional trailing dot;
+     * the last label of a multi-label name starts with a letter.
+     */
+    private static int parseHostname(String value, int start, int end) {
+        int i = start;
+        int lastLabel = -1;
+        while (i < end && isLetterOrDigit(value.charAt(i))) {
+            lastLabel = i;
+            i++;
+            while (i < end && (isLetterOrDigit(value.charAt(i)) || value.charAt(i) == '-')) {
+                i++;
+            }
+            if (value.charAt(i - 1) == '-') {
+                return -1;
+            }
+            if (i == end || value.charAt(i) != '.') {
+                break;
+            }
+            i++;
+        }
+        if (lastLabel < 0 || (i < end && value.charAt(i) != ':')) {
+            return -1;
+        }
+        if (lastLabel > start && !isLetter(value.charAt(lastLabel))) {
+            return -1;
+        }
+        return i;
+    }
+
+    private static boolean isIpv6Literal(String value, int start, int end) {
+        int zone = indexOf(value, '%', start, end);
+        if (zone < 0) {
+            return IpAddressUtils.isValidIpv6(value, start, end);
+        }
+        if (!value.startsWith("%25", zone) || zone + 3 == end) {
+            return false;
+        }
+        return scan(value, zone + 3, end, ZONE) == end && IpAddressUtils.isValidIpv6(value, start, zone);
+    }
+
+    /**
+     * Skips characters of the given class, {@code %XX} escapes and, except for zones, non-ASCII
+     * characters that are neither spaces nor controls.
+     *
+     * @return the index of the first other character, or {@code -1} at a malformed escape
+     */
+    private static int scan(String value, int start, int end, int characterClass) {
+        int i = start;
+        while (i < end) {
+            char c = value.charAt(i);
+            if (is(c, characterClass)) {
+                i++;
+            } else if (c == '%') {
+                if (i + 2 >= end || !isHexDigit(value.charAt(i + 1)) || !isHexDigit(value.charAt(i + 2))) {
+                    return -1;
+                }
+                i += 3;
+            } else if (c > 128 && characterClass != ZONE && !Character.isSpaceChar(c) && !Character.isISOControl(c)) {
+                i++;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean is(char c, int characterClass) {
+        return c < 128 && (CLASSES[c] & characterClass) != 0;
+    }
+
+    private static boolean isLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isLetterOrDigit(char c) {
+        return isLetter(c) || DigitUtils.isDigit(c);
+    }
+
+    private static boolean isHexDigit(char c) {
+        return DigitUtils.isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static int indexOf(String value, char c, int start, int end) {
+        int index = value.indexOf(c, start);
+        return index < end ? index : -1;
+    }
+
+}
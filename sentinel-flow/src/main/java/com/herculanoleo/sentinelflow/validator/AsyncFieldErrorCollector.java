@@ -0,0 +1,141 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Collects the results of fields that have asynchronous rules.
+ *
+ * <p>Each field's synchronous rules are evaluated first; its asynchronous rules are started
+ * right away, so rules of all fields run concurrently. Under a policy that stops a field on
+ * failure, asynchronous rules are skipped when a synchronous rule of the same field already
+ * failed. Once every rule has completed, fields are folded in declaration order through a
+ * {@link FieldErrorCollector}, so the violations match those of a synchronous run.
+ */
+public final class AsyncFieldErrorCollector {
+
+    private final ShortCircuitPolicy policy;
+
+    private final List<Entry<?>> entries = new ArrayList<>();
+
+    private final List<CompletableFuture<ValidationResult>> pending = new ArrayList<>();
+
+    /**
+     * Creates an empty collector.
+     *
+     * @param policy short-circuit policy of the current validation
+     */
+    public AsyncFieldErrorCollector(ShortCircuitPolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Records the synchronous result of a field and starts its asynchronous rules.
+     *
+     * @param result           aggregated result of the field's synchronous rules
+     * @param asyncValidations asynchronous rules of the field
+     * @param <V>              field value type
+     * @return {@code true} when the next field should be evaluated
+     */
+    public <V> boolean add(Result<V> result, List<AsyncValidation<V>> asyncValidations) {
+        boolean failed = false;
+        for (ValidationResult validationResult : result.results()) {
+            if (!validationResult.valid()) {
+                failed = true;
+                break;
+            }
+        }
+
+        List<CompletableFuture<ValidationResult>> futures = List.of();
+        if (!asyncValidations.isEmpty() && !(failed && policy.stopsFieldOnFailure())) {
+            futures = new ArrayList<>(asyncValidations.size());
+            for (var asyncValidation : asyncValidations) {
+                futures.add(start(asyncValidation, result.field().value()));
+            }
+            pending.addAll(futures);
+        }
+        entries.add(new Entry<>(result, futures));
+
+        return !(failed && policy.stopsValidatorOnFailure());
+    }
+
+    /**
+     * Returns a stage completed with the violations once every asynchronous rule has completed.
+     *
+     * <p>When a rule completes exceptionally, the returned stage completes with the same exception.
+     *
+     * @return violations of the object
+     */
+    public CompletableFuture<Violations> toViolations() {
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(fold());
+        }
+        return CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> fold());
+    }
+
+    /**
+     * Waits for every asynchronous rule and returns the violations.
+     *
+     * @return violations of the object
+     */
+    public Violations await() {
+        try {
+            return toViolations().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Violations fold() {
+        var collector = new FieldErrorCollector(policy);
+        for (var entry : entries) {
+            if (!collector.add(entry.merge(policy))) {
+                break;
+            }
+        }
+        return collector.toViolations();
+    }
+
+    private static <V> CompletableFuture<ValidationResult> start(AsyncValidation<V> asyncValidation, V value) {
+        try {
+            return asyncValidation.validate(value).toCompletableFuture();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private record Entry<V>(Result<V> result, List<CompletableFuture<ValidationResult>> futures) {
+
+        Result<V> merge(ShortCircuitPolicy policy) {
+            if (futures.isEmpty()) {
+                return result;
+            }
+            var results = new ArrayList<>(result.results());
+            for (var future : futures) {
+                var validationResult = future.join();
+                results.add(validationResult);
+                if (!validationResult.valid() && policy.stopsFieldOnFailure()) {
+                    break;
+                }
+            }
+            return new Result<>(result.field(), results);
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * Execution options for {@link CompiledValidator#validateAll(Iterable, BatchOptions)}.
+ *
+ * <p>Sequential batches run on the calling thread. Parallel batches read the input in chunks of
+ * {@code chunkSize} objects and validate them on {@code executor}, keeping at most
+ * {@code maxInFlightChunks} chunks in memory at once.
+ *
+ * @param policy            short-circuit policy applied to each object
+ * @param executor          executor that validates the chunks, or {@code null} to run sequentially
+ * @param chunkSize         number of objects per chunk
+ * @param maxInFlightChunks maximum number of chunks submitted and not yet merged
+ */
+public record BatchOptions(
+        ShortCircuitPolicy policy,
+        Executor executor,
+        int chunkSize,
+        int maxInFlightChunks
+) {
+
+    /**
+     * Validates the options.
+     *
+     * @throws IllegalArgumentException when {@code chunkSize} or {@code maxInFlightChunks} is less than one
+     */
+    public BatchOptions {
+        Objects.requireNonNull(policy);
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize must be greater than zero");
+        }
+        if (maxInFlightChunks < 1) {
+            throw new IllegalArgumentException("maxInFlightChunks must be greater than zero");
+        }
+    }
+
+    /**
+     * Returns options that validate every object on the calling thread.
+     *
+     * @return sequential options with {@link ShortCircuitPolicy#ALL}
+     */
+    public static BatchOptions sequential() {
+        return new BatchOptions(ShortCircuitPolicy.ALL, null, 1, 1);
+    }
+
+    /**
+     * Returns options that validate chunks of objects concurrently.
+     *
+     * <p>At most twice the number of available processors chunks are kept in flight.
+     *
+     * @param executor  executor that validates the chunks
+     * @param chunkSize number of objects per chunk
+     * @return parallel options with {@link ShortCircuitPolicy#ALL}
+     */
+    public static BatchOptions parallel(Executor executor, int chunkSize) {
+        return new BatchOptions(ShortCircuitPolicy.ALL, Objects.requireNonNull(executor), chunkSize,
+                Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    /**
+     * Returns a copy of these options with another short-circuit policy.
+     *
+     * @param policy short-circuit policy applied to each object
+     * @return new options
+     */
+    public BatchOptions withPolicy(ShortCircuitPolicy policy) {
+        return new BatchOptions(policy, executor, chunkSize, maxInFlightChunks);
+    }
+
+    /**
+     * Returns whether chunks are validated on an executor.
+     *
+     * @return {@code true} when an executor is configured
+     */
+    public boolean isParallel() {
+        return null != executor;
+    }
+
+}
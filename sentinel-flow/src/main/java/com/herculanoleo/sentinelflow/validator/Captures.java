@@ -0,0 +1,103 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Null-safe accessor chains for field capture.
+ *
+ * <p>{@code field(name, capture)} turns a {@link NullPointerException} thrown by the capture
+ * into a {@code null} value, which costs a thrown exception and a stack trace on every
+ * partially filled object. The chains built here stop at the first {@code null} step and
+ * return {@code null} instead, without throwing:
+ *
+ * <pre>{@code
+ * .field("zipCode", path(Customer::address, Address::zipCode))
+ * }</pre>
+ */
+public final class Captures {
+
+    private Captures() {
+    }
+
+    /**
+     * Chains two accessors, returning {@code null} when the object or the intermediate value is {@code null}.
+     *
+     * @param first  first accessor
+     * @param second second accessor
+     * @param <A>    object type
+     * @param <B>    intermediate type
+     * @param <R>    captured value type
+     * @return null-safe capture function
+     */
+    public static <A, B, R> Function<A, R> path(Function<A, B> first, Function<B, R> second) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        return value -> {
+            if (null == value) {
+                return null;
+            }
+            B b = first.apply(value);
+            return null == b ? null : second.apply(b);
+        };
+    }
+
+    /**
+     * Chains three accessors, returning {@code null} at the first {@code null} step.
+     *
+     * @param first  first accessor
+     * @param second second accessor
+     * @param third  third accessor
+     * @param <A>    object type
+     * @param <B>    first intermediate type
+     * @param <C>    second intermediate type
+     * @param <R>    captured value type
+     * @return null-safe capture function
+     */
+    public static <A, B, C, R> Function<A, R> path(Function<A, B> first, Function<B, C> second,
+                                                   Function<C, R> third) {
+        return path(path(first, second), third);
+    }
+
+    /**
+     * Chains four accessors, returning {@code null} at the first {@code null} step.
+     *
+     * @param first  first accessor
+     * @param second second accessor
+     * @param third  third accessor
+     * @param fourth fourth accessor
+     * @param <A>    object type
+     * @param <B>    first intermediate type
+     * @param <C>    second intermediate type
+     * @param <D>    third intermediate type
+     * @param <R>    captured value type
+     * @return null-safe capture function
+     */
+    public static <A, B, C, D, R> Function<A, R> path(Function<A, B> first, Function<B, C> second,
+                                                      Function<C, D> third, Function<D, R> fourth) {
+        return path(path(first, second, third), fourth);
+    }
+
+    /**
+     * Chains five accessors, returning {@code null} at the first {@code null} step.
+     *
+     * @param first  first accessor
+     * @param second second accessor
+     * @param third  third accessor
+     * @param fourth fourth accessor
+     * @param fifth  fifth accessor
+     * @param <A>    object type
+     * @param <B>    first intermediate type
+     * @param <C>    second intermediate type
+     * @param <D>    third intermediate type
+     * @param <E>    fourth intermediate type
+     * @param <R>    captured value type
+     * @return null-safe capture function
+     */
+    public static <A, B, C, D, E, R> Function<A, R> path(Function<A, B> first, Function<B, C> second,
+                                                         Function<C, D> third, Function<D, E> fourth,
+                                                         Function<E, R> fifth) {
+        return path(path(first, second, third, fourth), fifth);
+    }
+
+}
@@ -0,0 +1,230 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.models.BatchViolations;
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.models.ValidatedItem;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.Validation;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, reusable validator produced by {@link ValidatorSchema#compile()}.
+ *
+ * <p>Fields and rules are fixed at compile time, so a single instance can be built once
+ * (for example at startup) and shared across threads. Each call only extracts the field
+ * values from the given object and evaluates the rules.
+ *
+ * @param <V> the type of object being validated
+ */
+public interface CompiledValidator<V> {
+
+    /**
+     * Validates the given object.
+     *
+     * @param value object to validate
+     * @throws ValidatorException when any field fails validation
+     */
+    default void validate(V value) throws ValidatorException {
+        validate(value, ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Validates the given object, stopping early according to the policy.
+     *
+     * @param value  object to validate
+     * @param policy how much to evaluate once a rule fails
+     * @throws ValidatorException when any field fails validation
+     */
+    void validate(V value, ShortCircuitPolicy policy) throws ValidatorException;
+
+    /**
+     * Validates the given object without throwing.
+     *
+     * @param value object to validate
+     * @return violations of the object; {@link Violations#isValid()} is {@code true} when every rule passed
+     */
+    default Violations validateToResult(V value) {
+        return validateToResult(value, ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Validates the given object without throwing, stopping early according to the policy.
+     *
+     * @param value  object to validate
+     * @param policy how much to evaluate once a rule fails
+     * @return violations of the object; {@link Violations#isValid()} is {@code true} when every rule passed
+     */
+    Violations validateToResult(V value, ShortCircuitPolicy policy);
+
+    /**
+     * Applies the synchronous rules of one field to a value obtained without the object, such as
+     * a value read by a streaming parser before the object is built.
+     *
+     * <p>The capture of the field is not called: the value must be the one it would return for
+     * the object, and of the type it captures. The rules are applied directly, so a value of
+     * another type fails with {@link ClassCastException} inside the rule.
+     *
+     * @param fieldName field name given to the schema
+     * @param value     field value
+     * @param policy    how much to evaluate once a rule fails
+     * @return result of the field, or {@code null} when the validator has no such field or the
+     * field has asynchronous rules
+     */
+    default Result<?> validateField(String fieldName, Object value, ShortCircuitPolicy policy) {
+        return null;
+    }
+
+    /**
+     * Validates the given object, reusing the results of fields already evaluated by
+     * {@link #validateField(String, Object, ShortCircuitPolicy)}.
+     *
+     * <p>Fields are reported in schema order; those absent from {@code evaluated} are captured
+     * from the object as usual. The violations are the same as
+     * {@link #validateToResult(Object, ShortCircuitPolicy)} as long as each evaluated result was
+     * computed from the value the object holds.
+     *
+     * @param value     object to validate
+     * @param policy    how much to evaluate once a rule fails
+     * @param evaluated results keyed by field name
+     * @return violations of the object
+     */
+    default Violations validateToResult(V value, ShortCircuitPolicy policy, Map<String, Result<?>> evaluated) {
+        return validateToResult(value, policy);
+    }
+
+    /**
+     * Validates the given object, running asynchronous rules concurrently.
+     *
+     * @param value object to validate
+     * @return stage completed with the violations of the object
+     */
+    default CompletableFuture<Violations> validateAsync(V value) {
+        return validateAsync(value, ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Validates the given object, running asynchronous rules concurrently and stopping early
+     * according to the policy.
+     *
+     * <p>Synchronous rules run on the calling thread; the asynchronous rules of every field are
+     * then started together, so the returned stage completes after the slowest of them. The
+     * stage completes exceptionally when a rule throws or completes exceptionally.
+     *
+     * @param value  object to validate
+     * @param policy how much to evaluate once a rule fails
+     * @return stage completed with the violations of the object
+     */
+    CompletableFuture<Violations> validateAsync(V value, ShortCircuitPolicy policy);
+
+    /**
+     * Validates every object on the calling thread.
+     *
+     * @param values objects to validate
+     * @return violations of the invalid objects, keyed by their position in {@code values}
+     */
+    default BatchViolations validateAll(Iterable<V> values) {
+        return validateAll(values, BatchOptions.sequential());
+    }
+
+    /**
+     * Validates every object of the stream on the calling thread.
+     *
+     * <p>The stream is consumed but not closed.
+     *
+     * @param values objects to validate
+     * @return violations of the invalid objects, keyed by their position in the stream
+     */
+    default BatchViolations validateAll(Stream<V> values) {
+        return validateAll(values, BatchOptions.sequential());
+    }
+
+    /**
+     * Validates every object of the stream with the given options.
+     *
+     * <p>The stream is consumed but not closed.
+     *
+     * @param values  objects to validate
+     * @param options sequential or chunked parallel execution
+     * @return violations of the invalid objects, keyed by their position in the stream
+     */
+    default BatchViolations validateAll(Stream<V> values, BatchOptions options) {
+        return validateAll(values::iterator, options);
+    }
+
+    /**
+     * Validates every object with the given options.
+     *
+     * @param values  objects to validate
+     * @param options sequential or chunked parallel execution
+     * @return violations of the invalid objects, keyed by their position in {@code values}
+     */
+    BatchViolations validateAll(Iterable<V> values, BatchOptions options);
+
+    /**
+     * Lazily validates the objects of the iterator on the calling thread.
+     *
+     * @param values source of objects, read as the returned iterator is consumed
+     * @return iterator over every object paired with its violations, in source order
+     */
+    default Iterator<ValidatedItem<V>> validateStream(Iterator<V> values) {
+        return validateStream(values, StreamingOptions.sequential());
+    }
+
+    /**
+     * Lazily validates the objects of the iterator with the given options.
+     *
+     * <p>The source is only read by the thread consuming the returned iterator, and at most
+     * {@link StreamingOptions#maxInFlight()} objects are read ahead. The returned iterator is
+     * not thread-safe.
+     *
+     * @param values  source of objects, read as the returned iterator is consumed
+     * @param options executor, read-ahead bound and ordering
+     * @return iterator over every object paired with its violations
+     */
+    Iterator<ValidatedItem<V>> validateStream(Iterator<V> values, StreamingOptions options);
+
+    /**
+     * Validates the objects published by the source with the given options.
+     *
+     * <p>The returned publisher is cold: each subscriber gets its own subscription to
+     * {@code values}. Demand is propagated upstream so that at most
+     * {@link StreamingOptions#maxInFlight()} objects are held per subscriber. A rule that throws
+     * terminates the stream with that exception.
+     *
+     * @param values  source of objects
+     * @param options executor, buffer bound and ordering
+     * @return publisher of every object paired with its violations
+     */
+    Flow.Publisher<ValidatedItem<V>> validateStream(Flow.Publisher<V> values, StreamingOptions options);
+
+    /**
+     * Returns this validator as a rule for objects nested in another one.
+     *
+     * <p>Each violation is reported under the enclosing field name followed by its own field
+     * name, such as {@code address.zipCode}; combined with element rules this also gives paths
+     * such as {@code items[42].sku}. A {@code null} object is valid.
+     *
+     * @return rule that validates the nested object with every rule of this validator
+     */
+    default Validation<V> asValidation() {
+        return asValidation(ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Returns this validator as a rule for nested objects, stopping early according to the policy.
+     *
+     * @param policy how much of the nested object to evaluate once a rule fails
+     * @return rule that validates the nested object
+     * @see #asValidation()
+     */
+    default Validation<V> asValidation(ShortCircuitPolicy policy) {
+        return new NestedValidation<>(this, policy);
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+
+import java.util.List;
+
+/**
+ * Strategy used by {@link ValidatorField#build()} to run the rules of a single field.
+ *
+ * <p>Rules are usually a few nanoseconds each, so the default is to run them inline on the
+ * calling thread. Parallel execution only pays off for expensive rules.
+ *
+ * @see com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy
+ * @see com.herculanoleo.sentinelflow.validator.impl.ParallelExecutionStrategy
+ * @see com.herculanoleo.sentinelflow.validator.impl.AdaptiveExecutionStrategy
+ */
+public interface ExecutionStrategy {
+
+    /**
+     * Applies the rules to the value.
+     *
+     * <p>When {@link ShortCircuitPolicy#stopsFieldOnFailure()} is {@code true}, the returned list
+     * ends at the first failed rule.
+     *
+     * @param validations rules to apply, in insertion order
+     * @param value       captured field value
+     * @param policy      short-circuit policy of the current validation
+     * @param <V>         field value type
+     * @return one result per evaluated rule, in the same order as {@code validations}
+     */
+    <V> List<ValidationResult> execute(List<Validation<V>> validations, V value, ShortCircuitPolicy policy);
+
+    /**
+     * Returns the strategy that runs the rules of one field of a {@link CompiledValidator}.
+     *
+     * <p>Called once per field when the validator is compiled, for fields whose rules never
+     * change. Strategies that keep state about the rules of a field return a new instance; the
+     * default returns this strategy.
+     *
+     * @param validations rules of the field, in insertion order
+     * @param <V>         field value type
+     * @return strategy used for every evaluation of the field
+     */
+    default <V> ExecutionStrategy forRules(List<Validation<V>> validations) {
+        return this;
+    }
+
+}
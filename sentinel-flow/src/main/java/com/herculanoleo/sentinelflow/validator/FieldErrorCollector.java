@@ -0,0 +1,108 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.models.Violations;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Accumulates the failed rules of each field in a single pass.
+ *
+ * <p>Used by validator implementations while iterating their fields; lists are only allocated
+ * once a rule fails, so a passing object allocates nothing here. Failures of rules that report
+ * paths, such as element rules, are listed under the field name followed by the path
+ * ({@code items[42].sku}), after the messages of the field itself.
+ */
+public final class FieldErrorCollector {
+
+    private final ShortCircuitPolicy policy;
+
+    private List<ValidatorFieldErrorMessages> errors;
+
+    /**
+     * Creates an empty collector.
+     *
+     * @param policy short-circuit policy of the current validation
+     */
+    public FieldErrorCollector(ShortCircuitPolicy policy) {
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Records the failed rules of a field.
+     *
+     * @param result aggregated result of a field
+     * @return {@code true} when the next field should be evaluated
+     */
+    public boolean add(Result<?> result) {
+        if (result.results().isEmpty()) {
+            return true;
+        }
+        String name = result.field().name();
+        List<String> messages = null;
+        Map<String, List<String>> paths = null;
+        for (ValidationResult validationResult : result.results()) {
+            if (validationResult.valid()) {
+                continue;
+            }
+            if (null == validationResult.path() && validationResult.details().isEmpty()) {
+                if (null == messages) {
+                    messages = new ArrayList<>();
+                }
+                messages.add(validationResult.message());
+            } else {
+                if (null == paths) {
+                    paths = new LinkedHashMap<>();
+                }
+                addPaths(name, validationResult, paths);
+            }
+        }
+
+        if (null == messages && null == paths) {
+            return true;
+        }
+
+        if (null == errors) {
+            errors = new ArrayList<>();
+        }
+        if (null != messages) {
+            errors.add(new ValidatorFieldErrorMessages(name, messages));
+        }
+        if (null != paths) {
+            paths.forEach((path, pathMessages) -> errors.add(new ValidatorFieldErrorMessages(path, pathMessages)));
+        }
+        return !policy.stopsValidatorOnFailure();
+    }
+
+    /**
+     * Returns the recorded failures.
+     *
+     * @return recorded violations, or {@link Violations#valid()} when every field passed
+     */
+    public Violations toViolations() {
+        return null == errors ? Violations.valid() : new Violations(errors);
+    }
+
+    /**
+     * Groups the messages of a result and its details by full path, in the order they were reported.
+     */
+    private static void addPaths(String parent, ValidationResult result, Map<String, List<String>> paths) {
+        String path = null == result.path() ? parent : parent + result.path();
+        if (result.details().isEmpty()) {
+            paths.computeIfAbsent(path, ignored -> new ArrayList<>()).add(result.message());
+            return;
+        }
+        for (ValidationResult detail : result.details()) {
+            if (!detail.valid()) {
+                addPaths(path, detail, paths);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.validations.Validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Adapts a {@link CompiledValidator} to a {@link Validation} of the nested object.
+ *
+ * <p>Each violation of the nested object becomes a detail whose path is {@code .fieldName}, so
+ * the enclosing validator reports it as {@code address.zipCode}. Paths are only built for
+ * violations; a valid nested object returns a shared result.
+ *
+ * @param <V> nested object type
+ */
+final class NestedValidation<V> implements Validation<V> {
+
+    private static final ValidationResult VALID = new ValidationResult(true, null);
+
+    private final CompiledValidator<V> validator;
+
+    private final ShortCircuitPolicy policy;
+
+    NestedValidation(CompiledValidator<V> validator, ShortCircuitPolicy policy) {
+        this.validator = Objects.requireNonNull(validator);
+        this.policy = Objects.requireNonNull(policy);
+    }
+
+    @Override
+    public ValidationResult validate(V value) {
+        if (null == value) {
+            return VALID;
+        }
+        var violations = validator.validateToResult(value, policy);
+        if (violations.isValid()) {
+            return VALID;
+        }
+
+        List<ValidationResult> details = new ArrayList<>();
+        for (ValidatorFieldErrorMessages fieldError : violations.fieldErrors()) {
+            var path = "." + fieldError.fieldName();
+            for (String message : fieldError.messages()) {
+                details.add(new ValidationResult(false, message, path, List.of()));
+            }
+        }
+        return ValidationResult.ofDetails(details);
+    }
+
+}
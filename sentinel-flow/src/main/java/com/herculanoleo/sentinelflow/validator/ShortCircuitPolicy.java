@@ -0,0 +1,35 @@
+package com.herculanoleo.sentinelflow.validator;
+
+/**
+ * Controls how much of a validator is evaluated once a rule fails.
+ */
+public enum ShortCircuitPolicy {
+
+    /** Evaluates every rule of every field and reports all failures. */
+    ALL,
+
+    /** Stops evaluating a field at its first failed rule, then continues with the next field. */
+    FIRST_PER_FIELD,
+
+    /** Stops the whole validation at the first failed rule. */
+    FIRST_OVERALL;
+
+    /**
+     * Returns whether the remaining rules of a field are skipped after a rule fails.
+     *
+     * @return {@code true} for {@link #FIRST_PER_FIELD} and {@link #FIRST_OVERALL}
+     */
+    public boolean stopsFieldOnFailure() {
+        return this != ALL;
+    }
+
+    /**
+     * Returns whether the remaining fields are skipped after a field fails.
+     *
+     * @return {@code true} for {@link #FIRST_OVERALL}
+     */
+    public boolean stopsValidatorOnFailure() {
+        return this == FIRST_OVERALL;
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * Execution options for the {@code validateStream} methods of {@link CompiledValidator}.
+ *
+ * <p>At most {@code maxInFlight} objects are read from the source and not yet emitted at any
+ * time, which bounds both memory and the number of objects validated concurrently. Ordered
+ * streams emit objects in source order; unordered streams emit them as soon as they are
+ * validated, so a slow object does not hold back the ones behind it.
+ *
+ * @param policy      short-circuit policy applied to each object
+ * @param executor    executor that validates the objects, or {@code null} to validate on the thread that reads the source
+ * @param maxInFlight maximum number of objects read from the source and not yet emitted
+ * @param ordered     whether objects are emitted in source order
+ */
+public record StreamingOptions(
+        ShortCircuitPolicy policy,
+        Executor executor,
+        int maxInFlight,
+        boolean ordered
+) {
+
+    /**
+     * Validates the options.
+     *
+     * @throws IllegalArgumentException when {@code maxInFlight} is less than one
+     */
+    public StreamingOptions {
+        Objects.requireNonNull(policy);
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than zero");
+        }
+    }
+
+    /**
+     * Returns options that validate each object on the thread that reads the source.
+     *
+     * @return ordered options with {@link ShortCircuitPolicy#ALL} and {@link Flow#defaultBufferSize()} objects in flight
+     */
+    public static StreamingOptions sequential() {
+        return new StreamingOptions(ShortCircuitPolicy.ALL, null, Flow.defaultBufferSize(), true);
+    }
+
+    /**
+     * Returns options that validate objects concurrently and emit them in source order.
+     *
+     * @param executor    executor that validates the objects
+     * @param maxInFlight maximum number of objects read from the source and not yet emitted
+     * @return ordered parallel options with {@link ShortCircuitPolicy#ALL}
+     */
+    public static StreamingOptions parallel(Executor executor, int maxInFlight) {
+        return new StreamingOptions(ShortCircuitPolicy.ALL, Objects.requireNonNull(executor), maxInFlight, true);
+    }
+
+    /**
+     * Returns a copy of these options with another short-circuit policy.
+     *
+     * @param policy short-circuit policy applied to each object
+     * @return new options
+     */
+    public StreamingOptions withPolicy(ShortCircuitPolicy policy) {
+        return new StreamingOptions(policy, executor, maxInFlight, ordered);
+    }
+
+    /**
+     * Returns a copy of these options with another ordering mode.
+     *
+     * @param ordered whether objects are emitted in source order
+     * @return new options
+     */
+    public StreamingOptions withOrdered(boolean ordered) {
+        return new StreamingOptions(policy, executor, maxInFlight, ordered);
+    }
+
+    /**
+     * Returns whether objects are validated on an executor.
+     *
+     * @return {@code true} when an executor is configured
+     */
+    public boolean isParallel() {
+        return null != executor;
+    }
+
+}
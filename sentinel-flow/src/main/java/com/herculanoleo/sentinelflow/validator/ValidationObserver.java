@@ -0,0 +1,83 @@
+package com.herculanoleo.sentinelflow.validator;
+
+/**
+ * Receives the timings and outcomes of validations, for metrics and profiling.
+ *
+ * <p>Validators ask {@link #isSampled()} once per validation; when it returns {@code false}
+ * the validation runs the uninstrumented path, so a disabled observer costs one call. Sampled
+ * validations report every evaluated rule, then its field, then the validator, all on the
+ * validating thread. Asynchronous rules are not reported.
+ *
+ * <p>Validators are named after the simple name of the validated type. Rules are named by
+ * {@link com.herculanoleo.sentinelflow.validations.Validation#name()}, or by their position in
+ * the field ({@code #0}, {@code #1}, ...) when they have no name.
+ *
+ * @see com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl
+ * @see com.herculanoleo.sentinelflow.validator.impl.JfrValidationObserver
+ */
+public interface ValidationObserver {
+
+    /**
+     * Returns the observer that samples nothing.
+     *
+     * @return disabled observer
+     */
+    static ValidationObserver none() {
+        return ValidationObservers.NONE;
+    }
+
+    /**
+     * Returns an observer that reports a random fraction of the validations to another one.
+     *
+     * @param observer observer receiving the sampled validations
+     * @param rate     fraction of validations to sample, from {@code 0.0} to {@code 1.0}
+     * @return sampling observer
+     * @throws IllegalArgumentException when {@code rate} is not between {@code 0.0} and {@code 1.0}
+     */
+    static ValidationObserver sampled(ValidationObserver observer, double rate) {
+        return ValidationObservers.sampled(observer, rate);
+    }
+
+    /**
+     * Returns whether the validation about to start should be reported.
+     *
+     * @return {@code true} to report the validation
+     */
+    default boolean isSampled() {
+        return true;
+    }
+
+    /**
+     * Called after a rule was evaluated.
+     *
+     * @param validator validator name
+     * @param field     field name
+     * @param rule      rule name
+     * @param valid     whether the rule passed
+     * @param nanos     evaluation time in nanoseconds
+     */
+    default void onRule(String validator, String field, String rule, boolean valid, long nanos) {
+    }
+
+    /**
+     * Called after the rules of a field were evaluated.
+     *
+     * @param validator validator name
+     * @param field     field name
+     * @param valid     whether every evaluated rule of the field passed
+     * @param nanos     time to capture the value and evaluate the rules, in nanoseconds
+     */
+    default void onField(String validator, String field, boolean valid, long nanos) {
+    }
+
+    /**
+     * Called after a validation finished.
+     *
+     * @param validator validator name
+     * @param valid     whether the object passed every evaluated rule
+     * @param nanos     validation time in nanoseconds
+     */
+    default void onValidator(String validator, boolean valid, long nanos) {
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Implementations behind the {@link ValidationObserver} factory methods.
+ */
+final class ValidationObservers {
+
+    static final ValidationObserver NONE = new ValidationObserver() {
+        @Override
+        public boolean isSampled() {
+            return false;
+        }
+    };
+
+    private ValidationObservers() {
+    }
+
+    static ValidationObserver sampled(ValidationObserver observer, double rate) {
+        Objects.requireNonNull(observer);
+        if (!(rate >= 0.0 && rate <= 1.0)) {
+            throw new IllegalArgumentException("rate must be between 0.0 and 1.0");
+        }
+        if (rate == 0.0) {
+            return NONE;
+        }
+        return rate == 1.0 ? observer : new Sampled(observer, rate);
+    }
+
+    /**
+     * Samples each validation independently with {@link ThreadLocalRandom}, which needs no
+     * coordination between validating threads.
+     */
+    private record Sampled(ValidationObserver observer, double rate) implements ValidationObserver {
+
+        @Override
+        public boolean isSampled() {
+            return ThreadLocalRandom.current().nextDouble() < rate && observer.isSampled();
+        }
+
+        @Override
+        public void onRule(String validator, String field, String rule, boolean valid, long nanos) {
+            observer.onRule(validator, field, rule, valid, nanos);
+        }
+
+        @Override
+        public void onField(String validator, String field, boolean valid, long nanos) {
+            observer.onField(validator, field, valid, nanos);
+        }
+
+        @Override
+        public void onValidator(String validator, boolean valid, long nanos) {
+            observer.onValidator(validator, valid, nanos);
+        }
+
+    }
+
+}
@@ -1,7 +1,10 @@
 package com.herculanoleo.sentinelflow.validator;
 
 import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.FieldValues;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -17,6 +20,10 @@ public interface Validator<V> {
     /**
      * Starts validation for a field extracted from the object.
      *
+     * <p>A capture that throws {@link NullPointerException} or {@link java.util.NoSuchElementException}
+     * yields a {@code null} value; for accessor chains prefer {@link Captures#path}, which returns
+     * {@code null} at the first missing step without throwing.
+     *
      * @param fieldName field name used in error messages
      * @param capture   function that extracts the field value from the object
      * @param <R>       field value type
@@ -24,6 +31,23 @@ public interface Validator<V> {
      */
     <R> ValidatorAddValidation<V, R> field(String fieldName, Function<V, R> capture);
 
+    /**
+     * Adds a field holding a nested object validated by its own compiled validator.
+     *
+     * <p>Violations of the nested object are reported under {@code fieldName.nestedField}, for
+     * example {@code address.zipCode}. A {@code null} nested object is valid; use
+     * {@link #field(String, Function)} with an {@code isNotNull} rule when it is required.
+     *
+     * @param fieldName field name used as the prefix of nested violations
+     * @param capture   function that extracts the nested object
+     * @param validator validator of the nested object
+     * @param <R>       nested object type
+     * @return this validator
+     */
+    default <R> Validator<V> nested(String fieldName, Function<V, R> capture, CompiledValidator<R> validator) {
+        return field(fieldName, capture).add(validator.asValidation()).end();
+    }
+
     /**
      * Registers a pre-built field validator.
      *
@@ -32,11 +56,69 @@ public interface Validator<V> {
      */
     <R> void addValidatorField(ValidatorField<R> validatorField);
 
+    /**
+     * Returns the values captured for the fields registered in this validator.
+     *
+     * <p>The view is live: fields registered later are visible once they are added.
+     *
+     * @return view of the captured values, keyed by field name
+     */
+    FieldValues values();
+
     /**
      * Runs all registered field validations.
      *
      * @throws ValidatorException when any field fails validation
      */
-    void validate() throws ValidatorException;
+    default void validate() throws ValidatorException {
+        validate(ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Runs the registered field validations, stopping early according to the policy.
+     *
+     * @param policy how much to evaluate once a rule fails
+     * @throws ValidatorException when any field fails validation
+     */
+    void validate(ShortCircuitPolicy policy) throws ValidatorException;
+
+    /**
+     * Runs all registered field validations without throwing.
+     *
+     * @return violations of the object; {@link Violations#isValid()} is {@code true} when every rule passed
+     */
+    default Violations validateToResult() {
+        return validateToResult(ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Runs the registered field validations without throwing, stopping early according to the policy.
+     *
+     * @param policy how much to evaluate once a rule fails
+     * @return violations of the object; {@link Violations#isValid()} is {@code true} when every rule passed
+     */
+    Violations validateToResult(ShortCircuitPolicy policy);
+
+    /**
+     * Runs all registered field validations, running asynchronous rules concurrently.
+     *
+     * @return stage completed with the violations of the object
+     */
+    default CompletableFuture<Violations> validateAsync() {
+        return validateAsync(ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Runs the registered field validations, running asynchronous rules concurrently and
+     * stopping early according to the policy.
+     *
+     * <p>Synchronous rules run on the calling thread; the asynchronous rules of every field are
+     * then started together, so the returned stage completes after the slowest of them. The
+     * stage completes exceptionally when a rule throws or completes exceptionally.
+     *
+     * @param policy how much to evaluate once a rule fails
+     * @return stage completed with the violations of the object
+     */
+    CompletableFuture<Violations> validateAsync(ShortCircuitPolicy policy);
 
 }
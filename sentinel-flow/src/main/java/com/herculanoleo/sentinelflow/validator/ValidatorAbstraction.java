@@ -3,12 +3,16 @@ package com.herculanoleo.sentinelflow.validator;
 import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
 import com.herculanoleo.sentinelflow.exceptions.ValidatorFieldAddedException;
 import com.herculanoleo.sentinelflow.models.Field;
-import com.herculanoleo.sentinelflow.models.ValidationResult;
-import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.FieldValues;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -25,7 +29,16 @@ public abstract class ValidatorAbstraction<E> implements Validator<E> {
     protected final E value;
 
     /** Registered field validators in insertion order. */
-    protected final List<ValidatorField<?>> validatorFields = new LinkedList<>();
+    protected final List<ValidatorField<?>> validatorFields = new ArrayList<>();
+
+    /** Registered field validators indexed by field name, used to reject duplicates in constant time. */
+    private final Map<String, ValidatorField<?>> validatorFieldsByName = new HashMap<>();
+
+    /** Whether thrown {@link ValidatorException}s fill in their stack trace. */
+    protected final boolean writableStackTrace;
+
+    /** Observer of the timings and outcomes of validations. */
+    protected final ValidationObserver observer;
 
     /**
      * Creates a validator for the given object.
@@ -33,7 +46,30 @@ public abstract class ValidatorAbstraction<E> implements Validator<E> {
      * @param value object to validate
      */
     public ValidatorAbstraction(E value) {
+        this(value, true);
+    }
+
+    /**
+     * Creates a validator for the given object.
+     *
+     * @param value              object to validate
+     * @param writableStackTrace whether thrown {@link ValidatorException}s fill in their stack trace
+     */
+    public ValidatorAbstraction(E value, boolean writableStackTrace) {
+        this(value, writableStackTrace, ValidationObserver.none());
+    }
+
+    /**
+     * Creates a validator for the given object.
+     *
+     * @param value              object to validate
+     * @param writableStackTrace whether thrown {@link ValidatorException}s fill in their stack trace
+     * @param observer           observer of the timings and outcomes of validations
+     */
+    public ValidatorAbstraction(E value, boolean writableStackTrace, ValidationObserver observer) {
         this.value = value;
+        this.writableStackTrace = writableStackTrace;
+        this.observer = Objects.requireNonNull(observer);
     }
 
     /**
@@ -65,11 +101,8 @@ public abstract class ValidatorAbstraction<E> implements Validator<E> {
      * @throws ValidatorFieldAddedException when a field with the same name was already added
      */
     public <V> void addValidatorField(ValidatorField<V> validatorField) {
-        var fieldOp = this.validatorFields.stream()
-                .filter(v -> v.equalsField(validatorField))
-                .findFirst();
-
-        if (fieldOp.isPresent()) {
+        var name = validatorField.getField().name();
+        if (validatorFieldsByName.putIfAbsent(name, validatorField) != null) {
             throw new ValidatorFieldAddedException(validatorField.getField());
         }
 
@@ -77,31 +110,105 @@ public abstract class ValidatorAbstraction<E> implements Validator<E> {
     }
 
     /**
-     * Runs all field validations and throws when any rule fails.
+     * Returns a live view of the values captured for the registered fields.
+     */
+    @Override
+    public FieldValues values() {
+        return new FieldValues() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> T get(String fieldName) {
+                var validatorField = validatorFieldsByName.get(fieldName);
+                if (null == validatorField) {
+                    throw new IllegalArgumentException("no field named " + fieldName);
+                }
+                return (T) validatorField.getField().value();
+            }
+        };
+    }
+
+    /**
+     * Runs the field validations and throws when any rule fails.
      *
      * @throws ValidatorException with per-field error messages
      */
-    public void validate() throws ValidatorException {
-        var invalids = this.validatorFields.stream()
-                .map(ValidatorField::build)
-                .filter(result -> !result.results()
-                        .stream()
-                        .allMatch(ValidationResult::valid)
-                )
-                .toList();
-
-        if (!invalids.isEmpty()) {
-            var errors = invalids.stream()
-                    .map(result -> new ValidatorFieldErrorMessages(
-                            result.field().name(),
-                            result.results().stream()
-                                    .filter(r -> !r.valid())
-                                    .map(ValidationResult::message)
-                                    .toList()
-                    ))
-                    .toList();
-            throw new ValidatorException("there are invalid fields", errors);
+    public void validate(ShortCircuitPolicy policy) throws ValidatorException {
+        var violations = validateToResult(policy);
+        if (!violations.isValid()) {
+            throw new ValidatorException(violations, writableStackTrace);
         }
     }
 
+    /**
+     * Runs the field validations in a single pass and collects the failures.
+     */
+    public Violations validateToResult(ShortCircuitPolicy policy) {
+        if (hasAsyncValidations()) {
+            return collectAsync(policy).await();
+        }
+        if (observer.isSampled()) {
+            return validateObserved(policy);
+        }
+
+        var collector = new FieldErrorCollector(policy);
+        for (var validatorField : this.validatorFields) {
+            if (!collector.add(validatorField.build(policy))) {
+                break;
+            }
+        }
+        return collector.toViolations();
+    }
+
+    /**
+     * Runs the field validations like {@link #validateToResult(ShortCircuitPolicy)}, reporting
+     * rules, fields and the validator to the observer.
+     */
+    private Violations validateObserved(ShortCircuitPolicy policy) {
+        long start = System.nanoTime();
+        String name = null == value ? "null" : value.getClass().getSimpleName();
+        var collector = new FieldErrorCollector(policy);
+        for (var validatorField : this.validatorFields) {
+            long fieldStart = System.nanoTime();
+            var result = validatorField.build(policy, observer, name);
+            observer.onField(name, result.field().name(), result.isValid(), System.nanoTime() - fieldStart);
+            if (!collector.add(result)) {
+                break;
+            }
+        }
+        var violations = collector.toViolations();
+        observer.onValidator(name, violations.isValid(), System.nanoTime() - start);
+        return violations;
+    }
+
+    /**
+     * Runs the synchronous rules on the calling thread and the asynchronous rules concurrently.
+     */
+    public CompletableFuture<Violations> validateAsync(ShortCircuitPolicy policy) {
+        return collectAsync(policy).toViolations();
+    }
+
+    private boolean hasAsyncValidations() {
+        for (var validatorField : this.validatorFields) {
+            if (!validatorField.getAsyncValidations().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private AsyncFieldErrorCollector collectAsync(ShortCircuitPolicy policy) {
+        var collector = new AsyncFieldErrorCollector(policy);
+        for (var validatorField : this.validatorFields) {
+            if (!addAsync(collector, validatorField, policy)) {
+                break;
+            }
+        }
+        return collector;
+    }
+
+    private static <V> boolean addAsync(AsyncFieldErrorCollector collector, ValidatorField<V> validatorField,
+                                        ShortCircuitPolicy policy) {
+        return collector.add(validatorField.build(policy), validatorField.getAsyncValidations());
+    }
+
 }
@@ -1,7 +1,17 @@
 package com.herculanoleo.sentinelflow.validator;
 
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
+import com.herculanoleo.sentinelflow.validations.CrossFieldValidation;
+import com.herculanoleo.sentinelflow.validations.FieldValues;
 import com.herculanoleo.sentinelflow.validations.Validation;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
 /**
  * Fluent step for attaching validation rules to a single field.
  *
@@ -18,6 +28,90 @@ public interface ValidatorAddValidation<E, V> {
      */
     ValidatorAddValidation<E, V> add(Validation<V> validation);
 
+    /**
+     * Adds an asynchronous validation rule to the current field.
+     *
+     * <p>Asynchronous rules run after the field's synchronous rules and concurrently with the
+     * asynchronous rules of other fields.
+     *
+     * @param validation rule to apply
+     * @return this step for chaining more rules
+     */
+    ValidatorAddValidation<E, V> addAsync(AsyncValidation<V> validation);
+
+    /**
+     * Adds an asynchronous validation rule that fails with the given message when it does not
+     * complete in time.
+     *
+     * @param validation     rule to apply
+     * @param timeout        maximum time to wait for the rule
+     * @param timeoutMessage error message used on timeout
+     * @return this step for chaining more rules
+     */
+    default ValidatorAddValidation<E, V> addAsync(AsyncValidation<V> validation, Duration timeout, String timeoutMessage) {
+        return addAsync(validation.withTimeout(timeout, timeoutMessage));
+    }
+
+    /**
+     * Adds rules applied only when the condition holds for the validated object, such as
+     * rules of a {@code cnpj} field that only apply to companies.
+     *
+     * <p>The condition is tested once, against the object given to the validator; when it does
+     * not hold the rules are not added.
+     *
+     * @param condition   test of the validated object
+     * @param validations rules applied when the condition holds
+     * @return this step for chaining more rules
+     */
+    ValidatorAddValidation<E, V> when(Predicate<? super E> condition, List<Validation<V>> validations);
+
+    /**
+     * Adds a rule applied only when the condition holds for the validated object.
+     *
+     * @param condition  test of the validated object
+     * @param validation rule applied when the condition holds
+     * @return this step for chaining more rules
+     * @see #when(Predicate, List)
+     */
+    default ValidatorAddValidation<E, V> when(Predicate<? super E> condition, Validation<V> validation) {
+        return when(condition, List.of(validation));
+    }
+
+    /**
+     * Adds a rule that reads the values of other fields of the object.
+     *
+     * <p>Other fields are looked up by name in {@link FieldValues}, which returns the values the
+     * validator has already captured rather than extracting them again.
+     *
+     * @param validation rule applied to the field value and the values of the other fields
+     * @return this step for chaining more rules
+     */
+    ValidatorAddValidation<E, V> constraint(CrossFieldValidation<V> validation);
+
+    /**
+     * Adds a rule comparing the field value with the value of another field, such as an end
+     * date that must follow a start date.
+     *
+     * <p>The rule passes when either value is {@code null}, leaving required values to rules
+     * such as {@code isNotNull}.
+     *
+     * @param otherField name of the other field
+     * @param test       test of the field value and the other value
+     * @param message    error message when the test fails
+     * @param <A>        other field value type
+     * @return this step for chaining more rules
+     */
+    default <A> ValidatorAddValidation<E, V> constraint(String otherField, BiPredicate<? super V, ? super A> test, String message) {
+        Objects.requireNonNull(otherField);
+        Objects.requireNonNull(test);
+        var valid = new ValidationResult(true, null);
+        var invalid = new ValidationResult(false, message);
+        return constraint((value, fields) -> {
+            A other = fields.get(otherField);
+            return null == value || null == other || test.test(value, other) ? valid : invalid;
+        });
+    }
+
     /**
      * Finishes the current field and returns to the parent validator.
      *
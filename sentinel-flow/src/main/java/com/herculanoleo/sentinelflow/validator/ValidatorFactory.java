@@ -16,4 +16,29 @@ public interface ValidatorFactory {
      */
     <V> Validator<V> create(V value);
 
+    /**
+     * Starts a reusable validator schema for the given type.
+     *
+     * <p>The resulting {@link CompiledValidator} is not bound to an object, so it can be built
+     * once and shared across threads.
+     *
+     * @param type object type
+     * @param <V>  object type
+     * @return schema builder for the given type
+     */
+    <V> ValidatorSchema<V> schema(Class<V> type);
+
+    /**
+     * Returns whether validation exceptions thrown by validators of this factory fill in their
+     * stack trace.
+     *
+     * <p>Validation routines that do not build their validators through this factory, such as
+     * the validators generated at compile time, use it when they throw.
+     *
+     * @return {@code true} when thrown validation exceptions have a stack trace
+     */
+    default boolean isWritableStackTrace() {
+        return true;
+    }
+
 }
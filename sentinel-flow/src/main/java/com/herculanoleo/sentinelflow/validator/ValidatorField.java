@@ -2,9 +2,12 @@ package com.herculanoleo.sentinelflow.validator;
 
 import com.herculanoleo.sentinelflow.models.Field;
 import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.List;
+
 /**
  * A field with an ordered list of validation rules.
  *
@@ -26,12 +29,50 @@ public interface ValidatorField<V> {
      */
     void addValidation(Validation<V> validation);
 
+    /**
+     * Adds an asynchronous validation rule to this field.
+     *
+     * @param validation rule to apply
+     */
+    void addAsyncValidation(AsyncValidation<V> validation);
+
+    /**
+     * Returns the asynchronous rules of this field, in insertion order.
+     *
+     * @return asynchronous rules, empty when there are none
+     */
+    List<AsyncValidation<V>> getAsyncValidations();
+
     /**
      * Runs all rules and returns the aggregated result.
      *
      * @return aggregated validation result for this field
      */
-    Result<V> build();
+    default Result<V> build() {
+        return build(ShortCircuitPolicy.ALL);
+    }
+
+    /**
+     * Runs the rules according to the policy and returns the aggregated result.
+     *
+     * @param policy short-circuit policy of the current validation
+     * @return aggregated validation result for this field
+     */
+    Result<V> build(ShortCircuitPolicy policy);
+
+    /**
+     * Runs the rules according to the policy, reporting each evaluated rule to the observer.
+     *
+     * <p>The default implementation does not report rules.
+     *
+     * @param policy    short-circuit policy of the current validation
+     * @param observer  observer of the current, sampled validation
+     * @param validator validator name
+     * @return aggregated validation result for this field
+     */
+    default Result<V> build(ShortCircuitPolicy policy, ValidationObserver observer, String validator) {
+        return build(policy);
+    }
 
     /**
      * Compares two fields by name.
@@ -0,0 +1,130 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.validations.DoubleValidation;
+import com.herculanoleo.sentinelflow.validations.IntValidation;
+import com.herculanoleo.sentinelflow.validations.LongValidation;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Fluent builder for a {@link CompiledValidator}.
+ *
+ * <p>Uses the same {@code field(...).add(...).end()} chain as {@link Validator}, but is not bound
+ * to an object: fields are extracted from each object passed to {@link CompiledValidator#validate(Object)}.
+ *
+ * @param <V> the type of object being validated
+ */
+public interface ValidatorSchema<V> {
+
+    /**
+     * Starts the rules for a field extracted from the validated object.
+     *
+     * <p>A capture that throws {@link NullPointerException} or {@link java.util.NoSuchElementException}
+     * yields a {@code null} value; for accessor chains prefer {@link Captures#path}, which returns
+     * {@code null} at the first missing step without throwing.
+     *
+     * @param fieldName field name used in error messages
+     * @param capture   function that extracts the field value from the object
+     * @param <R>       field value type
+     * @return fluent step to add validation rules
+     */
+    <R> ValidatorSchemaField<V, R> field(String fieldName, Function<V, R> capture);
+
+    /**
+     * Starts the rules for an {@code int} field extracted from the validated object.
+     *
+     * <p>When every rule of the field is an {@link IntValidation}, such as
+     * {@code validations.min(18, "...")}, the compiled validator captures and checks the value
+     * without boxing it and does not allocate while it is valid; valid results of such a field
+     * carry a {@code null} value. Fields with other rules, or with conditional, cross-field or
+     * asynchronous rules, validate the boxed value as {@link #field(String, Function)} does.
+     *
+     * <p>The capture must read a primitive value. When the field is checked unboxed, an
+     * exception thrown by the capture, such as a {@link NullPointerException} from unboxing a
+     * {@code null} wrapper, propagates instead of validating {@code null}; register nullable
+     * wrappers with {@link #field(String, Function)}.
+     *
+     * @param fieldName field name used in error messages
+     * @param capture   function that extracts the field value from the object
+     * @return fluent step to add validation rules
+     */
+    default ValidatorSchemaField<V, Integer> intField(String fieldName, ToIntFunction<V> capture) {
+        Objects.requireNonNull(capture);
+        return field(fieldName, object -> capture.applyAsInt(object));
+    }
+
+    /**
+     * Starts the rules for a {@code long} field extracted from the validated object.
+     *
+     * <p>When every rule of the field is a {@link LongValidation}, such as
+     * {@code validations.between(0L, 1_000L, "...")}, the compiled validator captures and checks the value
+     * without boxing it and does not allocate while it is valid; valid results of such a field
+     * carry a {@code null} value. Fields with other rules, or with conditional, cross-field or
+     * asynchronous rules, validate the boxed value as {@link #field(String, Function)} does.
+     *
+     * <p>The capture must read a primitive value. When the field is checked unboxed, an
+     * exception thrown by the capture, such as a {@link NullPointerException} from unboxing a
+     * {@code null} wrapper, propagates instead of validating {@code null}; register nullable
+     * wrappers with {@link #field(String, Function)}.
+     *
+     * @param fieldName field name used in error messages
+     * @param capture   function that extracts the field value from the object
+     * @return fluent step to add validation rules
+     */
+    default ValidatorSchemaField<V, Long> longField(String fieldName, ToLongFunction<V> capture) {
+        Objects.requireNonNull(capture);
+        return field(fieldName, object -> capture.applyAsLong(object));
+    }
+
+    /**
+     * Starts the rules for a {@code double} field extracted from the validated object.
+     *
+     * <p>When every rule of the field is a {@link DoubleValidation}, such as
+     * {@code validations.gt(0.0, "...")}, the compiled validator captures and checks the value
+     * without boxing it and does not allocate while it is valid; valid results of such a field
+     * carry a {@code null} value. Fields with other rules, or with conditional, cross-field or
+     * asynchronous rules, validate the boxed value as {@link #field(String, Function)} does.
+     *
+     * <p>The capture must read a primitive value. When the field is checked unboxed, an
+     * exception thrown by the capture, such as a {@link NullPointerException} from unboxing a
+     * {@code null} wrapper, propagates instead of validating {@code null}; register nullable
+     * wrappers with {@link #field(String, Function)}.
+     *
+     * @param fieldName field name used in error messages
+     * @param capture   function that extracts the field value from the object
+     * @return fluent step to add validation rules
+     */
+    default ValidatorSchemaField<V, Double> doubleField(String fieldName, ToDoubleFunction<V> capture) {
+        Objects.requireNonNull(capture);
+        return field(fieldName, object -> capture.applyAsDouble(object));
+    }
+
+    /**
+     * Adds a field holding a nested object validated by its own compiled validator.
+     *
+     * <p>Violations of the nested object are reported under {@code fieldName.nestedField}, for
+     * example {@code address.zipCode}. A {@code null} nested object is valid; use
+     * {@link #field(String, Function)} with an {@code isNotNull} rule when it is required.
+     *
+     * @param fieldName field name used as the prefix of nested violations
+     * @param capture   function that extracts the nested object
+     * @param validator validator of the nested object
+     * @param <R>       nested object type
+     * @return this schema
+     */
+    default <R> ValidatorSchema<V> nested(String fieldName, Function<V, R> capture, CompiledValidator<R> validator) {
+        return field(fieldName, capture).add(validator.asValidation()).end();
+    }
+
+    /**
+     * Builds an immutable validator with the fields registered so far.
+     *
+     * @return compiled validator
+     */
+    CompiledValidator<V> compile();
+
+}
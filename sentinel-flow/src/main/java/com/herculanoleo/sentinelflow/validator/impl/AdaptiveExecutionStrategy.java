@@ -0,0 +1,79 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.util.List;
+
+/**
+ * Runs the rules of each field of a compiled validator in an order learned from their cost and
+ * failure rate.
+ *
+ * <p>On one call in {@code sampleInterval}, every rule of the field runs in insertion order and
+ * is timed, and striped counters accumulate the time spent in each rule and how often it failed;
+ * other calls only read the current order. About once every {@code replanInterval} calls the
+ * rules are reordered so that, when the policy stops fields on failure, cheap rules that are
+ * likely to fail run before expensive ones: a {@code lengthEq} that rejects most bad input runs
+ * before a {@code cpf} check created with the same message. Under {@link ShortCircuitPolicy#ALL}
+ * every rule runs in insertion order.
+ *
+ * <p>Reported violations are the same as with {@link SequentialExecutionStrategy}: only
+ * consecutive rules that have always failed with the same message are moved, and only among
+ * themselves, so whichever of them fails first reports what the first failed rule in insertion
+ * order would have reported. Rules with different messages, or whose message depends on the
+ * value, keep their place. A rule that later fails with another message is no longer moved, and
+ * the rules skipped before it are run in insertion order to find the violation to report; a
+ * moved rule that throws is no longer moved either, and the field is validated again in
+ * insertion order. The results of a field are returned in insertion order, ending at the failed
+ * rule; rules that were skipped because a rule of their block failed first have no result.
+ *
+ * <p>Fields of {@link com.herculanoleo.sentinelflow.validator.Validator} instances, and fields
+ * with conditional or cross-field rules, run sequentially.
+ */
+public class AdaptiveExecutionStrategy implements ExecutionStrategy {
+
+    private final int replanInterval;
+
+    private final int sampleInterval;
+
+    private final ExecutionStrategy sequential = new SequentialExecutionStrategy();
+
+    /**
+     * Creates an adaptive strategy that replans about every 1024 calls of a field and times one
+     * call in 16.
+     */
+    public AdaptiveExecutionStrategy() {
+        this(1024, 16);
+    }
+
+    /**
+     * Creates an adaptive strategy.
+     *
+     * @param replanInterval average number of calls of a field between two reorderings of its rules
+     * @param sampleInterval average number of calls of a field per timed call
+     * @throws IllegalArgumentException when an interval is less than one
+     */
+    public AdaptiveExecutionStrategy(int replanInterval, int sampleInterval) {
+        if (replanInterval < 1) {
+            throw new IllegalArgumentException("replanInterval must be greater than zero");
+        }
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("sampleInterval must be greater than zero");
+        }
+        this.replanInterval = replanInterval;
+        this.sampleInterval = sampleInterval;
+    }
+
+    @Override
+    public <V> List<ValidationResult> execute(List<Validation<V>> validations, V value, ShortCircuitPolicy policy) {
+        return sequential.execute(validations, value, policy);
+    }
+
+    @Override
+    public <V> ExecutionStrategy forRules(List<Validation<V>> validations) {
+        return validations.size() < 2 ? sequential : new AdaptiveRulePlan(validations.size(), replanInterval, sampleInterval);
+    }
+
+}
@@ -0,0 +1,313 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+/**
+ * Execution order and statistics of the rules of one field, created by
+ * {@link AdaptiveExecutionStrategy#forRules(List)}.
+ *
+ * <p>The rules are split into blocks of consecutive rules, in insertion order. A block holds
+ * either one rule, or rules that have each failed at least {@link #LEARNING_FAILURES} times and
+ * always with the same message, without path or details. The failure first seen for each rule
+ * is kept per field and later failures are compared to it, so a rule whose message depends on
+ * the value stops being moved as soon as two messages differ. Blocks run in insertion order;
+ * the rules of a block run by increasing average cost divided by failure rate, ties keeping
+ * insertion order.
+ *
+ * <p>A rule moved ahead of earlier rules of its block may throw on a value those rules would have
+ * rejected, such as a length check placed after {@code isNotNull}. The rule then stops being
+ * moved and the field is validated again in insertion order.
+ */
+final class AdaptiveRulePlan implements ExecutionStrategy {
+
+    /** Failures with the same message, on sampled calls, needed before a rule is moved. */
+    static final int LEARNING_FAILURES = 8;
+
+    /** Failure result of a rule that failed with different results or threw when moved. */
+    private static final Object PINNED = new Object();
+
+    private final int size;
+
+    private final int sampleInterval;
+
+    /** Sampled calls per replan. */
+    private final int replanOdds;
+
+    private final LongAdder[] failures;
+
+    private final LongAdder[] nanos;
+
+    /** Per rule: {@code null} before its first failure, its first failure result, or {@link #PINNED}. */
+    private final AtomicReferenceArray<Object> failureResults;
+
+    private final AtomicBoolean replanning = new AtomicBoolean();
+
+    private final ExecutionStrategy sequential = new SequentialExecutionStrategy();
+
+    private volatile Plan plan;
+
+    AdaptiveRulePlan(int size, int replanInterval, int sampleInterval) {
+        this.size = size;
+        this.sampleInterval = sampleInterval;
+        this.replanOdds = Math.max(1, replanInterval / sampleInterval);
+        this.failures = counters(size);
+        this.nanos = counters(size);
+        this.failureResults = new AtomicReferenceArray<>(size);
+        this.plan = Plan.insertionOrder(size);
+    }
+
+    @Override
+    public <V> List<ValidationResult> execute(List<Validation<V>> validations, V value, ShortCircuitPolicy policy) {
+        if (validations.size() != size) {
+            return sequential.execute(validations, value, policy);
+        }
+
+        var random = ThreadLocalRandom.current();
+        if (random.nextInt(sampleInterval) != 0) {
+            return policy.stopsFieldOnFailure()
+                    ? executePlanned(validations, value, policy)
+                    : sequential.execute(validations, value, policy);
+        }
+
+        var results = executeSampled(validations, value, policy);
+        if (random.nextInt(replanOdds) == 0) {
+            replan();
+        }
+        return results;
+    }
+
+    /**
+     * Returns the current execution order, as rule positions in insertion order.
+     */
+    List<Integer> order() {
+        return Arrays.stream(plan.order()).boxed().toList();
+    }
+
+    /**
+     * Times every rule in insertion order, so that rules placed after a failing one are measured
+     * too, and reports the results up to the first failure when the policy stops fields on failure.
+     * A rule that throws after that failure is one the failed rule guards: it is pinned and the
+     * remaining rules are not timed.
+     */
+    private <V> List<ValidationResult> executeSampled(List<Validation<V>> validations, V value, ShortCircuitPolicy policy) {
+        var results = new ArrayList<ValidationResult>(size);
+        int reported = size;
+        for (int rule = 0; rule < size; rule++) {
+            long start = System.nanoTime();
+            ValidationResult result;
+            try {
+                result = validations.get(rule).validate(value);
+            } catch (RuntimeException e) {
+                if (reported == size) {
+                    throw e;
+                }
+                pin(rule);
+                break;
+            }
+            nanos[rule].add(System.nanoTime() - start);
+            results.add(result);
+            if (!result.valid()) {
+                learn(rule, result);
+                if (policy.stopsFieldOnFailure() && reported == size) {
+                    reported = rule + 1;
+                }
+            }
+        }
+        return reported == size ? results : results.subList(0, reported);
+    }
+
+    /**
+     * Runs the rules in the planned order up to the first failure, and returns the results of
+     * the rules that ran in insertion order. When a rule of a reordered block throws, the field is
+     * validated again in insertion order, which rethrows only if the rules guarding it pass.
+     */
+    private <V> List<ValidationResult> executePlanned(List<Validation<V>> validations, V value,
+                                                      ShortCircuitPolicy policy) {
+        var current = plan;
+        var results = new ValidationResult[size];
+        for (int position = 0; position < size; position++) {
+            int rule = current.order()[position];
+            var expected = current.expected()[position];
+            ValidationResult result;
+            try {
+                result = validations.get(rule).validate(value);
+            } catch (RuntimeException e) {
+                if (null == expected) {
+                    throw e;
+                }
+                pin(rule);
+                return sequential.execute(validations, value, policy);
+            }
+            results[rule] = result;
+            if (result.valid()) {
+                continue;
+            }
+            if (null != expected && !expected.equals(result)) {
+                pin(rule);
+                rule = firstFailure(validations, value, current, position, results);
+            }
+            return ran(results, rule);
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Runs, in insertion order, the rules of the block that were skipped and were inserted before
+     * the failed one.
+     *
+     * @return the first failed rule in insertion order
+     */
+    private <V> int firstFailure(List<Validation<V>> validations, V value, Plan current, int position,
+                                 ValidationResult[] results) {
+        int failed = current.order()[position];
+        int[] skipped = IntStream.range(position + 1, current.blockEnd()[position])
+                .map(other -> current.order()[other])
+                .filter(rule -> rule < failed)
+                .sorted()
+                .toArray();
+        for (int rule : skipped) {
+            var result = validations.get(rule).validate(value);
+            results[rule] = result;
+            if (!result.valid()) {
+                return rule;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Returns, in insertion order, the results of the rules that ran up to the failed one.
+     */
+    private static List<ValidationResult> ran(ValidationResult[] results, int failed) {
+        var ran = new ArrayList<ValidationResult>(failed + 1);
+        for (int rule = 0; rule <= failed; rule++) {
+            if (null != results[rule]) {
+                ran.add(results[rule]);
+            }
+        }
+        return ran;
+    }
+
+    private void learn(int rule, ValidationResult result) {
+        failures[rule].increment();
+        if (null == failureResults.get(rule) && failureResults.compareAndSet(rule, null, result)) {
+            return;
+        }
+        var known = failureResults.get(rule);
+        if (known != PINNED && !known.equals(result)) {
+            pin(rule);
+        }
+    }
+
+    /**
+     * Stops moving a rule that failed with a result other than the one it used to return, or that
+     * threw when run ahead of the rules guarding it.
+     */
+    private void pin(int rule) {
+        if (failureResults.getAndSet(rule, PINNED) != PINNED) {
+            replan();
+        }
+    }
+
+    /**
+     * Rebuilds the execution order from the current statistics, unless another thread is
+     * already doing so.
+     */
+    void replan() {
+        if (!replanning.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            var order = new int[size];
+            var blockEnd = new int[size];
+            var expected = new ValidationResult[size];
+            var scores = new double[size];
+            for (int rule = 0; rule < size; rule++) {
+                scores[rule] = score(rule);
+            }
+
+            int start = 0;
+            while (start < size) {
+                var constant = learnedFailure(start);
+                int end = start + 1;
+                while (null != constant && end < size && constant.equals(learnedFailure(end))) {
+                    end++;
+                }
+                int[] block = IntStream.range(start, end).boxed()
+                        .sorted(Comparator.<Integer>comparingDouble(rule -> scores[rule]).thenComparingInt(rule -> rule))
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+                for (int position = start; position < end; position++) {
+                    order[position] = block[position - start];
+                    blockEnd[position] = end;
+                    expected[position] = end - start > 1 ? constant : null;
+                }
+                start = end;
+            }
+            plan = new Plan(order, blockEnd, expected);
+        } finally {
+            replanning.set(false);
+        }
+    }
+
+    /**
+     * Returns the failure the rule has always returned, or {@code null} when it has not failed
+     * often enough, has failed with other results, or reports a path or details rather than a
+     * message.
+     */
+    private ValidationResult learnedFailure(int rule) {
+        return failureResults.get(rule) instanceof ValidationResult result && failures[rule].sum() >= LEARNING_FAILURES
+                && null != result.message() && null == result.path() && result.details().isEmpty()
+                ? result
+                : null;
+    }
+
+    /**
+     * Returns the time spent running the rule per failure it detected, which is its average cost
+     * divided by its failure rate; infinite until it has failed on a sampled call.
+     */
+    private double score(int rule) {
+        long failed = failures[rule].sum();
+        if (0 == failed) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return (double) nanos[rule].sum() / failed;
+    }
+
+    private static LongAdder[] counters(int size) {
+        var counters = new LongAdder[size];
+        Arrays.setAll(counters, ignored -> new LongAdder());
+        return counters;
+    }
+
+    /**
+     * Execution order of the rules.
+     *
+     * @param order    rule positions in execution order
+     * @param blockEnd per execution position, the position following the end of its block
+     * @param expected per execution position, the failure shared by its block, or
+     *                 {@code null} for blocks of a single rule
+     */
+    private record Plan(int[] order, int[] blockEnd, ValidationResult[] expected) {
+
+        static Plan insertionOrder(int size) {
+            return new Plan(IntStream.range(0, size).toArray(), IntStream.rangeClosed(1, size).toArray(),
+                    new ValidationResult[size]);
+        }
+
+    }
+
+}
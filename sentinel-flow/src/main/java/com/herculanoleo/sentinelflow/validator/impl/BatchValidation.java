@@ -0,0 +1,122 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.BatchViolations;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.CompletableFutures;
+import com.herculanoleo.sentinelflow.validator.BatchOptions;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runs a {@link CompiledValidator} over many objects, sequentially or in parallel chunks.
+ */
+final class BatchValidation {
+
+    private BatchValidation() {
+    }
+
+    static <E> BatchViolations validateAll(CompiledValidator<E> validator, Iterable<E> values, BatchOptions options) {
+        return options.isParallel()
+                ? validateParallel(validator, values, options)
+                : validateSequential(validator, values, options.policy());
+    }
+
+    private static <E> BatchViolations validateSequential(CompiledValidator<E> validator, Iterable<E> values,
+                                                          ShortCircuitPolicy policy) {
+        var collected = new Collected();
+        int index = 0;
+        for (E value : values) {
+            collected.add(index++, validator.validateToResult(value, policy));
+        }
+        return collected.toBatchViolations(index);
+    }
+
+    /**
+     * Reads the input in chunks and validates each chunk on the executor. Chunks are merged in
+     * submission order, so indexes stay sorted; once {@code maxInFlightChunks} chunks are pending,
+     * the oldest one is awaited before reading more input.
+     */
+    private static <E> BatchViolations validateParallel(CompiledValidator<E> validator, Iterable<E> values,
+                                                        BatchOptions options) {
+        var pending = new ArrayDeque<CompletableFuture<Collected>>(options.maxInFlightChunks());
+        var collected = new Collected();
+        var iterator = values.iterator();
+        int offset = 0;
+
+        while (iterator.hasNext()) {
+            List<E> chunk = new ArrayList<>(options.chunkSize());
+            while (chunk.size() < options.chunkSize() && iterator.hasNext()) {
+                chunk.add(iterator.next());
+            }
+
+            int start = offset;
+            pending.add(CompletableFuture.supplyAsync(
+                    () -> validateChunk(validator, chunk, start, options.policy()),
+                    options.executor()
+            ));
+            offset += chunk.size();
+
+            if (pending.size() >= options.maxInFlightChunks()) {
+                collected.addAll(CompletableFutures.join(pending.poll()));
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            collected.addAll(CompletableFutures.join(pending.poll()));
+        }
+        return collected.toBatchViolations(offset);
+    }
+
+    private static <E> Collected validateChunk(CompiledValidator<E> validator, List<E> chunk, int start,
+                                               ShortCircuitPolicy policy) {
+        var collected = new Collected();
+        for (int i = 0; i < chunk.size(); i++) {
+            collected.add(start + i, validator.validateToResult(chunk.get(i), policy));
+        }
+        return collected;
+    }
+
+    /**
+     * Growable parallel arrays of invalid indexes and their violations.
+     */
+    private static final class Collected {
+
+        private int[] indexes = new int[0];
+
+        private Violations[] violations = new Violations[0];
+
+        private int count;
+
+        void add(int index, Violations result) {
+            if (result.isValid()) {
+                return;
+            }
+            if (count == indexes.length) {
+                int capacity = Math.max(16, count * 2);
+                indexes = Arrays.copyOf(indexes, capacity);
+                violations = Arrays.copyOf(violations, capacity);
+            }
+            indexes[count] = index;
+            violations[count] = result;
+            count++;
+        }
+
+        void addAll(Collected other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.indexes[i], other.violations[i]);
+            }
+        }
+
+        BatchViolations toBatchViolations(int size) {
+            return new BatchViolations(size, Arrays.copyOf(indexes, count), Arrays.copyOf(violations, count));
+        }
+
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.validations.FieldValues;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Values of the fields of one object, captured on first use.
+ *
+ * <p>Created per validation by validators whose rules read other fields, so that every field
+ * is captured at most once whether it is read by its own rules or by a constraint.
+ *
+ * @param <E> object type being validated
+ */
+final class CapturedValues<E> implements FieldValues {
+
+    private static final Object NOT_CAPTURED = new Object();
+
+    private final E object;
+
+    private final List<CompiledField<E, ?>> fields;
+
+    private final Map<String, Integer> indexes;
+
+    private final Object[] values;
+
+    CapturedValues(E object, List<CompiledField<E, ?>> fields, Map<String, Integer> indexes) {
+        this.object = object;
+        this.fields = fields;
+        this.indexes = indexes;
+        this.values = new Object[fields.size()];
+        Arrays.fill(values, NOT_CAPTURED);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String fieldName) {
+        Integer index = indexes.get(fieldName);
+        if (null == index) {
+            throw new IllegalArgumentException("no field named " + fieldName);
+        }
+        return (T) capture(index);
+    }
+
+    /**
+     * Returns the value of the field, capturing it if it was not captured yet.
+     */
+    @SuppressWarnings("unchecked")
+    <V> V capture(CompiledField<E, V> field) {
+        return (V) capture(indexes.get(field.name()));
+    }
+
+    private Object capture(int index) {
+        Object value = values[index];
+        if (value == NOT_CAPTURED) {
+            value = fields.get(index).capture(object);
+            values[index] = value;
+        }
+        return value;
+    }
+
+}
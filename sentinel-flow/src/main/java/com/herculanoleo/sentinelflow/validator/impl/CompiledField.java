@@ -0,0 +1,164 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.Field;
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.AsyncFieldErrorCollector;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Immutable field definition of a {@link CompiledValidatorImpl}.
+ *
+ * @param name             field name used in error messages
+ * @param capture          function that extracts the field value from the object
+ * @param validations      rules applied to the field, in insertion order; empty when {@code rules} is used
+ * @param asyncValidations asynchronous rules applied to the field, in insertion order
+ * @param rules            rules of a field with conditional or cross-field rules, in insertion
+ *                         order; empty for fields whose rules always apply
+ * @param primitive        unboxed evaluation of a numeric field whose rules are all primitive
+ *                         rules; {@code null} for other fields
+ * @param strategy         strategy running the rules, assigned by {@link #planned(ExecutionStrategy)};
+ *                         {@code null} until then
+ * @param <E>              object type being validated
+ * @param <V>              field value type
+ */
+record CompiledField<E, V>(
+        String name,
+        Function<E, V> capture,
+        List<Validation<V>> validations,
+        List<AsyncValidation<V>> asyncValidations,
+        List<FieldRule<E, V>> rules,
+        PrimitiveField<E, V> primitive,
+        ExecutionStrategy strategy
+) {
+
+    CompiledField(String name, Function<E, V> capture, List<Validation<V>> validations,
+                  List<AsyncValidation<V>> asyncValidations) {
+        this(name, capture, validations, asyncValidations, List.of());
+    }
+
+    CompiledField(String name, Function<E, V> capture, List<Validation<V>> validations,
+                  List<AsyncValidation<V>> asyncValidations, List<FieldRule<E, V>> rules) {
+        this(name, capture, validations, asyncValidations, rules, null, null);
+    }
+
+    CompiledField(String name, Function<E, V> capture, List<Validation<V>> validations,
+                  PrimitiveField<E, V> primitive) {
+        this(name, capture, validations, List.of(), List.of(), primitive, null);
+    }
+
+    /**
+     * Returns this field run by the strategy of a compiled validator, specialized for its rules
+     * unless they depend on the object.
+     */
+    CompiledField<E, V> planned(ExecutionStrategy strategy) {
+        return new CompiledField<>(name, capture, validations, asyncValidations, rules, primitive,
+                isConditional() ? strategy : strategy.forRules(validations));
+    }
+
+    /**
+     * Returns whether the rules of this field depend on the object or on other fields.
+     */
+    boolean isConditional() {
+        return !rules.isEmpty();
+    }
+
+    /**
+     * Returns whether a rule of this field reads other fields.
+     */
+    boolean readsOtherFields() {
+        return rules.stream().anyMatch(rule -> rule instanceof FieldRule.Constraint);
+    }
+
+    /**
+     * Extracts the field value from the object and applies every rule.
+     *
+     * <p>If extraction fails with {@link NullPointerException} or {@link NoSuchElementException},
+     * the field value is set to {@code null}, except for primitive fields, whose capture
+     * exceptions propagate.
+     */
+    Result<V> evaluate(E object, ShortCircuitPolicy policy) {
+        return evaluate(object, null, policy);
+    }
+
+    /**
+     * Applies the rules that hold for the object, reading the field value from {@code values}
+     * when given.
+     *
+     * <p>A field whose rules are all guarded by conditions that do not hold is not captured and
+     * yields a valid result with a {@code null} value, as does a valid primitive field.
+     */
+    Result<V> evaluate(E object, CapturedValues<E> values, ShortCircuitPolicy policy) {
+        if (null != primitive) {
+            return primitive.evaluate(object, policy);
+        }
+        List<Validation<V>> active = validations;
+        if (isConditional()) {
+            active = new ArrayList<>(rules.size());
+            for (var rule : rules) {
+                rule.collect(object, values, active);
+            }
+            if (active.isEmpty() && asyncValidations.isEmpty()) {
+                return new Result<>(new Field<>(name, null), List.of());
+            }
+        }
+        var field = new Field<>(name, null == values ? capture(object) : values.capture(this));
+        return new Result<>(field, strategy.execute(active, field.value(), policy));
+    }
+
+    /**
+     * Applies every rule to a value obtained without the object.
+     */
+    @SuppressWarnings("unchecked")
+    Result<V> evaluateValue(Object value, ShortCircuitPolicy policy) {
+        var field = new Field<>(name, (V) value);
+        return new Result<>(field, strategy.execute(validations, field.value(), policy));
+    }
+
+    /**
+     * Evaluates the synchronous rules and starts the asynchronous ones.
+     *
+     * @return {@code true} when the next field should be evaluated
+     */
+    boolean evaluate(E object, CapturedValues<E> values, AsyncFieldErrorCollector collector, ShortCircuitPolicy policy) {
+        return collector.add(evaluate(object, values, policy), asyncValidations);
+    }
+
+    /**
+     * Returns this field with rules that report each evaluation to the observer, run by the same
+     * strategy so that both share what it learns about the rules; primitive fields stay unboxed,
+     * so that a failed capture behaves the same whether the call is observed or not.
+     */
+    CompiledField<E, V> observed(ValidationObserver observer, String validator) {
+        List<FieldRule<E, V>> observedRules = new ArrayList<>(rules.size());
+        int index = 0;
+        for (var rule : rules) {
+            observedRules.add(rule.observed(observer, validator, name, index));
+            index += rule.size();
+        }
+        return new CompiledField<>(name, capture, ObservedValidation.observe(validations, observer, validator, name),
+                asyncValidations, List.copyOf(observedRules),
+                null == primitive ? null : primitive.observed(observer, validator), strategy);
+    }
+
+    /**
+     * Extracts the field value, returning {@code null} when extraction fails with
+     * {@link NullPointerException} or {@link NoSuchElementException}.
+     */
+    V capture(E object) {
+        try {
+            return capture.apply(object);
+        } catch (NullPointerException | NoSuchElementException ignored) {
+            return null;
+        }
+    }
+
+}
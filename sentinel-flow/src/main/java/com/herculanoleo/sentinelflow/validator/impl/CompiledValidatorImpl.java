@@ -0,0 +1,198 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.models.BatchViolations;
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.models.ValidatedItem;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validator.AsyncFieldErrorCollector;
+import com.herculanoleo.sentinelflow.validator.BatchOptions;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.FieldErrorCollector;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.StreamingOptions;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default implementation of {@link CompiledValidator}.
+ *
+ * <p>Holds an immutable list of field definitions; instances are thread-safe as long as
+ * the registered rules and capture functions are.
+ *
+ * @param <E> object type being validated
+ */
+public class CompiledValidatorImpl<E> implements CompiledValidator<E> {
+
+    private final List<CompiledField<E, ?>> fields;
+
+    private final Map<String, CompiledField<E, ?>> fieldsByName;
+
+    /** Position of each field, used to cache captured values when a rule reads other fields. */
+    private final Map<String, Integer> indexes;
+
+    private final boolean readsOtherFields;
+
+    private final boolean writableStackTrace;
+
+    private final boolean hasAsyncValidations;
+
+    private final ValidationObserver observer;
+
+    private final String name;
+
+    /** Fields whose rules report to the observer, built once so sampled validations do not wrap rules. */
+    private final List<CompiledField<E, ?>> observedFields;
+
+    CompiledValidatorImpl(List<CompiledField<E, ?>> fields, ExecutionStrategy strategy, boolean writableStackTrace,
+                          ValidationObserver observer, String name) {
+        this.fields = fields.stream().<CompiledField<E, ?>>map(field -> field.planned(strategy)).toList();
+        this.fieldsByName = new HashMap<>();
+        this.indexes = new HashMap<>();
+        for (int index = 0; index < this.fields.size(); index++) {
+            this.fieldsByName.put(this.fields.get(index).name(), this.fields.get(index));
+            this.indexes.put(this.fields.get(index).name(), index);
+        }
+        this.readsOtherFields = fields.stream().anyMatch(CompiledField::readsOtherFields);
+        this.writableStackTrace = writableStackTrace;
+        this.hasAsyncValidations = fields.stream().anyMatch(field -> !field.asyncValidations().isEmpty());
+        this.observer = observer;
+        this.name = name;
+        this.observedFields = observer == ValidationObserver.none()
+                ? this.fields
+                : this.fields.stream().<CompiledField<E, ?>>map(field -> field.observed(observer, name)).toList();
+    }
+
+    @Override
+    public void validate(E value, ShortCircuitPolicy policy) throws ValidatorException {
+        var violations = validateToResult(value, policy);
+        if (!violations.isValid()) {
+            throw new ValidatorException(violations, writableStackTrace);
+        }
+    }
+
+    @Override
+    public Violations validateToResult(E value, ShortCircuitPolicy policy) {
+        if (hasAsyncValidations) {
+            return collectAsync(value, policy).await();
+        }
+        if (observer.isSampled()) {
+            return validateObserved(value, policy);
+        }
+
+        var values = capturedValues(value, fields);
+        var collector = new FieldErrorCollector(policy);
+        for (var field : fields) {
+            if (!collector.add(field.evaluate(value, values, policy))) {
+                break;
+            }
+        }
+        return collector.toViolations();
+    }
+
+    /**
+     * Returns the cache of captured values when a rule reads other fields, {@code null} otherwise.
+     */
+    private CapturedValues<E> capturedValues(E value, List<CompiledField<E, ?>> fields) {
+        return readsOtherFields ? new CapturedValues<>(value, fields, indexes) : null;
+    }
+
+    @Override
+    public Result<?> validateField(String fieldName, Object value, ShortCircuitPolicy policy) {
+        var field = fieldsByName.get(fieldName);
+        if (null == field || field.isConditional() || !field.asyncValidations().isEmpty()) {
+            return null;
+        }
+        return field.evaluateValue(value, policy);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Validators with asynchronous rules, and sampled validations, ignore {@code evaluated}
+     * and evaluate every field so that the observer sees the whole object.
+     */
+    @Override
+    public Violations validateToResult(E value, ShortCircuitPolicy policy, Map<String, Result<?>> evaluated) {
+        if (evaluated.isEmpty() || hasAsyncValidations || observer.isSampled()) {
+            return validateToResult(value, policy);
+        }
+
+        var values = capturedValues(value, fields);
+        var collector = new FieldErrorCollector(policy);
+        for (var field : fields) {
+            var result = evaluated.get(field.name());
+            if (!collector.add(null == result ? field.evaluate(value, values, policy) : result)) {
+                break;
+            }
+        }
+        return collector.toViolations();
+    }
+
+    /**
+     * Validates like {@link #validateToResult(Object, ShortCircuitPolicy)}, reporting rules,
+     * fields and the validator to the observer.
+     */
+    private Violations validateObserved(E value, ShortCircuitPolicy policy) {
+        long start = System.nanoTime();
+        var values = capturedValues(value, observedFields);
+        var collector = new FieldErrorCollector(policy);
+        for (var field : observedFields) {
+            long fieldStart = System.nanoTime();
+            var result = field.evaluate(value, values, policy);
+            observer.onField(name, field.name(), result.isValid(), System.nanoTime() - fieldStart);
+            if (!collector.add(result)) {
+                break;
+            }
+        }
+        var violations = collector.toViolations();
+        observer.onValidator(name, violations.isValid(), System.nanoTime() - start);
+        return violations;
+    }
+
+    @Override
+    public CompletableFuture<Violations> validateAsync(E value, ShortCircuitPolicy policy) {
+        return collectAsync(value, policy).toViolations();
+    }
+
+    private AsyncFieldErrorCollector collectAsync(E value, ShortCircuitPolicy policy) {
+        var values = capturedValues(value, fields);
+        var collector = new AsyncFieldErrorCollector(policy);
+        for (var field : fields) {
+            if (!field.evaluate(value, values, collector, policy)) {
+                break;
+            }
+        }
+        return collector;
+    }
+
+    @Override
+    public BatchViolations validateAll(Iterable<E> values, BatchOptions options) {
+        return BatchValidation.validateAll(this, values, options);
+    }
+
+    @Override
+    public Iterator<ValidatedItem<E>> validateStream(Iterator<E> values, StreamingOptions options) {
+        return new ValidatingIterator<>(this, Objects.requireNonNull(values), Objects.requireNonNull(options));
+    }
+
+    @Override
+    public Flow.Publisher<ValidatedItem<E>> validateStream(Flow.Publisher<E> values, StreamingOptions options) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(options);
+        return subscriber -> {
+            var subscription = new ValidatingSubscriber<>(this, options, subscriber);
+            subscriber.onSubscribe(subscription);
+            values.subscribe(subscription);
+        };
+    }
+
+}
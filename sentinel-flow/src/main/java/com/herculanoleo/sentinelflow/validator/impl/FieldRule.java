@@ -0,0 +1,116 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.validations.CrossFieldValidation;
+import com.herculanoleo.sentinelflow.validations.FieldValues;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A rule of a {@link CompiledField} that depends on the validated object: a plain rule, rules
+ * guarded by a condition, or a rule reading other fields.
+ *
+ * <p>Fields whose rules are all plain do not use this type; their rules are kept in a list and
+ * run without resolving anything per object.
+ *
+ * @param <E> object type being validated
+ * @param <V> field value type
+ */
+sealed interface FieldRule<E, V> {
+
+    /**
+     * Adds the rules that apply to the object.
+     *
+     * @param object object under validation
+     * @param values values captured so far, {@code null} when no rule of the validator reads them
+     * @param active rules to run, in order
+     */
+    void collect(E object, FieldValues values, List<Validation<V>> active);
+
+    /**
+     * Returns the number of positions this rule takes among the rules of its field.
+     */
+    int size();
+
+    /**
+     * Returns this rule reporting to the observer, with unnamed rules named from {@code index}.
+     */
+    FieldRule<E, V> observed(ValidationObserver observer, String validator, String field, int index);
+
+    /**
+     * A rule that always applies.
+     */
+    record Plain<E, V>(Validation<V> validation) implements FieldRule<E, V> {
+
+        @Override
+        public void collect(E object, FieldValues values, List<Validation<V>> active) {
+            active.add(validation);
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public FieldRule<E, V> observed(ValidationObserver observer, String validator, String field, int index) {
+            return new Plain<>(ObservedValidation.observe(validation, observer, validator, field, index));
+        }
+
+    }
+
+    /**
+     * Rules applied only when the condition holds for the object.
+     */
+    record Guarded<E, V>(Predicate<? super E> condition, List<Validation<V>> validations) implements FieldRule<E, V> {
+
+        @Override
+        public void collect(E object, FieldValues values, List<Validation<V>> active) {
+            if (condition.test(object)) {
+                active.addAll(validations);
+            }
+        }
+
+        @Override
+        public int size() {
+            return validations.size();
+        }
+
+        @Override
+        public FieldRule<E, V> observed(ValidationObserver observer, String validator, String field, int index) {
+            return new Guarded<>(condition, ObservedValidation.observe(validations, observer, validator, field, index));
+        }
+
+    }
+
+    /**
+     * A rule that reads the values of other fields, reporting to {@code observer} when it is not {@code null}.
+     */
+    record Constraint<E, V>(CrossFieldValidation<V> validation, ValidationObserver observer, String validator,
+                            String field, int index) implements FieldRule<E, V> {
+
+        Constraint(CrossFieldValidation<V> validation) {
+            this(validation, null, null, null, 0);
+        }
+
+        @Override
+        public void collect(E object, FieldValues values, List<Validation<V>> active) {
+            Validation<V> rule = value -> validation.validate(value, values);
+            active.add(null == observer ? rule : ObservedValidation.observe(rule, observer, validator, field, index));
+        }
+
+        @Override
+        public int size() {
+            return 1;
+        }
+
+        @Override
+        public FieldRule<E, V> observed(ValidationObserver observer, String validator, String field, int index) {
+            return new Constraint<>(validation, observer, validator, field, index);
+        }
+
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Records validations as JDK Flight Recorder events.
+ *
+ * <p>Emits {@code com.herculanoleo.sentinelflow.Validation}, {@code ...Field} and
+ * {@code ...Rule} events, disabled by default. A validation is only sampled while a recording
+ * has the validation event enabled, so the observer costs nothing otherwise. Field and rule
+ * events are enabled separately, since rule events are the most frequent:
+ *
+ * <pre>{@code
+ * var recording = new Recording();
+ * recording.enable("com.herculanoleo.sentinelflow.Validation");
+ * recording.enable("com.herculanoleo.sentinelflow.Rule").withThreshold(Duration.ofMillis(1));
+ * recording.start();
+ * }</pre>
+ *
+ * <p>The same settings can be given in a {@code .jfc} file passed to
+ * {@code -XX:StartFlightRecording}.
+ */
+public class JfrValidationObserver implements ValidationObserver {
+
+    /** Creates a Flight Recorder observer. */
+    public JfrValidationObserver() {
+    }
+
+    @Override
+    public boolean isSampled() {
+        return new ValidationEvent().isEnabled();
+    }
+
+    @Override
+    public void onRule(String validator, String field, String rule, boolean valid, long nanos) {
+        var event = new RuleEvent();
+        if (event.shouldCommit()) {
+            event.validator = validator;
+            event.field = field;
+            event.rule = rule;
+            event.valid = valid;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onField(String validator, String field, boolean valid, long nanos) {
+        var event = new FieldEvent();
+        if (event.shouldCommit()) {
+            event.validator = validator;
+            event.field = field;
+            event.valid = valid;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onValidator(String validator, boolean valid, long nanos) {
+        var event = new ValidationEvent();
+        if (event.shouldCommit()) {
+            event.validator = validator;
+            event.valid = valid;
+            event.elapsed = nanos;
+            event.commit();
+        }
+    }
+
+    @Name("com.herculanoleo.sentinelflow.Validation")
+    @Label("Validation")
+    @Description("Validation of an object")
+    @Category("SentinelFlow")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class ValidationEvent extends Event {
+
+        @Label("Validator")
+        String validator;
+
+        @Label("Valid")
+        boolean valid;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+    }
+
+    @Name("com.herculanoleo.sentinelflow.Field")
+    @Label("Validation Field")
+    @Description("Evaluation of the rules of a field")
+    @Category("SentinelFlow")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class FieldEvent extends Event {
+
+        @Label("Validator")
+        String validator;
+
+        @Label("Field")
+        String field;
+
+        @Label("Valid")
+        boolean valid;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+    }
+
+    @Name("com.herculanoleo.sentinelflow.Rule")
+    @Label("Validation Rule")
+    @Description("Evaluation of a rule")
+    @Category("SentinelFlow")
+    @Enabled(false)
+    @StackTrace(false)
+    static final class RuleEvent extends Event {
+
+        @Label("Validator")
+        String validator;
+
+        @Label("Field")
+        String field;
+
+        @Label("Rule")
+        String rule;
+
+        @Label("Valid")
+        boolean valid;
+
+        @Label("Elapsed")
+        @Timespan(Timespan.NANOSECONDS)
+        long elapsed;
+
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A rule that reports each evaluation to a {@link ValidationObserver}.
+ *
+ * <p>Wrapping keeps the execution strategy unchanged: parallel strategies time each rule on
+ * the thread that evaluates it.
+ *
+ * @param <V> field value type
+ */
+final class ObservedValidation<V> implements Validation<V> {
+
+    private final Validation<V> validation;
+
+    private final ValidationObserver observer;
+
+    private final String validator;
+
+    private final String field;
+
+    private final String rule;
+
+    private ObservedValidation(Validation<V> validation, ValidationObserver observer, String validator,
+                               String field, String rule) {
+        this.validation = validation;
+        this.observer = observer;
+        this.validator = validator;
+        this.field = field;
+        this.rule = rule;
+    }
+
+    /**
+     * Wraps the rules of a field, naming unnamed rules by their position.
+     */
+    static <V> List<Validation<V>> observe(List<Validation<V>> validations, ValidationObserver observer,
+                                           String validator, String field) {
+        return observe(validations, observer, validator, field, 0);
+    }
+
+    /**
+     * Wraps consecutive rules of a field, naming unnamed rules by their position starting at {@code first}.
+     */
+    static <V> List<Validation<V>> observe(List<Validation<V>> validations, ValidationObserver observer,
+                                           String validator, String field, int first) {
+        var observed = new ArrayList<Validation<V>>(validations.size());
+        for (int index = 0; index < validations.size(); index++) {
+            observed.add(observe(validations.get(index), observer, validator, field, first + index));
+        }
+        return observed;
+    }
+
+    /**
+     * Wraps a rule of a field, naming it by its position when it is unnamed.
+     */
+    static <V> Validation<V> observe(Validation<V> validation, ValidationObserver observer, String validator,
+                                     String field, int index) {
+        return new ObservedValidation<>(validation, observer, validator, field, ruleName(validation, index));
+    }
+
+    /**
+     * Returns the name of the rule, or its position when it is unnamed.
+     */
+    static String ruleName(Validation<?> validation, int index) {
+        String name = validation.name();
+        return null == name ? "#" + index : name;
+    }
+
+    @Override
+    public ValidationResult validate(V value) {
+        long start = System.nanoTime();
+        var result = validation.validate(value);
+        observer.onRule(validator, field, rule, result.valid(), System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public String name() {
+        return rule;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.CompletableFutures;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Runs the rules of a field concurrently on an {@link Executor}.
+ *
+ * <p>Fields with fewer rules than {@code minRules} are run sequentially on the calling thread,
+ * so only fields whose rules are worth a task hand-off reach the executor. Every rule of a
+ * parallel field is submitted up front; short-circuit policies only trim the reported results.
+ *
+ * <p>The threshold counts rules rather than estimating their cost: rules do not declare a cost,
+ * and timing them on every call would cost more than most rules do. Fields whose rules are
+ * known to be expensive, such as remote lookups, are better served by asynchronous rules or by
+ * a validator built with this strategy only for them.
+ */
+public class ParallelExecutionStrategy implements ExecutionStrategy {
+
+    private final Executor executor;
+
+    private final int minRules;
+
+    private final ExecutionStrategy sequential = new SequentialExecutionStrategy();
+
+    /**
+     * Creates a parallel strategy backed by the common {@link ForkJoinPool}
+     * that parallelizes every field with at least two rules.
+     */
+    public ParallelExecutionStrategy() {
+        this(ForkJoinPool.commonPool(), 2);
+    }
+
+    /**
+     * Creates a parallel strategy.
+     *
+     * @param executor executor that runs the rules
+     * @param minRules minimum number of rules on a field before it is run in parallel
+     * @throws IllegalArgumentException when {@code minRules} is less than one
+     */
+    public ParallelExecutionStrategy(Executor executor, int minRules) {
+        if (minRules < 1) {
+            throw new IllegalArgumentException("minRules must be greater than zero");
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.minRules = minRules;
+    }
+
+    @Override
+    public <V> List<ValidationResult> execute(List<Validation<V>> validations, V value, ShortCircuitPolicy policy) {
+        if (validations.size() < minRules) {
+            return sequential.execute(validations, value, policy);
+        }
+
+        var futures = new ArrayList<CompletableFuture<ValidationResult>>(validations.size());
+        for (var validation : validations) {
+            futures.add(CompletableFuture.supplyAsync(() -> validation.validate(value), executor));
+        }
+
+        var results = new ArrayList<ValidationResult>(futures.size());
+        for (var future : futures) {
+            var result = CompletableFutures.join(future);
+            results.add(result);
+            if (!result.valid() && policy.stopsFieldOnFailure()) {
+                break;
+            }
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,272 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.Field;
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.DoubleValidation;
+import com.herculanoleo.sentinelflow.validations.IntValidation;
+import com.herculanoleo.sentinelflow.validations.LongValidation;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Unboxed evaluation of a numeric {@link CompiledField} whose rules are all primitive rules.
+ *
+ * <p>The value is captured and checked as a primitive, and a valid field returns one result
+ * shared by every validation, whose field value is {@code null}; the value is only boxed to
+ * report a failure. The capture must read a primitive: unlike a boxed field, an exception it
+ * throws is not turned into a {@code null} value but propagates.
+ * Rules run in insertion order on the calling thread whatever the execution strategy, as
+ * primitive comparisons are cheaper than any scheduling.
+ *
+ * @param <E> object type being validated
+ * @param <V> boxed field value type
+ */
+sealed interface PrimitiveField<E, V> {
+
+    /**
+     * Captures the value and applies every rule.
+     */
+    Result<V> evaluate(E object, ShortCircuitPolicy policy);
+
+    /**
+     * Returns this field with rules that report each evaluation to the observer, still
+     * evaluated unboxed.
+     */
+    PrimitiveField<E, V> observed(ValidationObserver observer, String validator);
+
+    /**
+     * Returns the unboxed evaluation of an {@code int} field, or {@code null} when a rule
+     * is not an {@link IntValidation}.
+     */
+    static <E> PrimitiveField<E, Integer> ints(String name, ToIntFunction<E> capture,
+                                               List<Validation<Integer>> validations) {
+        if (!validations.stream().allMatch(IntValidation.class::isInstance)) {
+            return null;
+        }
+        return new Ints<>(name, capture, validations.toArray(IntValidation[]::new));
+    }
+
+    /**
+     * Returns the unboxed evaluation of a {@code long} field, or {@code null} when a rule
+     * is not a {@link LongValidation}.
+     */
+    static <E> PrimitiveField<E, Long> longs(String name, ToLongFunction<E> capture,
+                                             List<Validation<Long>> validations) {
+        if (!validations.stream().allMatch(LongValidation.class::isInstance)) {
+            return null;
+        }
+        return new Longs<>(name, capture, validations.toArray(LongValidation[]::new));
+    }
+
+    /**
+     * Returns the unboxed evaluation of a {@code double} field, or {@code null} when a rule
+     * is not a {@link DoubleValidation}.
+     */
+    static <E> PrimitiveField<E, Double> doubles(String name, ToDoubleFunction<E> capture,
+                                                 List<Validation<Double>> validations) {
+        if (!validations.stream().allMatch(DoubleValidation.class::isInstance)) {
+            return null;
+        }
+        return new Doubles<>(name, capture, validations.toArray(DoubleValidation[]::new));
+    }
+
+    /**
+     * Returns the result shared by every valid evaluation of a field; it carries no value, as
+     * keeping it would box the value on every call.
+     */
+    private static <V> Result<V> passed(String name) {
+        return new Result<>(new Field<>(name, null), List.of());
+    }
+
+    /**
+     * Evaluation of an {@code int} field.
+     */
+    final class Ints<E> implements PrimitiveField<E, Integer> {
+
+        private final String name;
+
+        private final ToIntFunction<E> capture;
+
+        private final IntValidation[] rules;
+
+        private final Result<Integer> passed;
+
+        private Ints(String name, ToIntFunction<E> capture, IntValidation[] rules) {
+            this.name = name;
+            this.capture = capture;
+            this.rules = rules;
+            this.passed = passed(name);
+        }
+
+        @Override
+        public Result<Integer> evaluate(E object, ShortCircuitPolicy policy) {
+            int value = capture.applyAsInt(object);
+            for (var rule : rules) {
+                if (!rule.validateInt(value).valid()) {
+                    return failed(value, policy);
+                }
+            }
+            return passed;
+        }
+
+        @Override
+        public Ints<E> observed(ValidationObserver observer, String validator) {
+            var observed = new IntValidation[rules.length];
+            for (int index = 0; index < rules.length; index++) {
+                var rule = rules[index];
+                var ruleName = ObservedValidation.ruleName(rule, index);
+                observed[index] = value -> {
+                    long start = System.nanoTime();
+                    var result = rule.validateInt(value);
+                    observer.onRule(validator, name, ruleName, result.valid(), System.nanoTime() - start);
+                    return result;
+                };
+            }
+            return new Ints<>(name, capture, observed);
+        }
+
+        private Result<Integer> failed(int value, ShortCircuitPolicy policy) {
+            var results = new ArrayList<ValidationResult>(rules.length);
+            for (var rule : rules) {
+                var result = rule.validateInt(value);
+                results.add(result);
+                if (!result.valid() && policy.stopsFieldOnFailure()) {
+                    break;
+                }
+            }
+            return new Result<>(new Field<>(name, value), results);
+        }
+
+    }
+
+    /**
+     * Evaluation of a {@code long} field.
+     */
+    final class Longs<E> implements PrimitiveField<E, Long> {
+
+        private final String name;
+
+        private final ToLongFunction<E> capture;
+
+        private final LongValidation[] rules;
+
+        private final Result<Long> passed;
+
+        private Longs(String name, ToLongFunction<E> capture, LongValidation[] rules) {
+            this.name = name;
+            this.capture = capture;
+            this.rules = rules;
+            this.passed = passed(name);
+        }
+
+        @Override
+        public Result<Long> evaluate(E object, ShortCircuitPolicy policy) {
+            long value = capture.applyAsLong(object);
+            for (var rule : rules) {
+                if (!rule.validateLong(value).valid()) {
+                    return failed(value, policy);
+                }
+            }
+            return passed;
+        }
+
+        @Override
+        public Longs<E> observed(ValidationObserver observer, String validator) {
+            var observed = new LongValidation[rules.length];
+            for (int index = 0; index < rules.length; index++) {
+                var rule = rules[index];
+                var ruleName = ObservedValidation.ruleName(rule, index);
+                observed[index] = value -> {
+                    long start = System.nanoTime();
+                    var result = rule.validateLong(value);
+                    observer.onRule(validator, name, ruleName, result.valid(), System.nanoTime() - start);
+                    return result;
+                };
+            }
+            return new Longs<>(name, capture, observed);
+        }
+
+        private Result<Long> failed(long value, ShortCircuitPolicy policy) {
+            var results = new ArrayList<ValidationResult>(rules.length);
+            for (var rule : rules) {
+                var result = rule.validateLong(value);
+                results.add(result);
+                if (!result.valid() && policy.stopsFieldOnFailure()) {
+                    break;
+                }
+            }
+            return new Result<>(new Field<>(name, value), results);
+        }
+
+    }
+
+    /**
+     * Evaluation of a {@code double} field.
+     */
+    final class Doubles<E> implements PrimitiveField<E, Double> {
+
+        private final String name;
+
+        private final ToDoubleFunction<E> capture;
+
+        private final DoubleValidation[] rules;
+
+        private final Result<Double> passed;
+
+        private Doubles(String name, ToDoubleFunction<E> capture, DoubleValidation[] rules) {
+            this.name = name;
+            this.capture = capture;
+            this.rules = rules;
+            this.passed = passed(name);
+        }
+
+        @Override
+        public Result<Double> evaluate(E object, ShortCircuitPolicy policy) {
+            double value = capture.applyAsDouble(object);
+            for (var rule : rules) {
+                if (!rule.validateDouble(value).valid()) {
+                    return failed(value, policy);
+                }
+            }
+            return passed;
+        }
+
+        @Override
+        public Doubles<E> observed(ValidationObserver observer, String validator) {
+            var observed = new DoubleValidation[rules.length];
+            for (int index = 0; index < rules.length; index++) {
+                var rule = rules[index];
+                var ruleName = ObservedValidation.ruleName(rule, index);
+                observed[index] = value -> {
+                    long start = System.nanoTime();
+                    var result = rule.validateDouble(value);
+                    observer.onRule(validator, name, ruleName, result.valid(), System.nanoTime() - start);
+                    return result;
+                };
+            }
+            return new Doubles<>(name, capture, observed);
+        }
+
+        private Result<Double> failed(double value, ShortCircuitPolicy policy) {
+            var results = new ArrayList<ValidationResult>(rules.length);
+            for (var rule : rules) {
+                var result = rule.validateDouble(value);
+                results.add(result);
+                if (!result.valid() && policy.stopsFieldOnFailure()) {
+                    break;
+                }
+            }
+            return new Result<>(new Field<>(name, value), results);
+        }
+
+    }
+
+}
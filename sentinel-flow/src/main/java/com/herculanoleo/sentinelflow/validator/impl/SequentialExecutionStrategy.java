@@ -0,0 +1,36 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the rules of a field one after the other on the calling thread.
+ *
+ * <p>This is the default strategy: it allocates only the result list, and rules after
+ * the first failure are never invoked when the policy stops fields on failure.
+ */
+public class SequentialExecutionStrategy implements ExecutionStrategy {
+
+    /** Creates a sequential execution strategy. */
+    public SequentialExecutionStrategy() {
+    }
+
+    @Override
+    public <V> List<ValidationResult> execute(List<Validation<V>> validations, V value, ShortCircuitPolicy policy) {
+        var results = new ArrayList<ValidationResult>(validations.size());
+        for (var validation : validations) {
+            var result = validation.validate(value);
+            results.add(result);
+            if (!result.valid() && policy.stopsFieldOnFailure()) {
+                break;
+            }
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidatedItem;
+import com.herculanoleo.sentinelflow.validations.CompletableFutures;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.StreamingOptions;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Pull-based streaming validation over a source iterator.
+ *
+ * <p>The source is only read by the thread that consumes this iterator. In parallel mode up to
+ * {@code maxInFlight} objects are read ahead and validated on the executor; in ordered mode the
+ * oldest one is awaited, otherwise whichever completes first is returned.
+ *
+ * <p>Not thread-safe: it must be consumed by a single thread.
+ *
+ * @param <E> object type being validated
+ */
+final class ValidatingIterator<E> implements Iterator<ValidatedItem<E>> {
+
+    private final CompiledValidator<E> validator;
+
+    private final Iterator<E> source;
+
+    private final StreamingOptions options;
+
+    private final ArrayDeque<CompletableFuture<ValidatedItem<E>>> submitted = new ArrayDeque<>();
+
+    private final LinkedBlockingQueue<CompletableFuture<ValidatedItem<E>>> completed = new LinkedBlockingQueue<>();
+
+    private long nextIndex;
+
+    private int inFlight;
+
+    ValidatingIterator(CompiledValidator<E> validator, Iterator<E> source, StreamingOptions options) {
+        this.validator = validator;
+        this.source = source;
+        this.options = options;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!options.isParallel()) {
+            return source.hasNext();
+        }
+        while (inFlight < options.maxInFlight() && source.hasNext()) {
+            submit(nextIndex++, source.next());
+        }
+        return inFlight > 0;
+    }
+
+    @Override
+    public ValidatedItem<E> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (!options.isParallel()) {
+            return validate(nextIndex++, source.next());
+        }
+        inFlight--;
+        return CompletableFutures.join(options.ordered() ? submitted.poll() : takeCompleted());
+    }
+
+    private void submit(long index, E value) {
+        var future = CompletableFuture.supplyAsync(() -> validate(index, value), options.executor());
+        if (options.ordered()) {
+            submitted.add(future);
+        } else {
+            future.whenComplete((result, error) -> completed.add(future));
+        }
+        inFlight++;
+    }
+
+    private CompletableFuture<ValidatedItem<E>> takeCompleted() {
+        try {
+            return completed.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for a validation result", e);
+        }
+    }
+
+    private ValidatedItem<E> validate(long index, E value) {
+        return new ValidatedItem<>(index, value, validator.validateToResult(value, options.policy()));
+    }
+
+}
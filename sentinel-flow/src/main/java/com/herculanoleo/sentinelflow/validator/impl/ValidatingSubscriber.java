@@ -0,0 +1,212 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidatedItem;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.StreamingOptions;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Push-based streaming validation: subscribes to the source publisher and acts as the
+ * subscription of a single downstream subscriber.
+ *
+ * <p>Upstream is asked for {@code maxInFlight} objects up front and for one more each time an
+ * object is emitted, so no more than {@code maxInFlight} objects are ever held. Emission is
+ * bounded by downstream demand and serialized by a work-in-progress counter, so
+ * {@code onNext} is never called concurrently. Upstream errors and rule failures are signalled
+ * immediately; objects not yet emitted are dropped.
+ *
+ * @param <E> object type being validated
+ */
+final class ValidatingSubscriber<E> implements Flow.Subscriber<E>, Flow.Subscription {
+
+    private final CompiledValidator<E> validator;
+
+    private final StreamingOptions options;
+
+    private final Flow.Subscriber<? super ValidatedItem<E>> downstream;
+
+    /** Source order in ordered mode, completion order otherwise. */
+    private final Queue<CompletableFuture<ValidatedItem<E>>> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicLong requested = new AtomicLong();
+
+    /** Objects received from upstream and not yet emitted. */
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    private volatile Flow.Subscription upstream;
+
+    private volatile boolean done;
+
+    private volatile boolean cancelled;
+
+    private volatile Throwable error;
+
+    /** Only accessed from {@link #onNext}, which upstream never calls concurrently. */
+    private long nextIndex;
+
+    /** Only accessed from {@link #drain()}. */
+    private boolean terminated;
+
+    ValidatingSubscriber(CompiledValidator<E> validator, StreamingOptions options,
+                         Flow.Subscriber<? super ValidatedItem<E>> downstream) {
+        this.validator = validator;
+        this.options = options;
+        this.downstream = downstream;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (null != upstream || cancelled) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        subscription.request(options.maxInFlight());
+    }
+
+    @Override
+    public void onNext(E value) {
+        if (done) {
+            return;
+        }
+        long index = nextIndex++;
+        outstanding.incrementAndGet();
+
+        CompletableFuture<ValidatedItem<E>> future;
+        try {
+            future = options.isParallel()
+                    ? CompletableFuture.supplyAsync(() -> validate(index, value), options.executor())
+                    : CompletableFuture.completedFuture(validate(index, value));
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        if (options.ordered()) {
+            queue.add(future);
+            future.whenComplete((result, failure) -> drain());
+        } else {
+            var completed = future;
+            future.whenComplete((result, failure) -> {
+                queue.add(completed);
+                drain();
+            });
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void request(long n) {
+        if (n <= 0) {
+            cancelUpstream();
+            onError(new IllegalArgumentException("request must be positive, got " + n));
+            return;
+        }
+        requested.getAndUpdate(current -> {
+            long next = current + n;
+            return next < 0 ? Long.MAX_VALUE : next;
+        });
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        cancelUpstream();
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            long demand = requested.get();
+            long emitted = 0;
+
+            while (!terminated) {
+                if (cancelled) {
+                    queue.clear();
+                    terminated = true;
+                    break;
+                }
+                if (null != error) {
+                    fail(error);
+                    break;
+                }
+
+                var head = queue.peek();
+                if (null == head || !head.isDone()) {
+                    if (done && outstanding.get() == 0) {
+                        terminated = true;
+                        downstream.onComplete();
+                    }
+                    break;
+                }
+                if (emitted == demand) {
+                    break;
+                }
+
+                queue.poll();
+                ValidatedItem<E> item;
+                try {
+                    item = head.join();
+                } catch (CompletionException e) {
+                    cancelUpstream();
+                    fail(e.getCause());
+                    break;
+                }
+                outstanding.decrementAndGet();
+                downstream.onNext(item);
+                emitted++;
+            }
+
+            if (emitted > 0 && !terminated) {
+                if (demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                upstream.request(emitted);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void fail(Throwable failure) {
+        queue.clear();
+        terminated = true;
+        downstream.onError(failure);
+    }
+
+    private void cancelUpstream() {
+        var subscription = upstream;
+        if (null != subscription) {
+            subscription.cancel();
+        }
+    }
+
+    private ValidatedItem<E> validate(long index, E value) {
+        return new ValidatedItem<>(index, value, validator.validateToResult(value, options.policy()));
+    }
+
+}
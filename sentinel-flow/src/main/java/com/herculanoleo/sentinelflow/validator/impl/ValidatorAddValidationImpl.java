@@ -1,11 +1,15 @@
 package com.herculanoleo.sentinelflow.validator.impl;
 
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
+import com.herculanoleo.sentinelflow.validations.CrossFieldValidation;
 import com.herculanoleo.sentinelflow.validations.Validation;
 import com.herculanoleo.sentinelflow.validator.Validator;
 import com.herculanoleo.sentinelflow.validator.ValidatorAddValidation;
 import com.herculanoleo.sentinelflow.validator.ValidatorField;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Default implementation of {@link ValidatorAddValidation}.
@@ -19,15 +23,41 @@ public class ValidatorAddValidationImpl<E, V> implements ValidatorAddValidation<
 
     private final ValidatorField<V> validatorField;
 
+    private final E value;
+
+    /** Whether {@code value} is the validated object, so that conditions can be tested. */
+    private final boolean bound;
+
     /**
      * Creates a fluent step for attaching rules to a field.
      *
+     * <p>No object is bound, so {@link #when(Predicate, List)} fails; use
+     * {@link #ValidatorAddValidationImpl(Validator, ValidatorField, Object)} for conditional rules.
+     *
      * @param validator      parent validator
      * @param validatorField field validator being configured
      */
     public ValidatorAddValidationImpl(Validator<E> validator, ValidatorField<V> validatorField) {
+        this(validator, validatorField, null, false);
+    }
+
+    /**
+     * Creates a fluent step for attaching rules to a field of the given object.
+     *
+     * @param validator      parent validator
+     * @param validatorField field validator being configured
+     * @param value          object under validation, tested by conditional rules
+     */
+    public ValidatorAddValidationImpl(Validator<E> validator, ValidatorField<V> validatorField, E value) {
+        this(validator, validatorField, value, true);
+    }
+
+    private ValidatorAddValidationImpl(Validator<E> validator, ValidatorField<V> validatorField, E value,
+                                       boolean bound) {
         this.validator = validator;
         this.validatorField = validatorField;
+        this.value = value;
+        this.bound = bound;
     }
 
     @Override
@@ -37,6 +67,39 @@ public class ValidatorAddValidationImpl<E, V> implements ValidatorAddValidation<
         return this;
     }
 
+    @Override
+    public ValidatorAddValidation<E, V> addAsync(AsyncValidation<V> validation) {
+        Objects.requireNonNull(validation);
+        validatorField.addAsyncValidation(validation);
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException when this step was created without the validated object
+     */
+    @Override
+    public ValidatorAddValidation<E, V> when(Predicate<? super E> condition, List<Validation<V>> validations) {
+        Objects.requireNonNull(condition);
+        validations.forEach(Objects::requireNonNull);
+        if (!bound) {
+            throw new IllegalStateException("when() needs the validated object, but this step was created without one");
+        }
+        if (condition.test(value)) {
+            validations.forEach(validatorField::addValidation);
+        }
+        return this;
+    }
+
+    @Override
+    public ValidatorAddValidation<E, V> constraint(CrossFieldValidation<V> validation) {
+        Objects.requireNonNull(validation);
+        var values = validator.values();
+        validatorField.addValidation(fieldValue -> validation.validate(fieldValue, values));
+        return this;
+    }
+
     @Override
     public Validator<E> end() {
         validator.addValidatorField(validatorField);
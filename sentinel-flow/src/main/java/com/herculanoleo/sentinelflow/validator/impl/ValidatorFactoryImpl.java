@@ -1,20 +1,81 @@
 package com.herculanoleo.sentinelflow.validator.impl;
 
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
 import com.herculanoleo.sentinelflow.validator.ValidatorFactory;
 import com.herculanoleo.sentinelflow.validator.Validator;
+import com.herculanoleo.sentinelflow.validator.ValidatorSchema;
+
+import java.util.Objects;
 
 /**
  * Default implementation of {@link ValidatorFactory}.
  */
 public class ValidatorFactoryImpl implements ValidatorFactory {
 
-    /** Creates a new validator factory. */
+    private final ExecutionStrategy strategy;
+
+    private final boolean writableStackTrace;
+
+    private final ValidationObserver observer;
+
+    /** Creates a new validator factory whose validators run field rules sequentially. */
     public ValidatorFactoryImpl() {
+        this(ValidatorFieldImpl.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Creates a new validator factory.
+     *
+     * @param strategy strategy used to run the rules of each field
+     */
+    public ValidatorFactoryImpl(ExecutionStrategy strategy) {
+        this(strategy, true);
+    }
+
+    /**
+     * Creates a new validator factory.
+     *
+     * <p>Pass {@code writableStackTrace = false} when validation failures are frequent and their
+     * stack traces are not needed: the thrown {@link com.herculanoleo.sentinelflow.exceptions.ValidatorException}
+     * then skips {@link Throwable#fillInStackTrace()}.
+     *
+     * @param strategy           strategy used to run the rules of each field
+     * @param writableStackTrace whether thrown validation exceptions fill in their stack trace
+     */
+    public ValidatorFactoryImpl(ExecutionStrategy strategy, boolean writableStackTrace) {
+        this(strategy, writableStackTrace, ValidationObserver.none());
+    }
+
+    /**
+     * Creates a new validator factory whose validators report to an observer.
+     *
+     * <p>Use {@link ValidationObserver#sampled(ValidationObserver, double)} to report only a
+     * fraction of the validations under load.
+     *
+     * @param strategy           strategy used to run the rules of each field
+     * @param writableStackTrace whether thrown validation exceptions fill in their stack trace
+     * @param observer           observer of the timings and outcomes of validations
+     */
+    public ValidatorFactoryImpl(ExecutionStrategy strategy, boolean writableStackTrace, ValidationObserver observer) {
+        this.strategy = Objects.requireNonNull(strategy);
+        this.writableStackTrace = writableStackTrace;
+        this.observer = Objects.requireNonNull(observer);
     }
 
     @Override
     public <V> Validator<V> create(V value) {
-        return new ValidatorImpl<>(value);
+        return new ValidatorImpl<>(value, strategy, writableStackTrace, observer);
+    }
+
+    @Override
+    public <V> ValidatorSchema<V> schema(Class<V> type) {
+        return new ValidatorSchemaImpl<>(strategy, writableStackTrace, observer, type.getSimpleName());
+    }
+
+    @Override
+    public boolean isWritableStackTrace() {
+        return writableStackTrace;
     }
 
 }
@@ -2,11 +2,16 @@ package com.herculanoleo.sentinelflow.validator.impl;
 
 import com.herculanoleo.sentinelflow.models.Field;
 import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
 import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
 import com.herculanoleo.sentinelflow.validator.ValidatorField;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Default implementation of {@link ValidatorField}.
@@ -15,17 +20,34 @@ import java.util.List;
  */
 public class ValidatorFieldImpl<V> implements ValidatorField<V> {
 
+    static final ExecutionStrategy DEFAULT_STRATEGY = new SequentialExecutionStrategy();
+
     private final Field<V> field;
 
-    private final List<Validation<V>> validations = new LinkedList<>();
+    private final ExecutionStrategy strategy;
+
+    private final List<Validation<V>> validations = new ArrayList<>();
+
+    private List<AsyncValidation<V>> asyncValidations = List.of();
 
     /**
-     * Creates a field validator for the given field.
+     * Creates a field validator that runs its rules sequentially.
      *
      * @param field field metadata and captured value
      */
     public ValidatorFieldImpl(Field<V> field) {
+        this(field, DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Creates a field validator that runs its rules with the given strategy.
+     *
+     * @param field    field metadata and captured value
+     * @param strategy strategy used to run the rules
+     */
+    public ValidatorFieldImpl(Field<V> field, ExecutionStrategy strategy) {
         this.field = field;
+        this.strategy = Objects.requireNonNull(strategy);
     }
 
     @Override
@@ -39,11 +61,27 @@ public class ValidatorFieldImpl<V> implements ValidatorField<V> {
     }
 
     @Override
-    public Result<V> build() {
-        var results = this.validations.parallelStream()
-                .map(validation -> validation.validate(field.value()))
-                .toList();
-        return new Result<>(field, results);
+    public void addAsyncValidation(AsyncValidation<V> validation) {
+        if (asyncValidations.isEmpty()) {
+            asyncValidations = new ArrayList<>();
+        }
+        asyncValidations.add(validation);
+    }
+
+    @Override
+    public List<AsyncValidation<V>> getAsyncValidations() {
+        return asyncValidations;
+    }
+
+    @Override
+    public Result<V> build(ShortCircuitPolicy policy) {
+        return new Result<>(field, strategy.execute(validations, field.value(), policy));
+    }
+
+    @Override
+    public Result<V> build(ShortCircuitPolicy policy, ValidationObserver observer, String validator) {
+        var observed = ObservedValidation.observe(validations, observer, validator, field.name());
+        return new Result<>(field, strategy.execute(observed, field.value(), policy));
     }
 
 }
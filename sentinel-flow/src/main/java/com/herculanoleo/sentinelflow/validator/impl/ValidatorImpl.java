@@ -1,11 +1,14 @@
 package com.herculanoleo.sentinelflow.validator.impl;
 
 import com.herculanoleo.sentinelflow.models.Field;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
 import com.herculanoleo.sentinelflow.validator.ValidatorAbstraction;
 import com.herculanoleo.sentinelflow.validator.ValidatorAddValidation;
 import com.herculanoleo.sentinelflow.validator.ValidatorField;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Default implementation of {@link com.herculanoleo.sentinelflow.validator.Validator}.
@@ -14,18 +17,56 @@ import java.util.List;
  */
 public class ValidatorImpl<E> extends ValidatorAbstraction<E> {
 
+    private final ExecutionStrategy strategy;
+
     /**
-     * Creates a validator for the given object.
+     * Creates a validator for the given object that runs field rules sequentially.
      *
      * @param value object to validate
      */
     public ValidatorImpl(E value) {
-        super(value);
+        this(value, ValidatorFieldImpl.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Creates a validator for the given object.
+     *
+     * @param value    object to validate
+     * @param strategy strategy used to run the rules of each field
+     */
+    public ValidatorImpl(E value, ExecutionStrategy strategy) {
+        this(value, strategy, true);
+    }
+
+    /**
+     * Creates a validator for the given object.
+     *
+     * @param value              object to validate
+     * @param strategy           strategy used to run the rules of each field
+     * @param writableStackTrace whether thrown {@link com.herculanoleo.sentinelflow.exceptions.ValidatorException}s
+     *                           fill in their stack trace
+     */
+    public ValidatorImpl(E value, ExecutionStrategy strategy, boolean writableStackTrace) {
+        this(value, strategy, writableStackTrace, ValidationObserver.none());
+    }
+
+    /**
+     * Creates a validator for the given object.
+     *
+     * @param value              object to validate
+     * @param strategy           strategy used to run the rules of each field
+     * @param writableStackTrace whether thrown {@link com.herculanoleo.sentinelflow.exceptions.ValidatorException}s
+     *                           fill in their stack trace
+     * @param observer           observer of the timings and outcomes of validations
+     */
+    public ValidatorImpl(E value, ExecutionStrategy strategy, boolean writableStackTrace, ValidationObserver observer) {
+        super(value, writableStackTrace, observer);
+        this.strategy = Objects.requireNonNull(strategy);
     }
 
     @Override
     public <V> ValidatorAddValidation<E, V> field(Field<V> field) {
-        return new ValidatorAddValidationImpl<>(this, new ValidatorFieldImpl<>(field));
+        return new ValidatorAddValidationImpl<>(this, new ValidatorFieldImpl<>(field, strategy), value);
     }
 
     /**
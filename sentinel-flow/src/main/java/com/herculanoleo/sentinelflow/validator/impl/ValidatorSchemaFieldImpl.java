@@ -0,0 +1,120 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
+import com.herculanoleo.sentinelflow.validations.CrossFieldValidation;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ValidatorSchema;
+import com.herculanoleo.sentinelflow.validator.ValidatorSchemaField;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Default implementation of {@link ValidatorSchemaField}.
+ *
+ * @param <E> parent object type
+ * @param <V> field value type
+ */
+public class ValidatorSchemaFieldImpl<E, V> implements ValidatorSchemaField<E, V> {
+
+    private final ValidatorSchemaImpl<E> schema;
+
+    private final String fieldName;
+
+    private final Function<E, V> capture;
+
+    /** Builds the unboxed evaluation of a numeric field from its rules; {@code null} for other fields. */
+    private final BiFunction<String, List<Validation<V>>, PrimitiveField<E, V>> primitive;
+
+    private final List<Validation<V>> validations = new ArrayList<>();
+
+    private final List<AsyncValidation<V>> asyncValidations = new ArrayList<>();
+
+    /** Every rule in insertion order, kept only once a conditional or cross-field rule is added. */
+    private List<FieldRule<E, V>> rules;
+
+    /**
+     * Creates a fluent step for attaching rules to a schema field.
+     *
+     * @param schema    parent schema
+     * @param fieldName field name used in error messages
+     * @param capture   function that extracts the field value from the object
+     */
+    public ValidatorSchemaFieldImpl(ValidatorSchemaImpl<E> schema, String fieldName, Function<E, V> capture) {
+        this(schema, fieldName, capture, null);
+    }
+
+    /**
+     * Creates a fluent step for a numeric field, evaluated unboxed when all of its rules are
+     * primitive rules.
+     */
+    ValidatorSchemaFieldImpl(ValidatorSchemaImpl<E> schema, String fieldName, Function<E, V> capture,
+                             BiFunction<String, List<Validation<V>>, PrimitiveField<E, V>> primitive) {
+        this.schema = schema;
+        this.fieldName = fieldName;
+        this.capture = capture;
+        this.primitive = primitive;
+    }
+
+    @Override
+    public ValidatorSchemaField<E, V> add(Validation<V> validation) {
+        Objects.requireNonNull(validation);
+        validations.add(validation);
+        if (null != rules) {
+            rules.add(new FieldRule.Plain<>(validation));
+        }
+        return this;
+    }
+
+    @Override
+    public ValidatorSchemaField<E, V> when(Predicate<? super E> condition, List<Validation<V>> validations) {
+        Objects.requireNonNull(condition);
+        rules().add(new FieldRule.Guarded<>(condition, List.copyOf(validations)));
+        return this;
+    }
+
+    @Override
+    public ValidatorSchemaField<E, V> constraint(CrossFieldValidation<V> validation) {
+        Objects.requireNonNull(validation);
+        rules().add(new FieldRule.Constraint<>(validation));
+        return this;
+    }
+
+    @Override
+    public ValidatorSchemaField<E, V> addAsync(AsyncValidation<V> validation) {
+        Objects.requireNonNull(validation);
+        asyncValidations.add(validation);
+        return this;
+    }
+
+    @Override
+    public ValidatorSchema<E> end() {
+        if (null != primitive && null == rules && asyncValidations.isEmpty()) {
+            var unboxed = primitive.apply(fieldName, List.copyOf(validations));
+            if (null != unboxed) {
+                schema.addField(new CompiledField<>(fieldName, capture, List.copyOf(validations), unboxed));
+                return schema;
+            }
+        }
+        schema.addField(null == rules
+                ? new CompiledField<>(fieldName, capture, List.copyOf(validations), List.copyOf(asyncValidations))
+                : new CompiledField<>(fieldName, capture, List.of(), List.copyOf(asyncValidations), List.copyOf(rules)));
+        return schema;
+    }
+
+    /**
+     * Returns the ordered rules, switching this field to them on the first conditional or cross-field rule.
+     */
+    private List<FieldRule<E, V>> rules() {
+        if (null == rules) {
+            rules = new ArrayList<>();
+            validations.forEach(validation -> rules.add(new FieldRule.Plain<>(validation)));
+        }
+        return rules;
+    }
+
+}
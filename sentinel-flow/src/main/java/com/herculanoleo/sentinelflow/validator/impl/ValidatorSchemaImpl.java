@@ -0,0 +1,126 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorFieldAddedException;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+import com.herculanoleo.sentinelflow.validator.ValidatorSchema;
+import com.herculanoleo.sentinelflow.validator.ValidatorSchemaField;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Default implementation of {@link ValidatorSchema}.
+ *
+ * <p>Instances are mutable builders and are not thread-safe; the {@link CompiledValidator}
+ * returned by {@link #compile()} is.
+ *
+ * @param <E> object type being validated
+ */
+public class ValidatorSchemaImpl<E> implements ValidatorSchema<E> {
+
+    private final ExecutionStrategy strategy;
+
+    private final boolean writableStackTrace;
+
+    private final ValidationObserver observer;
+
+    private final String name;
+
+    private final Map<String, CompiledField<E, ?>> fields = new LinkedHashMap<>();
+
+    /**
+     * Creates a schema whose compiled validator runs field rules sequentially.
+     */
+    public ValidatorSchemaImpl() {
+        this(ValidatorFieldImpl.DEFAULT_STRATEGY);
+    }
+
+    /**
+     * Creates a schema.
+     *
+     * @param strategy strategy used to run the rules of each field
+     */
+    public ValidatorSchemaImpl(ExecutionStrategy strategy) {
+        this(strategy, true);
+    }
+
+    /**
+     * Creates a schema.
+     *
+     * @param strategy           strategy used to run the rules of each field
+     * @param writableStackTrace whether thrown {@link com.herculanoleo.sentinelflow.exceptions.ValidatorException}s
+     *                           fill in their stack trace
+     */
+    public ValidatorSchemaImpl(ExecutionStrategy strategy, boolean writableStackTrace) {
+        this(strategy, writableStackTrace, ValidationObserver.none(), "");
+    }
+
+    /**
+     * Creates a schema whose compiled validator reports to an observer.
+     *
+     * @param strategy           strategy used to run the rules of each field
+     * @param writableStackTrace whether thrown {@link com.herculanoleo.sentinelflow.exceptions.ValidatorException}s
+     *                           fill in their stack trace
+     * @param observer           observer of the timings and outcomes of validations
+     * @param name               validator name reported to the observer
+     */
+    public ValidatorSchemaImpl(ExecutionStrategy strategy, boolean writableStackTrace, ValidationObserver observer,
+                               String name) {
+        this.strategy = Objects.requireNonNull(strategy);
+        this.writableStackTrace = writableStackTrace;
+        this.observer = Objects.requireNonNull(observer);
+        this.name = Objects.requireNonNull(name);
+    }
+
+    @Override
+    public <V> ValidatorSchemaField<E, V> field(String fieldName, Function<E, V> capture) {
+        Objects.requireNonNull(capture);
+        return new ValidatorSchemaFieldImpl<>(this, fieldName, capture);
+    }
+
+    @Override
+    public ValidatorSchemaField<E, Integer> intField(String fieldName, ToIntFunction<E> capture) {
+        Objects.requireNonNull(capture);
+        return new ValidatorSchemaFieldImpl<>(this, fieldName, object -> capture.applyAsInt(object),
+                (name, validations) -> PrimitiveField.ints(name, capture, validations));
+    }
+
+    @Override
+    public ValidatorSchemaField<E, Long> longField(String fieldName, ToLongFunction<E> capture) {
+        Objects.requireNonNull(capture);
+        return new ValidatorSchemaFieldImpl<>(this, fieldName, object -> capture.applyAsLong(object),
+                (name, validations) -> PrimitiveField.longs(name, capture, validations));
+    }
+
+    @Override
+    public ValidatorSchemaField<E, Double> doubleField(String fieldName, ToDoubleFunction<E> capture) {
+        Objects.requireNonNull(capture);
+        return new ValidatorSchemaFieldImpl<>(this, fieldName, object -> capture.applyAsDouble(object),
+                (name, validations) -> PrimitiveField.doubles(name, capture, validations));
+    }
+
+    @Override
+    public CompiledValidator<E> compile() {
+        return new CompiledValidatorImpl<>(List.copyOf(fields.values()), strategy, writableStackTrace, observer, name);
+    }
+
+    /**
+     * Registers a finished field definition.
+     *
+     * @throws ValidatorFieldAddedException when a field with the same name was already added
+     */
+    void addField(CompiledField<E, ?> field) {
+        if (fields.putIfAbsent(field.name(), field) != null) {
+            throw new ValidatorFieldAddedException(field.name());
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BoundedCacheTest {
+
+    @Test
+    void test_get_returns_cached_value_and_counts_hits_and_misses() {
+        var cache = new BoundedCache<String, Integer>(CacheSpec.maximumSize(10));
+
+        assertNull(cache.getIfPresent("a"));
+        cache.put("a", 1);
+
+        assertEquals(Integer.valueOf(1), cache.getIfPresent("a"));
+        assertEquals(new CacheStats(1, 1, 0), cache.stats());
+    }
+
+    @Test
+    void test_size_is_bounded() {
+        var cache = new BoundedCache<Integer, Integer>(CacheSpec.maximumSize(100));
+
+        for (int key = 0; key < 10_000; key++) {
+            cache.put(key, key);
+        }
+        cache.cleanUp();
+
+        assertEquals(100, cache.estimatedSize());
+        assertEquals(9_900, cache.stats().evictions());
+    }
+
+    @Test
+    void test_frequent_keys_survive_a_stream_of_one_off_keys() {
+        var cache = new BoundedCache<Integer, Integer>(CacheSpec.maximumSize(100));
+        int hotHits = 0;
+        int hotLookups = 0;
+
+        for (int i = 0; i < 20_000; i++) {
+            int key = i % 2 == 0 ? i % 50 : 1_000 + i;
+            boolean hit = null != cache.getIfPresent(key);
+            if (!hit) {
+                cache.put(key, key);
+            }
+            if (key < 50 && i >= 1_000) {
+                hotLookups++;
+                hotHits += hit ? 1 : 0;
+            }
+        }
+
+        assertTrue(hotHits > hotLookups * 0.95, hotHits + " of " + hotLookups);
+    }
+
+    @Test
+    void test_values_expire_after_write() {
+        var now = new AtomicLong();
+        var cache = new BoundedCache<String, Integer>(CacheSpec.maximumSize(10).withExpireAfterWrite(Duration.ofSeconds(1)),
+                now::get);
+        cache.put("a", 1);
+
+        now.addAndGet(Duration.ofMillis(999).toNanos());
+        assertEquals(Integer.valueOf(1), cache.getIfPresent("a"));
+        now.addAndGet(Duration.ofMillis(1).toNanos());
+        assertNull(cache.getIfPresent("a"));
+
+        cache.cleanUp();
+        assertEquals(0, cache.estimatedSize());
+    }
+
+    @Test
+    void test_put_replaces_value() {
+        var cache = new BoundedCache<String, Integer>(CacheSpec.maximumSize(1));
+
+        cache.put("a", 1);
+        cache.put("a", 2);
+        cache.cleanUp();
+
+        assertEquals(Integer.valueOf(2), cache.getIfPresent("a"));
+        assertEquals(1, cache.estimatedSize());
+        assertEquals(0, cache.stats().evictions());
+    }
+
+    @Test
+    void test_concurrent_access_stays_bounded() throws InterruptedException {
+        var cache = new BoundedCache<Integer, Integer>(CacheSpec.maximumSize(64));
+        var threads = new ArrayList<Thread>();
+        for (int thread = 0; thread < 4; thread++) {
+            int seed = thread;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    int key = (i * 31 + seed) % 512;
+                    if (null == cache.getIfPresent(key)) {
+                        cache.put(key, key);
+                    }
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (var thread : threads) {
+            thread.join();
+        }
+        cache.cleanUp();
+
+        assertTrue(cache.estimatedSize() <= 64, "size " + cache.estimatedSize());
+        var stats = cache.stats();
+        assertEquals(80_000, stats.hits() + stats.misses());
+    }
+
+}
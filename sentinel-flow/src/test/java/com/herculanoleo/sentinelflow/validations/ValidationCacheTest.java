@@ -0,0 +1,79 @@
+package com.herculanoleo.sentinelflow.validations;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private final Validation<String> digits = value -> {
+        calls.incrementAndGet();
+        return new ValidationResult(null == value || value.chars().allMatch(Character::isDigit), "digits only");
+    };
+
+    @Test
+    void test_cached_skips_evaluation_of_repeated_values() {
+        var cached = Validation.cached(digits, CacheSpec.maximumSize(10));
+
+        var first = cached.validate("12a");
+        var second = cached.validate("12a");
+        assertTrue(cached.validate("123").valid());
+
+        assertFalse(first.valid());
+        assertSame(first, second);
+        assertEquals(2, calls.get());
+        assertEquals(new CacheStats(1, 2, 0), cached.stats());
+        assertEquals(1.0 / 3, cached.stats().hitRate());
+    }
+
+    @Test
+    void test_null_values_are_not_cached() {
+        var cached = Validation.cached(digits, CacheSpec.maximumSize(10));
+
+        cached.validate(null);
+        cached.validate(null);
+
+        assertEquals(2, calls.get());
+        assertEquals(new CacheStats(0, 0, 0), cached.stats());
+    }
+
+    @Test
+    void test_rules_with_equal_keys_share_results() {
+        var cache = new ValidationCache(CacheSpec.maximumSize(10));
+
+        cache.cached(List.of("digits", "digits only"), digits).validate("123");
+        cache.cached(List.of("digits", "digits only"), digits).validate("123");
+        cache.cached(List.of("digits", "other message"), digits).validate("123");
+
+        assertEquals(2, calls.get());
+        assertEquals(new CacheStats(1, 2, 0), cache.stats());
+        assertEquals(2, cache.estimatedSize());
+    }
+
+    @Test
+    void test_cached_keeps_rule_name() {
+        var cached = Validation.cached(Validation.named("digits", digits), CacheSpec.maximumSize(10));
+
+        assertEquals("digits", cached.name());
+    }
+
+    @Test
+    void test_spec_rejects_invalid_bounds() {
+        assertThrows(IllegalArgumentException.class, () -> CacheSpec.maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> CacheSpec.maximumSize(1).withExpireAfterWrite(Duration.ZERO));
+        assertNull(CacheSpec.maximumSize(1).expireAfterWrite());
+    }
+
+}
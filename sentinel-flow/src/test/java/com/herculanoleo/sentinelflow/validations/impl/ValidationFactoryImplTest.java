@@ -1,9 +1,20 @@
 package com.herculanoleo.sentinelflow.validations.impl;
 
+import com.herculanoleo.sentinelflow.validations.CacheSpec;
+import com.herculanoleo.sentinelflow.validations.CacheStats;
+import com.herculanoleo.sentinelflow.validations.CachedValidation;
+import com.herculanoleo.sentinelflow.validations.DoubleValidation;
+import com.herculanoleo.sentinelflow.validations.IntValidation;
+import com.herculanoleo.sentinelflow.validations.LongValidation;
 import org.junit.jupiter.api.Test;
 
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ValidationFactoryImplTest {
@@ -17,6 +28,11 @@ class ValidationFactoryImplTest {
         assertNull(result.message());
     }
 
+    @Test
+    void test_valid_is_shared() {
+        assertSame(validationFactory.valid(), validationFactory.valid());
+    }
+
     @Test
     void test_invalid() {
         var result = validationFactory.invalid("message");
@@ -24,4 +40,81 @@ class ValidationFactoryImplTest {
         assertTrue("message".equals(result.message()));
     }
 
+    @Test
+    void test_default_factory_does_not_cache() {
+        assertFalse(validationFactory.cpf("invalid cpf") instanceof CachedValidation);
+        assertEquals(new CacheStats(0, 0, 0), validationFactory.cacheStats());
+    }
+
+    @Test
+    void test_caching_factory_shares_results_between_rule_instances() {
+        var factory = new ValidationFactoryImpl(CacheSpec.maximumSize(100));
+
+        assertFalse(factory.cpf("invalid cpf").validate("111.111.111-11").valid());
+        assertFalse(factory.cpf("invalid cpf").validate("111.111.111-11").valid());
+        assertTrue(factory.cnpj("invalid cnpj").validate("11.222.333/0001-81").valid());
+        assertInstanceOf(CachedValidation.class, factory.url("invalid url"));
+        assertInstanceOf(CachedValidation.class, factory.ipAddress("invalid ip"));
+
+        assertEquals(new CacheStats(1, 2, 0), factory.cacheStats());
+    }
+
+    @Test
+    void test_default_factory_does_not_name_rules() {
+        assertNull(validationFactory.email("invalid email").name());
+        assertNull(validationFactory.min(1, "too small").name());
+    }
+
+    @Test
+    void test_named_rules_factory_names_rules_after_factory_method() {
+        var factory = new ValidationFactoryImpl(null, true);
+
+        assertEquals("email", factory.email("invalid email").name());
+        assertEquals("positive", factory.positive("not positive").name());
+        assertEquals("regex", factory.regex("\\d+", "digits only").name());
+        assertFalse(factory.isNotBlank("required").validate(" ").valid());
+        assertEquals(new CacheStats(0, 0, 0), factory.cacheStats());
+    }
+
+    @Test
+    void test_named_rules_factory_keeps_primitive_rules() {
+        var factory = new ValidationFactoryImpl(null, true);
+
+        var ints = assertInstanceOf(IntValidation.class, factory.min(1, "too small"));
+        var longs = assertInstanceOf(LongValidation.class, factory.max(10L, "too large"));
+        var doubles = assertInstanceOf(DoubleValidation.class, factory.between(0d, 1d, "out of range"));
+
+        assertEquals("min", ints.name());
+        assertFalse(ints.validateInt(0).valid());
+        assertTrue(ints.validate(null).valid());
+        assertEquals("max", longs.name());
+        assertFalse(longs.validateLong(11L).valid());
+        assertEquals("between", doubles.name());
+        assertTrue(doubles.validateDouble(0.5).valid());
+    }
+
+    @Test
+    void test_named_rules_factory_caches_named_rules() {
+        var factory = new ValidationFactoryImpl(CacheSpec.maximumSize(100), true);
+
+        var cpf = factory.cpf("invalid cpf");
+        assertFalse(cpf.validate("111.111.111-11").valid());
+        assertFalse(cpf.validate("111.111.111-11").valid());
+
+        assertEquals("cpf", cpf.name());
+        assertEquals(new CacheStats(1, 1, 0), factory.cacheStats());
+    }
+
+    @Test
+    void test_caching_factory_keys_rules_by_arguments() {
+        var factory = new ValidationFactoryImpl(CacheSpec.maximumSize(100));
+
+        assertTrue(factory.regex("\\d+", "digits only").validate("123").valid());
+        assertFalse(factory.matches(Pattern.compile("[a-z]+"), "letters only").validate("123").valid());
+        var failure = factory.regex("[a-z]+", "lowercase only").validate("123");
+
+        assertEquals("lowercase only", failure.message());
+        assertEquals(new CacheStats(0, 3, 0), factory.cacheStats());
+    }
+
 }
@@ -2,6 +2,7 @@ package com.herculanoleo.sentinelflow.validations.types;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -42,4 +43,21 @@ class ArrayValidationsTest extends AbstractValidationTest {
                 .validate(new String[]{"a", "b", "c"}).valid());
     }
 
+    @Test
+    void test_valid_arrayEach() {
+        var validation = validationFactory.arrayEach(validationFactory.isNotBlank("message"));
+        assertTrue(validation.validate(new String[]{"a", "b"}).valid());
+        assertTrue(validation.validate(null).valid());
+    }
+
+    @Test
+    void test_invalid_arrayEach() {
+        var validation = validationFactory.arrayEach(validationFactory.isNotBlank("message"));
+        var result = validation.validate(new String[]{"a", null});
+        assertFalse(result.valid());
+        assertEquals(1, result.details().size());
+        assertEquals("[1]", result.details().get(0).path());
+        assertEquals("message", result.details().get(0).message());
+    }
+
 }
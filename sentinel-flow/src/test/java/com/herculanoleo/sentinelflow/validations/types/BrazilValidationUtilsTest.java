@@ -0,0 +1,95 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import br.com.caelum.stella.validation.CNPJValidator;
+import br.com.caelum.stella.validation.CPFValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Equivalence tests of the CPF/CNPJ check-digit engine against Stella.
+ *
+ * <p>For each random base, every possible pair of check digits is tried, so exactly one valid
+ * document and 99 invalid ones are compared per base.
+ */
+class BrazilValidationUtilsTest {
+
+    private static final int BASES = 2_000;
+
+    @Test
+    void test_cpf_matches_stella() {
+        var unmasked = new CPFValidator();
+        var masked = new CPFValidator(true);
+        assertEquivalent(9, BrazilValidationUtils::isValidCpf, unmasked::assertValid, masked::assertValid,
+                digits -> digits.substring(0, 3) + "." + digits.substring(3, 6) + "." + digits.substring(6, 9)
+                        + "-" + digits.substring(9));
+    }
+
+    @Test
+    void test_cnpj_matches_stella() {
+        var unmasked = new CNPJValidator();
+        var masked = new CNPJValidator(true);
+        assertEquivalent(12, BrazilValidationUtils::isValidCnpj, unmasked::assertValid, masked::assertValid,
+                digits -> digits.substring(0, 2) + "." + digits.substring(2, 5) + "." + digits.substring(5, 8)
+                        + "/" + digits.substring(8, 12) + "-" + digits.substring(12));
+    }
+
+    @Test
+    void test_repeated_digits() {
+        for (char digit = '0'; digit <= '9'; digit++) {
+            assertFalse(BrazilValidationUtils.isValidCpf(String.valueOf(digit).repeat(11)));
+            assertFalse(BrazilValidationUtils.isValidCnpj(String.valueOf(digit).repeat(14)));
+        }
+    }
+
+    @Test
+    void test_masks() {
+        assertTrue(BrazilValidationUtils.isValidCpf("617.649.230-06"));
+        assertTrue(BrazilValidationUtils.isValidCnpj("47.512.416/0001-52"));
+        assertFalse(BrazilValidationUtils.isValidCpf("617.649.23006"));
+        assertFalse(BrazilValidationUtils.isValidCpf("617-649-230.06"));
+        assertFalse(BrazilValidationUtils.isValidCnpj("47.512.416.0001-52"));
+        assertFalse(BrazilValidationUtils.isValidCpf("6176492300a"));
+        assertFalse(BrazilValidationUtils.isValidCpf(""));
+    }
+
+    private static void assertEquivalent(int baseLength, Predicate<String> engine, Consumer<String> unmasked,
+                                         Consumer<String> masked, UnaryOperator<String> mask) {
+        var random = new Random(42);
+        for (int i = 0; i < BASES; i++) {
+            var base = new StringBuilder();
+            for (int j = 0; j < baseLength; j++) {
+                base.append((char) ('0' + random.nextInt(10)));
+            }
+            int validCount = 0;
+            for (int check = 0; check < 100; check++) {
+                var document = base.toString() + (check / 10) + (check % 10);
+                boolean valid = engine.test(document);
+                assertEquals(accepts(unmasked, document), valid, document);
+                var formatted = mask.apply(document);
+                assertEquals(accepts(masked, formatted), engine.test(formatted), formatted);
+                if (valid) {
+                    validCount++;
+                }
+            }
+            assertTrue(validCount <= 1, base.toString());
+        }
+    }
+
+    private static boolean accepts(Consumer<String> stella, String document) {
+        try {
+            stella.accept(document);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+}
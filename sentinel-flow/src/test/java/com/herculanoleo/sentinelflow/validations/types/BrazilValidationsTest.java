@@ -38,6 +38,13 @@ class BrazilValidationsTest extends AbstractValidationTest {
         assertEquals("message", result.message());
     }
 
+    @Test
+    void test_valid_cpf_with_mask() {
+        var validation = validationFactory.cpf("message");
+        var result = validation.validate("617.649.230-06");
+        assertTrue(result.valid());
+    }
+
     @Test
     void test_valid_cnpj() {
         var validation = validationFactory.cnpj("message");
@@ -52,6 +59,13 @@ class BrazilValidationsTest extends AbstractValidationTest {
         assertTrue(result.valid());
     }
 
+    @Test
+    void test_valid_cnpj_with_mask() {
+        var validation = validationFactory.cnpj("message");
+        var result = validation.validate("47.512.416/0001-52");
+        assertTrue(result.valid());
+    }
+
     @Test
     void test_invalid_cnpj_length() {
         var validation = validationFactory.cnpj("message");
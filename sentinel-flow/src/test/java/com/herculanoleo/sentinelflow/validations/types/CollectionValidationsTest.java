@@ -2,10 +2,16 @@ package com.herculanoleo.sentinelflow.validations.types;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class CollectionValidationsTest extends AbstractValidationTest {
@@ -107,4 +113,66 @@ class CollectionValidationsTest extends AbstractValidationTest {
         assertEquals("message", result.message());
     }
 
+    @Test
+    void test_valid_each() {
+        var validation = validationFactory.<List<String>, String>each(validationFactory.isNotBlank("message"));
+        assertTrue(validation.validate(List.of("a", "b")).valid());
+        assertTrue(validation.validate(List.of()).valid());
+        assertTrue(validation.validate(null).valid());
+    }
+
+    @Test
+    void test_invalid_each() {
+        var validation = validationFactory.<List<String>, String>each(validationFactory.isNotBlank("message"));
+        var result = validation.validate(List.of("a", " ", "b", ""));
+        assertFalse(result.valid());
+        assertEquals(2, result.details().size());
+        assertEquals("[1]", result.details().get(0).path());
+        assertEquals("message", result.details().get(0).message());
+        assertEquals("[3]", result.details().get(1).path());
+    }
+
+    @Test
+    void test_each_iterates_non_list_collections() {
+        var validation = validationFactory.<Set<Integer>, Integer>each(validationFactory.max(10, "message"));
+        var result = validation.validate(new LinkedHashSet<>(List.of(1, 20, 3)));
+        assertFalse(result.valid());
+        assertEquals("[1]", result.details().get(0).path());
+    }
+
+    @Test
+    void test_each_parallel_keeps_element_order() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var validation = validationFactory.<List<Integer>, Integer>each(
+                    validationFactory.max(9_000, "message"), executor, 1_000);
+            var values = IntStream.range(0, 10_000).boxed().toList();
+
+            var result = validation.validate(values);
+
+            assertFalse(result.valid());
+            assertEquals(999, result.details().size());
+            assertEquals("[9001]", result.details().get(0).path());
+            assertEquals("[9999]", result.details().get(998).path());
+            assertTrue(validation.validate(new LinkedList<>(IntStream.rangeClosed(0, 9_000).boxed().toList())).valid());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_each_parallel_rethrows_rule_failure() {
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var validation = validationFactory.<List<Integer>, Integer>each(value -> {
+                throw new IllegalStateException("boom");
+            }, executor, 1);
+            assertThrows(IllegalStateException.class, () -> validation.validate(List.of(1, 2)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> validationFactory.each(validationFactory.isNotBlank("message"), executor, 0));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,76 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the digit scanners with the {@code replaceAll("\\D", "")} normalization they replaced.
+ */
+class DigitUtilsTest {
+
+    private static final String ALPHABET = "0123456789 ().-/a\u0663";
+
+    @Test
+    void test_isDigits() {
+        assertTrue(DigitUtils.isDigits(""));
+        assertTrue(DigitUtils.isDigits("0123456789"));
+        assertFalse(DigitUtils.isDigits("123-4"));
+        assertFalse(DigitUtils.isDigits("\u0663"));
+    }
+
+    @Test
+    void test_countDigits_and_digitAt() {
+        assertEquals(8, DigitUtils.countDigits("01310-100"));
+        assertEquals(1, DigitUtils.digitAt("(11) 9", 1));
+        assertEquals(9, DigitUtils.digitAt("(11) 9", 2));
+        assertEquals(-1, DigitUtils.digitAt("(11) 9", 3));
+    }
+
+    @Test
+    void test_matches_replaceAll() {
+        var random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            var chars = new char[random.nextInt(16)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            }
+            var value = new String(chars);
+            var digits = value.replaceAll("\\D", "");
+
+            assertEquals(value.equals(digits), DigitUtils.isDigits(value), value);
+            assertEquals(digits.length(), DigitUtils.countDigits(value), value);
+            assertEquals(digits.length() == 8, BrazilValidationUtils.isValidCep(value), value);
+            assertEquals(isValidPhoneBr(digits), BrazilValidationUtils.isValidPhoneBr(value), value);
+        }
+    }
+
+    @Test
+    void test_phoneBr_ddd_and_mobile_prefix() {
+        assertFalse(BrazilValidationUtils.isValidPhoneBr("(10) 3333-4444"));
+        assertTrue(BrazilValidationUtils.isValidPhoneBr("(99) 3333-4444"));
+        assertFalse(BrazilValidationUtils.isValidPhoneBr("(11) 88888-7777"));
+    }
+
+    /**
+     * Former implementation, applied to the already stripped digits.
+     */
+    private static boolean isValidPhoneBr(String digits) {
+        if (digits.length() != 10 && digits.length() != 11) {
+            return false;
+        }
+        int ddd = Integer.parseInt(digits.substring(0, 2));
+        if (ddd < 11 || ddd > 99) {
+            return false;
+        }
+        if (digits.length() == 11) {
+            return digits.charAt(2) == '9';
+        }
+        return true;
+    }
+
+}
@@ -98,4 +98,13 @@ class DoubleValidationsTest extends AbstractValidationTest {
         assertFalse(validationFactory.lt(0.0, "message").validate(1.0).valid());
     }
 
+    @Test
+    void test_primitive_rules_validate_double_values() {
+        assertTrue(validationFactory.gt(0.0, "message").validateDouble(Double.MIN_VALUE).valid());
+        assertFalse(validationFactory.lt(0.0, "message").validateDouble(0.0).valid());
+        assertTrue(validationFactory.min(0.0, "message").validateDouble(Double.POSITIVE_INFINITY).valid());
+        assertFalse(validationFactory.max(1.0, "message").validateDouble(Double.NaN).valid());
+        assertTrue(validationFactory.between(0.0, 1.0, "message").validate(null).valid());
+    }
+
 }
@@ -1,9 +1,11 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
+import com.herculanoleo.sentinelflow.validations.IntValidation;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class IntegerValidationsTest extends AbstractValidationTest {
@@ -30,6 +32,14 @@ class IntegerValidationsTest extends AbstractValidationTest {
         assertTrue(result.valid());
     }
 
+    @Test
+    void test_primitive_rule_shares_null_result() {
+        IntValidation even = value -> value % 2 == 0 ? validationFactory.valid() : validationFactory.invalid("odd");
+
+        assertTrue(even.validate(null).valid());
+        assertSame(even.validate(null), even.validate(null));
+    }
+
     @Test
     void test_valid_min_null() {
         var validation = validationFactory.min(2, "message");
@@ -137,4 +147,28 @@ class IntegerValidationsTest extends AbstractValidationTest {
         assertFalse(validationFactory.lt(5, "message").validate(5).valid());
     }
 
+    @Test
+    void test_primitive_rules_validate_int_values() {
+        assertTrue(validationFactory.between(1, 3, "message").validateInt(3).valid());
+        assertFalse(validationFactory.between(1, 3, "message").validateInt(4).valid());
+        var min = validationFactory.min(1, "message");
+        assertSame(min.validateInt(0), min.validateInt(-1));
+        assertTrue(validationFactory.positive("message").validateInt(1).valid());
+        assertFalse(validationFactory.negative("message").validateInt(0).valid());
+    }
+
+    @Test
+    void test_primitive_gt_lt_at_int_bounds() {
+        assertFalse(validationFactory.gt(Integer.MAX_VALUE, "message").validateInt(Integer.MAX_VALUE).valid());
+        assertFalse(validationFactory.lt(Integer.MIN_VALUE, "message").validateInt(Integer.MIN_VALUE).valid());
+        assertTrue(validationFactory.gt(Integer.MAX_VALUE - 1, "message").validateInt(Integer.MAX_VALUE).valid());
+        assertTrue(validationFactory.lt(Integer.MIN_VALUE + 1, "message").validateInt(Integer.MIN_VALUE).valid());
+    }
+
+    @Test
+    void test_invalid_zero_null() {
+        assertFalse(validationFactory.zero("message").validate(null).valid());
+        assertTrue(validationFactory.positive("message").validate(null).valid());
+    }
+
 }
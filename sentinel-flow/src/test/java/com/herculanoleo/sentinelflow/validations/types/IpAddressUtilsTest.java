@@ -0,0 +1,188 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IpAddressUtilsTest {
+
+    private static final Pattern IPV4_REGEX = Pattern.compile(
+            "^((25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d{2}|[1-9]?\\d)$");
+
+    /** Groups of more than four hex digits and octets with leading zeros, which InetAddress tolerates. */
+    private static final Pattern LENIENT_JDK_FORMS = Pattern.compile(".*([0-9a-fA-F]{5}|[:.]0\\d).*");
+
+    @Test
+    void test_ipv4_matches_regex() {
+        StringValidationUtilsTest.assertEquivalent(IPV4_REGEX, IpAddressUtils::isValidIpv4, "0125.69\u0663 ", 18,
+                List.of("192.168.100.200", "255.255.255.255", "256.1.1.1", "01.1.1.1", "0.0.0.0",
+                        "1.1.1", "1.1.1.1.", "1..1.1", "1.1.1.1000"));
+    }
+
+    @Test
+    void test_ipv4_all_octets() {
+        for (int octet = 0; octet < 1_000; octet++) {
+            var value = "10.0.0." + octet;
+            assertEquals(octet <= 255, IpAddressUtils.isValidIpv4(value), value);
+            assertFalse(IpAddressUtils.isValidIpv4("10.0.0.0" + octet), "10.0.0.0" + octet);
+        }
+        assertEquals(0x0A000001L, IpAddressUtils.parseIpv4("10.0.0.1", 0, 8));
+    }
+
+    @Test
+    void test_ipv6_valid_forms() {
+        for (var value : List.of("2001:db8::1", "::", "::1", "1::", "1:2:3:4:5:6:7:8", "1:2:3:4:5:6::8",
+                "::2:3:4:5:6:7:8", "2001:DB8:0:0:0:0:0:1", "::ffff:192.168.0.1", "1:2:3:4:5:6:1.2.3.4",
+                "::1.2.3.4", "fe80::1%eth0", "fe80::1%1")) {
+            assertTrue(IpAddressUtils.isValidIpv6(value), value);
+            assertTrue(IpAddressUtils.isValidIpAddress(value), value);
+        }
+    }
+
+    @Test
+    void test_ipv6_invalid_forms() {
+        for (var value : List.of(":", ":::", "1:::2", "1::2::3", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7::8",
+                "1:2:3:4:5:6:7", ":1::", "1::2:", "12345::", "g::1", "[::1]", "fe80::1%", "fe80::1%e/0",
+                "::ffff:1.2.3", "::ffff:01.2.3.4", "1:2:3:4:5:6:7:1.2.3.4", "::1.2.3.4:1", "1.2.3.4::",
+                "::\u0663", "2001:db8::1 ")) {
+            assertFalse(IpAddressUtils.isValidIpv6(value), value);
+        }
+        assertFalse(IpAddressUtils.isValidIpAddress(""));
+        assertFalse(IpAddressUtils.isValidIpAddress("not-an-ip"));
+    }
+
+    /**
+     * Compares with {@link InetAddress#getByName(String)} on literals it parses without a lookup
+     * (they start with a hex digit or ':' and contain ':'), leaving out the non-RFC forms it tolerates.
+     */
+    @Test
+    void test_ipv6_matches_jdk_literal_parser() throws UnknownHostException {
+        var alphabet = "0123456789abcdefABCDEF:.::";
+        var seeds = List.of("2001:db8::1", "::", "::1", "1::", "::ffff:1.2.3.4", "1:2:3:4:5:6:7:8",
+                "1:2:3:4:5:6:1.2.3.4", "fe80::1:2:3:4", "1::2:3:4:5:6:7");
+        var random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            var builder = new StringBuilder(seeds.get(random.nextInt(seeds.size())));
+            for (int m = 1 + random.nextInt(2); m > 0; m--) {
+                int position = random.nextInt(builder.length());
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                switch (random.nextInt(3)) {
+                    case 0 -> builder.insert(position, c);
+                    case 1 -> builder.deleteCharAt(position);
+                    default -> builder.setCharAt(position, c);
+                }
+            }
+            var value = builder.toString();
+            if (value.isEmpty() || value.indexOf(':') < 0
+                    || (Character.digit(value.charAt(0), 16) < 0 && value.charAt(0) != ':')
+                    || LENIENT_JDK_FORMS.matcher(value).matches()) {
+                continue;
+            }
+            assertEquals(isJdkLiteral(value), IpAddressUtils.isValidIpv6(value), value);
+        }
+    }
+
+    @Test
+    void test_parse() {
+        assertEquals(List.of(0L, 0xFFFF_0A01_0203L), halves("10.1.2.3"));
+        assertEquals(List.of(0L, 0xFFFF_0A01_0203L), halves("::ffff:10.1.2.3"));
+        assertEquals(List.of(0x2001_0DB8_0000_0000L, 1L), halves("2001:db8::1%eth0"));
+        assertEquals(List.of(0x0001_0002_0003_0004L, 0x0005_0006_0007_0008L), halves("1:2:3:4:5:6:7:8"));
+        assertEquals(List.of(0L, 0L), halves("::"));
+        assertNull(IpAddressUtils.parse("10.1.2"));
+        assertNull(IpAddressUtils.parse("2001:db8:::1"));
+    }
+
+    @Test
+    void test_parse_matches_jdk() throws UnknownHostException {
+        var random = new Random(7);
+        for (int index = 0; index < 2_000; index++) {
+            var bytes = new byte[16];
+            random.nextBytes(bytes);
+            var address = InetAddress.getByAddress(bytes).getHostAddress();
+            var expected = List.of(ByteBuffer.wrap(bytes).getLong(), ByteBuffer.wrap(bytes).getLong(8));
+            assertEquals(expected, halves(address), address);
+        }
+    }
+
+    @Test
+    void test_matchesAny() {
+        var ranges = new IpRange[]{IpRange.parse("10.0.0.0/8"), IpRange.parse("2001:db8::/32")};
+        assertTrue(IpAddressUtils.matchesAny("10.20.30.40", ranges));
+        assertTrue(IpAddressUtils.matchesAny("2001:db8::1", ranges));
+        assertFalse(IpAddressUtils.matchesAny("11.0.0.1", ranges));
+        assertFalse(IpAddressUtils.matchesAny("not an address", ranges));
+        assertFalse(IpAddressUtils.matchesAny("10.0.0.1", new IpRange[0]));
+    }
+
+    @Test
+    void test_IpRange_ipv4() {
+        var range = IpRange.parse("10.1.0.0/16");
+        assertTrue(range.contains("10.1.0.0"));
+        assertTrue(range.contains("10.1.255.255"));
+        assertTrue(range.contains("::ffff:10.1.2.3"));
+        assertFalse(range.contains("10.2.0.0"));
+        assertFalse(range.contains("2001:db8::1"));
+        assertFalse(range.contains("10.1.0.256"));
+
+        assertTrue(IpRange.parse("0.0.0.0/0").contains("255.255.255.255"));
+        assertFalse(IpRange.parse("0.0.0.0/0").contains("::1"));
+        assertTrue(IpRange.parse("192.168.1.77/24").contains("192.168.1.1"));
+        assertTrue(IpRange.parse("192.168.1.1").contains("192.168.1.1"));
+        assertFalse(IpRange.parse("192.168.1.1").contains("192.168.1.2"));
+    }
+
+    @Test
+    void test_IpRange_ipv6() {
+        var range = IpRange.parse("2001:db8::/32");
+        assertTrue(range.contains("2001:db8::1"));
+        assertTrue(range.contains("2001:DB8:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertTrue(range.contains("2001:db8::1%eth0"));
+        assertFalse(range.contains("2001:db9::"));
+        assertFalse(range.contains("10.0.0.1"));
+
+        assertTrue(IpRange.parse("::/0").contains("10.0.0.1"));
+        assertTrue(IpRange.parse("::ffff:0:0/96").contains("10.0.0.1"));
+        assertTrue(IpRange.parse("fe80::/10").contains("febf::1"));
+        assertFalse(IpRange.parse("fe80::/10").contains("fec0::1"));
+        assertTrue(IpRange.parse("1:2:3:4:5:6:7:8/128").contains("1:2:3:4:5:6:7:8"));
+        assertFalse(IpRange.parse("1:2:3:4:5:6:7:8/127").contains("1:2:3:4:5:6:7:a"));
+        assertTrue(IpRange.parse("1:2:3:4:5:6:7:8/127").contains("1:2:3:4:5:6:7:9"));
+    }
+
+    @Test
+    void test_IpRange_invalid() {
+        for (var cidr : List.of("10.0.0.0/33", "::/129", "10.0.0.0/", "10.0.0.0/-1", "10.0.0/8", "fe80::1%eth0/64",
+                "10.0.0.0/8/8", "")) {
+            assertThrows(IllegalArgumentException.class, () -> IpRange.parse(cidr), cidr);
+        }
+    }
+
+    private static List<Long> halves(String value) {
+        long[] halves = IpAddressUtils.parse(value);
+        assertNotNull(halves);
+        return List.of(halves[0], halves[1]);
+    }
+
+    private static boolean isJdkLiteral(String value) {
+        try {
+            InetAddress.getByName(value);
+            return true;
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+
+}
@@ -103,4 +103,13 @@ class LongValidationsTest extends AbstractValidationTest {
         assertTrue(validationFactory.eq(0L, "message").validate(0L).valid());
     }
 
+    @Test
+    void test_primitive_rules_validate_long_values() {
+        assertTrue(validationFactory.between(1L, 3L, "message").validateLong(3L).valid());
+        assertFalse(validationFactory.between(1L, 3L, "message").validateLong(4L).valid());
+        assertTrue(validationFactory.min(1L, "message").validate(null).valid());
+        assertFalse(validationFactory.gt(Long.MAX_VALUE, "message").validateLong(Long.MAX_VALUE).valid());
+        assertFalse(validationFactory.lt(Long.MIN_VALUE, "message").validateLong(Long.MIN_VALUE).valid());
+    }
+
 }
@@ -2,8 +2,10 @@ package com.herculanoleo.sentinelflow.validations.types;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,4 +46,38 @@ class MapValidationsTest extends AbstractValidationTest {
                 .validate(Map.of("a", 1, "b", 2, "c", 3)).valid());
     }
 
+    @Test
+    void test_valid_eachKey_eachValue() {
+        var prices = Map.of("SKU-1", 10, "SKU-2", 20);
+        assertTrue(validationFactory.<Map<String, Integer>, String>eachKey(validationFactory.lengthMax(5, "message"))
+                .validate(prices).valid());
+        assertTrue(validationFactory.<Map<String, Integer>, Integer>eachValue(validationFactory.min(1, "message"))
+                .validate(prices).valid());
+        assertTrue(validationFactory.<Map<String, Integer>, Integer>eachValue(validationFactory.min(1, "message"))
+                .validate(null).valid());
+    }
+
+    @Test
+    void test_invalid_eachKey() {
+        var result = validationFactory.<Map<String, Integer>, String>eachKey(validationFactory.lengthMax(5, "message"))
+                .validate(Map.of("SKU-100", 10));
+        assertFalse(result.valid());
+        assertEquals("[SKU-100]", result.details().get(0).path());
+        assertEquals("message", result.details().get(0).message());
+    }
+
+    @Test
+    void test_invalid_eachValue() {
+        var prices = new LinkedHashMap<String, Integer>();
+        prices.put("SKU-1", 0);
+        prices.put("SKU-2", 5);
+        prices.put("SKU-3", -1);
+        var result = validationFactory.<Map<String, Integer>, Integer>eachValue(validationFactory.min(1, "message"))
+                .validate(prices);
+        assertFalse(result.valid());
+        assertEquals(2, result.details().size());
+        assertEquals("[SKU-1]", result.details().get(0).path());
+        assertEquals("[SKU-3]", result.details().get(1).path());
+    }
+
 }
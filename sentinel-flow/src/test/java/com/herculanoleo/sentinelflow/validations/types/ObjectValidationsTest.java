@@ -1,12 +1,15 @@
 package com.herculanoleo.sentinelflow.validations.types;
 
 import com.herculanoleo.sentinelflow.mock.UserMock;
+import com.herculanoleo.sentinelflow.validator.Captures;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ObjectValidationsTest extends AbstractValidationTest {
@@ -95,4 +98,57 @@ class ObjectValidationsTest extends AbstractValidationTest {
         assertEquals("message", result.message());
     }
 
+    @Test
+    void test_valid_field() {
+        var validation = validationFactory.field("name", UserMock::name, validationFactory.isNotBlank("message"));
+        assertTrue(validation.validate(UserMock.johnDoe()).valid());
+        assertTrue(validation.validate(null).valid());
+    }
+
+    @Test
+    void test_invalid_field() {
+        var validation = validationFactory.field("name", UserMock::name, validationFactory.isNotBlank("message"));
+        var result = validation.validate(new UserMock(" ", "Doe", null));
+        assertFalse(result.valid());
+        assertEquals(".name", result.path());
+        assertEquals("message", result.message());
+    }
+
+    @Test
+    void test_invalid_field_multiple_rules() {
+        var validation = validationFactory.field("name", UserMock::name,
+                List.of(validationFactory.isNotNull("required"), validationFactory.isNotBlank("blank")));
+        var result = validation.validate(new UserMock(null, "Doe", null));
+        assertFalse(result.valid());
+        assertEquals(".name", result.path());
+        assertEquals(2, result.details().size());
+        assertEquals("blank", result.details().get(1).message());
+    }
+
+    @Test
+    void test_field_capture_NullPointerException_propagates() {
+        var validation = validationFactory.<UserMock, String>field("name", user -> {
+            throw new NullPointerException();
+        }, validationFactory.isNotNull("message"));
+        assertThrows(NullPointerException.class, () -> validation.validate(UserMock.johnDoe()));
+    }
+
+    @Test
+    void test_field_null_safe_capture() {
+        var validation = validationFactory.field("name", Captures.path(UserMock::name, String::trim),
+                validationFactory.isNotNull("message"));
+        var result = validation.validate(new UserMock(null, "Doe", null));
+        assertFalse(result.valid());
+        assertEquals(".name", result.path());
+    }
+
+    @Test
+    void test_each_field_path() {
+        var validation = validationFactory.<List<UserMock>, UserMock>each(
+                validationFactory.field("name", UserMock::name, validationFactory.isNotBlank("message")));
+        var result = validation.validate(List.of(UserMock.johnDoe(), new UserMock("", "Doe", null)));
+        assertFalse(result.valid());
+        assertEquals("[1].name", result.details().get(0).path());
+    }
+
 }
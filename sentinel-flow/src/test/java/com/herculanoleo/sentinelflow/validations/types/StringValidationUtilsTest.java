@@ -0,0 +1,108 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Differential tests of the hand-written scanners against the regular expressions they replaced.
+ */
+class StringValidationUtilsTest {
+
+    private static final Pattern EMAIL_REGEX = Pattern.compile("^[\\w-.]+@([\\w-]+\\.)+[\\w-]{2,}$");
+    private static final Pattern ALPHA_REGEX = Pattern.compile("^[a-zA-Z]+$");
+    private static final Pattern ALPHA_NUMERIC_REGEX = Pattern.compile("^[a-zA-Z0-9]+$");
+    private static final Pattern UUID_REGEX = Pattern.compile("^[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}$");
+    private static final Pattern SLUG_REGEX = Pattern.compile("^[a-z0-9]+(?:-[a-z0-9]+)*$");
+
+    private static final int ITERATIONS = 200_000;
+
+    @Test
+    void test_email_matches_regex() {
+        assertEquivalent(EMAIL_REGEX, StringValidationUtils::isValidEmail, "aZ9_-.@ \u00e9\n", 24,
+                List.of("john.doe@example.com", "a@b.co", "-.@x-y.z_w", "a@b.c", "a@.bc", "a@b..cd", "@b.cd"));
+    }
+
+    @Test
+    void test_uuid_matches_regex() {
+        assertEquivalent(UUID_REGEX, StringValidationUtils::isValidUuid, "09afAFgG-{} ", 38,
+                List.of("123e4567-e89b-12d3-a456-426614174000", "123E4567-E89B-12D3-A456-426614174000",
+                        "123e4567e89b-12d3-a456-426614174000-", "123e4567-e89b-12d3-a456-42661417400"));
+    }
+
+    @Test
+    void test_alpha_matches_regex() {
+        assertEquivalent(ALPHA_REGEX, StringValidationUtils::isAlpha, "azAZ09 _\u00e9", 8,
+                List.of("Sentinel", "abc1", "", "a\u00e7\u00e3o"));
+    }
+
+    @Test
+    void test_alphaNumeric_matches_regex() {
+        assertEquivalent(ALPHA_NUMERIC_REGEX, StringValidationUtils::isAlphaNumeric, "azAZ09 _-\u00e9\u0663", 8,
+                List.of("Sentinel2", "abc-1", "", "\u0663"));
+    }
+
+    @Test
+    void test_slug_matches_regex() {
+        assertEquivalent(SLUG_REGEX, StringValidationUtils::isSlug, "az09-A_ ", 12,
+                List.of("my-page-title", "-a", "a-", "a--b", "a", "A-b"));
+    }
+
+    /**
+     * Checks the scanner against the regex on the seeds, on random mutations of the seeds and on
+     * random strings drawn from the alphabet.
+     */
+    static void assertEquivalent(Pattern regex, Predicate<String> scanner, String alphabet, int maxLength,
+                                         List<String> seeds) {
+        var random = new Random(42);
+        for (var seed : seeds) {
+            assertSame(regex, scanner, seed);
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            String candidate;
+            if (i % 2 == 0) {
+                var chars = new char[random.nextInt(maxLength + 1)];
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = alphabet.charAt(random.nextInt(alphabet.length()));
+                }
+                candidate = new String(chars);
+            } else {
+                candidate = mutate(seeds.get(random.nextInt(seeds.size())), alphabet, random);
+            }
+            assertSame(regex, scanner, candidate);
+        }
+    }
+
+    private static String mutate(String seed, String alphabet, Random random) {
+        var builder = new StringBuilder(seed);
+        int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            char c = alphabet.charAt(random.nextInt(alphabet.length()));
+            int position = builder.isEmpty() ? 0 : random.nextInt(builder.length());
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(position, c);
+                case 1 -> {
+                    if (!builder.isEmpty()) {
+                        builder.deleteCharAt(position);
+                    }
+                }
+                default -> {
+                    if (!builder.isEmpty()) {
+                        builder.setCharAt(position, c);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private static void assertSame(Pattern regex, Predicate<String> scanner, String candidate) {
+        assertEquals(regex.matcher(candidate).matches(), scanner.test(candidate), () -> "input: " + candidate);
+    }
+
+}
@@ -8,6 +8,8 @@ import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StringValidationsTest extends AbstractValidationTest {
@@ -297,4 +299,67 @@ class StringValidationsTest extends AbstractValidationTest {
         assertFalse(validationFactory.fileExtension(Set.of("pdf"), "message").validate("document").valid());
     }
 
+    @Test
+    void test_valid_fileExtension_ignores_case() {
+        var validation = validationFactory.fileExtension(Set.of("PDF", ".png"), "message");
+        assertTrue(validation.validate("document.Pdf").valid());
+        assertTrue(validation.validate("image.PNG").valid());
+        assertFalse(validation.validate("image.pn").valid());
+    }
+
+    @Test
+    void test_results_are_shared_between_calls() {
+        var validation = validationFactory.lengthMin(3, "message");
+        assertSame(validation.validate("abc"), validation.validate("abcd"));
+        assertSame(validation.validate("a"), validation.validate("ab"));
+    }
+
+    @Test
+    void test_valid_ipAddress_v4_mapped() {
+        assertTrue(validationFactory.ipAddress("message").validate("::ffff:192.168.0.1").valid());
+    }
+
+    @Test
+    void test_valid_ipInRange() {
+        var validation = validationFactory.ipInRange(Set.of("10.0.0.0/8", "2001:db8::/32"), "message");
+        assertTrue(validation.validate("10.20.30.40").valid());
+        assertTrue(validation.validate("2001:db8::1").valid());
+        assertTrue(validation.validate(null).valid());
+    }
+
+    @Test
+    void test_invalid_ipInRange() {
+        var validation = validationFactory.ipInRange("10.0.0.0/8", "message");
+        var result = validation.validate("11.0.0.1");
+        assertFalse(result.valid());
+        assertEquals("message", result.message());
+        assertFalse(validation.validate("not-an-ip").valid());
+    }
+
+    @Test
+    void test_valid_url_allowed_hosts() {
+        var validation = validationFactory.url(Set.of("example.com", "*.example.org"), 64, "message");
+        assertTrue(validation.validate("http://example.com/hook").valid());
+        assertTrue(validation.validate("https://api.example.org/hook").valid());
+        assertTrue(validation.validate(null).valid());
+    }
+
+    @Test
+    void test_invalid_url_allowed_hosts() {
+        var validation = validationFactory.url(Set.of("example.com"), 64, "message");
+        var result = validation.validate("https://evil.net/example.com");
+        assertFalse(result.valid());
+        assertEquals("message", result.message());
+        assertFalse(validation.validate("https://example.com/" + "a".repeat(64)).valid());
+        assertFalse(validation.validate("example.com").valid());
+    }
+
+    @Test
+    void test_https_allowed_hosts() {
+        var validation = validationFactory.https(null, 2048, "message");
+        assertTrue(validation.validate("https://any.example.net").valid());
+        assertFalse(validation.validate("http://any.example.net").valid());
+        assertThrows(IllegalArgumentException.class, () -> validationFactory.https(Set.of(), 0, "message"));
+    }
+
 }
@@ -0,0 +1,147 @@
+package com.herculanoleo.sentinelflow.validations.types;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UrlUtilsTest {
+
+    @Test
+    void test_valid_urls() {
+        for (var value : List.of("https://example.com", "http://example.com/path?query=1#top", "ftp://user:pw@host:21/",
+                "HTTP://EXAMPLE.COM", "https://example.com.", "https://a_b.example.com/", "https://256.1.1.1/",
+                "https://host:abc", "https://[::1]:8080/", "https://[fe80::1%25eth0]/", "https://ex%41mple.com",
+                "https://example.com/caf\u00e9", "custom+scheme.v1://authority", "https://example.com?", "https://x#")) {
+            assertTrue(UrlUtils.isValidUrl(value), value);
+        }
+    }
+
+    @Test
+    void test_invalid_urls() {
+        for (var value : List.of("", "not-a-url", "example.com/path", "//example.com", "https:example.com",
+                "https:/example.com", "https://", "https:///path", "1http://example.com", "https://exa mple.com",
+                "https://example.com/a b", "https://example.com/%zz", "https://example.com/%4", "https://[::1",
+                "https://[1::2::3]/", "https://[::1]x/", "https://[fe80::1%eth0]/", "https://[::1]:99999999999",
+                "https://example.com#a#b", "https://example.com/<", "https://exa\u3000mple.com", "mailto:user@example.com")) {
+            assertFalse(UrlUtils.isValidUrl(value), value);
+        }
+    }
+
+    @Test
+    void test_https() {
+        assertTrue(UrlUtils.isValidHttps("https://example.com"));
+        assertTrue(UrlUtils.isValidHttps("HTTPS://example.com"));
+        assertFalse(UrlUtils.isValidHttps("http://example.com"));
+        assertFalse(UrlUtils.isValidHttps("httpsx://example.com"));
+        assertFalse(UrlUtils.isValidHttps("https:"));
+    }
+
+    @Test
+    void test_scan_locates_host() {
+        assertEquals("example.com", host("https://user@example.com:8443/path"));
+        assertEquals("10.0.0.1", host("http://10.0.0.1:80"));
+        assertEquals("[::1]", host("http://[::1]/"));
+        assertEquals("Example.COM.", host("http://Example.COM./"));
+        assertEquals(UrlUtils.NO_HOST, UrlUtils.scan("https://a_b.example.com/"));
+        assertEquals(UrlUtils.NO_HOST, UrlUtils.scan("https://1.2.3.4.5/"));
+        assertEquals(UrlUtils.NO_HOST, UrlUtils.scan("https://host:99999999999"));
+        assertEquals(UrlUtils.INVALID, UrlUtils.scan("https://"));
+    }
+
+    @Test
+    void test_allowed_hosts() {
+        String[] allowed = {"example.com", "*.hooks.example.org", "[::1]"};
+        assertTrue(isAllowed("https://EXAMPLE.com/path", allowed));
+        assertTrue(isAllowed("https://a.hooks.example.org", allowed));
+        assertTrue(isAllowed("https://a.b.hooks.example.org:443", allowed));
+        assertTrue(isAllowed("http://[::1]:8080", allowed));
+        assertFalse(isAllowed("https://hooks.example.org", allowed));
+        assertFalse(isAllowed("https://xhooks.example.org", allowed));
+        assertFalse(isAllowed("https://example.com.evil.net", allowed));
+        assertFalse(isAllowed("https://evil.net/example.com", allowed));
+        assertFalse(isAllowed("https://example.com@evil.net", allowed));
+        assertFalse(isAllowed("https://a_b.example.com", allowed));
+    }
+
+    /**
+     * Compares with {@code java.net.URI} plus the non-empty authority check the rule used before,
+     * leaving out bracketed hosts, which now follow RFC 4291 and RFC 6874 instead of RFC 2732.
+     */
+    @Test
+    void test_matches_uri() {
+        var alphabet = "aZ09+-._~:/?#[]@!$&'()*,;=% %4 \u00e9\u3000\t\"<>\\^`{|}";
+        var seeds = List.of("https://example.com/path?query=1#top", "ftp://user:pw@10.0.0.1:21/a;b",
+                "http://a-b.c.d./x%20y", "s://h", "https://host:8080", "x://[::1]:1/", "http://1.2.3.4.5/",
+                "mailto:someone@example.com", "https://caf\u00e9.example/p");
+        var random = new Random(7);
+        for (int i = 0; i < 200_000; i++) {
+            var builder = new StringBuilder(seeds.get(random.nextInt(seeds.size())));
+            for (int m = 1 + random.nextInt(3); m > 0 && !builder.isEmpty(); m--) {
+                int position = random.nextInt(builder.length());
+                char c = alphabet.charAt(random.nextInt(alphabet.length()));
+                switch (random.nextInt(3)) {
+                    case 0 -> builder.insert(position, c);
+                    case 1 -> builder.deleteCharAt(position);
+                    default -> builder.setCharAt(position, c);
+                }
+            }
+            var value = builder.toString();
+            if (hasBracketedAuthority(value)) {
+                continue;
+            }
+            assertEquals(isUri(value), UrlUtils.isValidUrl(value), value);
+            long host = UrlUtils.scan(value);
+            if (host != UrlUtils.INVALID) {
+                assertEquals(uriHost(value), host == UrlUtils.NO_HOST ? null : host(value), value);
+            }
+        }
+    }
+
+    private static String host(String value) {
+        long host = UrlUtils.scan(value);
+        return value.substring((int) (host >>> 32), (int) host);
+    }
+
+    private static boolean isAllowed(String value, String[] allowed) {
+        return UrlUtils.isAllowedHost(value, UrlUtils.scan(value), allowed);
+    }
+
+    private static boolean hasBracketedAuthority(String value) {
+        int start = value.indexOf("//");
+        if (start < 0) {
+            return false;
+        }
+        int end = StringUtils.indexOfAny(value.substring(start + 2), "/?#");
+        var authority = end < 0 ? value.substring(start + 2) : value.substring(start + 2, start + 2 + end);
+        return StringUtils.containsAny(authority, "[]");
+    }
+
+    private static boolean isUri(String value) {
+        try {
+            URI uri = new URI(value);
+            if (StringUtils.isBlank(uri.getScheme())) {
+                return false;
+            }
+            return StringUtils.isNotBlank(uri.getHost()) || StringUtils.isNotBlank(uri.getAuthority());
+        } catch (URISyntaxException e) {
+            return false;
+        }
+    }
+
+    private static String uriHost(String value) {
+        try {
+            return new URI(value).getHost();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+}
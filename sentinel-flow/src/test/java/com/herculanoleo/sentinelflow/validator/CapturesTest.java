@@ -0,0 +1,76 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorSchemaImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static com.herculanoleo.sentinelflow.validator.Captures.path;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CapturesTest {
+
+    record Country(String code) {
+    }
+
+    record City(String name, Country country) {
+    }
+
+    record Address(String zipCode, City city) {
+    }
+
+    record Customer(Address address) {
+    }
+
+    record Account(Customer customer) {
+    }
+
+    private static final Account FULL = new Account(new Customer(new Address("01001-000",
+            new City("S\u00e3o Paulo", new Country("BR")))));
+
+    @Test
+    void test_path_returns_value() {
+        assertEquals("01001-000", path(Customer::address, Address::zipCode).apply(FULL.customer()));
+        assertEquals("S\u00e3o Paulo", path(Customer::address, Address::city, City::name).apply(FULL.customer()));
+        assertEquals("BR", path(Customer::address, Address::city, City::country, Country::code).apply(FULL.customer()));
+        assertEquals("BR", path(Account::customer, Customer::address, Address::city, City::country, Country::code)
+                .apply(FULL));
+    }
+
+    @Test
+    void test_path_stops_at_null() {
+        Function<Account, String> code = path(Account::customer, Customer::address, Address::city,
+                City::country, Country::code);
+        assertNull(code.apply(null));
+        assertNull(code.apply(new Account(null)));
+        assertNull(code.apply(new Account(new Customer(null))));
+        assertNull(code.apply(new Account(new Customer(new Address("01001-000", null)))));
+        assertNull(code.apply(new Account(new Customer(new Address("01001-000", new City("X", null))))));
+    }
+
+    @Test
+    void test_path_does_not_swallow_exceptions() {
+        Function<Customer, String> failing = path(Customer::address, address -> {
+            throw new IllegalStateException("boom");
+        });
+        assertThrows(IllegalStateException.class, () -> failing.apply(FULL.customer()));
+        assertThrows(NullPointerException.class, () -> path(null, Address::zipCode));
+    }
+
+    @Test
+    void test_path_as_field_capture() {
+        var validator = new ValidatorSchemaImpl<Account>()
+                .field("customer.address.zipCode", path(Account::customer, Customer::address, Address::zipCode))
+                .add(value -> new ValidationResult(null != value, "Zip code is required"))
+                .end()
+                .compile();
+
+        var violations = validator.validateToResult(new Account(new Customer(null)));
+
+        assertEquals("customer.address.zipCode", violations.fieldErrors().iterator().next().fieldName());
+    }
+
+}
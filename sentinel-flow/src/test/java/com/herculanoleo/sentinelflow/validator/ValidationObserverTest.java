@@ -0,0 +1,207 @@
+package com.herculanoleo.sentinelflow.validator;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.impl.ParallelExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationObserverTest {
+
+    record Signup(String name, String email) {
+    }
+
+    /** Records every callback as a line, in order. */
+    static class RecordingObserver implements ValidationObserver {
+
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void onRule(String validator, String field, String rule, boolean valid, long nanos) {
+            assertTrue(nanos >= 0);
+            events.add("rule " + validator + " " + field + " " + rule + " " + valid);
+        }
+
+        @Override
+        public void onField(String validator, String field, boolean valid, long nanos) {
+            assertTrue(nanos >= 0);
+            events.add("field " + validator + " " + field + " " + valid);
+        }
+
+        @Override
+        public void onValidator(String validator, boolean valid, long nanos) {
+            assertTrue(nanos >= 0);
+            events.add("validator " + validator + " " + valid);
+        }
+
+    }
+
+    private final ValidationFactoryImpl validations = new ValidationFactoryImpl();
+
+    private CompiledValidator<Signup> compile(ValidatorFactory factory) {
+        return factory.schema(Signup.class)
+                .field("name", Signup::name)
+                .add(Validation.named("notBlank", validations.isNotBlank("name is required")))
+                .add(validations.lengthMax(5, "name is too long"))
+                .end()
+                .field("email", Signup::email)
+                .add(Validation.named("email", validations.email("email is invalid")))
+                .end()
+                .compile();
+    }
+
+    @Test
+    void test_compiled_validator_reports_rules_fields_and_validator() {
+        var observer = new RecordingObserver();
+        var validator = compile(new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer));
+
+        var violations = validator.validateToResult(new Signup("Jonathan", "john@example.com"));
+
+        assertFalse(violations.isValid());
+        assertEquals(List.of(
+                "rule Signup name notBlank true",
+                "rule Signup name #1 false",
+                "field Signup name false",
+                "rule Signup email email true",
+                "field Signup email true",
+                "validator Signup false"
+        ), observer.events);
+    }
+
+    @Test
+    void test_named_rules_are_reported_by_factory_method() {
+        var observer = new RecordingObserver();
+        var namedRules = new ValidationFactoryImpl(null, true);
+        var validator = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer)
+                .schema(Signup.class)
+                .field("name", Signup::name)
+                .add(namedRules.isNotBlank("name is required"))
+                .add(namedRules.lengthMax(5, "name is too long"))
+                .end()
+                .field("email", Signup::email)
+                .add(namedRules.email("email is invalid"))
+                .end()
+                .compile();
+
+        validator.validateToResult(new Signup("Jonathan", "john@example.com"));
+
+        assertEquals(List.of(
+                "rule Signup name isNotBlank true",
+                "rule Signup name lengthMax false",
+                "field Signup name false",
+                "rule Signup email email true",
+                "field Signup email true",
+                "validator Signup false"
+        ), observer.events);
+    }
+
+    @Test
+    void test_validator_reports_rules_fields_and_validator() throws ValidatorException {
+        var observer = new RecordingObserver();
+        var factory = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer);
+
+        factory.create(new Signup("John", "john@example.com"))
+                .field("name", Signup::name)
+                .add(Validation.named("notBlank", validations.isNotBlank("name is required")))
+                .end()
+                .validate();
+
+        assertEquals(List.of(
+                "rule Signup name notBlank true",
+                "field Signup name true",
+                "validator Signup true"
+        ), observer.events);
+    }
+
+    @Test
+    void test_observer_follows_short_circuit_policy() {
+        var observer = new RecordingObserver();
+        var validator = compile(new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer));
+
+        validator.validateToResult(new Signup(" ", "invalid"), ShortCircuitPolicy.FIRST_OVERALL);
+
+        assertEquals(List.of(
+                "rule Signup name notBlank false",
+                "field Signup name false",
+                "validator Signup false"
+        ), observer.events);
+    }
+
+    @Test
+    void test_observer_times_rules_run_in_parallel() {
+        var observer = new RecordingObserver();
+        var validator = compile(new ValidatorFactoryImpl(new ParallelExecutionStrategy(), true, observer));
+
+        validator.validateToResult(new Signup("John", "john@example.com"));
+
+        assertEquals(6, observer.events.size());
+        assertTrue(observer.events.contains("rule Signup name #1 true"));
+        assertEquals("validator Signup true", observer.events.get(5));
+    }
+
+    @Test
+    void test_unsampled_validation_is_not_reported() {
+        var observer = new RecordingObserver() {
+            @Override
+            public boolean isSampled() {
+                return false;
+            }
+        };
+        var validator = compile(new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer));
+
+        var violations = validator.validateToResult(new Signup("Jonathan", "john@example.com"));
+
+        assertFalse(violations.isValid());
+        assertTrue(observer.events.isEmpty());
+    }
+
+    @Test
+    void test_sampled_observer() {
+        var observer = new RecordingObserver();
+        var sampled = new AtomicInteger();
+        var validator = compile(new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true,
+                ValidationObserver.sampled(new RecordingObserver() {
+                    @Override
+                    public void onValidator(String validator, boolean valid, long nanos) {
+                        sampled.incrementAndGet();
+                    }
+                }, 0.25)));
+
+        for (int i = 0; i < 4000; i++) {
+            validator.validateToResult(new Signup("John", "john@example.com"));
+        }
+
+        assertTrue(sampled.get() > 700 && sampled.get() < 1300, "sampled " + sampled.get());
+        assertSame(ValidationObserver.none(), ValidationObserver.sampled(observer, 0.0));
+        assertSame(observer, ValidationObserver.sampled(observer, 1.0));
+        assertFalse(ValidationObserver.none().isSampled());
+        assertThrows(IllegalArgumentException.class, () -> ValidationObserver.sampled(observer, 1.5));
+        assertThrows(IllegalArgumentException.class, () -> ValidationObserver.sampled(observer, Double.NaN));
+    }
+
+    @Test
+    void test_named_validation() {
+        Validation<String> rule = validations.isNotBlank("required");
+        var named = Validation.named("notBlank", rule);
+
+        assertNull(rule.name());
+        assertEquals("notBlank", named.name());
+        assertFalse(named.validate(" ").valid());
+        assertEquals("required", named.validate(" ").message());
+    }
+
+}
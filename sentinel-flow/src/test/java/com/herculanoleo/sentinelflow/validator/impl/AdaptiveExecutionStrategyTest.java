@@ -0,0 +1,290 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.mock.UserMock;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ExecutionStrategy;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveExecutionStrategyTest {
+
+    private static final ValidationResult VALID = new ValidationResult(true, null);
+
+    /** Failure shared by the rules below, as rules created with the same message. */
+    private static final ValidationResult INVALID_DOCUMENT = new ValidationResult(false, "invalid document");
+
+    private final AtomicInteger expensiveCalls = new AtomicInteger();
+
+    /** Slow rule inserted first, failing with the same result as the cheap one. */
+    private final Validation<String> expensive = value -> {
+        expensiveCalls.incrementAndGet();
+        spin(50_000);
+        return null != value && value.chars().allMatch(Character::isDigit) ? VALID : INVALID_DOCUMENT;
+    };
+
+    private final Validation<String> cheap = value -> null != value && value.length() == 11 ? VALID : INVALID_DOCUMENT;
+
+    @Test
+    void test_reorders_cheap_failing_rule_first() {
+        var plan = (AdaptiveRulePlan) new AdaptiveExecutionStrategy(1, 2).forRules(List.of(expensive, cheap));
+        for (int i = 0; i < 200; i++) {
+            plan.execute(List.of(expensive, cheap), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+        }
+        expensiveCalls.set(0);
+
+        for (int i = 0; i < 100; i++) {
+            var results = plan.execute(List.of(expensive, cheap), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+            assertEquals(List.of(new ValidationResult(false, "invalid document")), results);
+        }
+
+        assertEquals(List.of(1, 0), plan.order());
+        assertTrue(expensiveCalls.get() < 100, expensiveCalls.get() + " calls");
+    }
+
+    @Test
+    void test_sampled_calls_run_every_rule() {
+        var plan = plan(List.of(expensive, cheap));
+        learn(plan, List.of(expensive, cheap), "abc");
+        expensiveCalls.set(0);
+
+        var results = plan.execute(List.of(expensive, cheap), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(List.of(1, 0), plan.order());
+        assertEquals(1, expensiveCalls.get());
+        assertEquals(List.of(new ValidationResult(false, "invalid document")), results);
+    }
+
+    @Test
+    void test_reorders_rules_with_equal_results_built_on_each_call() {
+        Validation<String> cheapWithNewResults = value -> new ValidationResult(null != value && value.length() == 11,
+                "invalid document");
+        var plan = plan(List.of(expensive, cheapWithNewResults));
+
+        learn(plan, List.of(expensive, cheapWithNewResults), "abc");
+
+        assertEquals(List.of(1, 0), plan.order());
+    }
+
+    @Test
+    void test_does_not_reorder_rule_whose_message_depends_on_value() {
+        Validation<String> cheapWithValueMessage = value -> null != value && value.length() == 11 ? VALID
+                : "abc".equals(value) ? INVALID_DOCUMENT : new ValidationResult(false, "invalid document " + value);
+        var rules = List.of(expensive, cheapWithValueMessage);
+        var plan = plan(rules);
+
+        learn(plan, rules, "abc");
+        plan.execute(rules, "abcd", ShortCircuitPolicy.ALL);
+
+        assertEquals(List.of(0, 1), plan.order());
+    }
+
+    @Test
+    void test_moved_rule_does_not_run_before_its_guard() {
+        var guardCalls = new AtomicInteger();
+        Validation<String> isNotNull = value -> {
+            guardCalls.incrementAndGet();
+            spin(50_000);
+            return null == value || value.isEmpty() ? INVALID_DOCUMENT : VALID;
+        };
+        Validation<String> lengthGt3 = value -> value.length() > 3 ? VALID : INVALID_DOCUMENT;
+        var rules = List.of(isNotNull, lengthGt3);
+        var plan = (AdaptiveRulePlan) new AdaptiveExecutionStrategy(1, 2).forRules(rules);
+        for (int i = 0; i < 200; i++) {
+            plan.execute(rules, "", ShortCircuitPolicy.FIRST_PER_FIELD);
+        }
+        assertEquals(List.of(1, 0), plan.order());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(List.of(INVALID_DOCUMENT), plan.execute(rules, null, ShortCircuitPolicy.FIRST_PER_FIELD));
+        }
+
+        assertEquals(List.of(0, 1), plan.order());
+        guardCalls.set(0);
+        assertEquals(List.of(VALID, INVALID_DOCUMENT), plan.execute(rules, "ab", ShortCircuitPolicy.FIRST_PER_FIELD));
+        assertEquals(1, guardCalls.get());
+    }
+
+    @Test
+    void test_rule_throwing_in_insertion_order_propagates() {
+        Validation<String> lengthGt3 = value -> value.length() > 3 ? VALID : INVALID_DOCUMENT;
+        var rules = List.of(cheap, lengthGt3);
+        var plan = plan(rules);
+
+        assertThrows(NullPointerException.class, () -> plan.execute(rules, null, ShortCircuitPolicy.ALL));
+    }
+
+    @Test
+    void test_returns_results_in_insertion_order() {
+        var slowPassed = new ValidationResult(true, "slow");
+        var mediumPassed = new ValidationResult(true, "medium");
+        var fastPassed = new ValidationResult(true, "fast");
+        Validation<String> slow = value -> {
+            spin(50_000);
+            return value.contains("x") ? INVALID_DOCUMENT : slowPassed;
+        };
+        Validation<String> medium = value -> {
+            spin(10_000);
+            return value.contains("y") ? INVALID_DOCUMENT : mediumPassed;
+        };
+        Validation<String> fast = value -> value.contains("z") ? INVALID_DOCUMENT : fastPassed;
+        var rules = List.of(slow, medium, fast);
+        var plan = (AdaptiveRulePlan) new AdaptiveExecutionStrategy(1, 2).forRules(rules);
+        for (int i = 0; i < 200; i++) {
+            plan.execute(rules, "xyz", ShortCircuitPolicy.FIRST_PER_FIELD);
+        }
+        assertEquals(List.of(2, 1, 0), plan.order());
+
+        for (int i = 0; i < 100; i++) {
+            var failed = plan.execute(rules, "y", ShortCircuitPolicy.FIRST_PER_FIELD);
+            assertTrue(List.of(INVALID_DOCUMENT).equals(failed) || List.of(slowPassed, INVALID_DOCUMENT).equals(failed),
+                    failed.toString());
+            assertEquals(List.of(slowPassed, mediumPassed, fastPassed),
+                    plan.execute(rules, "abc", ShortCircuitPolicy.FIRST_PER_FIELD));
+        }
+    }
+
+    @Test
+    void test_does_not_reorder_rules_with_different_results() {
+        Validation<String> cheapWithOtherMessage = value -> new ValidationResult(null != value && value.length() == 11, "invalid length");
+        var plan = plan(List.of(expensive, cheapWithOtherMessage));
+
+        learn(plan, List.of(expensive, cheapWithOtherMessage), "abc");
+        var results = plan.execute(List.of(expensive, cheapWithOtherMessage), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(List.of(0, 1), plan.order());
+        assertEquals(List.of(new ValidationResult(false, "invalid document")), results);
+    }
+
+    @Test
+    void test_reports_first_rule_in_insertion_order_when_result_varies() {
+        var varies = new AtomicBoolean();
+        var invalidLength = new ValidationResult(false, "invalid length");
+        Validation<String> cheapThatVaries = value -> null != value && value.length() == 11 ? VALID
+                : varies.get() ? invalidLength : INVALID_DOCUMENT;
+        var plan = plan(List.of(expensive, cheapThatVaries));
+        learn(plan, List.of(expensive, cheapThatVaries), "abc");
+        assertEquals(List.of(1, 0), plan.order());
+
+        varies.set(true);
+        var results = plan.execute(List.of(expensive, cheapThatVaries), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+        var passing = plan.execute(List.of(expensive, cheapThatVaries), "123", ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(List.of(new ValidationResult(false, "invalid document")), results);
+        assertEquals(List.of(0, 1), plan.order());
+        assertEquals(List.of(VALID, new ValidationResult(false, "invalid length")), passing);
+    }
+
+    @Test
+    void test_all_policy_keeps_insertion_order() {
+        var plan = plan(List.of(expensive, cheap));
+        learn(plan, List.of(expensive, cheap), "abc");
+
+        var results = plan.execute(List.of(expensive, cheap), "12a", ShortCircuitPolicy.ALL);
+
+        assertEquals(List.of(new ValidationResult(false, "invalid document"), new ValidationResult(false, "invalid document")),
+                results);
+    }
+
+    @Test
+    void test_violations_match_sequential_strategy() {
+        var validations = new ValidationFactoryImpl();
+        var adaptive = schema(new AdaptiveExecutionStrategy(1, 1), validations);
+        var sequential = schema(new SequentialExecutionStrategy(), validations);
+        var random = new Random(42);
+        var names = new String[]{"", "  ", "Jo", "John", "John Doe", "12345678901", "x".repeat(40), null};
+
+        for (int i = 0; i < 2_000; i++) {
+            var user = new UserMock(names[random.nextInt(names.length)], names[random.nextInt(names.length)], null);
+            for (var policy : ShortCircuitPolicy.values()) {
+                assertEquals(sequential.validateToResult(user, policy), adaptive.validateToResult(user, policy));
+            }
+        }
+    }
+
+    @Test
+    void test_unplanned_fields_run_sequentially() {
+        var strategy = new AdaptiveExecutionStrategy();
+        List<Validation<String>> single = List.of(cheap);
+
+        var results = strategy.execute(List.of(expensive, cheap), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(1, expensiveCalls.get());
+        assertEquals(1, results.size());
+        assertInstanceOf(SequentialExecutionStrategy.class, strategy.forRules(single));
+        assertInstanceOf(AdaptiveRulePlan.class, strategy.forRules(List.of(expensive, cheap)));
+    }
+
+    @Test
+    void test_plan_runs_other_rule_lists_sequentially() {
+        var plan = plan(List.of(expensive, cheap));
+        learn(plan, List.of(expensive, cheap), "abc");
+        expensiveCalls.set(0);
+
+        var results = plan.execute(List.of(expensive), "abc", ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(1, expensiveCalls.get());
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    void test_rejects_invalid_intervals() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveExecutionStrategy(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveExecutionStrategy(1, 0));
+    }
+
+    @Test
+    void test_sequential_strategy_is_shared_by_fields() {
+        var sequential = new SequentialExecutionStrategy();
+
+        assertSame(sequential, sequential.forRules(List.of(expensive, cheap)));
+    }
+
+    private static void spin(long nanos) {
+        long end = System.nanoTime() + nanos;
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static AdaptiveRulePlan plan(List<Validation<String>> validations) {
+        return (AdaptiveRulePlan) new AdaptiveExecutionStrategy(1, 1).forRules(validations);
+    }
+
+    private static void learn(ExecutionStrategy plan, List<Validation<String>> validations, String invalid) {
+        for (int i = 0; i < AdaptiveRulePlan.LEARNING_FAILURES * 2; i++) {
+            plan.execute(validations, invalid, ShortCircuitPolicy.ALL);
+        }
+    }
+
+    private static CompiledValidator<UserMock> schema(ExecutionStrategy strategy, ValidationFactoryImpl validations) {
+        return new ValidatorSchemaImpl<UserMock>(strategy)
+                .field("name", UserMock::name)
+                .add(validations.isNotBlank("invalid name"))
+                .add(validations.lengthMin(3, "invalid name"))
+                .add(validations.lengthMax(20, "invalid name"))
+                .add(validations.regex("[A-Za-z ]+", "name must be letters"))
+                .add(validations.lengthMax(10, "invalid name"))
+                .end()
+                .field("lastName", UserMock::lastName)
+                .add(validations.lengthMin(3, "too short"))
+                .add(validations.regex("\\d+", "digits only"))
+                .add(validations.lengthEq(11, "digits only"))
+                .end()
+                .compile();
+    }
+
+}
@@ -0,0 +1,502 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.mock.UserMock;
+import com.herculanoleo.sentinelflow.models.Result;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.BatchOptions;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledValidatorImplTest {
+
+    private final CompiledValidator<UserMock> validator = new ValidatorSchemaImpl<UserMock>()
+            .field("name", UserMock::name)
+            .add(value -> new ValidationResult(null != value && !value.isBlank(), "Name is required"))
+            .end()
+            .field("birthday", UserMock::birthday)
+            .add(value -> new ValidationResult(true, null))
+            .add(value -> new ValidationResult(null != value && value.isBefore(LocalDate.of(2010, 1, 1)), "Too young"))
+            .end()
+            .compile();
+
+    @Test
+    void test_validate() {
+        assertDoesNotThrow(() -> validator.validate(UserMock.johnDoe()));
+    }
+
+    @Test
+    void test_validate_ValidatorException() {
+        var exception = assertThrows(ValidatorException.class,
+                () -> validator.validate(new UserMock("", "Doe", LocalDate.of(2020, 1, 1))));
+
+        assertEquals("there are invalid fields", exception.getMessage());
+        var fieldErrors = exception.getFieldErrors().stream().toList();
+        assertEquals(2, fieldErrors.size());
+        assertEquals("name", fieldErrors.get(0).fieldName());
+        assertEquals("Name is required", fieldErrors.get(0).messages().stream().toList().get(0));
+        assertEquals("birthday", fieldErrors.get(1).fieldName());
+        assertEquals(1, fieldErrors.get(1).messages().size());
+        assertEquals("Too young", fieldErrors.get(1).messages().stream().toList().get(0));
+    }
+
+    @Test
+    void test_validate_reuses_rules_across_objects() throws ValidatorException {
+        var calls = new AtomicInteger();
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .add(value -> {
+                    calls.incrementAndGet();
+                    return new ValidationResult(true, null);
+                })
+                .end()
+                .compile();
+
+        compiled.validate(UserMock.johnDoe());
+        compiled.validate(new UserMock("Jane", "Doe", null));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void test_validate_capture_NoSuchElementException() throws ValidatorException {
+        var captured = new Object[]{"not called"};
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", value -> {
+                    throw new NoSuchElementException();
+                })
+                .add(value -> {
+                    captured[0] = value;
+                    return new ValidationResult(true, null);
+                })
+                .end()
+                .compile();
+
+        compiled.validate(UserMock.johnDoe());
+
+        assertNull(captured[0]);
+    }
+
+    @Test
+    void test_validate_FIRST_OVERALL() {
+        var exception = assertThrows(ValidatorException.class,
+                () -> validator.validate(new UserMock("", "Doe", LocalDate.of(2020, 1, 1)), ShortCircuitPolicy.FIRST_OVERALL));
+
+        var fieldErrors = exception.getFieldErrors().stream().toList();
+        assertEquals(1, fieldErrors.size());
+        assertEquals("name", fieldErrors.get(0).fieldName());
+    }
+
+    @Test
+    void test_validateToResult() {
+        var violations = validator.validateToResult(UserMock.johnDoe());
+
+        assertTrue(violations.isValid());
+        assertSame(Violations.valid(), violations);
+    }
+
+    @Test
+    void test_validateToResult_invalid() {
+        var violations = validator.validateToResult(new UserMock("", "Doe", LocalDate.of(2020, 1, 1)),
+                ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertFalse(violations.isValid());
+        assertEquals(2, violations.fieldErrors().size());
+    }
+
+    @Test
+    void test_validate_without_stack_trace() {
+        var compiled = new ValidatorSchemaImpl<UserMock>(new SequentialExecutionStrategy(), false)
+                .field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Invalid name"))
+                .end()
+                .compile();
+
+        var exception = assertThrows(ValidatorException.class, () -> compiled.validate(UserMock.johnDoe()));
+
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void test_validateAll() {
+        var result = validator.validateAll(List.of(
+                UserMock.johnDoe(),
+                new UserMock("", "Doe", LocalDate.of(2000, 1, 1)),
+                UserMock.johnDoe(),
+                new UserMock("Jane", "Doe", LocalDate.of(2020, 1, 1))
+        ));
+
+        assertEquals(4, result.size());
+        assertEquals(2, result.invalidCount());
+        assertFalse(result.isValid());
+        assertEquals(1, result.indexAt(0));
+        assertEquals(3, result.indexAt(1));
+        assertEquals("name", result.violationsAt(0).fieldErrors().iterator().next().fieldName());
+        assertEquals("birthday", result.get(3).fieldErrors().iterator().next().fieldName());
+        assertTrue(result.get(0).isValid());
+        assertThrows(IndexOutOfBoundsException.class, () -> result.get(4));
+    }
+
+    @Test
+    void test_validateAll_empty() {
+        var result = validator.validateAll(Stream.empty());
+
+        assertEquals(0, result.size());
+        assertTrue(result.isValid());
+    }
+
+    @Test
+    void test_validateAll_parallel() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var users = IntStream.range(0, 1_000)
+                    .mapToObj(i -> i % 7 == 0 ? new UserMock("", "Doe", LocalDate.of(2000, 1, 1)) : UserMock.johnDoe())
+                    .toList();
+
+            var result = validator.validateAll(users.stream(), BatchOptions.parallel(executor, 64));
+
+            assertEquals(1_000, result.size());
+            assertEquals(143, result.invalidCount());
+            for (int i = 0; i < result.invalidCount(); i++) {
+                assertEquals(i * 7, result.indexAt(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_validateAll_parallel_rethrows_rule_failure() {
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .add(value -> {
+                    throw new IllegalStateException("boom");
+                })
+                .end()
+                .compile();
+
+        var exception = assertThrows(IllegalStateException.class, () -> compiled.validateAll(
+                List.of(UserMock.johnDoe(), UserMock.johnDoe()), BatchOptions.parallel(Runnable::run, 1)));
+        assertEquals("boom", exception.getMessage());
+    }
+
+    @Test
+    void test_BatchOptions_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchOptions(ShortCircuitPolicy.ALL, null, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new BatchOptions(ShortCircuitPolicy.ALL, null, 1, 0));
+        assertThrows(NullPointerException.class, () -> new BatchOptions(null, null, 1, 1));
+    }
+
+    @Test
+    void test_validateAsync() {
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .add(value -> new ValidationResult(null != value && !value.isBlank(), "Name is required"))
+                .addAsync(value -> CompletableFuture.completedFuture(
+                        new ValidationResult(!"John".equals(value), "Name already registered")))
+                .end()
+                .compile();
+
+        var violations = compiled.validateAsync(UserMock.johnDoe()).join();
+
+        assertEquals("Name already registered",
+                violations.fieldErrors().iterator().next().messages().iterator().next());
+        assertTrue(compiled.validateAsync(new UserMock("Jane", "Doe", null)).join().isValid());
+        assertFalse(compiled.validateToResult(UserMock.johnDoe()).isValid());
+    }
+
+    @Test
+    void test_validateAsync_FIRST_OVERALL() {
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .addAsync(value -> CompletableFuture.completedFuture(new ValidationResult(false, "Name failure")))
+                .end()
+                .field("lastName", UserMock::lastName)
+                .addAsync(value -> CompletableFuture.completedFuture(new ValidationResult(false, "Last name failure")))
+                .end()
+                .compile();
+
+        var violations = compiled.validateAsync(UserMock.johnDoe(), ShortCircuitPolicy.FIRST_OVERALL).join();
+
+        assertEquals(1, violations.fieldErrors().size());
+        assertEquals("name", violations.fieldErrors().iterator().next().fieldName());
+    }
+
+    @Test
+    void test_validateField() {
+        var result = validator.validateField("name", " ", ShortCircuitPolicy.ALL);
+
+        assertFalse(result.isValid());
+        assertEquals("name", result.field().name());
+        assertEquals(" ", result.field().value());
+        assertTrue(validator.validateField("name", "John", ShortCircuitPolicy.ALL).isValid());
+        assertNull(validator.validateField("unknown", "John", ShortCircuitPolicy.ALL));
+    }
+
+    @Test
+    void test_validateField_skips_fields_with_async_rules() {
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .addAsync(value -> CompletableFuture.completedFuture(new ValidationResult(true, null)))
+                .end()
+                .compile();
+
+        assertNull(compiled.validateField("name", "John", ShortCircuitPolicy.ALL));
+    }
+
+    @Test
+    void test_validateToResult_reuses_evaluated_fields() {
+        var calls = new AtomicInteger();
+        var compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .add(value -> {
+                    calls.incrementAndGet();
+                    return new ValidationResult(null != value && !value.isBlank(), "Name is required");
+                })
+                .end()
+                .field("lastName", UserMock::lastName)
+                .add(value -> new ValidationResult(null != value && !value.isBlank(), "Last name is required"))
+                .end()
+                .compile();
+        var user = new UserMock("", "", null);
+        Map<String, Result<?>> evaluated = Map.of("name", compiled.validateField("name", "", ShortCircuitPolicy.ALL));
+
+        var violations = compiled.validateToResult(user, ShortCircuitPolicy.ALL, evaluated);
+
+        assertEquals(1, calls.get());
+        assertEquals(List.of("name", "lastName"),
+                violations.fieldErrors().stream().map(ValidatorFieldErrorMessages::fieldName).toList());
+        assertEquals(compiled.validateToResult(user).fieldErrors(), violations.fieldErrors());
+    }
+
+    @Test
+    void test_validateToResult_reports_element_paths() {
+        record Line(String sku, int quantity) {
+        }
+        record Order(String id, List<Line> items) {
+        }
+        var validations = new ValidationFactoryImpl();
+        CompiledValidator<Order> orders = new ValidatorSchemaImpl<Order>()
+                .field("id", Order::id)
+                .add(validations.isNotBlank("Id is required"))
+                .end()
+                .field("items", Order::items)
+                .add(validations.sizeMax(2, "Too many items"))
+                .add(validations.each(validations.field("sku", Line::sku, validations.isNotBlank("SKU is required"))))
+                .add(validations.each(validations.field("quantity", Line::quantity, validations.min(1, "Quantity must be positive"))))
+                .end()
+                .compile();
+
+        var violations = orders.validateToResult(new Order("", List.of(
+                new Line("A", 1), new Line("", 0), new Line(null, 2))));
+
+        var fieldErrors = violations.fieldErrors().stream().toList();
+        assertEquals(List.of("id", "items", "items[1].sku", "items[2].sku", "items[1].quantity"),
+                fieldErrors.stream().map(ValidatorFieldErrorMessages::fieldName).toList());
+        assertEquals(List.of("Too many items"), List.copyOf(fieldErrors.get(1).messages()));
+        assertEquals(List.of("SKU is required"), List.copyOf(fieldErrors.get(2).messages()));
+        assertTrue(orders.validateToResult(new Order("1", List.of(new Line("A", 1)))).isValid());
+    }
+
+    @Test
+    void test_nested_reports_dotted_paths() {
+        record Address(String street, String zipCode) {
+        }
+        record Customer(String name, Address address, Address billing) {
+        }
+        var validations = new ValidationFactoryImpl();
+        CompiledValidator<Address> addresses = new ValidatorSchemaImpl<Address>()
+                .field("street", Address::street)
+                .add(validations.isNotBlank("Street is required"))
+                .end()
+                .field("zipCode", Address::zipCode)
+                .add(validations.cep("Invalid CEP"))
+                .end()
+                .compile();
+        CompiledValidator<Customer> customers = new ValidatorSchemaImpl<Customer>()
+                .field("name", Customer::name)
+                .add(validations.isNotBlank("Name is required"))
+                .end()
+                .nested("address", Customer::address, addresses)
+                .nested("billing", Customer::billing, addresses)
+                .compile();
+
+        var violations = customers.validateToResult(new Customer("", new Address("", "123"), null));
+
+        var fieldErrors = violations.fieldErrors().stream().toList();
+        assertEquals(List.of("name", "address.street", "address.zipCode"),
+                fieldErrors.stream().map(ValidatorFieldErrorMessages::fieldName).toList());
+        assertEquals(List.of("Invalid CEP"), List.copyOf(fieldErrors.get(2).messages()));
+        assertTrue(customers.validateToResult(new Customer("John", new Address("Main St", "01001-000"), null)).isValid());
+    }
+
+    @Test
+    void test_nested_deep_and_in_elements() {
+        record Sku(String code) {
+        }
+        record Line(Sku sku) {
+        }
+        record Order(List<Line> items) {
+        }
+        var validations = new ValidationFactoryImpl();
+        CompiledValidator<Sku> skus = new ValidatorSchemaImpl<Sku>()
+                .field("code", Sku::code)
+                .add(validations.isNotBlank("Code is required"))
+                .end()
+                .compile();
+        CompiledValidator<Line> lines = new ValidatorSchemaImpl<Line>()
+                .nested("sku", Line::sku, skus)
+                .compile();
+        CompiledValidator<Order> orders = new ValidatorSchemaImpl<Order>()
+                .field("items", Order::items)
+                .add(validations.each(lines.asValidation()))
+                .end()
+                .compile();
+
+        var violations = orders.validateToResult(new Order(List.of(new Line(new Sku("A")), new Line(new Sku(" ")))));
+
+        assertEquals("items[1].sku.code", violations.fieldErrors().iterator().next().fieldName());
+        assertTrue(orders.validateToResult(new Order(List.of(new Line(new Sku("A")), new Line(null)))).isValid());
+    }
+
+    @Test
+    void test_asValidation_policy() {
+        var result = validator.asValidation(ShortCircuitPolicy.FIRST_OVERALL)
+                .validate(new UserMock("", "Doe", LocalDate.of(2020, 1, 1)));
+        assertFalse(result.valid());
+        assertEquals(1, result.details().size());
+        assertEquals(".name", result.details().get(0).path());
+        assertEquals(2, validator.asValidation().validate(new UserMock("", "Doe", LocalDate.of(2020, 1, 1))).details().size());
+    }
+
+    @Test
+    void test_when_skips_guarded_field_without_capturing_it() {
+        record Customer(String type, String cnpj) {
+        }
+        var captures = new AtomicInteger();
+        var validations = new ValidationFactoryImpl();
+        CompiledValidator<Customer> customers = new ValidatorSchemaImpl<Customer>()
+                .field("cnpj", customer -> {
+                    captures.incrementAndGet();
+                    return customer.cnpj();
+                })
+                .when(customer -> "PJ".equals(customer.type()),
+                        List.of(validations.isNotBlank("CNPJ is required"), validations.cnpj("Invalid CNPJ")))
+                .end()
+                .compile();
+
+        assertTrue(customers.validateToResult(new Customer("PF", null)).isValid());
+        assertEquals(0, captures.get());
+
+        var violations = customers.validateToResult(new Customer("PJ", "123"));
+        assertEquals(1, captures.get());
+        assertEquals(List.of("Invalid CNPJ"),
+                List.copyOf(violations.fieldErrors().iterator().next().messages()));
+    }
+
+    @Test
+    void test_when_keeps_rule_order() {
+        var calls = new AtomicInteger();
+        CompiledValidator<UserMock> compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "first"))
+                .when(user -> true, value -> new ValidationResult(false, "guarded"))
+                .add(value -> {
+                    calls.incrementAndGet();
+                    return new ValidationResult(false, "last");
+                })
+                .end()
+                .compile();
+
+        var all = compiled.validateToResult(UserMock.johnDoe());
+        var first = compiled.validateToResult(UserMock.johnDoe(), ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(List.of("first", "guarded", "last"), List.copyOf(all.fieldErrors().iterator().next().messages()));
+        assertEquals(List.of("first"), List.copyOf(first.fieldErrors().iterator().next().messages()));
+        assertEquals(1, calls.get());
+        assertNull(compiled.validateField("name", "John", ShortCircuitPolicy.ALL));
+    }
+
+    @Test
+    void test_constraint_reads_captured_values() {
+        record Period(LocalDate start, LocalDate end) {
+        }
+        var startCaptures = new AtomicInteger();
+        CompiledValidator<Period> periods = new ValidatorSchemaImpl<Period>()
+                .field("start", period -> {
+                    startCaptures.incrementAndGet();
+                    return period.start();
+                })
+                .add(value -> new ValidationResult(null != value, "Start is required"))
+                .end()
+                .field("end", Period::end)
+                .<LocalDate>constraint("start", LocalDate::isAfter, "End must be after start")
+                .end()
+                .compile();
+
+        var violations = periods.validateToResult(new Period(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+
+        assertEquals(1, startCaptures.get());
+        assertEquals("end", violations.fieldErrors().iterator().next().fieldName());
+        assertEquals("End must be after start", violations.fieldErrors().iterator().next().messages().iterator().next());
+        assertTrue(periods.validateToResult(new Period(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1))).isValid());
+        assertTrue(periods.validateToResult(new Period(LocalDate.of(2024, 1, 1), null)).isValid());
+    }
+
+    @Test
+    void test_constraint_captures_skipped_and_later_fields_once() {
+        var captures = new AtomicInteger();
+        CompiledValidator<UserMock> compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .constraint((value, fields) -> new ValidationResult(
+                        !value.equals(fields.get("lastName")), "Name must differ from last name"))
+                .end()
+                .field("lastName", user -> {
+                    captures.incrementAndGet();
+                    return user.lastName();
+                })
+                .when(user -> false, value -> new ValidationResult(false, "never"))
+                .end()
+                .compile();
+
+        var violations = compiled.validateToResult(new UserMock("Doe", "Doe", null));
+
+        assertEquals(1, captures.get());
+        assertEquals(1, violations.fieldErrors().size());
+        assertEquals("name", violations.fieldErrors().iterator().next().fieldName());
+    }
+
+    @Test
+    void test_constraint_unknown_field() {
+        CompiledValidator<UserMock> compiled = new ValidatorSchemaImpl<UserMock>()
+                .field("name", UserMock::name)
+                .constraint("unknown", (name, other) -> true, "never")
+                .end()
+                .compile();
+
+        assertThrows(IllegalArgumentException.class, () -> compiled.validateToResult(UserMock.johnDoe()));
+    }
+
+}
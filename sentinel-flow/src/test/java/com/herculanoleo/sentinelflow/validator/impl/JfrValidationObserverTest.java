@@ -0,0 +1,70 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JfrValidationObserverTest {
+
+    record Signup(String name) {
+    }
+
+    private final ValidationFactoryImpl validations = new ValidationFactoryImpl();
+
+    private final JfrValidationObserver observer = new JfrValidationObserver();
+
+    @Test
+    public void test_not_sampled_without_recording() {
+        assertFalse(observer.isSampled());
+    }
+
+    @Test
+    public void test_records_events() throws Exception {
+        var validator = new ValidatorFactoryImpl(new SequentialExecutionStrategy(), true, observer)
+                .schema(Signup.class)
+                .field("name", Signup::name)
+                .add(Validation.named("notBlank", validations.isNotBlank("name is required")))
+                .end()
+                .compile();
+
+        var file = Files.createTempFile("sentinel-flow", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.herculanoleo.sentinelflow.Validation").withThreshold(Duration.ZERO);
+            recording.enable("com.herculanoleo.sentinelflow.Field").withThreshold(Duration.ZERO);
+            recording.enable("com.herculanoleo.sentinelflow.Rule").withThreshold(Duration.ZERO);
+            recording.start();
+            assertTrue(observer.isSampled());
+            validator.validateToResult(new Signup(" "));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.herculanoleo.sentinelflow."))
+                .toList();
+        Files.deleteIfExists(file);
+
+        assertEquals(List.of("com.herculanoleo.sentinelflow.Rule", "com.herculanoleo.sentinelflow.Field",
+                        "com.herculanoleo.sentinelflow.Validation"),
+                events.stream().map(event -> event.getEventType().getName()).toList());
+        var rule = events.get(0);
+        assertEquals("Signup", rule.getString("validator"));
+        assertEquals("name", rule.getString("field"));
+        assertEquals("notBlank", rule.getString("rule"));
+        assertFalse(rule.getBoolean("valid"));
+        assertTrue(rule.getDuration("elapsed").toNanos() >= 0);
+        assertFalse(events.get(2).getBoolean("valid"));
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelExecutionStrategyTest {
+
+    private final AtomicInteger submitted = new AtomicInteger();
+
+    private final Executor executor = command -> {
+        submitted.incrementAndGet();
+        new Thread(command).start();
+    };
+
+    private final List<Validation<Integer>> validations = List.of(
+            value -> new ValidationResult(value > 0, "positive"),
+            value -> new ValidationResult(value > 10, "greater than ten"),
+            value -> new ValidationResult(value > 100, "greater than one hundred")
+    );
+
+    @Test
+    void test_execute_keeps_rule_order() {
+        var strategy = new ParallelExecutionStrategy(executor, 2);
+
+        var results = strategy.execute(validations, 50, ShortCircuitPolicy.ALL);
+
+        assertEquals(3, submitted.get());
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).valid());
+        assertTrue(results.get(1).valid());
+        assertFalse(results.get(2).valid());
+        assertEquals("greater than one hundred", results.get(2).message());
+    }
+
+    @Test
+    void test_execute_trims_results_at_first_failure() {
+        var strategy = new ParallelExecutionStrategy(executor, 2);
+
+        var results = strategy.execute(validations, 5, ShortCircuitPolicy.FIRST_OVERALL);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).valid());
+        assertEquals("greater than ten", results.get(1).message());
+    }
+
+    @Test
+    void test_execute_below_threshold_runs_sequentially() {
+        var strategy = new ParallelExecutionStrategy(executor, 4);
+
+        var results = strategy.execute(validations, 50, ShortCircuitPolicy.ALL);
+
+        assertEquals(0, submitted.get());
+        assertEquals(3, results.size());
+    }
+
+    @Test
+    void test_execute_rethrows_rule_exception() {
+        var strategy = new ParallelExecutionStrategy(executor, 1);
+        List<Validation<Integer>> failing = List.of(value -> {
+            throw new IllegalStateException("rule failure");
+        });
+
+        var exception = assertThrows(IllegalStateException.class, () -> strategy.execute(failing, 1, ShortCircuitPolicy.ALL));
+        assertEquals("rule failure", exception.getMessage());
+    }
+
+    @Test
+    void test_default_constructor() {
+        var results = new ParallelExecutionStrategy().execute(validations, 5, ShortCircuitPolicy.ALL);
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).valid());
+        assertFalse(results.get(1).valid());
+    }
+
+    @Test
+    void test_invalid_threshold() {
+        assertThrows(IllegalArgumentException.class, () -> new ParallelExecutionStrategy(executor, 0));
+    }
+
+}
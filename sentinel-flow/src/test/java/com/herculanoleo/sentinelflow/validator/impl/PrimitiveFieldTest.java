@@ -0,0 +1,187 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.ValidatorFieldErrorMessages;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import com.herculanoleo.sentinelflow.validator.ValidationObserver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrimitiveFieldTest {
+
+    private final ValidationFactoryImpl validations = new ValidationFactoryImpl();
+
+    private final ValidatorSchemaImpl<Order> schema = new ValidatorSchemaImpl<>();
+
+    @Test
+    void test_fields_with_only_primitive_rules_are_unboxed() {
+        schema.intField("quantity", Order::quantity)
+                .add(validations.positive("must be positive"))
+                .add(validations.max(100, "too many"))
+                .end()
+                .longField("total", Order::total)
+                .add(validations.between(0L, 10_000L, "out of range"))
+                .end()
+                .doubleField("rate", Order::rate)
+                .add(validations.lt(1.0, "must be a fraction"))
+                .end();
+
+        var validator = schema.compile();
+        var violations = validator.validateToResult(new Order(0, 20_000L, 1.0, null), ShortCircuitPolicy.ALL);
+
+        assertEquals(Map.of(
+                "quantity", List.of("must be positive"),
+                "total", List.of("out of range"),
+                "rate", List.of("must be a fraction")), messages(violations));
+        assertTrue(validator.validateToResult(new Order(5, 100L, 0.5, null), ShortCircuitPolicy.ALL).isValid());
+    }
+
+    @Test
+    void test_valid_primitive_field_returns_a_shared_result() {
+        var field = quantityField(validations.min(1, "too few"));
+
+        var first = field.evaluate(new Order(1, 0L, 0.0, null), ShortCircuitPolicy.ALL);
+        var second = field.evaluate(new Order(1_000_000, 0L, 0.0, null), ShortCircuitPolicy.ALL);
+
+        assertNotNull(field.primitive());
+        assertSame(first, second);
+        assertTrue(first.isValid());
+        assertNull(first.field().value());
+    }
+
+    @Test
+    void test_failed_primitive_field_reports_value_and_follows_policy() {
+        var field = quantityField(validations.min(10, "too few"), validations.max(5, "too many"));
+        var order = new Order(7, 0L, 0.0, null);
+
+        var all = field.evaluate(order, ShortCircuitPolicy.ALL);
+        var first = field.evaluate(order, ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(Integer.valueOf(7), all.field().value());
+        assertEquals(List.of(new ValidationResult(false, "too few"), new ValidationResult(false, "too many")), all.results());
+        assertEquals(List.of(new ValidationResult(false, "too few")), first.results());
+    }
+
+    @Test
+    void test_field_with_a_boxed_rule_is_not_unboxed() {
+        var field = quantityField(validations.min(1, "too few"), validations.eq(3, "must be three"));
+
+        assertNull(field.primitive());
+        assertEquals(List.of(new ValidationResult(true, null), new ValidationResult(false, "must be three")),
+                field.evaluate(new Order(4, 0L, 0.0, null), ShortCircuitPolicy.ALL).results());
+    }
+
+    @Test
+    void test_failed_capture_propagates() {
+        schema.intField("discount", order -> order.discount())
+                .add(validations.min(0, "negative discount"))
+                .add(validations.zero("must be zero"))
+                .end();
+
+        var validator = schema.compile();
+
+        assertThrows(NullPointerException.class,
+                () -> validator.validateToResult(new Order(1, 0L, 0.0, null), ShortCircuitPolicy.ALL));
+        assertTrue(validator.validateToResult(new Order(1, 0L, 0.0, 0), ShortCircuitPolicy.ALL).isValid());
+    }
+
+    @Test
+    void test_observed_primitive_field_is_evaluated_unboxed() {
+        var events = new ArrayList<String>();
+        ValidationObserver observer = new ValidationObserver() {
+            @Override
+            public void onRule(String validator, String field, String rule, boolean valid, long nanos) {
+                events.add(field + " " + rule + " " + valid);
+            }
+        };
+        var validator = new ValidatorSchemaImpl<Order>(new SequentialExecutionStrategy(), true, observer, "Order")
+                .intField("quantity", Order::quantity)
+                .add(Validation.named("positive", validations.positive("must be positive")))
+                .add(validations.max(100, "too many"))
+                .end()
+                .intField("discount", order -> order.discount())
+                .add(validations.min(0, "negative discount"))
+                .end()
+                .compile();
+
+        assertTrue(validator.validateToResult(new Order(5, 0L, 0.0, 1), ShortCircuitPolicy.ALL).isValid());
+        assertEquals(List.of("quantity positive true", "quantity #1 true", "discount #0 true"), events);
+        assertThrows(NullPointerException.class,
+                () -> validator.validateToResult(new Order(5, 0L, 0.0, null), ShortCircuitPolicy.ALL));
+    }
+
+    @Test
+    void test_nullable_wrapper_registered_as_field_validates_null() {
+        schema.field("discount", Order::discount)
+                .add(validations.min(0, "negative discount"))
+                .add(validations.zero("must be zero"))
+                .end();
+
+        var violations = schema.compile().validateToResult(new Order(1, 0L, 0.0, null), ShortCircuitPolicy.ALL);
+
+        assertEquals(Map.of("discount", List.of("must be zero")), messages(violations));
+    }
+
+    @Test
+    void test_matches_boxed_fields() {
+        CompiledValidator<Order> unboxed = new ValidatorSchemaImpl<Order>()
+                .intField("quantity", Order::quantity)
+                .add(validations.gt(0, "must be positive"))
+                .add(validations.lt(50, "too many"))
+                .end()
+                .doubleField("rate", Order::rate)
+                .add(validations.between(0.0, 1.0, "must be a fraction"))
+                .end()
+                .compile();
+        CompiledValidator<Order> boxed = new ValidatorSchemaImpl<Order>()
+                .field("quantity", Order::quantity)
+                .add(validations.gt(Integer.valueOf(0), "must be positive"))
+                .add(validations.lt(Integer.valueOf(50), "too many"))
+                .end()
+                .field("rate", Order::rate)
+                .add(validations.between(Double.valueOf(0.0), Double.valueOf(1.0), "must be a fraction"))
+                .end()
+                .compile();
+
+        var random = new Random(42);
+        for (int index = 0; index < 1_000; index++) {
+            var order = new Order(random.nextInt(120) - 20, 0L, random.nextDouble() * 2 - 0.5, null);
+            for (var policy : ShortCircuitPolicy.values()) {
+                assertEquals(messages(boxed.validateToResult(order, policy)), messages(unboxed.validateToResult(order, policy)));
+            }
+        }
+    }
+
+    @SafeVarargs
+    private static CompiledField<Order, Integer> quantityField(Validation<Integer>... rules) {
+        var validations = List.of(rules);
+        return new CompiledField<>("quantity", Order::quantity, validations,
+                PrimitiveField.ints("quantity", Order::quantity, validations))
+                .planned(new SequentialExecutionStrategy());
+    }
+
+    private static Map<String, List<String>> messages(Violations violations) {
+        return violations.fieldErrors().stream()
+                .collect(Collectors.toMap(ValidatorFieldErrorMessages::fieldName, error -> List.copyOf(error.messages())));
+    }
+
+    private record Order(int quantity, long total, double rate, Integer discount) {
+    }
+
+}
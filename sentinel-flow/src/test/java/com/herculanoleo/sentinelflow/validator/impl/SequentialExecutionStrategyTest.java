@@ -0,0 +1,67 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validations.Validation;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SequentialExecutionStrategyTest {
+
+    private final SequentialExecutionStrategy strategy = new SequentialExecutionStrategy();
+
+    @Test
+    void test_execute_in_order_on_calling_thread() {
+        var caller = Thread.currentThread();
+        var threads = new ArrayList<Thread>();
+        List<Validation<String>> validations = List.of(
+                value -> {
+                    threads.add(Thread.currentThread());
+                    return new ValidationResult(true, null);
+                },
+                value -> {
+                    threads.add(Thread.currentThread());
+                    return new ValidationResult(false, "second");
+                }
+        );
+
+        var results = strategy.execute(validations, "value", ShortCircuitPolicy.ALL);
+
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).valid());
+        assertEquals("second", results.get(1).message());
+        assertEquals(List.of(caller, caller), threads);
+    }
+
+    @Test
+    void test_execute_empty() {
+        assertTrue(strategy.execute(List.<Validation<String>>of(), "value", ShortCircuitPolicy.ALL).isEmpty());
+    }
+
+    @Test
+    void test_execute_stops_at_first_failure() {
+        var calls = new ArrayList<String>();
+        List<Validation<String>> validations = List.of(
+                value -> {
+                    calls.add("first");
+                    return new ValidationResult(false, "first");
+                },
+                value -> {
+                    calls.add("second");
+                    return new ValidationResult(false, "second");
+                }
+        );
+
+        var results = strategy.execute(validations, "value", ShortCircuitPolicy.FIRST_PER_FIELD);
+
+        assertEquals(1, results.size());
+        assertEquals("first", results.get(0).message());
+        assertEquals(List.of("first"), calls);
+    }
+
+}
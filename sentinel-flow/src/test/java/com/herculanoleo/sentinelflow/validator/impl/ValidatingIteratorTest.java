@@ -0,0 +1,144 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidatedItem;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.StreamingOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatingIteratorTest {
+
+    private final CompiledValidator<Integer> validator = new ValidatorSchemaImpl<Integer>()
+            .field("value", value -> value)
+            .add(value -> new ValidationResult(value % 3 != 0, "multiple of three"))
+            .end()
+            .compile();
+
+    @Test
+    void test_sequential() {
+        var items = validator.validateStream(List.of(1, 2, 3, 4).iterator());
+
+        var first = items.next();
+        assertEquals(0, first.index());
+        assertEquals(1, (int) first.value());
+        assertTrue(first.isValid());
+        items.next();
+        var third = items.next();
+        assertEquals(2, third.index());
+        assertFalse(third.isValid());
+        assertEquals("value", third.violations().fieldErrors().iterator().next().fieldName());
+        items.next();
+        assertFalse(items.hasNext());
+        assertThrows(NoSuchElementException.class, items::next);
+    }
+
+    @Test
+    void test_sequential_reads_source_lazily() {
+        var source = new CountingIterator(1_000_000);
+        var items = validator.validateStream(source);
+
+        items.next();
+        items.next();
+
+        assertEquals(2, source.read.get());
+    }
+
+    @Test
+    void test_parallel_ordered() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var source = new CountingIterator(10_000);
+            var items = validator.validateStream(source, StreamingOptions.parallel(executor, 16));
+
+            long expected = 0;
+            while (items.hasNext()) {
+                var item = items.next();
+                assertEquals(expected, item.index());
+                assertEquals(expected % 3 != 0, item.isValid());
+                assertTrue(source.read.get() - expected <= 16);
+                expected++;
+            }
+            assertEquals(10_000, expected);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_parallel_unordered() {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var options = StreamingOptions.parallel(executor, 8).withOrdered(false);
+            var items = validator.validateStream(new CountingIterator(1_000), options);
+
+            var indexes = new HashSet<Long>();
+            while (items.hasNext()) {
+                ValidatedItem<Integer> item = items.next();
+                assertEquals(item.value() % 3 != 0, item.isValid());
+                indexes.add(item.index());
+            }
+            assertEquals(1_000, indexes.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_parallel_rethrows_rule_failure() {
+        var failing = new ValidatorSchemaImpl<Integer>()
+                .field("value", value -> value)
+                .add(value -> {
+                    throw new IllegalStateException("boom");
+                })
+                .end()
+                .compile();
+
+        var items = failing.validateStream(List.of(1).iterator(), StreamingOptions.parallel(Runnable::run, 4));
+
+        var exception = assertThrows(IllegalStateException.class, items::next);
+        assertEquals("boom", exception.getMessage());
+    }
+
+    @Test
+    void test_StreamingOptions_invalid() {
+        assertThrows(IllegalArgumentException.class, () -> StreamingOptions.parallel(Runnable::run, 0));
+        assertThrows(NullPointerException.class, () -> StreamingOptions.parallel(null, 1));
+    }
+
+    private static final class CountingIterator implements Iterator<Integer> {
+
+        private final int size;
+
+        private final AtomicInteger read = new AtomicInteger();
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return read.get() < size;
+        }
+
+        @Override
+        public Integer next() {
+            return read.getAndIncrement();
+        }
+
+    }
+
+}
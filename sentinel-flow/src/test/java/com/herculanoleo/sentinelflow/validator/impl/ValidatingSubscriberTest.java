@@ -0,0 +1,263 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.models.ValidatedItem;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.StreamingOptions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatingSubscriberTest {
+
+    private final CompiledValidator<Integer> validator = new ValidatorSchemaImpl<Integer>()
+            .field("value", value -> value)
+            .add(value -> new ValidationResult(value % 3 != 0, "multiple of three"))
+            .end()
+            .compile();
+
+    @Test
+    void test_sequential() throws InterruptedException {
+        var source = new RangePublisher(10);
+        var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        validator.validateStream(source, StreamingOptions.sequential()).subscribe(subscriber);
+
+        assertTrue(subscriber.await());
+        assertNull(subscriber.error);
+        assertEquals(10, subscriber.items.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, subscriber.items.get(i).index());
+            assertEquals(i % 3 != 0, subscriber.items.get(i).isValid());
+        }
+    }
+
+    @Test
+    void test_bounded_by_downstream_demand() {
+        var source = new RangePublisher(1_000_000);
+        var subscriber = new CollectingSubscriber(5);
+
+        validator.validateStream(source, StreamingOptions.sequential()).subscribe(subscriber);
+
+        assertEquals(5, subscriber.items.size());
+        assertEquals(5 + 256, source.requested.get());
+        assertEquals(1, subscriber.completed.getCount());
+
+        subscriber.subscription.cancel();
+        assertTrue(source.cancelled);
+    }
+
+    @Test
+    void test_parallel_ordered() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var source = new RangePublisher(5_000);
+            var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+            validator.validateStream(source, StreamingOptions.parallel(executor, 32)).subscribe(subscriber);
+
+            assertTrue(subscriber.await());
+            assertNull(subscriber.error);
+            assertEquals(5_000, subscriber.items.size());
+            for (int i = 0; i < 5_000; i++) {
+                assertEquals(i, subscriber.items.get(i).index());
+            }
+            assertTrue(source.requested.get() <= 5_000 + 32);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_parallel_unordered() throws InterruptedException {
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+            var options = StreamingOptions.parallel(executor, 8).withOrdered(false);
+
+            validator.validateStream(new RangePublisher(2_000), options).subscribe(subscriber);
+
+            assertTrue(subscriber.await());
+            assertNull(subscriber.error);
+            assertEquals(2_000, subscriber.items.stream().mapToLong(ValidatedItem::index).distinct().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void test_rule_failure() throws InterruptedException {
+        var failing = new ValidatorSchemaImpl<Integer>()
+                .field("value", value -> value)
+                .add(value -> {
+                    if (value == 3) {
+                        throw new IllegalStateException("boom");
+                    }
+                    return new ValidationResult(true, null);
+                })
+                .end()
+                .compile();
+        var source = new RangePublisher(10);
+        var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+
+        failing.validateStream(source, StreamingOptions.sequential()).subscribe(subscriber);
+
+        assertTrue(subscriber.await());
+        assertInstanceOf(IllegalStateException.class, subscriber.error);
+        assertEquals(3, subscriber.items.size());
+        assertTrue(source.cancelled);
+    }
+
+    @Test
+    void test_upstream_error() throws InterruptedException {
+        var subscriber = new CollectingSubscriber(Long.MAX_VALUE);
+        Flow.Publisher<Integer> source = downstream -> {
+            downstream.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            downstream.onError(new IllegalArgumentException("source failed"));
+        };
+
+        validator.validateStream(source, StreamingOptions.sequential()).subscribe(subscriber);
+
+        assertTrue(subscriber.await());
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    void test_non_positive_request() throws InterruptedException {
+        var source = new RangePublisher(10);
+        var subscriber = new CollectingSubscriber(0);
+
+        validator.validateStream(source, StreamingOptions.sequential()).subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.await());
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+        assertTrue(source.cancelled);
+    }
+
+    /**
+     * Synchronous publisher of {@code 0..size-1} that honours demand.
+     */
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+
+        private final int size;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private volatile boolean cancelled;
+
+        private RangePublisher(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+
+                private final AtomicLong demand = new AtomicLong();
+
+                private int next;
+
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    if (demand.getAndAdd(n) != 0) {
+                        return;
+                    }
+                    do {
+                        long available = demand.get();
+                        long sent = 0;
+                        while (sent < available && next < size && !cancelled) {
+                            subscriber.onNext(next++);
+                            sent++;
+                        }
+                        if (next == size && !cancelled) {
+                            cancelled = true;
+                            subscriber.onComplete();
+                            return;
+                        }
+                        if (cancelled) {
+                            return;
+                        }
+                        if (demand.addAndGet(-sent) == 0) {
+                            return;
+                        }
+                    } while (true);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+
+            });
+        }
+
+    }
+
+    private static final class CollectingSubscriber implements Flow.Subscriber<ValidatedItem<Integer>> {
+
+        private final long initialRequest;
+
+        private final List<ValidatedItem<Integer>> items = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        private CollectingSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(ValidatedItem<Integer> item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+
+        private boolean await() throws InterruptedException {
+            return completed.await(10, TimeUnit.SECONDS);
+        }
+
+    }
+
+}
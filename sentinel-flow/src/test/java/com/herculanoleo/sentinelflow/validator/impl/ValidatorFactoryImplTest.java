@@ -1,12 +1,16 @@
 package com.herculanoleo.sentinelflow.validator.impl;
 
+import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
 import com.herculanoleo.sentinelflow.mock.UserMock;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class ValidatorFactoryImplTest {
@@ -21,4 +25,32 @@ public class ValidatorFactoryImplTest {
         assertEquals(ValidatorImpl.class, validator.getClass());
     }
 
+    @Test
+    public void create_a_validator_with_execution_strategy() throws ValidatorException {
+        var factory = new ValidatorFactoryImpl(new ParallelExecutionStrategy());
+
+        var validator = factory.create(UserMock.johnDoe());
+        validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(true, null))
+                .add(value -> new ValidationResult(true, null))
+                .end()
+                .validate();
+
+        assertEquals(ValidatorImpl.class, validator.getClass());
+    }
+
+    @Test
+    public void create_a_schema_with_type_of_class() {
+        var schema = validatorFactory.schema(UserMock.class);
+
+        assertNotNull(schema);
+        assertEquals(ValidatorSchemaImpl.class, schema.getClass());
+    }
+
+    @Test
+    public void exposes_writable_stack_trace() {
+        assertTrue(validatorFactory.isWritableStackTrace());
+        assertFalse(new ValidatorFactoryImpl(new SequentialExecutionStrategy(), false).isWritableStackTrace());
+    }
+
 }
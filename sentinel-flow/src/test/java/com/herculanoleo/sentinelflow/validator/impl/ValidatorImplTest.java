@@ -5,12 +5,22 @@ import com.herculanoleo.sentinelflow.exceptions.ValidatorFieldAddedException;
 import com.herculanoleo.sentinelflow.mock.UserMock;
 import com.herculanoleo.sentinelflow.models.Field;
 import com.herculanoleo.sentinelflow.models.ValidationResult;
+import com.herculanoleo.sentinelflow.models.Violations;
+import com.herculanoleo.sentinelflow.validations.AsyncValidation;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -76,6 +86,23 @@ public class ValidatorImplTest {
         ));
     }
 
+    @Test
+    public void test_addValidatorField_keeps_insertion_order() {
+        for (int i = 0; i < 500; i++) {
+            this.validator.addValidatorField(new ValidatorFieldImpl<>(new Field<>("field" + i, i)));
+        }
+
+        var fields = this.validator.getValidatorFields();
+        assertEquals(500, fields.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("field" + i, fields.get(i).getField().name());
+        }
+        assertThrows(ValidatorFieldAddedException.class, () -> this.validator.addValidatorField(
+                new ValidatorFieldImpl<>(new Field<>("field250", 0))
+        ));
+        assertEquals(500, this.validator.getValidatorFields().size());
+    }
+
     @Test
     public void test_validate() throws ValidatorException {
         this.validator.field("name", UserMock::name)
@@ -115,5 +142,259 @@ public class ValidatorImplTest {
         });
     }
 
+    @Test
+    public void test_validate_FIRST_PER_FIELD() {
+        var calls = new AtomicInteger();
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Invalid name"))
+                .add(value -> {
+                    calls.incrementAndGet();
+                    return new ValidationResult(false, "Not evaluated");
+                })
+                .end()
+                .field("lastName", UserMock::lastName)
+                .add(value -> new ValidationResult(false, "Invalid last name"))
+                .end();
+
+        var exception = assertThrows(ValidatorException.class,
+                () -> validator.validate(ShortCircuitPolicy.FIRST_PER_FIELD));
+
+        var fieldErrors = exception.getFieldErrors().stream().toList();
+        assertEquals(2, fieldErrors.size());
+        assertEquals(List.of("Invalid name"), fieldErrors.get(0).messages());
+        assertEquals(List.of("Invalid last name"), fieldErrors.get(1).messages());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void test_validate_FIRST_OVERALL() {
+        var calls = new AtomicInteger();
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(true, null))
+                .add(value -> new ValidationResult(false, "Invalid name"))
+                .end()
+                .field("lastName", UserMock::lastName)
+                .add(value -> {
+                    calls.incrementAndGet();
+                    return new ValidationResult(false, "Not evaluated");
+                })
+                .end();
+
+        var exception = assertThrows(ValidatorException.class,
+                () -> validator.validate(ShortCircuitPolicy.FIRST_OVERALL));
+
+        var fieldErrors = exception.getFieldErrors().stream().toList();
+        assertEquals(1, fieldErrors.size());
+        assertEquals("name", fieldErrors.get(0).fieldName());
+        assertEquals(List.of("Invalid name"), fieldErrors.get(0).messages());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void test_validateToResult() {
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(true, null))
+                .end();
+
+        var violations = validator.validateToResult();
+
+        assertTrue(violations.isValid());
+        assertSame(Violations.valid(), violations);
+    }
+
+    @Test
+    public void test_validateToResult_invalid() {
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Invalid name"))
+                .end()
+                .field("lastName", UserMock::lastName)
+                .add(value -> new ValidationResult(true, null))
+                .end();
+
+        var violations = validator.validateToResult();
+
+        assertFalse(violations.isValid());
+        var fieldErrors = violations.fieldErrors().stream().toList();
+        assertEquals(1, fieldErrors.size());
+        assertEquals("name", fieldErrors.get(0).fieldName());
+        assertEquals(List.of("Invalid name"), fieldErrors.get(0).messages());
+        assertThrows(UnsupportedOperationException.class, () -> violations.fieldErrors().clear());
+    }
+
+    @Test
+    public void test_validate_without_stack_trace() {
+        var validator = new ValidatorImpl<>(userMock, new SequentialExecutionStrategy(), false);
+        validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Invalid name"))
+                .end();
+
+        var exception = assertThrows(ValidatorException.class, validator::validate);
+
+        assertEquals("there are invalid fields", exception.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(1, exception.getFieldErrors().size());
+    }
+
+    @Test
+    public void test_validate_with_stack_trace() {
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Invalid name"))
+                .end();
+
+        var exception = assertThrows(ValidatorException.class, validator::validate);
+
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+
+    @Test
+    public void test_validateAsync_runs_async_rules_concurrently() {
+        var started = new CountDownLatch(3);
+        AsyncValidation<Object> remoteCheck = AsyncValidation.blocking(value -> {
+            started.countDown();
+            try {
+                return new ValidationResult(started.await(5, TimeUnit.SECONDS), "Timed out waiting");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new ValidationResult(false, "Interrupted");
+            }
+        });
+
+        this.validator.field("name", UserMock::name)
+                .addAsync(remoteCheck::validate)
+                .end()
+                .field("lastName", UserMock::lastName)
+                .addAsync(remoteCheck::validate)
+                .end()
+                .field("birthday", UserMock::birthday)
+                .addAsync(remoteCheck::validate)
+                .end();
+
+        var violations = validator.validateAsync().join();
+
+        assertTrue(violations.isValid());
+    }
+
+    @Test
+    public void test_validateAsync_merges_sync_and_async_results() {
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Sync failure"))
+                .addAsync(value -> CompletableFuture.completedFuture(new ValidationResult(false, "Async failure")))
+                .end();
+
+        var violations = validator.validateAsync().join();
+
+        var fieldErrors = violations.fieldErrors().stream().toList();
+        assertEquals(List.of("Sync failure", "Async failure"), fieldErrors.get(0).messages());
+    }
+
+    @Test
+    public void test_validateAsync_FIRST_PER_FIELD_skips_async_rules() {
+        var calls = new AtomicInteger();
+        this.validator.field("name", UserMock::name)
+                .add(value -> new ValidationResult(false, "Sync failure"))
+                .addAsync(value -> {
+                    calls.incrementAndGet();
+                    return CompletableFuture.completedFuture(new ValidationResult(true, null));
+                })
+                .end();
+
+        var violations = validator.validateAsync(ShortCircuitPolicy.FIRST_PER_FIELD).join();
+
+        assertEquals(0, calls.get());
+        assertEquals(1, violations.fieldErrors().size());
+    }
+
+    @Test
+    public void test_validateAsync_timeout() {
+        this.validator.field("name", UserMock::name)
+                .addAsync(value -> new CompletableFuture<>(), Duration.ofMillis(10), "Check timed out")
+                .end();
+
+        var violations = validator.validateAsync().join();
+
+        assertEquals(List.of("Check timed out"), violations.fieldErrors().iterator().next().messages());
+    }
+
+    @Test
+    public void test_validateAsync_rule_failure() {
+        this.validator.field("name", UserMock::name)
+                .addAsync(value -> CompletableFuture.failedFuture(new IllegalStateException("boom")))
+                .end();
+
+        var exception = assertThrows(CompletionException.class, () -> validator.validateAsync().join());
+        assertEquals(IllegalStateException.class, exception.getCause().getClass());
+        assertThrows(IllegalStateException.class, () -> validator.validateToResult());
+    }
+
+    @Test
+    public void test_validate_waits_for_async_rules() {
+        this.validator.field("name", UserMock::name)
+                .addAsync(AsyncValidation.blocking(value -> new ValidationResult(false, "Already registered")))
+                .end();
+
+        var exception = assertThrows(ValidatorException.class, validator::validate);
+
+        assertEquals(List.of("Already registered"), exception.getFieldErrors().iterator().next().messages());
+    }
+
+    @Test
+    public void test_nested() {
+        var names = new ValidatorSchemaImpl<String>()
+                .field("first", value -> value)
+                .add(value -> new ValidationResult(!value.isBlank(), "First name is required"))
+                .end()
+                .compile();
+
+        var violations = new ValidatorImpl<>(new UserMock(" ", "Doe", null))
+                .nested("name", UserMock::name, names)
+                .validateToResult();
+
+        assertEquals("name.first", violations.fieldErrors().iterator().next().fieldName());
+        assertThrows(ValidatorFieldAddedException.class, () -> new ValidatorImpl<>(userMock)
+                .nested("name", UserMock::name, names)
+                .nested("name", UserMock::name, names));
+    }
+
+    @Test
+    public void test_when() {
+        var violations = new ValidatorImpl<>(userMock)
+                .field("name", UserMock::name)
+                .when(user -> "John".equals(user.name()), value -> new ValidationResult(false, "applied"))
+                .when(user -> false, value -> new ValidationResult(false, "skipped"))
+                .end()
+                .validateToResult();
+
+        assertEquals(List.of("applied"), List.copyOf(violations.fieldErrors().iterator().next().messages()));
+    }
+
+    @Test
+    public void test_when_without_bound_object() {
+        var step = new ValidatorAddValidationImpl<UserMock, String>(new ValidatorImpl<>(userMock),
+                new ValidatorFieldImpl<>(new Field<>("name", "John")));
+
+        assertThrows(IllegalStateException.class,
+                () -> step.when(user -> "John".equals(user.name()), value -> new ValidationResult(false, "applied")));
+    }
+
+    @Test
+    public void test_constraint() {
+        var violations = new ValidatorImpl<>(new UserMock("Doe", "Doe", null))
+                .field("lastName", UserMock::lastName)
+                .end()
+                .field("name", UserMock::name)
+                .<String>constraint("lastName", (name, lastName) -> !name.equals(lastName), "Name must differ from last name")
+                .end()
+                .validateToResult();
+
+        assertEquals("name", violations.fieldErrors().iterator().next().fieldName());
+        assertTrue(new ValidatorImpl<>(userMock)
+                .field("name", UserMock::name)
+                .<String>constraint("lastName", (name, lastName) -> !name.equals(lastName), "Name must differ from last name")
+                .end()
+                .field("lastName", UserMock::lastName)
+                .end()
+                .validateToResult()
+                .isValid());
+    }
 
 }
@@ -0,0 +1,54 @@
+package com.herculanoleo.sentinelflow.validator.impl;
+
+import com.herculanoleo.sentinelflow.exceptions.ValidatorFieldAddedException;
+import com.herculanoleo.sentinelflow.mock.UserMock;
+import com.herculanoleo.sentinelflow.models.ValidationResult;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ValidatorSchemaImplTest {
+
+    private final ValidatorSchemaImpl<UserMock> schema = new ValidatorSchemaImpl<>();
+
+    @Test
+    void test_field() {
+        var add = schema.field("name", UserMock::name);
+        assertNotNull(add);
+        assertEquals(ValidatorSchemaFieldImpl.class, add.getClass());
+    }
+
+    @Test
+    void test_end_returns_schema() {
+        var end = schema.field("name", UserMock::name)
+                .add(value -> new ValidationResult(true, null))
+                .end();
+        assertSame(schema, end);
+    }
+
+    @Test
+    void test_add_null_validation() {
+        assertThrows(NullPointerException.class, () -> schema.field("name", UserMock::name).add(null));
+    }
+
+    @Test
+    void test_field_ValidatorFieldAddedException() {
+        schema.field("name", UserMock::name).end();
+        var duplicated = schema.field("name", UserMock::lastName);
+        assertThrows(ValidatorFieldAddedException.class, duplicated::end);
+    }
+
+    @Test
+    void test_compile() {
+        var compiled = schema.field("name", UserMock::name)
+                .add(value -> new ValidationResult(true, null))
+                .end()
+                .compile();
+        assertNotNull(compiled);
+        assertEquals(CompiledValidatorImpl.class, compiled.getClass());
+    }
+
+}
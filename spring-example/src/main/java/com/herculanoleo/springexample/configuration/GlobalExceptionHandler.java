@@ -1,5 +1,6 @@
 package com.herculanoleo.springexample.configuration;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
 import com.herculanoleo.springexample.models.dtos.web.ServerErrorResponse;
 import com.herculanoleo.springexample.models.dtos.web.ServerValidationErrorResponse;
@@ -23,6 +24,12 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 .body(new ServerValidationErrorResponse(OffsetDateTime.now(), ex.getMessage(), ex.getFieldErrors()));
     }
 
+    @ExceptionHandler({ JsonProcessingException.class })
+    public ResponseEntity<ServerErrorResponse> malformedBody(JsonProcessingException ex) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ServerErrorResponse(OffsetDateTime.now(), ex.getOriginalMessage()));
+    }
+
     @ExceptionHandler({ Exception.class })
     public ResponseEntity<ServerErrorResponse> generic(Exception ex) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
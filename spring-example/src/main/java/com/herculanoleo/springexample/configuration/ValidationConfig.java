@@ -1,8 +1,10 @@
 package com.herculanoleo.springexample.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.herculanoleo.sentinelflow.validations.ValidationFactory;
 import com.herculanoleo.sentinelflow.validations.impl.ValidationFactoryImpl;
 import com.herculanoleo.sentinelflow.validator.ValidatorFactory;
+import com.herculanoleo.sentinelflow.validator.impl.SequentialExecutionStrategy;
 import com.herculanoleo.sentinelflow.validator.impl.ValidatorFactoryImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +19,13 @@ public class ValidationConfig {
 
     @Bean
     public ValidatorFactory validatorFactory() {
-        return new ValidatorFactoryImpl();
+        // Rejected requests are common on public endpoints; skip filling in the stack trace of ValidatorException
+        return new ValidatorFactoryImpl(new SequentialExecutionStrategy(), false);
+    }
+
+    @Bean
+    public ObjectMapper jsonValidationObjectMapper() {
+        // O Spring Boot 4 só configura o JsonMapper do Jackson 3; o sentinel-flow-jackson lê o corpo com o Jackson 2
+        return new ObjectMapper();
     }
 }
@@ -1,15 +1,16 @@
 package com.herculanoleo.springexample.controller;
 
 import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
-import com.herculanoleo.springexample.models.dtos.user.UserRegistrationDTO;
 import com.herculanoleo.springexample.service.UserService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/user")
 public class UserController {
@@ -21,8 +22,9 @@ public class UserController {
     }
 
     @PostMapping
-    public ResponseEntity<Void> register(@RequestBody UserRegistrationDTO requestEntity) throws ValidatorException {
-        service.register(requestEntity);
+    public ResponseEntity<Void> register(InputStream body) throws IOException, ValidatorException {
+        // The raw body is validated while it is parsed, so invalid requests are rejected before being fully read
+        service.register(body);
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
@@ -1,26 +1,28 @@
 package com.herculanoleo.springexample.models.validates;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
+import com.herculanoleo.sentinelflow.jackson.StreamingJsonValidator;
 import com.herculanoleo.sentinelflow.validations.ValidationFactory;
-import com.herculanoleo.sentinelflow.validator.Validate;
+import com.herculanoleo.sentinelflow.validator.CompiledValidator;
+import com.herculanoleo.sentinelflow.validator.ShortCircuitPolicy;
 import com.herculanoleo.sentinelflow.validator.ValidatorFactory;
 import com.herculanoleo.springexample.models.dtos.user.UserRegistrationDTO;
+import org.springframework.stereotype.Component;
 
-public class UserRegistrationValidate implements Validate {
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
 
-    private final UserRegistrationDTO dto;
+@Component
+public class UserRegistrationValidate {
 
-    private UserRegistrationValidate(UserRegistrationDTO dto) {
-        this.dto = dto;
-    }
-
-    public static UserRegistrationValidate of(UserRegistrationDTO dto) {
-        return new UserRegistrationValidate(dto);
-    }
+    private final StreamingJsonValidator<UserRegistrationDTO> reader;
 
-    @Override
-    public void validate(ValidatorFactory validator, ValidationFactory validation) throws ValidatorException {
-        validator.create(dto)
+    public UserRegistrationValidate(ValidatorFactory validator, ValidationFactory validation,
+                                    ObjectMapper objectMapper) {
+        // O schema é compilado uma única vez e compartilhado entre as requisições
+        CompiledValidator<UserRegistrationDTO> compiled = validator.schema(UserRegistrationDTO.class)
                 .field("name", UserRegistrationDTO::name) // Define o campo a ser validado
                 .add(validation.isNotBlank("O nome não pode estar em branco.")) // Adiciona regras
                 .add(validation.lengthMin(3, "O nome deve ter pelo menos 3 caracteres."))
@@ -36,8 +38,18 @@ public class UserRegistrationValidate implements Validate {
                 .field("age", UserRegistrationDTO::age)
                 .add(validation.min(18, "A idade mínima é 18 anos."))
                 .end()
-                .validate();
+                .compile();
+        // As regras são aplicadas enquanto o JSON é lido, sem desserializar o corpo inteiro antes;
+        // o ObjectMapper do Jackson 2 vem de ValidationConfig
+        // Só são lidos em streaming os campos cuja captura é o próprio acessor da propriedade
+        this.reader = new StreamingJsonValidator<>(objectMapper, UserRegistrationDTO.class, compiled,
+                validator.isWritableStackTrace(),
+                Map.of("name", "name", "email", "email", "password", "password", "age", "age"));
     }
 
+    public UserRegistrationDTO read(InputStream body) throws IOException, ValidatorException {
+        // Interrompe a leitura na primeira propriedade inválida
+        return reader.read(body, ShortCircuitPolicy.FIRST_OVERALL);
+    }
 
 }
@@ -1,26 +1,24 @@
 package com.herculanoleo.springexample.service;
 
 import com.herculanoleo.sentinelflow.exceptions.ValidatorException;
-import com.herculanoleo.sentinelflow.validations.ValidationFactory;
-import com.herculanoleo.sentinelflow.validator.ValidatorFactory;
 import com.herculanoleo.springexample.models.dtos.user.UserRegistrationDTO;
 import com.herculanoleo.springexample.models.validates.UserRegistrationValidate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @Service
 public class UserService {
 
-    private final ValidatorFactory validator;
-
-    private final ValidationFactory validation;
+    private final UserRegistrationValidate userRegistrationValidate;
 
-    public UserService(ValidatorFactory validator, ValidationFactory validation) {
-        this.validator = validator;
-        this.validation = validation;
+    public UserService(UserRegistrationValidate userRegistrationValidate) {
+        this.userRegistrationValidate = userRegistrationValidate;
     }
 
-    public void register(UserRegistrationDTO dto) throws ValidatorException {
-        UserRegistrationValidate.of(dto).validate(validator, validation);
+    public void register(InputStream body) throws IOException, ValidatorException {
+        UserRegistrationDTO dto = userRegistrationValidate.read(body);
 
         //After validating the DTO, you can save user into the database, call other services, etc. For example
     }